@@ -3,8 +3,8 @@ package com.wanderwise.wanderwise_backend.admin;
 import com.wanderwise.wanderwise_backend.admin.dto.AdminUserResponse;
 import com.wanderwise.wanderwise_backend.admin.dto.UpdateUserRoleRequest;
 import com.wanderwise.wanderwise_backend.admin.dto.UpdateUserStatusRequest;
+import com.wanderwise.wanderwise_backend.pagination.CursorPage;
 import jakarta.validation.Valid;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -26,8 +27,11 @@ public class AdminUserController {
     private final AdminUserService adminUserService;
 
     @GetMapping
-    public ResponseEntity<List<AdminUserResponse>> getAllUsers() {
-        return ResponseEntity.ok(adminUserService.getAllUsers());
+    public ResponseEntity<CursorPage<AdminUserResponse>> getAllUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return ResponseEntity.ok(adminUserService.getAllUsers(cursor, limit));
     }
 
     @PatchMapping("/{userId}/role")
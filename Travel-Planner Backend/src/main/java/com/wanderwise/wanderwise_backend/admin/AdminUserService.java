@@ -1,6 +1,10 @@
 package com.wanderwise.wanderwise_backend.admin;
 
 import com.wanderwise.wanderwise_backend.admin.dto.AdminUserResponse;
+import com.wanderwise.wanderwise_backend.admin.live.AdminLiveEventService;
+import com.wanderwise.wanderwise_backend.admin.metrics.AdminMetricsService;
+import com.wanderwise.wanderwise_backend.pagination.CursorPage;
+import com.wanderwise.wanderwise_backend.pagination.PageCursor;
 import com.wanderwise.wanderwise_backend.user.Role;
 import com.wanderwise.wanderwise_backend.user.User;
 import com.wanderwise.wanderwise_backend.user.UserRepository;
@@ -18,13 +22,17 @@ import org.springframework.web.server.ResponseStatusException;
 public class AdminUserService {
 
     private final UserRepository userRepository;
+    private final AdminMetricsService adminMetricsService;
+    private final AdminLiveEventService adminLiveEventService;
 
     @Transactional(readOnly = true)
-    public List<AdminUserResponse> getAllUsers() {
-        return userRepository.findAllByOrderByIdAsc()
-                .stream()
-                .map(this::toResponse)
-                .toList();
+    public CursorPage<AdminUserResponse> getAllUsers(String cursor, Integer limit) {
+        PageCursor after = PageCursor.decode(cursor);
+        int pageSize = CursorPage.resolveLimit(limit);
+        List<User> rows = after == null
+                ? userRepository.findAllByOrderByIdAsc(CursorPage.lookahead(pageSize))
+                : userRepository.findAllByIdGreaterThanOrderByIdAsc(after.id(), CursorPage.lookahead(pageSize));
+        return CursorPage.of(rows, pageSize, user -> PageCursor.ofId(user.getId()), this::toResponse);
     }
 
     @Transactional
@@ -47,8 +55,12 @@ public class AdminUserService {
                 && user.getStatus() != status) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "You cannot change your own status");
         }
+        UserStatus previousStatus = user.getStatus();
         user.setStatus(status);
-        return toResponse(userRepository.save(user));
+        User saved = userRepository.save(user);
+        adminMetricsService.recordUserStatusChanged(saved, previousStatus);
+        adminLiveEventService.publishUserStatusChanged(saved, previousStatus);
+        return toResponse(saved);
     }
 
     @Transactional
@@ -58,6 +70,7 @@ public class AdminUserService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "You cannot remove your own account");
         }
         userRepository.delete(user);
+        adminMetricsService.recordUserDeleted(user);
     }
 
     private User getUserOrThrow(Long userId) {
@@ -1,11 +1,16 @@
 package com.wanderwise.wanderwise_backend.admin.dashboard;
 
 import com.wanderwise.wanderwise_backend.admin.dashboard.dto.AdminDashboardOverviewResponse;
+import com.wanderwise.wanderwise_backend.admin.rollup.RollupGranularity;
+import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -17,7 +22,16 @@ public class AdminDashboardController {
     private final AdminDashboardService adminDashboardService;
 
     @GetMapping("/overview")
-    public ResponseEntity<AdminDashboardOverviewResponse> getOverview() {
-        return ResponseEntity.ok(adminDashboardService.getOverview());
+    public ResponseEntity<AdminDashboardOverviewResponse> getOverview(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) RollupGranularity granularity
+    ) {
+        return ResponseEntity.ok(adminDashboardService.getOverview(from, to, granularity));
+    }
+
+    @PostMapping("/metrics/rebuild")
+    public ResponseEntity<AdminDashboardOverviewResponse> rebuildMetrics() {
+        return ResponseEntity.ok(adminDashboardService.rebuildMetrics());
     }
 }
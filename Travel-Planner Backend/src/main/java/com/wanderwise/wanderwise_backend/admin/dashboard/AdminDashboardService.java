@@ -1,11 +1,20 @@
 package com.wanderwise.wanderwise_backend.admin.dashboard;
 
 import com.wanderwise.wanderwise_backend.admin.dashboard.dto.AdminDashboardOverviewResponse;
+import com.wanderwise.wanderwise_backend.admin.metrics.AdminMetricsService;
+import com.wanderwise.wanderwise_backend.admin.metrics.AdminMetricsSnapshot;
+import com.wanderwise.wanderwise_backend.admin.popularity.DestinationEstimate;
+import com.wanderwise.wanderwise_backend.admin.popularity.DestinationPopularityService;
+import com.wanderwise.wanderwise_backend.admin.revenue.RevenueCurrencyTotal;
+import com.wanderwise.wanderwise_backend.admin.revenue.RevenueLedgerService;
+import com.wanderwise.wanderwise_backend.admin.revenue.RevenueReport;
+import com.wanderwise.wanderwise_backend.admin.rollup.BookingRollupRange;
+import com.wanderwise.wanderwise_backend.admin.rollup.BookingRollupService;
+import com.wanderwise.wanderwise_backend.admin.rollup.RollupGranularity;
 import com.wanderwise.wanderwise_backend.booking.BookingRequest;
 import com.wanderwise.wanderwise_backend.booking.BookingRequestRepository;
 import com.wanderwise.wanderwise_backend.booking.BookingStatus;
-import com.wanderwise.wanderwise_backend.payment.PaymentRecord;
-import com.wanderwise.wanderwise_backend.payment.PaymentRecordRepository;
+import com.wanderwise.wanderwise_backend.dashboard.DashboardSectionLoader;
 import com.wanderwise.wanderwise_backend.payment.PaymentStatus;
 import com.wanderwise.wanderwise_backend.tour.Tour;
 import com.wanderwise.wanderwise_backend.tour.TourRepository;
@@ -13,98 +22,116 @@ import com.wanderwise.wanderwise_backend.user.User;
 import com.wanderwise.wanderwise_backend.user.UserRepository;
 import com.wanderwise.wanderwise_backend.user.UserStatus;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
-import java.time.YearMonth;
-import java.time.format.TextStyle;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.TreeMap;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class AdminDashboardService {
 
-    private static final BigDecimal DEFAULT_BUDGET_TARGET = new BigDecimal("2400000");
     private static final String FALLBACK_IMAGE_URL =
             "https://images.unsplash.com/photo-1469474968028-56623f02e42e?auto=format&fit=crop&w=1200&q=60";
 
     private final UserRepository userRepository;
     private final BookingRequestRepository bookingRequestRepository;
-    private final PaymentRecordRepository paymentRecordRepository;
     private final TourRepository tourRepository;
+    private final AdminMetricsService adminMetricsService;
+    private final BookingRollupService bookingRollupService;
+    private final DestinationPopularityService destinationPopularityService;
+    private final RevenueLedgerService revenueLedgerService;
+    private final DashboardSectionLoader dashboardSectionLoader;
+
+    public AdminDashboardOverviewResponse getOverview(LocalDate from, LocalDate to, RollupGranularity granularity) {
+        BookingRollupRange range = bookingRollupService.resolveRange(from, to, granularity);
+        try (DashboardSectionLoader.Fanout fanout = dashboardSectionLoader.fanout("admin")) {
+            return buildOverview(
+                    fanout,
+                    fanout.fork("metrics", adminMetricsService::getSnapshot, AdminMetricsSnapshot.empty()),
+                    range
+            );
+        }
+    }
 
-    @Transactional(readOnly = true)
-    public AdminDashboardOverviewResponse getOverview() {
-        List<User> users = userRepository.findAllByOrderByIdAsc();
-        List<BookingRequest> bookings = bookingRequestRepository.findAllByOrderByRequestedAtDesc();
-        List<PaymentRecord> payments = paymentRecordRepository.findAllByOrderByPaidAtDesc();
-        List<Tour> tours = tourRepository.findAllByOrderByDestinationAsc();
-
-        return new AdminDashboardOverviewResponse(
-                buildTotals(users, bookings, payments),
-                buildBookingOverview(bookings),
-                buildUsers(users),
-                buildRecentBookings(bookings),
-                buildBudget(payments),
-                buildSystemAlerts(users, bookings, payments),
-                buildPopularDestinations(bookings, tours)
-        );
+    public AdminDashboardOverviewResponse rebuildMetrics() {
+        bookingRollupService.rebuildFromSource();
+        destinationPopularityService.rebuildFromSource();
+        revenueLedgerService.rebuildFromSource();
+        adminMetricsService.rebuildFromSource();
+        BookingRollupRange range = bookingRollupService.resolveRange(null, null, null);
+        try (DashboardSectionLoader.Fanout fanout = dashboardSectionLoader.fanout("admin")) {
+            return buildOverview(fanout, fanout.forkRequired("metrics", adminMetricsService::getSnapshot), range);
+        }
     }
 
-    private AdminDashboardOverviewResponse.TotalsPayload buildTotals(
-            List<User> users,
-            List<BookingRequest> bookings,
-            List<PaymentRecord> payments
+    private AdminDashboardOverviewResponse buildOverview(
+            DashboardSectionLoader.Fanout fanout,
+            DashboardSectionLoader.Section<AdminMetricsSnapshot> metricsSection,
+            BookingRollupRange range
     ) {
-        long activeTrips = bookings.stream()
-                .filter(entry -> entry.getStatus() == BookingStatus.PENDING || entry.getStatus() == BookingStatus.APPROVED)
-                .filter(entry -> entry.getTravelDate() != null && !entry.getTravelDate().isBefore(LocalDate.now()))
-                .count();
+        DashboardSectionLoader.Section<List<AdminDashboardOverviewResponse.BookingOverviewPoint>> bookingsOverview =
+                fanout.fork("bookingsOverview", () -> buildBookingOverview(range), List.of());
+        DashboardSectionLoader.Section<List<AdminDashboardOverviewResponse.UserRowPayload>> users =
+                fanout.fork("users", this::buildUsers, List.of());
+        DashboardSectionLoader.Section<List<AdminDashboardOverviewResponse.RecentBookingPayload>> recentBookings =
+                fanout.fork("recentBookings", this::buildRecentBookings, List.of());
+        DashboardSectionLoader.Section<List<AdminDashboardOverviewResponse.PopularDestinationPayload>> popularDestinations =
+                fanout.fork("popularDestinations", this::buildPopularDestinations, List.of());
+        LocalDate today = LocalDate.now();
+        DashboardSectionLoader.Section<RevenueReport> revenueSection = fanout.fork(
+                "revenue",
+                () -> revenueLedgerService.getReport(range.from(), range.to(), today),
+                revenueLedgerService.emptyReport(range.from(), range.to(), today)
+        );
 
-        BigDecimal totalRevenue = payments.stream()
-                .filter(entry -> entry.getStatus() == PaymentStatus.SUCCESS)
-                .map(entry -> entry.getAmount() != null ? entry.getAmount() : BigDecimal.ZERO)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        AdminMetricsSnapshot metrics = metricsSection.join();
+        RevenueReport revenue = revenueSection.join();
+        return new AdminDashboardOverviewResponse(
+                buildTotals(metrics, revenue),
+                bookingsOverview.join(),
+                users.join(),
+                recentBookings.join(),
+                buildBudget(revenue),
+                buildRevenue(revenue),
+                buildSystemAlerts(metrics),
+                popularDestinations.join(),
+                fanout.timings()
+        );
+    }
 
+    private AdminDashboardOverviewResponse.TotalsPayload buildTotals(AdminMetricsSnapshot metrics, RevenueReport revenue) {
         return new AdminDashboardOverviewResponse.TotalsPayload(
-                (long) users.size(),
-                activeTrips,
-                (long) bookings.size(),
-                totalRevenue
+                metrics.totalUsers(),
+                metrics.activeTrips(),
+                metrics.totalBookings(),
+                net(revenue.allTime(), revenue.reportingCurrency()),
+                revenue.reportingCurrency()
         );
     }
 
-    private List<AdminDashboardOverviewResponse.BookingOverviewPoint> buildBookingOverview(List<BookingRequest> bookings) {
-        Map<YearMonth, Long> monthlyCounts = bookings.stream()
-                .filter(entry -> entry.getRequestedAt() != null)
-                .collect(Collectors.groupingBy(
-                        entry -> YearMonth.from(entry.getRequestedAt()),
-                        Collectors.counting()
-                ));
-
-        YearMonth currentMonth = YearMonth.now();
-        return java.util.stream.IntStream.rangeClosed(0, 11)
-                .mapToObj(offset -> currentMonth.minusMonths(11L - offset))
-                .map(month -> new AdminDashboardOverviewResponse.BookingOverviewPoint(
-                        month.getMonth().getDisplayName(TextStyle.SHORT, Locale.ENGLISH),
-                        monthlyCounts.getOrDefault(month, 0L)
+    private List<AdminDashboardOverviewResponse.BookingOverviewPoint> buildBookingOverview(BookingRollupRange range) {
+        return bookingRollupService.getSeries(range)
+                .stream()
+                .map(point -> new AdminDashboardOverviewResponse.BookingOverviewPoint(
+                        range.granularity().chartLabel(point.periodStart()),
+                        point.bookings(),
+                        point.periodStart().toString(),
+                        point.bookedAmount(),
+                        point.paidAmount()
                 ))
                 .toList();
     }
 
-    private List<AdminDashboardOverviewResponse.UserRowPayload> buildUsers(List<User> users) {
-        int fromIndex = Math.max(0, users.size() - 5);
-        List<AdminDashboardOverviewResponse.UserRowPayload> rows = new ArrayList<>(5);
+    private List<AdminDashboardOverviewResponse.UserRowPayload> buildUsers() {
+        List<User> users = userRepository.findTop5ByOrderByIdDesc();
+        List<AdminDashboardOverviewResponse.UserRowPayload> rows = new ArrayList<>(users.size());
 
-        for (int index = users.size() - 1; index >= fromIndex; index--) {
-            User user = users.get(index);
+        for (User user : users) {
             String email = user.getEmail() != null ? user.getEmail() : "";
             UserStatus status = user.getStatus() != null ? user.getStatus() : UserStatus.ACTIVE;
 
@@ -120,9 +147,9 @@ public class AdminDashboardService {
         return rows;
     }
 
-    private List<AdminDashboardOverviewResponse.RecentBookingPayload> buildRecentBookings(List<BookingRequest> bookings) {
+    private List<AdminDashboardOverviewResponse.RecentBookingPayload> buildRecentBookings() {
+        List<BookingRequest> bookings = bookingRequestRepository.findTop5ByOrderByRequestedAtDesc();
         return bookings.stream()
-                .limit(5)
                 .map(entry -> new AdminDashboardOverviewResponse.RecentBookingPayload(
                         entry.getId(),
                         entry.getBookingCode(),
@@ -132,37 +159,88 @@ public class AdminDashboardService {
                 .toList();
     }
 
-    private AdminDashboardOverviewResponse.BudgetPayload buildBudget(List<PaymentRecord> payments) {
-        BigDecimal spent = payments.stream()
-                .filter(entry -> entry.getStatus() == PaymentStatus.SUCCESS)
-                .map(entry -> entry.getAmount() != null ? entry.getAmount() : BigDecimal.ZERO)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    // The target is annual, so it is measured against year-to-date revenue in the reporting currency.
+    private AdminDashboardOverviewResponse.BudgetPayload buildBudget(RevenueReport revenue) {
+        BigDecimal spent = net(revenue.yearToDate(), revenue.reportingCurrency());
 
-        BigDecimal remaining = DEFAULT_BUDGET_TARGET.subtract(spent);
+        BigDecimal remaining = revenue.annualTarget().subtract(spent);
         if (remaining.signum() < 0) {
             remaining = BigDecimal.ZERO;
         }
 
-        return new AdminDashboardOverviewResponse.BudgetPayload(spent, DEFAULT_BUDGET_TARGET, remaining);
+        return new AdminDashboardOverviewResponse.BudgetPayload(
+                spent,
+                revenue.annualTarget(),
+                remaining,
+                revenue.reportingCurrency(),
+                revenue.yearStart().toString()
+        );
     }
 
-    private List<AdminDashboardOverviewResponse.SystemAlertPayload> buildSystemAlerts(
-            List<User> users,
-            List<BookingRequest> bookings,
-            List<PaymentRecord> payments
-    ) {
-        long pendingApprovals = bookings.stream()
-                .filter(entry -> entry.getStatus() == BookingStatus.PENDING)
-                .count();
-        long pendingPayments = bookings.stream()
-                .filter(entry -> entry.getStatus() == BookingStatus.PENDING_PAYMENT)
-                .count();
-        long failedPayments = payments.stream()
-                .filter(entry -> entry.getStatus() == PaymentStatus.FAILED)
-                .count();
-        long suspendedUsers = users.stream()
-                .filter(entry -> entry.getStatus() == UserStatus.SUSPENDED)
-                .count();
+    // Currencies are reported side by side; nothing here converts between them.
+    private AdminDashboardOverviewResponse.RevenuePayload buildRevenue(RevenueReport revenue) {
+        Map<String, RevenueCurrencyTotal> allTime = byCurrency(revenue.allTime());
+        Map<String, RevenueCurrencyTotal> current = byCurrency(revenue.currentPeriod());
+        Map<String, RevenueCurrencyTotal> previous = byCurrency(revenue.previousPeriod());
+
+        List<AdminDashboardOverviewResponse.RevenueCurrencyPayload> currencies = new ArrayList<>(allTime.size());
+        for (RevenueCurrencyTotal total : allTime.values()) {
+            BigDecimal periodNet = net(current.get(total.getCurrency()));
+            BigDecimal previousNet = net(previous.get(total.getCurrency()));
+            currencies.add(new AdminDashboardOverviewResponse.RevenueCurrencyPayload(
+                    total.getCurrency(),
+                    total.getPayments(),
+                    total.getRefunds(),
+                    total.getGrossAmount(),
+                    total.getRefundedAmount(),
+                    net(total),
+                    periodNet,
+                    previousNet,
+                    previousNet.signum() == 0
+                            ? null
+                            : periodNet.subtract(previousNet)
+                                    .multiply(BigDecimal.valueOf(100))
+                                    .divide(previousNet.abs(), 1, RoundingMode.HALF_UP)
+                                    .doubleValue()
+            ));
+        }
+
+        return new AdminDashboardOverviewResponse.RevenuePayload(
+                revenue.reportingCurrency(),
+                revenue.periodStart().toString(),
+                revenue.periodEnd().toString(),
+                revenue.previousPeriodStart() != null ? revenue.previousPeriodStart().toString() : null,
+                revenue.previousPeriodEnd() != null ? revenue.previousPeriodEnd().toString() : null,
+                currencies
+        );
+    }
+
+    private static Map<String, RevenueCurrencyTotal> byCurrency(List<RevenueCurrencyTotal> totals) {
+        Map<String, RevenueCurrencyTotal> byCurrency = new TreeMap<>();
+        for (RevenueCurrencyTotal total : totals) {
+            byCurrency.put(total.getCurrency(), total);
+        }
+        return byCurrency;
+    }
+
+    private static BigDecimal net(List<RevenueCurrencyTotal> totals, String currency) {
+        for (RevenueCurrencyTotal total : totals) {
+            if (total.getCurrency().equals(currency)) {
+                return net(total);
+            }
+        }
+        return BigDecimal.ZERO;
+    }
+
+    private static BigDecimal net(RevenueCurrencyTotal total) {
+        return total == null ? BigDecimal.ZERO : total.getGrossAmount().subtract(total.getRefundedAmount());
+    }
+
+    private List<AdminDashboardOverviewResponse.SystemAlertPayload> buildSystemAlerts(AdminMetricsSnapshot metrics) {
+        long pendingApprovals = metrics.bookings(BookingStatus.PENDING);
+        long pendingPayments = metrics.bookings(BookingStatus.PENDING_PAYMENT);
+        long failedPayments = metrics.payments(PaymentStatus.FAILED);
+        long suspendedUsers = metrics.users(UserStatus.SUSPENDED);
 
         java.util.ArrayList<AdminDashboardOverviewResponse.SystemAlertPayload> alerts = new java.util.ArrayList<>();
         if (failedPayments > 0) {
@@ -208,49 +286,26 @@ public class AdminDashboardService {
         return alerts.stream().limit(3).toList();
     }
 
-    private List<AdminDashboardOverviewResponse.PopularDestinationPayload> buildPopularDestinations(
-            List<BookingRequest> bookings,
-            List<Tour> tours
-    ) {
-        Map<String, Long> counts = bookings.stream()
-                .filter(entry -> entry.getDestination() != null && entry.getCountry() != null)
-                .collect(Collectors.groupingBy(
-                        entry -> (entry.getDestination().trim() + "|" + entry.getCountry().trim()).toLowerCase(Locale.ENGLISH),
-                        Collectors.counting()
-                ));
-
-        Map<String, String> imageByKey = new HashMap<>();
-        for (Tour tour : tours) {
-            if (tour.getDestination() == null || tour.getCountry() == null) {
-                continue;
-            }
-            String key = (tour.getDestination().trim() + "|" + tour.getCountry().trim()).toLowerCase(Locale.ENGLISH);
-            String image = Optional.ofNullable(tour.getImg())
-                    .map(String::trim)
-                    .filter(value -> !value.isEmpty())
-                    .orElse(FALLBACK_IMAGE_URL);
-            imageByKey.put(key, image);
-        }
-
-        return counts.entrySet()
+    private List<AdminDashboardOverviewResponse.PopularDestinationPayload> buildPopularDestinations() {
+        return destinationPopularityService.getTopDestinations(3)
                 .stream()
-                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
-                .limit(3)
-                .map(entry -> {
-                    String[] parts = entry.getKey().split("\\|", 2);
-                    String destination = parts[0];
-                    String country = parts.length > 1 ? parts[1] : "";
-
-                    return new AdminDashboardOverviewResponse.PopularDestinationPayload(
-                            toTitleCase(destination),
-                            toTitleCase(country),
-                            imageByKey.getOrDefault(entry.getKey(), FALLBACK_IMAGE_URL),
-                            entry.getValue()
-                    );
-                })
+                .map(entry -> new AdminDashboardOverviewResponse.PopularDestinationPayload(
+                        toTitleCase(entry.destination()),
+                        toTitleCase(entry.country()),
+                        findTourImage(entry),
+                        entry.count()
+                ))
                 .toList();
     }
 
+    private String findTourImage(DestinationEstimate entry) {
+        return tourRepository.findByDestinationIgnoreCaseAndCountryIgnoreCase(entry.destination(), entry.country())
+                .map(Tour::getImg)
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .orElse(FALLBACK_IMAGE_URL);
+    }
+
     private String toTitleCase(String value) {
         if (value == null || value.isBlank()) {
             return "";
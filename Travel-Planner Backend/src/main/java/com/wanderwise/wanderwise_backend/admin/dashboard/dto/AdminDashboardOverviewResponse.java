@@ -1,5 +1,6 @@
 package com.wanderwise.wanderwise_backend.admin.dashboard.dto;
 
+import com.wanderwise.wanderwise_backend.dashboard.dto.DashboardSectionTiming;
 import java.math.BigDecimal;
 import java.util.List;
 
@@ -9,20 +10,26 @@ public record AdminDashboardOverviewResponse(
         List<UserRowPayload> users,
         List<RecentBookingPayload> recentBookings,
         BudgetPayload budget,
+        RevenuePayload revenue,
         List<SystemAlertPayload> systemAlerts,
-        List<PopularDestinationPayload> popularDestinations
+        List<PopularDestinationPayload> popularDestinations,
+        List<DashboardSectionTiming> sectionTimings
 ) {
     public record TotalsPayload(
             Long totalUsers,
             Long activeTrips,
             Long totalBookings,
-            BigDecimal totalRevenue
+            BigDecimal totalRevenue,
+            String revenueCurrency
     ) {
     }
 
     public record BookingOverviewPoint(
             String name,
-            Long bookings
+            Long bookings,
+            String periodStart,
+            BigDecimal bookedAmount,
+            BigDecimal paidAmount
     ) {
     }
 
@@ -46,7 +53,32 @@ public record AdminDashboardOverviewResponse(
     public record BudgetPayload(
             BigDecimal spent,
             BigDecimal target,
-            BigDecimal remaining
+            BigDecimal remaining,
+            String currency,
+            String periodStart
+    ) {
+    }
+
+    public record RevenuePayload(
+            String reportingCurrency,
+            String periodStart,
+            String periodEnd,
+            String previousPeriodStart,
+            String previousPeriodEnd,
+            List<RevenueCurrencyPayload> currencies
+    ) {
+    }
+
+    public record RevenueCurrencyPayload(
+            String currency,
+            Long payments,
+            Long refunds,
+            BigDecimal grossAmount,
+            BigDecimal refundedAmount,
+            BigDecimal netAmount,
+            BigDecimal periodNetAmount,
+            BigDecimal previousPeriodNetAmount,
+            Double periodChangePercent
     ) {
     }
 
@@ -0,0 +1,27 @@
+package com.wanderwise.wanderwise_backend.admin.demand;
+
+import com.wanderwise.wanderwise_backend.admin.demand.dto.DemandWindowResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/demand")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminDemandController {
+
+    private final DemandWindowService demandWindowService;
+
+    @GetMapping
+    public ResponseEntity<DemandWindowResponse> getDemand(
+            @RequestParam(defaultValue = "7") int days,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(demandWindowService.getDemandWindow(days, limit));
+    }
+}
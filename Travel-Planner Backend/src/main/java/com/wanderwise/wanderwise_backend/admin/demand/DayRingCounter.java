@@ -0,0 +1,43 @@
+package com.wanderwise.wanderwise_backend.admin.demand;
+
+import java.util.Arrays;
+
+final class DayRingCounter {
+
+    private final long[] counts;
+    private final long[] days;
+
+    DayRingCounter(int capacityDays) {
+        this.counts = new long[capacityDays];
+        this.days = new long[capacityDays];
+        Arrays.fill(days, Long.MIN_VALUE);
+    }
+
+    synchronized void add(long epochDay, long delta) {
+        int slot = slot(epochDay);
+        if (days[slot] != epochDay) {
+            if (days[slot] > epochDay) {
+                return;
+            }
+            days[slot] = epochDay;
+            counts[slot] = 0L;
+        }
+        counts[slot] += delta;
+    }
+
+    synchronized long sum(long fromEpochDay, long toEpochDay) {
+        long total = 0L;
+        long start = Math.max(fromEpochDay, toEpochDay - counts.length + 1);
+        for (long day = start; day <= toEpochDay; day++) {
+            int slot = slot(day);
+            if (days[slot] == day) {
+                total += counts[slot];
+            }
+        }
+        return total;
+    }
+
+    private int slot(long epochDay) {
+        return (int) Math.floorMod(epochDay, (long) counts.length);
+    }
+}
@@ -0,0 +1,17 @@
+package com.wanderwise.wanderwise_backend.admin.demand;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public record DemandComparison(
+        long current,
+        long previous
+) {
+    public BigDecimal changePercent() {
+        if (previous == 0L) {
+            return null;
+        }
+        return BigDecimal.valueOf((current - previous) * 100L)
+                .divide(BigDecimal.valueOf(previous), 1, RoundingMode.HALF_UP);
+    }
+}
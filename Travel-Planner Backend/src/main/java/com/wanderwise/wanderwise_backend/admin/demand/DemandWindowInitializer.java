@@ -0,0 +1,17 @@
+package com.wanderwise.wanderwise_backend.admin.demand;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class DemandWindowInitializer implements CommandLineRunner {
+
+    private final DemandWindowService demandWindowService;
+
+    @Override
+    public void run(String... args) {
+        demandWindowService.rebuildFromSource();
+    }
+}
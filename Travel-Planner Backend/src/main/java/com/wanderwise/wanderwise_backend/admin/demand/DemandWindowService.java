@@ -0,0 +1,222 @@
+package com.wanderwise.wanderwise_backend.admin.demand;
+
+import com.wanderwise.wanderwise_backend.admin.demand.dto.DemandWindowResponse;
+import com.wanderwise.wanderwise_backend.booking.BookingDemandRow;
+import com.wanderwise.wanderwise_backend.booking.BookingRequest;
+import com.wanderwise.wanderwise_backend.booking.BookingRequestRepository;
+import com.wanderwise.wanderwise_backend.payment.PaymentRecord;
+import com.wanderwise.wanderwise_backend.payment.PaymentRecordRepository;
+import com.wanderwise.wanderwise_backend.payment.PaymentStatus;
+import com.wanderwise.wanderwise_backend.transaction.TransactionHooks;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DemandWindowService {
+
+    public static final List<Integer> WINDOW_DAYS = List.of(7, 30, 90);
+
+    // Two back-to-back 90-day windows so every window has a previous period to compare against.
+    private static final int RETAINED_DAYS = 180;
+    private static final int BOOKINGS = 0;
+    private static final int PAYMENTS = 1;
+
+    private final BookingRequestRepository bookingRequestRepository;
+    private final PaymentRecordRepository paymentRecordRepository;
+
+    private volatile DemandCounters counters = new DemandCounters();
+
+    public void recordBooking(BookingRequest booking) {
+        LocalDate day = booking.getRequestedAt().toLocalDate();
+        String key = destinationKey(booking.getDestination(), booking.getCountry());
+        int travelMonth = booking.getTravelDate().getMonthValue();
+        TransactionHooks.afterCommit(() -> counters.add(BOOKINGS, key, travelMonth, day));
+    }
+
+    public void recordPayment(PaymentRecord payment, BookingRequest booking) {
+        if (payment.getStatus() != PaymentStatus.SUCCESS) {
+            return;
+        }
+
+        LocalDate day = payment.getPaidAt().toLocalDate();
+        String key = destinationKey(booking.getDestination(), booking.getCountry());
+        int travelMonth = booking.getTravelDate().getMonthValue();
+        TransactionHooks.afterCommit(() -> counters.add(PAYMENTS, key, travelMonth, day));
+    }
+
+    public DemandComparison totalBookings(int days) {
+        return compare(counters.totals[BOOKINGS], requireWindow(days));
+    }
+
+    public DemandComparison totalPayments(int days) {
+        return compare(counters.totals[PAYMENTS], requireWindow(days));
+    }
+
+    public List<DestinationDemand> destinations(int days) {
+        int window = requireWindow(days);
+        List<DestinationDemand> demand = new ArrayList<>();
+        for (Map.Entry<String, DayRingCounter[]> entry : counters.destinations.entrySet()) {
+            DemandComparison bookings = compare(entry.getValue()[BOOKINGS], window);
+            DemandComparison payments = compare(entry.getValue()[PAYMENTS], window);
+            if (bookings.current() + bookings.previous() + payments.current() + payments.previous() == 0L) {
+                continue;
+            }
+
+            String[] parts = entry.getKey().split("\\|", 2);
+            demand.add(new DestinationDemand(parts[0], parts.length > 1 ? parts[1] : "", bookings, payments));
+        }
+        demand.sort(Comparator.comparingLong((DestinationDemand entry) -> entry.bookings().current())
+                .reversed()
+                .thenComparing(DestinationDemand::key));
+        return demand;
+    }
+
+    public List<DemandComparison> travelMonths(int days) {
+        int window = requireWindow(days);
+        List<DemandComparison> months = new ArrayList<>(12);
+        for (DayRingCounter counter : counters.travelMonths[BOOKINGS]) {
+            months.add(compare(counter, window));
+        }
+        return months;
+    }
+
+    public DemandWindowResponse getDemandWindow(int days, int limit) {
+        int window = requireWindow(days);
+        LocalDate today = LocalDate.now();
+
+        List<DemandWindowResponse.DestinationDemandPayload> destinations = destinations(window)
+                .stream()
+                .limit(Math.max(1, Math.min(limit, 100)))
+                .map(entry -> new DemandWindowResponse.DestinationDemandPayload(
+                        entry.destination(),
+                        entry.country(),
+                        toPayload(entry.bookings()),
+                        toPayload(entry.payments())
+                ))
+                .toList();
+
+        List<DemandComparison> months = travelMonths(window);
+        List<DemandWindowResponse.TravelMonthDemandPayload> travelMonths = new ArrayList<>(months.size());
+        for (int index = 0; index < months.size(); index++) {
+            travelMonths.add(new DemandWindowResponse.TravelMonthDemandPayload(
+                    Month.of(index + 1).getDisplayName(TextStyle.FULL, Locale.ENGLISH),
+                    toPayload(months.get(index))
+            ));
+        }
+
+        return new DemandWindowResponse(
+                window,
+                today.minusDays(window - 1L).toString(),
+                today.toString(),
+                toPayload(totalBookings(window)),
+                toPayload(totalPayments(window)),
+                destinations,
+                travelMonths
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public void rebuildFromSource() {
+        DemandCounters rebuilt = new DemandCounters();
+        LocalDateTime from = LocalDate.now().minusDays(RETAINED_DAYS - 1L).atStartOfDay();
+
+        try (Stream<BookingDemandRow> rows = bookingRequestRepository.streamDemandRowsRequestedSince(from)) {
+            rows.forEach(row -> rebuilt.add(BOOKINGS, row));
+        }
+        try (Stream<BookingDemandRow> rows = paymentRecordRepository.streamDemandRowsPaidSince(PaymentStatus.CAPTURED, from)) {
+            rows.forEach(row -> rebuilt.add(PAYMENTS, row));
+        }
+
+        counters = rebuilt;
+        log.info("Demand windows rebuilt for {} destinations.", rebuilt.destinations.size());
+    }
+
+    @Scheduled(cron = "${app.admin.demand.rebuild-cron:0 20 * * * *}")
+    @Transactional(readOnly = true)
+    public void rebuildOnSchedule() {
+        // Picks up other instances' writes and drops destinations that aged out of every window.
+        rebuildFromSource();
+    }
+
+    private DemandComparison compare(DayRingCounter counter, int days) {
+        long today = LocalDate.now().toEpochDay();
+        long currentStart = today - days + 1;
+        return new DemandComparison(
+                counter.sum(currentStart, today),
+                counter.sum(currentStart - days, currentStart - 1)
+        );
+    }
+
+    private DemandWindowResponse.ComparisonPayload toPayload(DemandComparison comparison) {
+        return new DemandWindowResponse.ComparisonPayload(
+                comparison.current(),
+                comparison.previous(),
+                comparison.changePercent()
+        );
+    }
+
+    private int requireWindow(int days) {
+        if (!WINDOW_DAYS.contains(days)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Window must be one of " + WINDOW_DAYS + " days");
+        }
+        return days;
+    }
+
+    private static String destinationKey(String destination, String country) {
+        String normalizedDestination = destination == null ? "" : destination.trim().toLowerCase(Locale.ENGLISH);
+        String normalizedCountry = country == null ? "" : country.trim().toLowerCase(Locale.ENGLISH);
+        return normalizedDestination + "|" + normalizedCountry;
+    }
+
+    private static final class DemandCounters {
+
+        private final Map<String, DayRingCounter[]> destinations = new ConcurrentHashMap<>();
+        private final DayRingCounter[][] travelMonths = new DayRingCounter[2][12];
+        private final DayRingCounter[] totals = {new DayRingCounter(RETAINED_DAYS), new DayRingCounter(RETAINED_DAYS)};
+
+        private DemandCounters() {
+            for (DayRingCounter[] counters : travelMonths) {
+                for (int month = 0; month < counters.length; month++) {
+                    counters[month] = new DayRingCounter(RETAINED_DAYS);
+                }
+            }
+        }
+
+        private void add(int series, BookingDemandRow row) {
+            add(
+                    series,
+                    destinationKey(row.destination(), row.country()),
+                    row.travelDate().getMonthValue(),
+                    row.occurredAt().toLocalDate()
+            );
+        }
+
+        private void add(int series, String destinationKey, int travelMonth, LocalDate day) {
+            long epochDay = day.toEpochDay();
+            destinations.computeIfAbsent(destinationKey, _ignored -> new DayRingCounter[]{
+                    new DayRingCounter(RETAINED_DAYS),
+                    new DayRingCounter(RETAINED_DAYS)
+            })[series].add(epochDay, 1L);
+            travelMonths[series][travelMonth - 1].add(epochDay, 1L);
+            totals[series].add(epochDay, 1L);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.wanderwise.wanderwise_backend.admin.demand;
+
+public record DestinationDemand(
+        String destination,
+        String country,
+        DemandComparison bookings,
+        DemandComparison payments
+) {
+    public String key() {
+        return destination + "|" + country;
+    }
+}
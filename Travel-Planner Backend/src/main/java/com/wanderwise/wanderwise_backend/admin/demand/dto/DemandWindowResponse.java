@@ -0,0 +1,35 @@
+package com.wanderwise.wanderwise_backend.admin.demand.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record DemandWindowResponse(
+        Integer days,
+        String from,
+        String to,
+        ComparisonPayload bookings,
+        ComparisonPayload payments,
+        List<DestinationDemandPayload> destinations,
+        List<TravelMonthDemandPayload> travelMonths
+) {
+    public record ComparisonPayload(
+            Long current,
+            Long previous,
+            BigDecimal changePercent
+    ) {
+    }
+
+    public record DestinationDemandPayload(
+            String destination,
+            String country,
+            ComparisonPayload bookings,
+            ComparisonPayload payments
+    ) {
+    }
+
+    public record TravelMonthDemandPayload(
+            String month,
+            ComparisonPayload bookings
+    ) {
+    }
+}
@@ -0,0 +1,78 @@
+package com.wanderwise.wanderwise_backend.admin.export;
+
+import com.wanderwise.wanderwise_backend.booking.BookingStatus;
+import com.wanderwise.wanderwise_backend.payment.PaymentStatus;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/exports")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminExportController {
+
+    private final AdminExportService adminExportService;
+
+    @GetMapping("/bookings")
+    public void exportBookings(
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) BookingStatus status,
+            @RequestParam(required = false) String destination,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response
+    ) throws IOException {
+        adminExportService.validateRange(from, to);
+        try (OutputStream output = open(response, "bookings", format, gzip)) {
+            adminExportService.exportBookings(from, to, status, destination, format, output);
+        }
+    }
+
+    @GetMapping("/payments")
+    public void exportPayments(
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) PaymentStatus status,
+            @RequestParam(required = false) String destination,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response
+    ) throws IOException {
+        adminExportService.validateRange(from, to);
+        try (OutputStream output = open(response, "payments", format, gzip)) {
+            adminExportService.exportPayments(from, to, status, destination, format, output);
+        }
+    }
+
+    private OutputStream open(
+            HttpServletResponse response,
+            String name,
+            ExportFormat format,
+            boolean gzip
+    ) throws IOException {
+        response.setContentType(format.contentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(
+                HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"" + name + "-" + LocalDate.now() + "." + format.extension() + "\""
+        );
+        if (!gzip) {
+            return response.getOutputStream();
+        }
+
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        return new GZIPOutputStream(response.getOutputStream(), 8192);
+    }
+}
@@ -0,0 +1,197 @@
+package com.wanderwise.wanderwise_backend.admin.export;
+
+import com.wanderwise.wanderwise_backend.booking.BookingStatus;
+import com.wanderwise.wanderwise_backend.payment.PaymentStatus;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+@Service
+@Slf4j
+public class AdminExportService {
+
+    private static final List<ExportColumn> BOOKING_COLUMNS = List.of(
+            ExportColumn.text("bookingCode", "b.booking_code"),
+            ExportColumn.timestamp("requestedAt", "b.requested_at"),
+            ExportColumn.text("status", "b.status"),
+            ExportColumn.text("travelerName", "b.traveler_name"),
+            ExportColumn.text("travelerEmail", "b.traveler_email"),
+            ExportColumn.text("destination", "b.destination"),
+            ExportColumn.text("country", "b.country"),
+            ExportColumn.date("travelDate", "b.travel_date"),
+            ExportColumn.text("transportation", "b.transportation"),
+            ExportColumn.integer("travelersCount", "b.travelers_count"),
+            ExportColumn.decimal("amountPerTraveler", "b.amount_per_traveler"),
+            ExportColumn.decimal("totalAmount", "b.total_amount"),
+            ExportColumn.text("currency", "b.currency"),
+            ExportColumn.text("adminNote", "b.admin_note")
+    );
+
+    private static final List<ExportColumn> PAYMENT_COLUMNS = List.of(
+            ExportColumn.text("paymentCode", "p.payment_code"),
+            ExportColumn.timestamp("paidAt", "p.paid_at"),
+            ExportColumn.text("status", "p.status"),
+            ExportColumn.timestamp("settledAt", "p.settled_at"),
+            ExportColumn.text("bookingCode", "p.booking_code"),
+            ExportColumn.text("travelerName", "p.traveler_name"),
+            ExportColumn.text("travelerEmail", "p.traveler_email"),
+            ExportColumn.text("destination", "b.destination"),
+            ExportColumn.text("country", "b.country"),
+            ExportColumn.text("method", "p.method"),
+            ExportColumn.text("cardLast4", "p.card_last4"),
+            ExportColumn.text("upiId", "p.upi_id"),
+            ExportColumn.text("bankReference", "p.bank_reference"),
+            ExportColumn.decimal("amount", "p.amount"),
+            ExportColumn.text("currency", "p.currency")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public AdminExportService(
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.admin.export.fetch-size:1000}") int fetchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = Math.max(1, fetchSize);
+    }
+
+    public void validateRange(LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Range start must not be after range end");
+        }
+    }
+
+    public long exportBookings(
+            LocalDate from,
+            LocalDate to,
+            BookingStatus status,
+            String destination,
+            ExportFormat format,
+            OutputStream output
+    ) {
+        List<String> conditions = new ArrayList<>();
+        List<Object> parameters = new ArrayList<>();
+        addRange(conditions, parameters, "b.requested_at", from, to);
+        addEquals(conditions, parameters, "b.status", status != null ? status.name() : null);
+        addEquals(conditions, parameters, "b.destination", destination);
+
+        String sql = select(BOOKING_COLUMNS) + " from booking_requests b"
+                + where(conditions) + " order by b.requested_at, b.id";
+        return stream(sql, parameters, BOOKING_COLUMNS, format, output);
+    }
+
+    public long exportPayments(
+            LocalDate from,
+            LocalDate to,
+            PaymentStatus status,
+            String destination,
+            ExportFormat format,
+            OutputStream output
+    ) {
+        List<String> conditions = new ArrayList<>();
+        List<Object> parameters = new ArrayList<>();
+        addRange(conditions, parameters, "p.paid_at", from, to);
+        addEquals(conditions, parameters, "p.status", status != null ? status.name() : null);
+        addEquals(conditions, parameters, "b.destination", destination);
+
+        String sql = select(PAYMENT_COLUMNS) + " from payments p left join booking_requests b on b.id = p.booking_record_id"
+                + where(conditions) + " order by p.paid_at, p.id";
+        return stream(sql, parameters, PAYMENT_COLUMNS, format, output);
+    }
+
+    private long stream(
+            String sql,
+            List<Object> parameters,
+            List<ExportColumn> columns,
+            ExportFormat format,
+            OutputStream output
+    ) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), 64 * 1024);
+        long[] rows = {0L};
+        try {
+            ExportRowWriter rowWriter = ExportRowWriter.create(format, columns, writer);
+            Object[] values = new Object[columns.size()];
+            // A forward-only, read-only statement with a fetch size lets the driver page rows from a
+            // server-side cursor instead of buffering the whole result set.
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        sql,
+                        ResultSet.TYPE_FORWARD_ONLY,
+                        ResultSet.CONCUR_READ_ONLY
+                );
+                statement.setFetchSize(fetchSize);
+                for (int index = 0; index < parameters.size(); index++) {
+                    statement.setObject(index + 1, parameters.get(index));
+                }
+                return statement;
+            }, (ResultSet resultSet) -> {
+                for (int index = 0; index < values.length; index++) {
+                    values[index] = columns.get(index).read(resultSet, index + 1);
+                }
+                try {
+                    rowWriter.writeRow(values);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                rows[0]++;
+            });
+            rowWriter.finish();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        log.info("Exported {} rows as {}.", rows[0], format);
+        return rows[0];
+    }
+
+    private static String select(List<ExportColumn> columns) {
+        return columns.stream()
+                .map(ExportColumn::expression)
+                .collect(Collectors.joining(", ", "select ", ""));
+    }
+
+    private static String where(List<String> conditions) {
+        return conditions.isEmpty() ? "" : " where " + String.join(" and ", conditions);
+    }
+
+    private static void addRange(
+            List<String> conditions,
+            List<Object> parameters,
+            String column,
+            LocalDate from,
+            LocalDate to
+    ) {
+        if (from != null) {
+            conditions.add(column + " >= ?");
+            parameters.add(Timestamp.valueOf(from.atStartOfDay()));
+        }
+        if (to != null) {
+            conditions.add(column + " < ?");
+            parameters.add(Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+        }
+    }
+
+    private static void addEquals(List<String> conditions, List<Object> parameters, String column, String value) {
+        if (value != null && !value.isBlank()) {
+            conditions.add(column + " = ?");
+            parameters.add(value.trim());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.wanderwise.wanderwise_backend.admin.export;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+record ExportColumn(String header, String expression, Type type) {
+
+    static ExportColumn text(String header, String expression) {
+        return new ExportColumn(header, expression, Type.TEXT);
+    }
+
+    static ExportColumn integer(String header, String expression) {
+        return new ExportColumn(header, expression, Type.INTEGER);
+    }
+
+    static ExportColumn decimal(String header, String expression) {
+        return new ExportColumn(header, expression, Type.DECIMAL);
+    }
+
+    static ExportColumn date(String header, String expression) {
+        return new ExportColumn(header, expression, Type.DATE);
+    }
+
+    static ExportColumn timestamp(String header, String expression) {
+        return new ExportColumn(header, expression, Type.TIMESTAMP);
+    }
+
+    Object read(ResultSet resultSet, int index) throws SQLException {
+        return switch (type) {
+            case TEXT -> resultSet.getString(index);
+            case INTEGER -> {
+                long value = resultSet.getLong(index);
+                yield resultSet.wasNull() ? null : value;
+            }
+            case DECIMAL -> resultSet.getBigDecimal(index);
+            case DATE -> {
+                Date value = resultSet.getDate(index);
+                yield value == null ? null : value.toLocalDate();
+            }
+            case TIMESTAMP -> {
+                Timestamp value = resultSet.getTimestamp(index);
+                yield value == null ? null : value.toLocalDateTime();
+            }
+        };
+    }
+
+    enum Type {
+        TEXT,
+        INTEGER,
+        DECIMAL,
+        DATE,
+        TIMESTAMP
+    }
+}
@@ -0,0 +1,135 @@
+package com.wanderwise.wanderwise_backend.admin.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonFactoryBuilder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.List;
+
+abstract class ExportRowWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactoryBuilder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .rootValueSeparator((String) null)
+            .build();
+
+    protected final List<ExportColumn> columns;
+    protected final Writer writer;
+
+    private ExportRowWriter(List<ExportColumn> columns, Writer writer) {
+        this.columns = columns;
+        this.writer = writer;
+    }
+
+    static ExportRowWriter create(ExportFormat format, List<ExportColumn> columns, Writer writer) throws IOException {
+        return switch (format) {
+            case CSV -> new Csv(columns, writer);
+            case NDJSON -> new Ndjson(columns, writer);
+        };
+    }
+
+    abstract void writeRow(Object[] values) throws IOException;
+
+    void finish() throws IOException {
+        writer.flush();
+    }
+
+    private static final class Csv extends ExportRowWriter {
+
+        private Csv(List<ExportColumn> columns, Writer writer) throws IOException {
+            super(columns, writer);
+            for (int index = 0; index < columns.size(); index++) {
+                if (index > 0) {
+                    writer.write(',');
+                }
+                writeField(columns.get(index).header());
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        void writeRow(Object[] values) throws IOException {
+            for (int index = 0; index < values.length; index++) {
+                if (index > 0) {
+                    writer.write(',');
+                }
+                Object value = values[index];
+                if (value instanceof BigDecimal decimal) {
+                    writer.write(decimal.toPlainString());
+                } else if (value instanceof Number number) {
+                    writer.write(number.toString());
+                } else if (value != null) {
+                    writeField(neutralizeFormula(value.toString()));
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        // Spreadsheets evaluate a text cell that starts like a formula; a leading quote keeps it as text.
+        private static String neutralizeFormula(String value) {
+            if (value.isEmpty()) {
+                return value;
+            }
+            char first = value.charAt(0);
+            return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r'
+                    ? "'" + value
+                    : value;
+        }
+
+        private void writeField(String value) throws IOException {
+            boolean quoted = false;
+            for (int index = 0; index < value.length() && !quoted; index++) {
+                char character = value.charAt(index);
+                quoted = character == ',' || character == '"' || character == '\n' || character == '\r';
+            }
+
+            if (!quoted) {
+                writer.write(value);
+                return;
+            }
+
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+
+    private static final class Ndjson extends ExportRowWriter {
+
+        private final JsonGenerator generator;
+
+        private Ndjson(List<ExportColumn> columns, Writer writer) throws IOException {
+            super(columns, writer);
+            this.generator = JSON_FACTORY.createGenerator(writer);
+        }
+
+        @Override
+        void writeRow(Object[] values) throws IOException {
+            generator.writeStartObject();
+            for (int index = 0; index < values.length; index++) {
+                Object value = values[index];
+                generator.writeFieldName(columns.get(index).header());
+                if (value == null) {
+                    generator.writeNull();
+                } else if (value instanceof BigDecimal decimal) {
+                    generator.writeNumber(decimal);
+                } else if (value instanceof Long number) {
+                    generator.writeNumber(number);
+                } else {
+                    generator.writeString(value.toString());
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        void finish() throws IOException {
+            generator.flush();
+            super.finish();
+        }
+    }
+}
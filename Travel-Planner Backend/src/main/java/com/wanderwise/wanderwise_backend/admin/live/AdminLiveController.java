@@ -0,0 +1,30 @@
+package com.wanderwise.wanderwise_backend.admin.live;
+
+import com.wanderwise.wanderwise_backend.admin.live.dto.AdminLiveMetricsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/admin/live")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminLiveController {
+
+    private final AdminLiveEventService adminLiveEventService;
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        return adminLiveEventService.subscribe();
+    }
+
+    @GetMapping("/metrics")
+    public ResponseEntity<AdminLiveMetricsResponse> getMetrics() {
+        return ResponseEntity.ok(adminLiveEventService.getMetrics());
+    }
+}
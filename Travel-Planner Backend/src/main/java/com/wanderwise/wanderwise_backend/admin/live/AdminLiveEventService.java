@@ -0,0 +1,278 @@
+package com.wanderwise.wanderwise_backend.admin.live;
+
+import com.wanderwise.wanderwise_backend.admin.dashboard.dto.AdminDashboardOverviewResponse;
+import com.wanderwise.wanderwise_backend.admin.live.dto.AdminLiveEvent;
+import com.wanderwise.wanderwise_backend.admin.live.dto.AdminLiveMetricsResponse;
+import com.wanderwise.wanderwise_backend.booking.BookingRequest;
+import com.wanderwise.wanderwise_backend.booking.BookingStatus;
+import com.wanderwise.wanderwise_backend.payment.PaymentRecord;
+import com.wanderwise.wanderwise_backend.transaction.TransactionHooks;
+import com.wanderwise.wanderwise_backend.user.User;
+import com.wanderwise.wanderwise_backend.user.UserStatus;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Service
+@Slf4j
+public class AdminLiveEventService {
+
+    private static final AdminLiveEvent HEARTBEAT = new AdminLiveEvent(0L, "HEARTBEAT", null, null);
+
+    private final Set<LiveClient> clients = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong publishedEvents = new AtomicLong();
+    private final AtomicLong deliveredEvents = new AtomicLong();
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final ExecutorService sender;
+    private final int bufferSize;
+    private final long emitterTimeoutMs;
+
+    public AdminLiveEventService(
+            @Value("${app.admin.live.buffer-size:100}") int bufferSize,
+            @Value("${app.admin.live.sender-threads:4}") int senderThreads,
+            @Value("${app.admin.live.emitter-timeout-ms:1800000}") long emitterTimeoutMs
+    ) {
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(Math.max(1, senderThreads), runnable -> {
+            Thread thread = new Thread(runnable, "admin-live-sender-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.bufferSize = Math.max(1, bufferSize);
+        this.emitterTimeoutMs = emitterTimeoutMs;
+    }
+
+    public SseEmitter subscribe() {
+        return register(new SseEmitter(emitterTimeoutMs));
+    }
+
+    SseEmitter register(SseEmitter emitter) {
+        LiveClient client = new LiveClient(emitter);
+        emitter.onCompletion(() -> clients.remove(client));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(_ignored -> clients.remove(client));
+        clients.add(client);
+        return emitter;
+    }
+
+    public void publishBookingCreated(BookingRequest booking) {
+        publish(AdminLiveEventType.BOOKING_CREATED, toBookingPayload(booking));
+    }
+
+    public void publishBookingStatusChanged(BookingRequest booking, BookingStatus previousStatus) {
+        if (previousStatus == booking.getStatus()) {
+            return;
+        }
+
+        publish(
+                AdminLiveEventType.BOOKING_STATUS_CHANGED,
+                new AdminLiveEvent.BookingStatusPayload(toBookingPayload(booking), previousStatus.name())
+        );
+    }
+
+    public void publishPayment(PaymentRecord payment, BookingRequest booking) {
+        // No default, so a new payment status has to decide here whether it is announced and as what.
+        AdminLiveEventType type = switch (payment.getStatus()) {
+            case SUCCESS -> AdminLiveEventType.PAYMENT_SUCCEEDED;
+            case FAILED -> AdminLiveEventType.PAYMENT_FAILED;
+            case REFUNDED -> AdminLiveEventType.PAYMENT_REFUNDED;
+            // Still waiting on the gateway; the payment is announced once it settles.
+            case PENDING -> null;
+        };
+        if (type == null) {
+            return;
+        }
+
+        publish(
+                type,
+                new AdminLiveEvent.PaymentPayload(
+                        payment.getPaymentCode(),
+                        toBookingPayload(booking),
+                        payment.getAmount(),
+                        payment.getCurrency(),
+                        payment.getStatus().name()
+                )
+        );
+
+        if (type == AdminLiveEventType.PAYMENT_FAILED) {
+            publish(AdminLiveEventType.ALERT, new AdminDashboardOverviewResponse.SystemAlertPayload(
+                    "HIGH",
+                    "Payment failed for booking " + booking.getBookingCode(),
+                    "Investigate failed transactions and verify gateway logs."
+            ));
+        }
+    }
+
+    public void publishPaymentFlagged(PaymentRecord payment, BookingRequest booking) {
+        publish(AdminLiveEventType.ALERT, new AdminDashboardOverviewResponse.SystemAlertPayload(
+                "MEDIUM",
+                "Payment " + payment.getPaymentCode() + " flagged for " + payment.getScreeningFlags() + " velocity",
+                "Review recent attempts on booking " + booking.getBookingCode() + " before approving it."
+        ));
+    }
+
+    public void publishUserCreated(User user) {
+        String email = user.getEmail() != null ? user.getEmail() : "";
+        UserStatus status = user.getStatus() != null ? user.getStatus() : UserStatus.ACTIVE;
+        publish(AdminLiveEventType.USER_CREATED, new AdminDashboardOverviewResponse.UserRowPayload(
+                user.getId(),
+                user.getName(),
+                email,
+                status.name(),
+                "https://i.pravatar.cc/150?u=" + email
+        ));
+    }
+
+    public void publishUserStatusChanged(User user, UserStatus previousStatus) {
+        if (user.getStatus() == UserStatus.SUSPENDED && previousStatus != UserStatus.SUSPENDED) {
+            publish(AdminLiveEventType.ALERT, new AdminDashboardOverviewResponse.SystemAlertPayload(
+                    "INFO",
+                    "User " + user.getEmail() + " suspended",
+                    "Check account moderation and reactivation requests."
+            ));
+        }
+    }
+
+    public AdminLiveMetricsResponse getMetrics() {
+        return new AdminLiveMetricsResponse(
+                clients.size(),
+                publishedEvents.get(),
+                deliveredEvents.get(),
+                droppedEvents.get(),
+                bufferSize
+        );
+    }
+
+    @Scheduled(fixedDelayString = "${app.admin.live.heartbeat-ms:25000}")
+    public void sendHeartbeat() {
+        for (LiveClient client : clients) {
+            client.enqueue(HEARTBEAT);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        for (LiveClient client : clients) {
+            client.emitter.complete();
+        }
+    }
+
+    private void publish(AdminLiveEventType type, Object payload) {
+        Runnable broadcast = () -> {
+            if (clients.isEmpty()) {
+                return;
+            }
+
+            AdminLiveEvent event = new AdminLiveEvent(
+                    sequence.incrementAndGet(),
+                    type.name(),
+                    LocalDateTime.now().toString(),
+                    payload
+            );
+            publishedEvents.incrementAndGet();
+            for (LiveClient client : clients) {
+                client.enqueue(event);
+            }
+        };
+
+        TransactionHooks.afterCommit(broadcast);
+    }
+
+    private AdminDashboardOverviewResponse.RecentBookingPayload toBookingPayload(BookingRequest booking) {
+        return new AdminDashboardOverviewResponse.RecentBookingPayload(
+                booking.getId(),
+                booking.getBookingCode(),
+                booking.getTravelerName(),
+                booking.getStatus().name()
+        );
+    }
+
+    private final class LiveClient {
+
+        private final SseEmitter emitter;
+        private final ArrayDeque<AdminLiveEvent> buffer = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closed;
+
+        private LiveClient(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void enqueue(AdminLiveEvent event) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (buffer.size() >= bufferSize) {
+                    buffer.pollFirst();
+                    droppedEvents.incrementAndGet();
+                }
+                buffer.addLast(event);
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException ex) {
+                close();
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                AdminLiveEvent event;
+                synchronized (this) {
+                    event = buffer.pollFirst();
+                    if (event == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+
+                try {
+                    if (event == HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else {
+                        emitter.send(SseEmitter.event()
+                                .id(String.valueOf(event.id()))
+                                .name(event.type())
+                                .data(event, MediaType.APPLICATION_JSON));
+                        deliveredEvents.incrementAndGet();
+                    }
+                } catch (IOException | IllegalStateException ex) {
+                    log.debug("Admin live client disconnected: {}", ex.getMessage());
+                    close();
+                    return;
+                }
+            }
+        }
+
+        private void close() {
+            synchronized (this) {
+                closed = true;
+                buffer.clear();
+            }
+            clients.remove(this);
+            emitter.complete();
+        }
+    }
+}
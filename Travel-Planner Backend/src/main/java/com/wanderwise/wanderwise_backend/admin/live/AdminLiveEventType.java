@@ -0,0 +1,11 @@
+package com.wanderwise.wanderwise_backend.admin.live;
+
+public enum AdminLiveEventType {
+    BOOKING_CREATED,
+    BOOKING_STATUS_CHANGED,
+    PAYMENT_SUCCEEDED,
+    PAYMENT_FAILED,
+    PAYMENT_REFUNDED,
+    USER_CREATED,
+    ALERT
+}
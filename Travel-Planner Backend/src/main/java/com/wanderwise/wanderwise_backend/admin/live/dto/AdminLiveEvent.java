@@ -0,0 +1,26 @@
+package com.wanderwise.wanderwise_backend.admin.live.dto;
+
+import com.wanderwise.wanderwise_backend.admin.dashboard.dto.AdminDashboardOverviewResponse;
+import java.math.BigDecimal;
+
+public record AdminLiveEvent(
+        Long id,
+        String type,
+        String occurredAt,
+        Object payload
+) {
+    public record BookingStatusPayload(
+            AdminDashboardOverviewResponse.RecentBookingPayload booking,
+            String previousStatus
+    ) {
+    }
+
+    public record PaymentPayload(
+            String paymentCode,
+            AdminDashboardOverviewResponse.RecentBookingPayload booking,
+            BigDecimal amount,
+            String currency,
+            String status
+    ) {
+    }
+}
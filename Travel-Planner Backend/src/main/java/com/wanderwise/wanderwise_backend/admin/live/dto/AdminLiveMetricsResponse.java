@@ -0,0 +1,10 @@
+package com.wanderwise.wanderwise_backend.admin.live.dto;
+
+public record AdminLiveMetricsResponse(
+        Integer connections,
+        Long publishedEvents,
+        Long deliveredEvents,
+        Long droppedEvents,
+        Integer bufferSize
+) {
+}
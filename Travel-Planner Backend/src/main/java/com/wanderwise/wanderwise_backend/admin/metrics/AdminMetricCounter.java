@@ -0,0 +1,52 @@
+package com.wanderwise.wanderwise_backend.admin.metrics;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "admin_metric_counters")
+public class AdminMetricCounter {
+
+    @Id
+    @Column(length = 80)
+    private String metricKey;
+
+    @Column(nullable = false)
+    private Long countValue;
+
+    @Column(nullable = false, precision = 16, scale = 2)
+    private BigDecimal amountValue;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    public void applyDefaults() {
+        if (countValue == null) {
+            countValue = 0L;
+        }
+
+        if (amountValue == null) {
+            amountValue = BigDecimal.ZERO;
+        }
+
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,33 @@
+package com.wanderwise.wanderwise_backend.admin.metrics;
+
+import jakarta.persistence.LockModeType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AdminMetricCounterRepository extends JpaRepository<AdminMetricCounter, String> {
+
+    @Modifying
+    @Query("""
+            update AdminMetricCounter c
+               set c.countValue = c.countValue + :countDelta,
+                   c.amountValue = c.amountValue + :amountDelta,
+                   c.updatedAt = :updatedAt
+             where c.metricKey = :metricKey
+            """)
+    int increment(
+            @Param("metricKey") String metricKey,
+            @Param("countDelta") long countDelta,
+            @Param("amountDelta") BigDecimal amountDelta,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from AdminMetricCounter c order by c.metricKey")
+    List<AdminMetricCounter> findAllForUpdate();
+}
@@ -0,0 +1,22 @@
+package com.wanderwise.wanderwise_backend.admin.metrics;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AdminMetricsInitializer implements CommandLineRunner {
+
+    private final AdminMetricsService adminMetricsService;
+
+    @Override
+    public void run(String... args) {
+        if (adminMetricsService.ensureCounters()) {
+            log.info("Admin metric counters were missing; rebuilding from source tables.");
+            adminMetricsService.rebuildFromSource();
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package com.wanderwise.wanderwise_backend.admin.metrics;
+
+import com.wanderwise.wanderwise_backend.booking.BookingRequest;
+import com.wanderwise.wanderwise_backend.booking.BookingRequestRepository;
+import com.wanderwise.wanderwise_backend.booking.BookingStatus;
+import com.wanderwise.wanderwise_backend.booking.BookingStatusChange;
+import com.wanderwise.wanderwise_backend.booking.BookingStatusCount;
+import com.wanderwise.wanderwise_backend.payment.PaymentRecord;
+import com.wanderwise.wanderwise_backend.payment.PaymentRecordRepository;
+import com.wanderwise.wanderwise_backend.payment.PaymentStatus;
+import com.wanderwise.wanderwise_backend.payment.PaymentStatusCount;
+import com.wanderwise.wanderwise_backend.user.User;
+import com.wanderwise.wanderwise_backend.user.UserRepository;
+import com.wanderwise.wanderwise_backend.user.UserStatus;
+import com.wanderwise.wanderwise_backend.user.UserStatusCount;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AdminMetricsService {
+
+    static final String ACTIVE_TRIPS_KEY = "trips.ACTIVE";
+    private static final Set<BookingStatus> ACTIVE_TRIP_STATUSES = EnumSet.of(BookingStatus.PENDING, BookingStatus.APPROVED);
+
+    private final AdminMetricCounterRepository adminMetricCounterRepository;
+    private final UserRepository userRepository;
+    private final BookingRequestRepository bookingRequestRepository;
+    private final PaymentRecordRepository paymentRecordRepository;
+
+    @Transactional
+    public void recordBookingCreated(BookingRequest booking) {
+        increment(bookingKey(booking.getStatus()), 1L);
+        if (isActiveTrip(booking.getStatus(), booking.getTravelDate())) {
+            increment(ACTIVE_TRIPS_KEY, 1L);
+        }
+    }
+
+    @Transactional
+    public void recordBookingsCreated(List<BookingRequest> bookings) {
+        Map<String, Long> deltas = new LinkedHashMap<>();
+        for (BookingRequest booking : bookings) {
+            deltas.merge(bookingKey(booking.getStatus()), 1L, Long::sum);
+            if (isActiveTrip(booking.getStatus(), booking.getTravelDate())) {
+                deltas.merge(ACTIVE_TRIPS_KEY, 1L, Long::sum);
+            }
+        }
+
+        deltas.forEach(this::increment);
+    }
+
+    @Transactional
+    public void recordBookingStatusChanged(BookingRequest booking, BookingStatus previousStatus) {
+        if (previousStatus == booking.getStatus()) {
+            return;
+        }
+
+        increment(bookingKey(previousStatus), -1L);
+        increment(bookingKey(booking.getStatus()), 1L);
+
+        boolean wasActive = isActiveTrip(previousStatus, booking.getTravelDate());
+        boolean isActive = isActiveTrip(booking.getStatus(), booking.getTravelDate());
+        if (wasActive != isActive) {
+            increment(ACTIVE_TRIPS_KEY, isActive ? 1L : -1L);
+        }
+    }
+
+    @Transactional
+    public void recordBookingStatusChanges(List<BookingStatusChange> changes) {
+        Map<String, Long> deltas = new LinkedHashMap<>();
+        for (BookingStatusChange change : changes) {
+            BookingRequest booking = change.booking();
+            if (change.previousStatus() == booking.getStatus()) {
+                continue;
+            }
+
+            deltas.merge(bookingKey(change.previousStatus()), -1L, Long::sum);
+            deltas.merge(bookingKey(booking.getStatus()), 1L, Long::sum);
+
+            boolean wasActive = isActiveTrip(change.previousStatus(), booking.getTravelDate());
+            boolean isActive = isActiveTrip(booking.getStatus(), booking.getTravelDate());
+            if (wasActive != isActive) {
+                deltas.merge(ACTIVE_TRIPS_KEY, isActive ? 1L : -1L, Long::sum);
+            }
+        }
+
+        deltas.forEach((metricKey, delta) -> {
+            if (delta != 0L) {
+                increment(metricKey, delta);
+            }
+        });
+    }
+
+    @Transactional
+    public void recordBookingDeleted(BookingRequest booking) {
+        increment(bookingKey(booking.getStatus()), -1L);
+        if (isActiveTrip(booking.getStatus(), booking.getTravelDate())) {
+            increment(ACTIVE_TRIPS_KEY, -1L);
+        }
+    }
+
+    @Transactional
+    public void recordPayment(PaymentRecord payment) {
+        BigDecimal amount = payment.getStatus() == PaymentStatus.SUCCESS && payment.getAmount() != null
+                ? payment.getAmount()
+                : BigDecimal.ZERO;
+        increment(paymentKey(payment.getStatus()), 1L, amount);
+    }
+
+    @Transactional
+    public void recordPaymentStatusChanged(PaymentRecord payment, PaymentStatus previousStatus) {
+        if (previousStatus == payment.getStatus()) {
+            return;
+        }
+
+        BigDecimal amount = payment.getAmount() != null ? payment.getAmount() : BigDecimal.ZERO;
+        increment(paymentKey(previousStatus), -1L, previousStatus == PaymentStatus.SUCCESS ? amount.negate() : BigDecimal.ZERO);
+        increment(paymentKey(payment.getStatus()), 1L, payment.getStatus() == PaymentStatus.SUCCESS ? amount : BigDecimal.ZERO);
+    }
+
+    @Transactional
+    public void recordUserCreated(User user) {
+        increment(userKey(user.getStatus()), 1L);
+    }
+
+    @Transactional
+    public void recordUserStatusChanged(User user, UserStatus previousStatus) {
+        if (normalize(previousStatus) == normalize(user.getStatus())) {
+            return;
+        }
+
+        increment(userKey(previousStatus), -1L);
+        increment(userKey(user.getStatus()), 1L);
+    }
+
+    @Transactional
+    public void recordUserDeleted(User user) {
+        increment(userKey(user.getStatus()), -1L);
+    }
+
+    @Transactional(readOnly = true)
+    public AdminMetricsSnapshot getSnapshot() {
+        Map<String, Long> counts = new HashMap<>();
+        Map<String, BigDecimal> amounts = new HashMap<>();
+        for (AdminMetricCounter counter : adminMetricCounterRepository.findAll()) {
+            counts.put(counter.getMetricKey(), counter.getCountValue());
+            amounts.put(counter.getMetricKey(), counter.getAmountValue());
+        }
+        return new AdminMetricsSnapshot(counts, amounts);
+    }
+
+    @Transactional
+    public boolean ensureCounters() {
+        Set<String> existingKeys = new HashSet<>();
+        for (AdminMetricCounter counter : adminMetricCounterRepository.findAll()) {
+            existingKeys.add(counter.getMetricKey());
+        }
+
+        List<AdminMetricCounter> missing = new ArrayList<>();
+        for (String metricKey : allKeys()) {
+            if (!existingKeys.contains(metricKey)) {
+                missing.add(AdminMetricCounter.builder()
+                        .metricKey(metricKey)
+                        .countValue(0L)
+                        .amountValue(BigDecimal.ZERO)
+                        .build());
+            }
+        }
+
+        adminMetricCounterRepository.saveAll(missing);
+        return !missing.isEmpty();
+    }
+
+    @Transactional
+    public AdminMetricsSnapshot rebuildFromSource() {
+        // Lock the counters before reading any source table. Writers that already incremented have committed by the
+        // time the lock is granted, so the snapshot below includes their rows; later writers wait on the lock and
+        // their increments land on top of the rebuilt values instead of being overwritten.
+        Map<String, AdminMetricCounter> countersByKey = new HashMap<>();
+        for (AdminMetricCounter counter : adminMetricCounterRepository.findAllForUpdate()) {
+            countersByKey.put(counter.getMetricKey(), counter);
+        }
+
+        Map<String, Long> counts = new LinkedHashMap<>();
+        Map<String, BigDecimal> amounts = new HashMap<>();
+
+        for (String metricKey : allKeys()) {
+            counts.put(metricKey, 0L);
+        }
+
+        for (BookingStatusCount entry : bookingRequestRepository.countGroupedByStatus()) {
+            counts.put(bookingKey(entry.getStatus()), entry.getTotal());
+        }
+
+        for (PaymentStatusCount entry : paymentRecordRepository.countGroupedByStatus()) {
+            counts.put(paymentKey(entry.getStatus()), entry.getTotal());
+            if (entry.getStatus() == PaymentStatus.SUCCESS) {
+                amounts.put(paymentKey(entry.getStatus()), entry.getAmount());
+            }
+        }
+
+        for (UserStatusCount entry : userRepository.countGroupedByStatus()) {
+            counts.merge(userKey(entry.getStatus()), entry.getTotal(), Long::sum);
+        }
+
+        counts.put(ACTIVE_TRIPS_KEY, bookingRequestRepository.countByStatusInAndTravelDateGreaterThanEqual(
+                ACTIVE_TRIP_STATUSES,
+                LocalDate.now()
+        ));
+
+        List<AdminMetricCounter> updated = new ArrayList<>(counts.size());
+        for (Map.Entry<String, Long> entry : counts.entrySet()) {
+            AdminMetricCounter counter = countersByKey.getOrDefault(
+                    entry.getKey(),
+                    AdminMetricCounter.builder().metricKey(entry.getKey()).build()
+            );
+            counter.setCountValue(entry.getValue());
+            counter.setAmountValue(amounts.getOrDefault(entry.getKey(), BigDecimal.ZERO));
+            updated.add(counter);
+        }
+
+        adminMetricCounterRepository.saveAll(updated);
+        log.info("Admin metric counters rebuilt from source tables ({} counters).", updated.size());
+        return new AdminMetricsSnapshot(counts, amounts);
+    }
+
+    @Scheduled(cron = "${app.admin.metrics.reconcile-cron:0 5 0 * * *}")
+    @Transactional
+    public void reconcileDaily() {
+        // Trips leave the active window as their travel date passes, which no write path observes.
+        rebuildFromSource();
+    }
+
+    static String bookingKey(BookingStatus status) {
+        return "bookings." + status.name();
+    }
+
+    static String paymentKey(PaymentStatus status) {
+        return "payments." + status.name();
+    }
+
+    static String userKey(UserStatus status) {
+        return "users." + normalize(status).name();
+    }
+
+    private void increment(String metricKey, long countDelta) {
+        increment(metricKey, countDelta, BigDecimal.ZERO);
+    }
+
+    private void increment(String metricKey, long countDelta, BigDecimal amountDelta) {
+        int updatedRows = adminMetricCounterRepository.increment(metricKey, countDelta, amountDelta, LocalDateTime.now());
+        if (updatedRows == 0) {
+            adminMetricCounterRepository.save(AdminMetricCounter.builder()
+                    .metricKey(metricKey)
+                    .countValue(countDelta)
+                    .amountValue(amountDelta)
+                    .build());
+        }
+    }
+
+    private boolean isActiveTrip(BookingStatus status, LocalDate travelDate) {
+        return ACTIVE_TRIP_STATUSES.contains(status)
+                && travelDate != null
+                && !travelDate.isBefore(LocalDate.now());
+    }
+
+    private static UserStatus normalize(UserStatus status) {
+        return status != null ? status : UserStatus.ACTIVE;
+    }
+
+    private List<String> allKeys() {
+        List<String> keys = new ArrayList<>();
+        for (BookingStatus status : BookingStatus.values()) {
+            keys.add(bookingKey(status));
+        }
+        for (PaymentStatus status : PaymentStatus.values()) {
+            keys.add(paymentKey(status));
+        }
+        for (UserStatus status : UserStatus.values()) {
+            keys.add(userKey(status));
+        }
+        keys.add(ACTIVE_TRIPS_KEY);
+        return keys;
+    }
+}
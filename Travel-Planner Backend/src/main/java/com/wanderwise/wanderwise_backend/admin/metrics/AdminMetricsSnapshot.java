@@ -0,0 +1,56 @@
+package com.wanderwise.wanderwise_backend.admin.metrics;
+
+import com.wanderwise.wanderwise_backend.booking.BookingStatus;
+import com.wanderwise.wanderwise_backend.payment.PaymentStatus;
+import com.wanderwise.wanderwise_backend.user.UserStatus;
+import java.math.BigDecimal;
+import java.util.Map;
+
+public record AdminMetricsSnapshot(
+        Map<String, Long> counts,
+        Map<String, BigDecimal> amounts
+) {
+    public static AdminMetricsSnapshot empty() {
+        return new AdminMetricsSnapshot(Map.of(), Map.of());
+    }
+
+    public long bookings(BookingStatus status) {
+        return count(AdminMetricsService.bookingKey(status));
+    }
+
+    public long payments(PaymentStatus status) {
+        return count(AdminMetricsService.paymentKey(status));
+    }
+
+    public long users(UserStatus status) {
+        return count(AdminMetricsService.userKey(status));
+    }
+
+    public long activeTrips() {
+        return count(AdminMetricsService.ACTIVE_TRIPS_KEY);
+    }
+
+    public long totalBookings() {
+        long total = 0;
+        for (BookingStatus status : BookingStatus.values()) {
+            total += bookings(status);
+        }
+        return total;
+    }
+
+    public long totalUsers() {
+        long total = 0;
+        for (UserStatus status : UserStatus.values()) {
+            total += users(status);
+        }
+        return total;
+    }
+
+    public BigDecimal revenue() {
+        return amounts.getOrDefault(AdminMetricsService.paymentKey(PaymentStatus.SUCCESS), BigDecimal.ZERO);
+    }
+
+    private long count(String metricKey) {
+        return Math.max(0L, counts.getOrDefault(metricKey, 0L));
+    }
+}
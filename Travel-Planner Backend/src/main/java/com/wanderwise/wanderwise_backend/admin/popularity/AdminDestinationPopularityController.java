@@ -0,0 +1,24 @@
+package com.wanderwise.wanderwise_backend.admin.popularity;
+
+import com.wanderwise.wanderwise_backend.admin.popularity.dto.TopDestinationsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/destinations")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminDestinationPopularityController {
+
+    private final DestinationPopularityService destinationPopularityService;
+
+    @GetMapping("/top")
+    public ResponseEntity<TopDestinationsResponse> getTopDestinations(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(destinationPopularityService.getTopDestinationsResponse(limit));
+    }
+}
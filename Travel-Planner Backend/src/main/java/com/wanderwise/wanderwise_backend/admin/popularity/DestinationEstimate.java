@@ -0,0 +1,12 @@
+package com.wanderwise.wanderwise_backend.admin.popularity;
+
+public record DestinationEstimate(
+        String destination,
+        String country,
+        long count,
+        long error
+) {
+    public String key() {
+        return destination + "|" + country;
+    }
+}
@@ -0,0 +1,17 @@
+package com.wanderwise.wanderwise_backend.admin.popularity;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class DestinationPopularityInitializer implements CommandLineRunner {
+
+    private final DestinationPopularityService destinationPopularityService;
+
+    @Override
+    public void run(String... args) {
+        destinationPopularityService.rebuildFromSource();
+    }
+}
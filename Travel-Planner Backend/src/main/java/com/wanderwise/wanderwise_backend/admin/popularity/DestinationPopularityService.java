@@ -0,0 +1,106 @@
+package com.wanderwise.wanderwise_backend.admin.popularity;
+
+import com.wanderwise.wanderwise_backend.admin.popularity.dto.TopDestinationsResponse;
+import com.wanderwise.wanderwise_backend.booking.BookingRequest;
+import com.wanderwise.wanderwise_backend.booking.BookingRequestRepository;
+import com.wanderwise.wanderwise_backend.booking.DestinationBookingCount;
+import com.wanderwise.wanderwise_backend.transaction.TransactionHooks;
+import java.util.List;
+import java.util.Locale;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DestinationPopularityService {
+
+    private final BookingRequestRepository bookingRequestRepository;
+
+    @Value("${app.admin.top-destinations.capacity:256}")
+    private int capacity;
+
+    private volatile SpaceSavingSketch sketch;
+
+    public void recordBooking(BookingRequest booking) {
+        String key = destinationKey(booking.getDestination(), booking.getCountry());
+        TransactionHooks.afterCommit(() -> currentSketch().offer(key, 1L));
+    }
+
+    public List<DestinationEstimate> getTopDestinations(int limit) {
+        return currentSketch().top(limit)
+                .stream()
+                .map(this::toDestinationEstimate)
+                .toList();
+    }
+
+    public TopDestinationsResponse getTopDestinationsResponse(int limit) {
+        SpaceSavingSketch current = currentSketch();
+        int resolvedLimit = Math.max(1, Math.min(limit, current.capacity()));
+        List<SpaceSavingSketch.Estimate> estimates = current.top(resolvedLimit + 1);
+        long nextCount = estimates.size() > resolvedLimit ? estimates.get(resolvedLimit).count() : current.maxError();
+        if (estimates.size() > resolvedLimit) {
+            estimates = estimates.subList(0, resolvedLimit);
+        }
+
+        List<TopDestinationsResponse.DestinationEstimatePayload> destinations = estimates.stream()
+                .map(entry -> {
+                    DestinationEstimate estimate = toDestinationEstimate(entry);
+                    return new TopDestinationsResponse.DestinationEstimatePayload(
+                            estimate.destination(),
+                            estimate.country(),
+                            estimate.count(),
+                            estimate.error(),
+                            estimate.count() - estimate.error() >= nextCount
+                    );
+                })
+                .toList();
+
+        return new TopDestinationsResponse(current.totalCount(), current.capacity(), current.maxError(), destinations);
+    }
+
+    public synchronized void rebuildFromSource() {
+        SpaceSavingSketch rebuilt = new SpaceSavingSketch(Math.max(1, capacity));
+        List<DestinationBookingCount> counts = bookingRequestRepository.findTopDestinations(Limit.unlimited());
+        for (DestinationBookingCount entry : counts) {
+            rebuilt.offer(destinationKey(entry.getDestination(), entry.getCountry()), entry.getTotal());
+        }
+        sketch = rebuilt;
+        log.info("Destination popularity sketch rebuilt from {} destination groups.", counts.size());
+    }
+
+    @Scheduled(cron = "${app.admin.top-destinations.rebuild-cron:0 15 * * * *}")
+    public void rebuildOnSchedule() {
+        // Other instances' bookings, and every deletion, only reach this in-process sketch through a rebuild:
+        // Space-Saving cannot un-count a key without voiding its error bound.
+        rebuildFromSource();
+    }
+
+    private SpaceSavingSketch currentSketch() {
+        SpaceSavingSketch current = sketch;
+        if (current == null) {
+            synchronized (this) {
+                if (sketch == null) {
+                    rebuildFromSource();
+                }
+                current = sketch;
+            }
+        }
+        return current;
+    }
+
+    private DestinationEstimate toDestinationEstimate(SpaceSavingSketch.Estimate estimate) {
+        String[] parts = estimate.key().split("\\|", 2);
+        return new DestinationEstimate(parts[0], parts.length > 1 ? parts[1] : "", estimate.count(), estimate.error());
+    }
+
+    private static String destinationKey(String destination, String country) {
+        String normalizedDestination = destination == null ? "" : destination.trim().toLowerCase(Locale.ENGLISH);
+        String normalizedCountry = country == null ? "" : country.trim().toLowerCase(Locale.ENGLISH);
+        return normalizedDestination + "|" + normalizedCountry;
+    }
+}
@@ -0,0 +1,121 @@
+package com.wanderwise.wanderwise_backend.admin.popularity;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Space-Saving heavy hitters over a fixed number of counters. Every reported count over-estimates the true
+// count by at most its own error, and every error is bounded by totalCount / capacity, so any key seen more
+// often than that is guaranteed to be monitored.
+final class SpaceSavingSketch {
+
+    private final int capacity;
+    private final String[] keys;
+    private final long[] counts;
+    private final long[] errors;
+    private final Map<String, Integer> positions;
+    private int size;
+    private long totalCount;
+
+    SpaceSavingSketch(int capacity) {
+        this.capacity = capacity;
+        this.keys = new String[capacity];
+        this.counts = new long[capacity];
+        this.errors = new long[capacity];
+        this.positions = new HashMap<>(capacity * 2);
+    }
+
+    synchronized void offer(String key, long weight) {
+        totalCount += weight;
+        Integer position = positions.get(key);
+        if (position != null) {
+            counts[position] += weight;
+            siftDown(position);
+            return;
+        }
+
+        if (size < capacity) {
+            keys[size] = key;
+            counts[size] = weight;
+            errors[size] = 0L;
+            positions.put(key, size);
+            siftUp(size++);
+            return;
+        }
+
+        long evictedCount = counts[0];
+        positions.remove(keys[0]);
+        keys[0] = key;
+        counts[0] = evictedCount + weight;
+        errors[0] = evictedCount;
+        positions.put(key, 0);
+        siftDown(0);
+    }
+
+    synchronized List<Estimate> top(int limit) {
+        List<Estimate> estimates = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            estimates.add(new Estimate(keys[index], counts[index], errors[index]));
+        }
+        estimates.sort(Comparator.comparingLong(Estimate::count).reversed().thenComparing(Estimate::key));
+        return estimates.size() > limit ? List.copyOf(estimates.subList(0, limit)) : estimates;
+    }
+
+    synchronized long totalCount() {
+        return totalCount;
+    }
+
+    synchronized long maxError() {
+        return size < capacity ? 0L : counts[0];
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (counts[parent] <= counts[position]) {
+                return;
+            }
+            swap(parent, position);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int left = position * 2 + 1;
+            if (left >= size) {
+                return;
+            }
+            int right = left + 1;
+            int smallest = right < size && counts[right] < counts[left] ? right : left;
+            if (counts[position] <= counts[smallest]) {
+                return;
+            }
+            swap(position, smallest);
+            position = smallest;
+        }
+    }
+
+    private void swap(int left, int right) {
+        String key = keys[left];
+        long count = counts[left];
+        long error = errors[left];
+        keys[left] = keys[right];
+        counts[left] = counts[right];
+        errors[left] = errors[right];
+        keys[right] = key;
+        counts[right] = count;
+        errors[right] = error;
+        positions.put(keys[left], left);
+        positions.put(keys[right], right);
+    }
+
+    record Estimate(String key, long count, long error) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.wanderwise.wanderwise_backend.admin.popularity.dto;
+
+import java.util.List;
+
+public record TopDestinationsResponse(
+        Long totalBookings,
+        Integer capacity,
+        Long maxError,
+        List<DestinationEstimatePayload> destinations
+) {
+    public record DestinationEstimatePayload(
+            String destination,
+            String country,
+            Long estimatedBookings,
+            Long maxOverestimate,
+            Boolean guaranteedRank
+    ) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.wanderwise.wanderwise_backend.admin.pricing;
+
+import com.wanderwise.wanderwise_backend.admin.pricing.dto.BookingValueStatsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/stats")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminBookingStatsController {
+
+    private final BookingValueStatsService bookingValueStatsService;
+
+    @GetMapping("/bookings")
+    public ResponseEntity<BookingValueStatsResponse> getBookingStats(
+            @RequestParam(required = false) String destination,
+            @RequestParam(required = false) String country,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(bookingValueStatsService.getStats(destination, country, limit));
+    }
+}
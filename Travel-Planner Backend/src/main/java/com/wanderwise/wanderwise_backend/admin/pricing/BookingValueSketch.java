@@ -0,0 +1,132 @@
+package com.wanderwise.wanderwise_backend.admin.pricing;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+
+final class BookingValueSketch {
+
+    static final int GROUP_SIZE_BUCKETS = 10;
+
+    private static final int FORMAT_VERSION = 1;
+
+    private final TDigest totalAmount;
+    private final TDigest amountPerTraveler;
+    private final TDigest travelersCount;
+    private final long[] groupSizeCounts;
+
+    BookingValueSketch(double compression) {
+        this(
+                new TDigest(compression),
+                new TDigest(compression),
+                new TDigest(compression),
+                new long[GROUP_SIZE_BUCKETS]
+        );
+    }
+
+    private BookingValueSketch(
+            TDigest totalAmount,
+            TDigest amountPerTraveler,
+            TDigest travelersCount,
+            long[] groupSizeCounts
+    ) {
+        this.totalAmount = totalAmount;
+        this.amountPerTraveler = amountPerTraveler;
+        this.travelersCount = travelersCount;
+        this.groupSizeCounts = groupSizeCounts;
+    }
+
+    synchronized void accept(BigDecimal bookingTotal, BigDecimal perTraveler, Integer travelers) {
+        if (bookingTotal != null) {
+            totalAmount.add(bookingTotal.doubleValue());
+        }
+        if (perTraveler != null) {
+            amountPerTraveler.add(perTraveler.doubleValue());
+        }
+        if (travelers != null && travelers > 0) {
+            travelersCount.add(travelers);
+            groupSizeCounts[Math.min(travelers, GROUP_SIZE_BUCKETS) - 1]++;
+        }
+    }
+
+    synchronized void merge(BookingValueSketch other) {
+        synchronized (other) {
+            totalAmount.merge(other.totalAmount);
+            amountPerTraveler.merge(other.amountPerTraveler);
+            travelersCount.merge(other.travelersCount);
+            for (int index = 0; index < GROUP_SIZE_BUCKETS; index++) {
+                groupSizeCounts[index] += other.groupSizeCounts[index];
+            }
+        }
+    }
+
+    synchronized long bookings() {
+        return totalAmount.count();
+    }
+
+    synchronized Summary summarize() {
+        return new Summary(
+                totalAmount.count(),
+                quantiles(totalAmount),
+                quantiles(amountPerTraveler),
+                quantiles(travelersCount),
+                groupSizeCounts.clone()
+        );
+    }
+
+    synchronized byte[] toBytes() {
+        byte[] total = totalAmount.toBytes();
+        byte[] perTraveler = amountPerTraveler.toBytes();
+        byte[] travelers = travelersCount.toBytes();
+        ByteBuffer buffer = ByteBuffer.allocate(4 + total.length + perTraveler.length + travelers.length + 8 * GROUP_SIZE_BUCKETS);
+        buffer.putInt(FORMAT_VERSION);
+        buffer.put(total);
+        buffer.put(perTraveler);
+        buffer.put(travelers);
+        for (long groupSizeCount : groupSizeCounts) {
+            buffer.putLong(groupSizeCount);
+        }
+        return buffer.array();
+    }
+
+    static BookingValueSketch fromBytes(byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        int version = buffer.getInt();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported booking value sketch format " + version);
+        }
+
+        TDigest totalAmount = TDigest.fromBytes(buffer);
+        TDigest amountPerTraveler = TDigest.fromBytes(buffer);
+        TDigest travelersCount = TDigest.fromBytes(buffer);
+        long[] groupSizeCounts = new long[GROUP_SIZE_BUCKETS];
+        for (int index = 0; index < GROUP_SIZE_BUCKETS; index++) {
+            groupSizeCounts[index] = buffer.getLong();
+        }
+        return new BookingValueSketch(totalAmount, amountPerTraveler, travelersCount, groupSizeCounts);
+    }
+
+    private static Quantiles quantiles(TDigest digest) {
+        if (digest.count() == 0) {
+            return null;
+        }
+        return new Quantiles(
+                digest.quantile(0),
+                digest.quantile(0.5),
+                digest.quantile(0.9),
+                digest.quantile(0.99),
+                digest.quantile(1)
+        );
+    }
+
+    record Quantiles(double min, double p50, double p90, double p99, double max) {
+    }
+
+    record Summary(
+            long bookings,
+            Quantiles totalAmount,
+            Quantiles amountPerTraveler,
+            Quantiles travelersCount,
+            long[] groupSizeCounts
+    ) {
+    }
+}
@@ -0,0 +1,8 @@
+package com.wanderwise.wanderwise_backend.admin.pricing;
+
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BookingValueSketchSnapshotRepository extends JpaRepository<BookingValueSketchSnapshot, Long> {
+    Optional<BookingValueSketchSnapshot> findByScopeKey(String scopeKey);
+}
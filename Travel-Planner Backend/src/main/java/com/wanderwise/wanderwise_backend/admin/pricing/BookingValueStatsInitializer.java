@@ -0,0 +1,17 @@
+package com.wanderwise.wanderwise_backend.admin.pricing;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class BookingValueStatsInitializer implements CommandLineRunner {
+
+    private final BookingValueStatsService bookingValueStatsService;
+
+    @Override
+    public void run(String... args) {
+        bookingValueStatsService.loadOrRebuild();
+    }
+}
@@ -0,0 +1,279 @@
+package com.wanderwise.wanderwise_backend.admin.pricing;
+
+import com.wanderwise.wanderwise_backend.admin.pricing.dto.BookingValueStatsResponse;
+import com.wanderwise.wanderwise_backend.booking.BookingRequest;
+import com.wanderwise.wanderwise_backend.booking.BookingRequestRepository;
+import com.wanderwise.wanderwise_backend.booking.BookingValueRow;
+import com.wanderwise.wanderwise_backend.transaction.TransactionHooks;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookingValueStatsService {
+
+    private static final String GLOBAL_SCOPE = "*";
+
+    private final BookingRequestRepository bookingRequestRepository;
+    private final BookingValueSketchSnapshotRepository bookingValueSketchSnapshotRepository;
+
+    private final Set<String> dirtyScopes = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.admin.booking-stats.compression:100}")
+    private double compression;
+
+    private volatile Map<String, BookingValueSketch> sketches = new ConcurrentHashMap<>();
+
+    public void recordBooking(BookingRequest booking) {
+        String key = destinationKey(booking.getDestination(), booking.getCountry());
+        BigDecimal totalAmount = booking.getTotalAmount();
+        BigDecimal amountPerTraveler = booking.getAmountPerTraveler();
+        Integer travelersCount = booking.getTravelersCount();
+        TransactionHooks.afterCommit(() -> {
+            Map<String, BookingValueSketch> current = sketches;
+            current.computeIfAbsent(key, _ignored -> newSketch()).accept(totalAmount, amountPerTraveler, travelersCount);
+            current.computeIfAbsent(GLOBAL_SCOPE, _ignored -> newSketch()).accept(totalAmount, amountPerTraveler, travelersCount);
+            dirtyScopes.add(key);
+            dirtyScopes.add(GLOBAL_SCOPE);
+        });
+    }
+
+    public BookingValueStatsResponse.ScopeStatsPayload getOverallStats() {
+        BookingValueSketch global = sketches.get(GLOBAL_SCOPE);
+        return toPayload(null, null, global != null ? global.summarize() : newSketch().summarize());
+    }
+
+    public BookingValueStatsResponse getStats(String destination, String country, int limit) {
+        String destinationFilter = normalize(destination);
+        String countryFilter = normalize(country);
+        if (destinationFilter.isEmpty() && countryFilter.isEmpty()) {
+            return new BookingValueStatsResponse(getOverallStats(), destinationStats(sketches, limit));
+        }
+
+        Map<String, BookingValueSketch> matching = new ConcurrentHashMap<>();
+        BookingValueSketch merged = newSketch();
+        for (Map.Entry<String, BookingValueSketch> entry : sketches.entrySet()) {
+            String[] parts = splitKey(entry.getKey());
+            if (entry.getKey().equals(GLOBAL_SCOPE)
+                    || (!destinationFilter.isEmpty() && !destinationFilter.equals(parts[0]))
+                    || (!countryFilter.isEmpty() && !countryFilter.equals(parts[1]))) {
+                continue;
+            }
+            matching.put(entry.getKey(), entry.getValue());
+            merged.merge(entry.getValue());
+        }
+
+        if (matching.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No bookings recorded for this destination");
+        }
+
+        return new BookingValueStatsResponse(
+                toPayload(
+                        destinationFilter.isEmpty() ? null : destinationFilter,
+                        countryFilter.isEmpty() ? null : countryFilter,
+                        merged.summarize()
+                ),
+                destinationStats(matching, limit)
+        );
+    }
+
+    @Transactional
+    public void loadOrRebuild() {
+        long bookings = bookingRequestRepository.count();
+        List<BookingValueSketchSnapshot> snapshots = bookingValueSketchSnapshotRepository.findAll();
+        BookingValueSketchSnapshot global = snapshots.stream()
+                .filter(snapshot -> snapshot.getScopeKey().equals(GLOBAL_SCOPE))
+                .findFirst()
+                .orElse(null);
+
+        // A crash between flushes leaves the persisted sketches behind the table; only then pay for a full scan.
+        if (global == null || global.getSampleCount() != bookings) {
+            rebuildAndPersist();
+            return;
+        }
+
+        Map<String, BookingValueSketch> loaded = new ConcurrentHashMap<>();
+        try {
+            for (BookingValueSketchSnapshot snapshot : snapshots) {
+                loaded.put(snapshot.getScopeKey(), BookingValueSketch.fromBytes(snapshot.getPayload()));
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Persisted booking value sketches are unreadable, rebuilding from bookings", ex);
+            rebuildAndPersist();
+            return;
+        }
+
+        sketches = loaded;
+        log.info("Booking value sketches loaded for {} scopes.", loaded.size());
+    }
+
+    @Transactional(readOnly = true)
+    public void rebuildFromSource() {
+        Map<String, BookingValueSketch> rebuilt = new ConcurrentHashMap<>();
+        try (Stream<BookingValueRow> rows = bookingRequestRepository.streamValueRows()) {
+            rows.forEach(row -> rebuilt
+                    .computeIfAbsent(destinationKey(row.destination(), row.country()), _ignored -> newSketch())
+                    .accept(row.totalAmount(), row.amountPerTraveler(), row.travelersCount()));
+        }
+
+        BookingValueSketch global = newSketch();
+        for (BookingValueSketch destination : rebuilt.values()) {
+            global.merge(destination);
+        }
+        rebuilt.put(GLOBAL_SCOPE, global);
+
+        sketches = rebuilt;
+        log.info("Booking value sketches rebuilt for {} destinations.", rebuilt.size() - 1);
+    }
+
+    @Scheduled(cron = "${app.admin.booking-stats.rebuild-cron:0 40 3 * * *}")
+    @Transactional
+    public void rebuildAndPersist() {
+        // Sketches cannot forget deleted bookings, so a periodic rebuild keeps them aligned with the table.
+        rebuildFromSource();
+        bookingValueSketchSnapshotRepository.deleteAllInBatch();
+        dirtyScopes.clear();
+        dirtyScopes.addAll(sketches.keySet());
+        persistDirty();
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.admin.booking-stats.persist-interval-ms:300000}",
+            fixedDelayString = "${app.admin.booking-stats.persist-interval-ms:300000}"
+    )
+    @Transactional
+    public void persistDirty() {
+        int persisted = 0;
+        Map<String, BookingValueSketch> current = sketches;
+        for (String scope : List.copyOf(dirtyScopes)) {
+            dirtyScopes.remove(scope);
+            BookingValueSketch sketch = current.get(scope);
+            if (sketch == null) {
+                continue;
+            }
+
+            BookingValueSketchSnapshot snapshot = bookingValueSketchSnapshotRepository.findByScopeKey(scope)
+                    .orElseGet(() -> BookingValueSketchSnapshot.builder().scopeKey(scope).build());
+            snapshot.setSampleCount(sketch.bookings());
+            snapshot.setPayload(sketch.toBytes());
+            bookingValueSketchSnapshotRepository.save(snapshot);
+            persisted++;
+        }
+
+        if (persisted > 0) {
+            log.debug("Persisted {} booking value sketches.", persisted);
+        }
+    }
+
+    @PreDestroy
+    public void flush() {
+        try {
+            persistDirty();
+        } catch (RuntimeException ex) {
+            log.warn("Unable to persist booking value sketches on shutdown", ex);
+        }
+    }
+
+    private List<BookingValueStatsResponse.ScopeStatsPayload> destinationStats(
+            Map<String, BookingValueSketch> scopes,
+            int limit
+    ) {
+        List<BookingValueStatsResponse.ScopeStatsPayload> destinations = new ArrayList<>();
+        for (Map.Entry<String, BookingValueSketch> entry : scopes.entrySet()) {
+            if (entry.getKey().equals(GLOBAL_SCOPE)) {
+                continue;
+            }
+            String[] parts = splitKey(entry.getKey());
+            destinations.add(toPayload(parts[0], parts[1], entry.getValue().summarize()));
+        }
+        destinations.sort(Comparator.comparingLong(BookingValueStatsResponse.ScopeStatsPayload::bookings).reversed());
+        int resolvedLimit = Math.max(1, Math.min(limit, 100));
+        return destinations.size() > resolvedLimit ? destinations.subList(0, resolvedLimit) : destinations;
+    }
+
+    private BookingValueStatsResponse.ScopeStatsPayload toPayload(
+            String destination,
+            String country,
+            BookingValueSketch.Summary summary
+    ) {
+        long[] groupSizeCounts = summary.groupSizeCounts();
+        long groups = 0;
+        for (long groupSizeCount : groupSizeCounts) {
+            groups += groupSizeCount;
+        }
+
+        List<BookingValueStatsResponse.GroupSizePayload> groupSizes = new ArrayList<>(groupSizeCounts.length);
+        for (int index = 0; index < groupSizeCounts.length; index++) {
+            String label = index == groupSizeCounts.length - 1 ? (index + 1) + "+" : String.valueOf(index + 1);
+            groupSizes.add(new BookingValueStatsResponse.GroupSizePayload(
+                    label,
+                    groupSizeCounts[index],
+                    groups == 0
+                            ? BigDecimal.ZERO
+                            : BigDecimal.valueOf(groupSizeCounts[index] * 100.0 / groups).setScale(1, RoundingMode.HALF_UP)
+            ));
+        }
+
+        return new BookingValueStatsResponse.ScopeStatsPayload(
+                destination,
+                country,
+                summary.bookings(),
+                toPayload(summary.totalAmount(), 2),
+                toPayload(summary.amountPerTraveler(), 2),
+                toPayload(summary.travelersCount(), 1),
+                groupSizes
+        );
+    }
+
+    private BookingValueStatsResponse.QuantilesPayload toPayload(BookingValueSketch.Quantiles quantiles, int scale) {
+        if (quantiles == null) {
+            return null;
+        }
+        return new BookingValueStatsResponse.QuantilesPayload(
+                round(quantiles.min(), scale),
+                round(quantiles.p50(), scale),
+                round(quantiles.p90(), scale),
+                round(quantiles.p99(), scale),
+                round(quantiles.max(), scale)
+        );
+    }
+
+    private BigDecimal round(double value, int scale) {
+        return BigDecimal.valueOf(value).setScale(scale, RoundingMode.HALF_UP);
+    }
+
+    private BookingValueSketch newSketch() {
+        return new BookingValueSketch(compression);
+    }
+
+    private static String[] splitKey(String key) {
+        String[] parts = key.split("\\|", 2);
+        return new String[]{parts[0], parts.length > 1 ? parts[1] : ""};
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ENGLISH);
+    }
+
+    private static String destinationKey(String destination, String country) {
+        return normalize(destination) + "|" + normalize(country);
+    }
+}
@@ -0,0 +1,207 @@
+package com.wanderwise.wanderwise_backend.admin.pricing;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+final class TDigest {
+
+    private static final int FORMAT_VERSION = 1;
+
+    private final double compression;
+    private final double[] bufferMeans;
+    private final double[] bufferWeights;
+    private int buffered;
+
+    private double[] means = new double[0];
+    private double[] weights = new double[0];
+    private double totalWeight;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    TDigest(double compression) {
+        this.compression = compression;
+        int bufferSize = (int) Math.ceil(compression * 5);
+        this.bufferMeans = new double[bufferSize];
+        this.bufferWeights = new double[bufferSize];
+    }
+
+    void add(double value) {
+        add(value, 1.0);
+    }
+
+    void add(double value, double weight) {
+        if (Double.isNaN(value) || weight <= 0) {
+            return;
+        }
+        if (buffered == bufferMeans.length) {
+            compress();
+        }
+        bufferMeans[buffered] = value;
+        bufferWeights[buffered] = weight;
+        buffered++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    void merge(TDigest other) {
+        other.compress();
+        for (int index = 0; index < other.means.length; index++) {
+            add(other.means[index], other.weights[index]);
+        }
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    long count() {
+        return Math.round(totalWeight + pendingWeight());
+    }
+
+    double quantile(double q) {
+        compress();
+        int centroids = means.length;
+        if (centroids == 0) {
+            return Double.NaN;
+        }
+        if (centroids == 1 || q <= 0) {
+            return q <= 0 ? min : means[0];
+        }
+        if (q >= 1) {
+            return max;
+        }
+
+        double index = q * totalWeight;
+        if (index < weights[0] / 2) {
+            return min + (means[0] - min) * index / (weights[0] / 2);
+        }
+
+        double cumulative = weights[0] / 2;
+        for (int centroid = 0; centroid < centroids - 1; centroid++) {
+            double gap = (weights[centroid] + weights[centroid + 1]) / 2;
+            if (cumulative + gap > index) {
+                double fraction = (index - cumulative) / gap;
+                return means[centroid] + fraction * (means[centroid + 1] - means[centroid]);
+            }
+            cumulative += gap;
+        }
+
+        double tail = weights[centroids - 1] / 2;
+        double fraction = Math.min(1.0, (index - cumulative) / tail);
+        return means[centroids - 1] + fraction * (max - means[centroids - 1]);
+    }
+
+    int centroidCount() {
+        compress();
+        return means.length;
+    }
+
+    byte[] toBytes() {
+        compress();
+        ByteBuffer buffer = ByteBuffer.allocate(4 + 8 * 4 + 4 + means.length * 16);
+        buffer.putInt(FORMAT_VERSION);
+        buffer.putDouble(compression);
+        buffer.putDouble(totalWeight);
+        buffer.putDouble(min);
+        buffer.putDouble(max);
+        buffer.putInt(means.length);
+        for (int index = 0; index < means.length; index++) {
+            buffer.putDouble(means[index]);
+            buffer.putDouble(weights[index]);
+        }
+        return buffer.array();
+    }
+
+    static TDigest fromBytes(ByteBuffer buffer) {
+        int version = buffer.getInt();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported t-digest format " + version);
+        }
+
+        TDigest digest = new TDigest(buffer.getDouble());
+        digest.totalWeight = buffer.getDouble();
+        digest.min = buffer.getDouble();
+        digest.max = buffer.getDouble();
+        int centroids = buffer.getInt();
+        digest.means = new double[centroids];
+        digest.weights = new double[centroids];
+        for (int index = 0; index < centroids; index++) {
+            digest.means[index] = buffer.getDouble();
+            digest.weights[index] = buffer.getDouble();
+        }
+        return digest;
+    }
+
+    private double pendingWeight() {
+        double pending = 0;
+        for (int index = 0; index < buffered; index++) {
+            pending += bufferWeights[index];
+        }
+        return pending;
+    }
+
+    private void compress() {
+        if (buffered == 0) {
+            return;
+        }
+
+        int size = means.length + buffered;
+        double[] incomingMeans = Arrays.copyOf(means, size);
+        double[] incomingWeights = Arrays.copyOf(weights, size);
+        System.arraycopy(bufferMeans, 0, incomingMeans, means.length, buffered);
+        System.arraycopy(bufferWeights, 0, incomingWeights, means.length, buffered);
+        buffered = 0;
+
+        Integer[] order = new Integer[size];
+        double total = 0;
+        for (int index = 0; index < size; index++) {
+            order[index] = index;
+            total += incomingWeights[index];
+        }
+        Arrays.sort(order, (left, right) -> Double.compare(incomingMeans[left], incomingMeans[right]));
+
+        double[] mergedMeans = new double[size];
+        double[] mergedWeights = new double[size];
+        int merged = 0;
+        double weightBefore = 0;
+        double weightLimit = total * inverseScale(scale(0) + 1);
+        double currentMean = incomingMeans[order[0]];
+        double currentWeight = incomingWeights[order[0]];
+
+        for (int position = 1; position < size; position++) {
+            double mean = incomingMeans[order[position]];
+            double weight = incomingWeights[order[position]];
+            if (weightBefore + currentWeight + weight <= weightLimit) {
+                currentWeight += weight;
+                currentMean += (mean - currentMean) * weight / currentWeight;
+                continue;
+            }
+
+            mergedMeans[merged] = currentMean;
+            mergedWeights[merged] = currentWeight;
+            merged++;
+            weightBefore += currentWeight;
+            weightLimit = total * inverseScale(scale(weightBefore / total) + 1);
+            currentMean = mean;
+            currentWeight = weight;
+        }
+        mergedMeans[merged] = currentMean;
+        mergedWeights[merged] = currentWeight;
+        merged++;
+
+        means = Arrays.copyOf(mergedMeans, merged);
+        weights = Arrays.copyOf(mergedWeights, merged);
+        totalWeight = total;
+    }
+
+    // k1 scale function: centroids stay small near the tails so p99 keeps its accuracy.
+    private double scale(double q) {
+        return compression / (2 * Math.PI) * Math.asin(2 * q - 1);
+    }
+
+    private double inverseScale(double k) {
+        double angle = k * 2 * Math.PI / compression;
+        if (angle >= Math.PI / 2) {
+            return 1.0;
+        }
+        return (Math.sin(angle) + 1) / 2;
+    }
+}
@@ -0,0 +1,36 @@
+package com.wanderwise.wanderwise_backend.admin.pricing.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record BookingValueStatsResponse(
+        ScopeStatsPayload overall,
+        List<ScopeStatsPayload> destinations
+) {
+    public record ScopeStatsPayload(
+            String destination,
+            String country,
+            Long bookings,
+            QuantilesPayload totalAmount,
+            QuantilesPayload amountPerTraveler,
+            QuantilesPayload travelersCount,
+            List<GroupSizePayload> groupSizes
+    ) {
+    }
+
+    public record QuantilesPayload(
+            BigDecimal min,
+            BigDecimal p50,
+            BigDecimal p90,
+            BigDecimal p99,
+            BigDecimal max
+    ) {
+    }
+
+    public record GroupSizePayload(
+            String travelers,
+            Long bookings,
+            BigDecimal sharePercent
+    ) {
+    }
+}
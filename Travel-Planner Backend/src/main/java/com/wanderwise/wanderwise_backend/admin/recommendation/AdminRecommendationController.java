@@ -1,11 +1,21 @@
 package com.wanderwise.wanderwise_backend.admin.recommendation;
 
 import com.wanderwise.wanderwise_backend.admin.recommendation.dto.AdminRecommendationsResponse;
+import com.wanderwise.wanderwise_backend.admin.recommendation.dto.RecommendationSnapshotDiffResponse;
+import com.wanderwise.wanderwise_backend.admin.recommendation.dto.RecommendationSnapshotResponse;
+import com.wanderwise.wanderwise_backend.admin.rollup.BookingRollupService;
+import com.wanderwise.wanderwise_backend.admin.rollup.RollupGranularity;
+import java.time.LocalDate;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -14,10 +24,46 @@ import org.springframework.web.bind.annotation.RestController;
 @PreAuthorize("hasRole('ADMIN')")
 public class AdminRecommendationController {
 
+    private final RecommendationSnapshotService recommendationSnapshotService;
     private final AdminRecommendationService adminRecommendationService;
+    private final BookingRollupService bookingRollupService;
 
     @GetMapping
-    public ResponseEntity<AdminRecommendationsResponse> getRecommendations() {
-        return ResponseEntity.ok(adminRecommendationService.getRecommendations());
+    public ResponseEntity<AdminRecommendationsResponse> getRecommendations(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) RollupGranularity granularity
+    ) {
+        if (from == null && to == null && granularity == null) {
+            return ResponseEntity.ok(recommendationSnapshotService.getLatest());
+        }
+        return ResponseEntity.ok(adminRecommendationService.getRecommendations(
+                bookingRollupService.resolveRange(from, to, granularity)
+        ));
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<AdminRecommendationsResponse> refreshRecommendations() {
+        return ResponseEntity.ok(recommendationSnapshotService.refresh(RecommendationSnapshotTrigger.MANUAL));
+    }
+
+    @GetMapping("/snapshots")
+    public ResponseEntity<List<RecommendationSnapshotResponse>> getSnapshots(
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(recommendationSnapshotService.listSnapshots(limit));
+    }
+
+    @GetMapping("/snapshots/{version}")
+    public ResponseEntity<AdminRecommendationsResponse> getSnapshot(@PathVariable Long version) {
+        return ResponseEntity.ok(recommendationSnapshotService.getSnapshot(version));
+    }
+
+    @GetMapping("/snapshots/diff")
+    public ResponseEntity<RecommendationSnapshotDiffResponse> diffSnapshots(
+            @RequestParam Long from,
+            @RequestParam Long to
+    ) {
+        return ResponseEntity.ok(recommendationSnapshotService.diff(from, to));
     }
 }
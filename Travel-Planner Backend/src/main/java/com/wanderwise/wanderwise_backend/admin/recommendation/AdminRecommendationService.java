@@ -1,13 +1,23 @@
 package com.wanderwise.wanderwise_backend.admin.recommendation;
 
+import com.wanderwise.wanderwise_backend.admin.demand.DemandComparison;
+import com.wanderwise.wanderwise_backend.admin.demand.DemandWindowService;
+import com.wanderwise.wanderwise_backend.admin.demand.DestinationDemand;
+import com.wanderwise.wanderwise_backend.admin.popularity.DestinationPopularityService;
+import com.wanderwise.wanderwise_backend.admin.pricing.BookingValueStatsService;
+import com.wanderwise.wanderwise_backend.admin.pricing.dto.BookingValueStatsResponse;
 import com.wanderwise.wanderwise_backend.admin.recommendation.dto.AdminRecommendationsResponse;
-import com.wanderwise.wanderwise_backend.booking.BookingRequest;
+import com.wanderwise.wanderwise_backend.admin.rollup.BookingRollupDestinationTotal;
+import com.wanderwise.wanderwise_backend.admin.rollup.BookingRollupPoint;
+import com.wanderwise.wanderwise_backend.admin.rollup.BookingRollupRange;
+import com.wanderwise.wanderwise_backend.admin.rollup.BookingRollupService;
+import com.wanderwise.wanderwise_backend.admin.rollup.RollupGranularity;
+import com.wanderwise.wanderwise_backend.booking.BookingRecommendationRow;
 import com.wanderwise.wanderwise_backend.booking.BookingRequestRepository;
-import com.wanderwise.wanderwise_backend.booking.BookingStatus;
-import com.wanderwise.wanderwise_backend.payment.PaymentRecord;
 import com.wanderwise.wanderwise_backend.payment.PaymentRecordRepository;
 import com.wanderwise.wanderwise_backend.payment.PaymentStatus;
-import com.wanderwise.wanderwise_backend.tour.Tour;
+import com.wanderwise.wanderwise_backend.payment.PaymentStatusCount;
+import com.wanderwise.wanderwise_backend.tour.TourDestination;
 import com.wanderwise.wanderwise_backend.tour.TourRepository;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -16,11 +26,9 @@ import java.time.LocalDateTime;
 import java.time.Month;
 import java.time.format.TextStyle;
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,19 +40,172 @@ public class AdminRecommendationService {
     private final BookingRequestRepository bookingRequestRepository;
     private final PaymentRecordRepository paymentRecordRepository;
     private final TourRepository tourRepository;
+    private final BookingRollupService bookingRollupService;
+    private final DestinationPopularityService destinationPopularityService;
+    private final DemandWindowService demandWindowService;
+    private final BookingValueStatsService bookingValueStatsService;
 
     @Transactional(readOnly = true)
     public AdminRecommendationsResponse getRecommendations() {
-        List<BookingRequest> bookings = bookingRequestRepository.findAllByOrderByRequestedAtDesc();
-        List<PaymentRecord> payments = paymentRecordRepository.findAllByOrderByPaidAtDesc();
-        List<Tour> tours = tourRepository.findAllByOrderByDestinationAsc();
+        RecommendationAccumulator bookings = new RecommendationAccumulator(LocalDate.now());
+        try (Stream<BookingRecommendationRow> rows = bookingRequestRepository.streamRecommendationRows()) {
+            rows.forEach(row -> bookings.accept(
+                    row.destination(),
+                    row.country(),
+                    row.travelDate(),
+                    row.totalAmount(),
+                    row.status()
+            ));
+        }
+
+        DemandPeriod peak = null;
+        DemandPeriod low = null;
+        List<DemandComparison> recentTravelMonths = demandWindowService.travelMonths(90);
+        for (int index = 0; index < recentTravelMonths.size(); index++) {
+            long count = recentTravelMonths.get(index).current();
+            if (count <= 0) {
+                continue;
+            }
+            if (peak == null || count > peak.count()) {
+                peak = new DemandPeriod(toMonthName(Month.of(index + 1)), count);
+            }
+            if (low == null || count < low.count()) {
+                low = new DemandPeriod(toMonthName(Month.of(index + 1)), count);
+            }
+        }
+        if (peak == null) {
+            Month peakMonth = bookings.peakTravelMonth();
+            Month lowMonth = bookings.lowTravelMonth();
+            peak = peakMonth != null ? new DemandPeriod(toMonthName(peakMonth), bookings.travelMonthCount(peakMonth)) : null;
+            low = lowMonth != null ? new DemandPeriod(toMonthName(lowMonth), bookings.travelMonthCount(lowMonth)) : null;
+        }
+
+        List<AdminRecommendationsResponse.RecommendationItemPayload> timingRecommendations = new ArrayList<>(
+                buildTimingRecommendations(peak, low, bookings.nearTermTripCount(), "month")
+        );
+        DemandComparison weeklyBookings = demandWindowService.totalBookings(7);
+        if (weeklyBookings.changePercent() != null) {
+            timingRecommendations.add(new AdminRecommendationsResponse.RecommendationItemPayload(
+                    "TIME-4",
+                    "TIMING",
+                    weeklyBookings.changePercent().signum() < 0 ? "MEDIUM" : "INFO",
+                    "Booking requests are " + describeChange(weeklyBookings) + " week over week",
+                    weeklyBookings.current() + " request(s) in the last 7 days against "
+                            + weeklyBookings.previous() + " the week before.",
+                    weeklyBookings.changePercent().signum() < 0
+                            ? "Bring forward campaign pulses to recover weekly demand."
+                            : "Keep approval turnaround fast while demand is climbing.",
+                    "Weekly Change",
+                    weeklyBookings.changePercent().toPlainString() + "%"
+            ));
+        }
+
+        List<DestinationDemand> recentDestinations = demandWindowService.destinations(30)
+                .stream()
+                .filter(entry -> entry.bookings().current() > 0)
+                .toList();
+        List<RecommendationAccumulator.DestinationCount> topDestinations;
+        String demandScope;
+        if (recentDestinations.isEmpty()) {
+            topDestinations = destinationPopularityService.getTopDestinations(2)
+                    .stream()
+                    .map(entry -> new RecommendationAccumulator.DestinationCount(entry.key(), entry.count()))
+                    .toList();
+            demandScope = "";
+        } else {
+            topDestinations = recentDestinations.stream()
+                    .limit(2)
+                    .map(entry -> new RecommendationAccumulator.DestinationCount(entry.key(), entry.bookings().current()))
+                    .toList();
+            demandScope = " in the last 30 days";
+        }
+
+        return buildResponse(
+                bookings,
+                topDestinations,
+                demandScope,
+                findTrendingDestination(),
+                tourRepository.findAllDestinations(),
+                paymentRecordRepository.countGroupedByStatus(),
+                bookingValueStatsService.getOverallStats(),
+                timingRecommendations
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public AdminRecommendationsResponse getRecommendations(BookingRollupRange range) {
+        LocalDate today = LocalDate.now();
+        RecommendationAccumulator bookings = new RecommendationAccumulator(today);
+        for (BookingRollupDestinationTotal entry : bookingRollupService.getDestinationTotals(range)) {
+            bookings.acceptAggregate(
+                    entry.getDestination(),
+                    entry.getCountry(),
+                    entry.getStatus(),
+                    entry.getBookings(),
+                    entry.getBookedAmount()
+            );
+        }
+
+        DemandPeriod peak = null;
+        DemandPeriod low = null;
+        RollupGranularity granularity = range.granularity();
+        for (BookingRollupPoint point : bookingRollupService.getSeries(range)) {
+            if (point.bookings() <= 0) {
+                continue;
+            }
+            if (peak == null || point.bookings() > peak.count()) {
+                peak = new DemandPeriod(granularity.label(point.periodStart()), point.bookings());
+            }
+            if (low == null || point.bookings() < low.count()) {
+                low = new DemandPeriod(granularity.label(point.periodStart()), point.bookings());
+            }
+        }
+
+        List<AdminRecommendationsResponse.RecommendationItemPayload> timingRecommendations = buildTimingRecommendations(
+                peak,
+                low,
+                bookingRequestRepository.countByTravelDateBetween(today, today.plusDays(30)),
+                granularity.unit()
+        );
+
+        return buildResponse(
+                bookings,
+                bookings.topDestinations(2),
+                "",
+                null,
+                tourRepository.findAllDestinations(),
+                paymentRecordRepository.countGroupedByStatusBetween(
+                        range.from().atStartOfDay(),
+                        range.to().plusDays(1).atStartOfDay()
+                ),
+                null,
+                timingRecommendations
+        );
+    }
+
+    private AdminRecommendationsResponse buildResponse(
+            RecommendationAccumulator bookings,
+            List<RecommendationAccumulator.DestinationCount> topDestinations,
+            String demandScope,
+            DestinationDemand trendingDestination,
+            List<TourDestination> tours,
+            List<PaymentStatusCount> paymentCounts,
+            BookingValueStatsResponse.ScopeStatsPayload valueStats,
+            List<AdminRecommendationsResponse.RecommendationItemPayload> timingRecommendations
+    ) {
+        long totalPayments = 0;
+        long successfulPayments = 0;
+        for (PaymentStatusCount entry : paymentCounts) {
+            totalPayments += entry.getTotal();
+            if (entry.getStatus() == PaymentStatus.SUCCESS) {
+                successfulPayments = entry.getTotal();
+            }
+        }
 
         List<AdminRecommendationsResponse.RecommendationItemPayload> destinationRecommendations =
-                buildDestinationRecommendations(bookings, tours);
+                buildDestinationRecommendations(bookings, topDestinations, demandScope, trendingDestination, tours);
         List<AdminRecommendationsResponse.RecommendationItemPayload> pricingRecommendations =
-                buildPricingRecommendations(bookings, payments);
-        List<AdminRecommendationsResponse.RecommendationItemPayload> timingRecommendations =
-                buildTimingRecommendations(bookings);
+                buildPricingRecommendations(bookings, totalPayments, successfulPayments, valueStats);
 
         int total = destinationRecommendations.size()
                 + pricingRecommendations.size()
@@ -67,42 +228,48 @@ public class AdminRecommendationService {
     }
 
     private List<AdminRecommendationsResponse.RecommendationItemPayload> buildDestinationRecommendations(
-            List<BookingRequest> bookings,
-            List<Tour> tours
+            RecommendationAccumulator bookings,
+            List<RecommendationAccumulator.DestinationCount> topDestinations,
+            String demandScope,
+            DestinationDemand trendingDestination,
+            List<TourDestination> tours
     ) {
-        Map<String, Long> bookingCountByDestination = new HashMap<>();
-        for (BookingRequest booking : bookings) {
-            String key = destinationKey(booking.getDestination(), booking.getCountry());
-            bookingCountByDestination.put(key, bookingCountByDestination.getOrDefault(key, 0L) + 1L);
-        }
-
-        List<Map.Entry<String, Long>> highDemandDestinations = bookingCountByDestination.entrySet()
-                .stream()
-                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
-                .limit(2)
-                .toList();
-
         List<AdminRecommendationsResponse.RecommendationItemPayload> recommendations = new ArrayList<>();
         int index = 1;
 
-        for (Map.Entry<String, Long> entry : highDemandDestinations) {
-            String destination = formatDestination(entry.getKey());
-            long requests = entry.getValue();
+        for (RecommendationAccumulator.DestinationCount entry : topDestinations) {
+            String destination = formatDestination(entry.key());
+            long requests = entry.count();
 
             recommendations.add(new AdminRecommendationsResponse.RecommendationItemPayload(
                     "DEST-" + index++,
                     "DESTINATIONS",
                     requests >= 5 ? "HIGH" : "MEDIUM",
                     "Scale inventory for " + destination,
-                    requests + " booking request(s) detected for this destination.",
+                    requests + " booking request(s) detected for this destination" + demandScope + ".",
                     "Increase featured slots, vendor allocation, and campaign visibility.",
                     "Requests",
                     String.valueOf(requests)
             ));
         }
 
-        Tour lowDemandTour = tours.stream()
-                .filter(tour -> bookingCountByDestination.getOrDefault(destinationKey(tour.getDestination(), tour.getCountry()), 0L) == 0L)
+        if (trendingDestination != null) {
+            String destination = formatDestination(trendingDestination.key());
+            recommendations.add(new AdminRecommendationsResponse.RecommendationItemPayload(
+                    "DEST-" + index++,
+                    "DESTINATIONS",
+                    "MEDIUM",
+                    "Demand for " + destination + " is " + describeChange(trendingDestination.bookings()) + " week over week",
+                    trendingDestination.bookings().current() + " request(s) in the last 7 days against "
+                            + trendingDestination.bookings().previous() + " the week before.",
+                    "Secure extra vendor capacity before the trend peaks.",
+                    "Weekly Change",
+                    trendingDestination.bookings().changePercent().toPlainString() + "%"
+            ));
+        }
+
+        TourDestination lowDemandTour = tours.stream()
+                .filter(tour -> bookings.destinationCount(tour.getDestination(), tour.getCountry()) == 0L)
                 .findFirst()
                 .orElse(null);
 
@@ -136,16 +303,13 @@ public class AdminRecommendationService {
     }
 
     private List<AdminRecommendationsResponse.RecommendationItemPayload> buildPricingRecommendations(
-            List<BookingRequest> bookings,
-            List<PaymentRecord> payments
+            RecommendationAccumulator bookings,
+            long totalPayments,
+            long successfulPayments,
+            BookingValueStatsResponse.ScopeStatsPayload valueStats
     ) {
         List<AdminRecommendationsResponse.RecommendationItemPayload> recommendations = new ArrayList<>();
 
-        long totalPayments = payments.size();
-        long successfulPayments = payments.stream()
-                .filter(entry -> entry.getStatus() == PaymentStatus.SUCCESS)
-                .count();
-
         BigDecimal successRate = totalPayments == 0
                 ? BigDecimal.ZERO
                 : BigDecimal.valueOf(successfulPayments * 100.0 / totalPayments)
@@ -175,17 +339,7 @@ public class AdminRecommendationService {
             ));
         }
 
-        BigDecimal averageBookingValue = bookings.stream()
-                .map(entry -> entry.getTotalAmount() != null ? entry.getTotalAmount() : BigDecimal.ZERO)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        if (!bookings.isEmpty()) {
-            averageBookingValue = averageBookingValue.divide(
-                    BigDecimal.valueOf(bookings.size()),
-                    0,
-                    RoundingMode.HALF_UP
-            );
-        }
+        BigDecimal averageBookingValue = bookings.averageBookingValue();
 
         recommendations.add(new AdminRecommendationsResponse.RecommendationItemPayload(
                 "PRICE-2",
@@ -198,9 +352,7 @@ public class AdminRecommendationService {
                 averageBookingValue.toPlainString()
         ));
 
-        long pendingPaymentBookings = bookings.stream()
-                .filter(entry -> entry.getStatus() == BookingStatus.PENDING_PAYMENT)
-                .count();
+        long pendingPaymentBookings = bookings.pendingPaymentCount();
 
         if (pendingPaymentBookings > 0) {
             recommendations.add(new AdminRecommendationsResponse.RecommendationItemPayload(
@@ -215,49 +367,77 @@ public class AdminRecommendationService {
             ));
         }
 
+        if (valueStats != null && valueStats.totalAmount() != null) {
+            BookingValueStatsResponse.QuantilesPayload totalAmount = valueStats.totalAmount();
+            recommendations.add(new AdminRecommendationsResponse.RecommendationItemPayload(
+                    "PRICE-4",
+                    "PRICING",
+                    "INFO",
+                    "Anchor package tiers on the p50-p90 price band",
+                    "Half of bookings land under " + totalAmount.p50().toPlainString()
+                            + ", one in ten exceeds " + totalAmount.p90().toPlainString()
+                            + " and the p99 booking reaches " + totalAmount.p99().toPlainString() + ".",
+                    "Price the core tier near p50 and reserve premium bundles for the p90 segment.",
+                    "P50 / P90 / P99",
+                    totalAmount.p50().toPlainString() + " / " + totalAmount.p90().toPlainString()
+                            + " / " + totalAmount.p99().toPlainString()
+            ));
+
+            BigDecimal soloShare = valueStats.groupSizes().get(0).sharePercent();
+            BigDecimal largeGroupShare = valueStats.groupSizes()
+                    .stream()
+                    .skip(2)
+                    .map(BookingValueStatsResponse.GroupSizePayload::sharePercent)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            if (largeGroupShare.compareTo(new BigDecimal("30.0")) >= 0) {
+                recommendations.add(new AdminRecommendationsResponse.RecommendationItemPayload(
+                        "PRICE-5",
+                        "PRICING",
+                        "MEDIUM",
+                        "Introduce group pricing for parties of three or more",
+                        "A large share of bookings come from groups of three or more travelers.",
+                        "Offer per-traveler discounts that step down with group size.",
+                        "Groups of 3+",
+                        largeGroupShare.toPlainString() + "%"
+                ));
+            } else if (soloShare.compareTo(new BigDecimal("50.0")) >= 0) {
+                recommendations.add(new AdminRecommendationsResponse.RecommendationItemPayload(
+                        "PRICE-5",
+                        "PRICING",
+                        "MEDIUM",
+                        "Package solo-traveler offers",
+                        "Most bookings are made by a single traveler.",
+                        "Waive single supplements on shoulder dates to lift solo conversion.",
+                        "Solo Bookings",
+                        soloShare.toPlainString() + "%"
+                ));
+            }
+        }
+
         return recommendations;
     }
 
     private List<AdminRecommendationsResponse.RecommendationItemPayload> buildTimingRecommendations(
-            List<BookingRequest> bookings
+            DemandPeriod peak,
+            DemandPeriod low,
+            long nearTermTrips,
+            String periodUnit
     ) {
-        Map<Month, Long> bookingsByMonth = new HashMap<>();
-        for (BookingRequest booking : bookings) {
-            if (booking.getTravelDate() == null) {
-                continue;
-            }
-            Month month = booking.getTravelDate().getMonth();
-            bookingsByMonth.put(month, bookingsByMonth.getOrDefault(month, 0L) + 1L);
-        }
-
         List<AdminRecommendationsResponse.RecommendationItemPayload> recommendations = new ArrayList<>();
 
-        Month peakMonth = bookingsByMonth.entrySet()
-                .stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse(null);
-
-        if (peakMonth != null) {
-            long count = bookingsByMonth.getOrDefault(peakMonth, 0L);
+        if (peak != null) {
             recommendations.add(new AdminRecommendationsResponse.RecommendationItemPayload(
                     "TIME-1",
                     "TIMING",
                     "MEDIUM",
-                    "Prepare capacity for " + toMonthName(peakMonth),
-                    "Peak booking demand is concentrated in this month.",
+                    "Prepare capacity for " + peak.label(),
+                    "Peak booking demand is concentrated in this " + periodUnit + ".",
                     "Increase staffing and inventory ahead of the peak window.",
                     "Peak Bookings",
-                    String.valueOf(count)
+                    String.valueOf(peak.count())
             ));
         }
 
-        LocalDate nextThirtyDays = LocalDate.now().plusDays(30);
-        long nearTermTrips = bookings.stream()
-                .filter(entry -> entry.getTravelDate() != null)
-                .filter(entry -> !entry.getTravelDate().isBefore(LocalDate.now()) && !entry.getTravelDate().isAfter(nextThirtyDays))
-                .count();
-
         recommendations.add(new AdminRecommendationsResponse.RecommendationItemPayload(
                 "TIME-2",
                 "TIMING",
@@ -269,33 +449,42 @@ public class AdminRecommendationService {
                 String.valueOf(nearTermTrips)
         ));
 
-        Month lowMonth = bookingsByMonth.entrySet()
-                .stream()
-                .min(Comparator.comparingLong(Map.Entry::getValue))
-                .map(Map.Entry::getKey)
-                .orElse(null);
-
-        if (lowMonth != null && peakMonth != null && lowMonth != peakMonth) {
-            long count = bookingsByMonth.getOrDefault(lowMonth, 0L);
+        if (low != null && peak != null && !low.label().equals(peak.label())) {
             recommendations.add(new AdminRecommendationsResponse.RecommendationItemPayload(
                     "TIME-3",
                     "TIMING",
                     "LOW",
-                    "Boost off-season demand in " + toMonthName(lowMonth),
-                    "This month currently has the lowest booking volume.",
+                    "Boost off-season demand in " + low.label(),
+                    "This " + periodUnit + " currently has the lowest booking volume.",
                     "Run off-season offers and partner promotions to smooth demand.",
                     "Bookings",
-                    String.valueOf(count)
+                    String.valueOf(low.count())
             ));
         }
 
         return recommendations;
     }
 
-    private String destinationKey(String destination, String country) {
-        String normalizedDestination = destination == null ? "" : destination.trim().toLowerCase(Locale.ENGLISH);
-        String normalizedCountry = country == null ? "" : country.trim().toLowerCase(Locale.ENGLISH);
-        return normalizedDestination + "|" + normalizedCountry;
+    private DestinationDemand findTrendingDestination() {
+        DestinationDemand trending = null;
+        for (DestinationDemand entry : demandWindowService.destinations(7)) {
+            BigDecimal change = entry.bookings().changePercent();
+            if (change == null || change.signum() <= 0 || entry.bookings().current() < 3) {
+                continue;
+            }
+            if (trending == null || change.compareTo(trending.bookings().changePercent()) > 0) {
+                trending = entry;
+            }
+        }
+        return trending;
+    }
+
+    private String describeChange(DemandComparison comparison) {
+        BigDecimal change = comparison.changePercent();
+        if (change.signum() == 0) {
+            return "flat";
+        }
+        return (change.signum() > 0 ? "up " : "down ") + change.abs().stripTrailingZeros().toPlainString() + "%";
     }
 
     private String formatDestination(String destinationKey) {
@@ -331,4 +520,7 @@ public class AdminRecommendationService {
     private String toMonthName(Month month) {
         return month.getDisplayName(TextStyle.FULL, Locale.ENGLISH);
     }
+
+    private record DemandPeriod(String label, long count) {
+    }
 }
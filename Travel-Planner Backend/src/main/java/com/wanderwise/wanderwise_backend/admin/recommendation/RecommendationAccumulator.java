@@ -0,0 +1,156 @@
+package com.wanderwise.wanderwise_backend.admin.recommendation;
+
+import com.wanderwise.wanderwise_backend.booking.BookingStatus;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+final class RecommendationAccumulator {
+
+    private final LocalDate today;
+    private final LocalDate nearTermLimit;
+
+    private final Map<String, Map<String, Integer>> idsByRawPair = new HashMap<>();
+    private final Map<String, Integer> idsByKey = new HashMap<>();
+    private long[] destinationCounts = new long[64];
+
+    private final long[] travelMonthCounts = new long[12];
+    private long bookingCount;
+    private long totalAmountCents;
+    private long pendingPaymentCount;
+    private long nearTermTripCount;
+
+    RecommendationAccumulator(LocalDate today) {
+        this.today = today;
+        this.nearTermLimit = today.plusDays(30);
+    }
+
+    void accept(String destination, String country, LocalDate travelDate, BigDecimal totalAmount, BookingStatus status) {
+        bookingCount++;
+        destinationCounts[destinationId(destination, country)]++;
+
+        if (totalAmount != null) {
+            totalAmountCents += toCents(totalAmount);
+        }
+
+        if (status == BookingStatus.PENDING_PAYMENT) {
+            pendingPaymentCount++;
+        }
+
+        if (travelDate != null) {
+            travelMonthCounts[travelDate.getMonthValue() - 1]++;
+            if (!travelDate.isBefore(today) && !travelDate.isAfter(nearTermLimit)) {
+                nearTermTripCount++;
+            }
+        }
+    }
+
+    void acceptAggregate(String destination, String country, BookingStatus status, long count, BigDecimal totalAmount) {
+        bookingCount += count;
+        destinationCounts[destinationId(destination, country)] += count;
+
+        if (totalAmount != null) {
+            totalAmountCents += toCents(totalAmount);
+        }
+
+        if (status == BookingStatus.PENDING_PAYMENT) {
+            pendingPaymentCount += count;
+        }
+    }
+
+    List<DestinationCount> topDestinations(int limit) {
+        List<DestinationCount> ranked = new ArrayList<>(idsByKey.size());
+        for (Map.Entry<String, Integer> entry : idsByKey.entrySet()) {
+            ranked.add(new DestinationCount(entry.getKey(), destinationCounts[entry.getValue()]));
+        }
+        ranked.sort(Comparator.comparingLong(DestinationCount::count).reversed());
+        return ranked.size() > limit ? ranked.subList(0, limit) : ranked;
+    }
+
+    long destinationCount(String destination, String country) {
+        Integer id = idsByKey.get(destinationKey(destination, country));
+        return id == null ? 0L : destinationCounts[id];
+    }
+
+    Month peakTravelMonth() {
+        Month peak = null;
+        for (int index = 0; index < travelMonthCounts.length; index++) {
+            if (travelMonthCounts[index] > 0 && (peak == null || travelMonthCounts[index] > travelMonthCount(peak))) {
+                peak = Month.of(index + 1);
+            }
+        }
+        return peak;
+    }
+
+    Month lowTravelMonth() {
+        Month low = null;
+        for (int index = 0; index < travelMonthCounts.length; index++) {
+            if (travelMonthCounts[index] > 0 && (low == null || travelMonthCounts[index] < travelMonthCount(low))) {
+                low = Month.of(index + 1);
+            }
+        }
+        return low;
+    }
+
+    long travelMonthCount(Month month) {
+        return travelMonthCounts[month.getValue() - 1];
+    }
+
+    long bookingCount() {
+        return bookingCount;
+    }
+
+    long pendingPaymentCount() {
+        return pendingPaymentCount;
+    }
+
+    long nearTermTripCount() {
+        return nearTermTripCount;
+    }
+
+    BigDecimal averageBookingValue() {
+        if (bookingCount == 0) {
+            return BigDecimal.ZERO;
+        }
+        return BigDecimal.valueOf(totalAmountCents, 2).divide(BigDecimal.valueOf(bookingCount), 0, RoundingMode.HALF_UP);
+    }
+
+    static String destinationKey(String destination, String country) {
+        String normalizedDestination = destination == null ? "" : destination.trim().toLowerCase(Locale.ENGLISH);
+        String normalizedCountry = country == null ? "" : country.trim().toLowerCase(Locale.ENGLISH);
+        return normalizedDestination + "|" + normalizedCountry;
+    }
+
+    private int destinationId(String destination, String country) {
+        Map<String, Integer> idsByCountry = idsByRawPair.computeIfAbsent(destination, _ignored -> new HashMap<>());
+        Integer id = idsByCountry.get(country);
+        if (id == null) {
+            id = idsByKey.computeIfAbsent(destinationKey(destination, country), this::registerKey);
+            idsByCountry.put(country, id);
+        }
+        return id;
+    }
+
+    private int registerKey(String key) {
+        int id = idsByKey.size();
+        if (id == destinationCounts.length) {
+            destinationCounts = Arrays.copyOf(destinationCounts, id * 2);
+        }
+        return id;
+    }
+
+    private long toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    record DestinationCount(String key, long count) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.wanderwise.wanderwise_backend.admin.recommendation;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "admin_recommendation_snapshots")
+public class RecommendationSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private RecommendationSnapshotTrigger triggeredBy;
+
+    @Column(nullable = false)
+    private Integer totalRecommendations;
+
+    @Column(nullable = false)
+    private Long durationMs;
+
+    @Lob
+    @Column(nullable = false)
+    private String payloadJson;
+
+    @Column(nullable = false)
+    private LocalDateTime generatedAt;
+
+    @PrePersist
+    public void applyDefaults() {
+        if (generatedAt == null) {
+            generatedAt = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.wanderwise.wanderwise_backend.admin.recommendation;
+
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface RecommendationSnapshotRepository extends JpaRepository<RecommendationSnapshot, Long> {
+    Optional<RecommendationSnapshot> findTopByOrderByIdDesc();
+
+    @Query("""
+            select s.id as id, s.triggeredBy as triggeredBy, s.totalRecommendations as totalRecommendations,
+                   s.durationMs as durationMs, s.generatedAt as generatedAt
+              from RecommendationSnapshot s
+             order by s.id desc
+            """)
+    List<RecommendationSnapshotSummary> findLatestSummaries(Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RecommendationSnapshot s where s.id < :minId")
+    int deleteOlderThan(@Param("minId") Long minId);
+}
@@ -0,0 +1,217 @@
+package com.wanderwise.wanderwise_backend.admin.recommendation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wanderwise.wanderwise_backend.admin.recommendation.dto.AdminRecommendationsResponse;
+import com.wanderwise.wanderwise_backend.admin.recommendation.dto.RecommendationSnapshotDiffResponse;
+import com.wanderwise.wanderwise_backend.admin.recommendation.dto.RecommendationSnapshotResponse;
+import com.wanderwise.wanderwise_backend.transaction.TransactionHooks;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RecommendationSnapshotService {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final AdminRecommendationService adminRecommendationService;
+    private final RecommendationSnapshotRepository recommendationSnapshotRepository;
+
+    private final AtomicLong writesSinceRefresh = new AtomicLong();
+    private final AtomicBoolean refreshQueued = new AtomicBoolean();
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "recommendation-snapshot-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile AdminRecommendationsResponse latest;
+
+    @Value("${app.admin.recommendations.refresh-after-writes:200}")
+    private long refreshAfterWrites;
+
+    @Value("${app.admin.recommendations.snapshot-retention:20}")
+    private int snapshotRetention;
+
+    public AdminRecommendationsResponse getLatest() {
+        AdminRecommendationsResponse current = latest;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (latest == null) {
+                latest = recommendationSnapshotRepository.findTopByOrderByIdDesc()
+                        .map(this::readPayload)
+                        .orElse(null);
+            }
+            if (latest == null) {
+                refresh(RecommendationSnapshotTrigger.INITIAL);
+            }
+            return latest;
+        }
+    }
+
+    public synchronized AdminRecommendationsResponse refresh(RecommendationSnapshotTrigger trigger) {
+        writesSinceRefresh.set(0);
+        long startedAt = System.nanoTime();
+        AdminRecommendationsResponse response = adminRecommendationService.getRecommendations();
+        long durationMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+        RecommendationSnapshot saved = recommendationSnapshotRepository.save(RecommendationSnapshot.builder()
+                .triggeredBy(trigger)
+                .totalRecommendations(response.summary().totalRecommendations())
+                .durationMs(durationMs)
+                .payloadJson(writePayload(response))
+                .generatedAt(LocalDateTime.parse(response.generatedAt()))
+                .build());
+
+        if (snapshotRetention > 0 && saved.getId() > snapshotRetention) {
+            recommendationSnapshotRepository.deleteOlderThan(saved.getId() - snapshotRetention + 1);
+        }
+
+        latest = response;
+        log.info("Recommendation snapshot {} generated in {} ms ({}).", saved.getId(), durationMs, trigger);
+        return response;
+    }
+
+    // Counted once the caller's transaction commits, so a refresh never runs before the write it counts is visible.
+    public void recordWrite() {
+        TransactionHooks.afterCommit(this::countWrite);
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.admin.recommendations.refresh-interval-ms:900000}",
+            fixedDelayString = "${app.admin.recommendations.refresh-interval-ms:900000}"
+    )
+    public void refreshOnSchedule() {
+        try {
+            refresh(RecommendationSnapshotTrigger.SCHEDULED);
+        } catch (RuntimeException ex) {
+            log.warn("Scheduled recommendation refresh failed", ex);
+        }
+    }
+
+    public List<RecommendationSnapshotResponse> listSnapshots(int limit) {
+        return recommendationSnapshotRepository.findLatestSummaries(Limit.of(Math.max(1, Math.min(limit, 50))))
+                .stream()
+                .map(RecommendationSnapshotResponse::fromSummary)
+                .toList();
+    }
+
+    public AdminRecommendationsResponse getSnapshot(Long version) {
+        return readPayload(getSnapshotOrThrow(version));
+    }
+
+    public RecommendationSnapshotDiffResponse diff(Long fromVersion, Long toVersion) {
+        RecommendationSnapshot from = getSnapshotOrThrow(fromVersion);
+        RecommendationSnapshot to = getSnapshotOrThrow(toVersion);
+        Map<String, AdminRecommendationsResponse.RecommendationItemPayload> previousItems = indexItems(readPayload(from));
+        Map<String, AdminRecommendationsResponse.RecommendationItemPayload> currentItems = indexItems(readPayload(to));
+
+        List<AdminRecommendationsResponse.RecommendationItemPayload> added = new ArrayList<>();
+        List<RecommendationSnapshotDiffResponse.ChangedItemPayload> changed = new ArrayList<>();
+        for (Map.Entry<String, AdminRecommendationsResponse.RecommendationItemPayload> entry : currentItems.entrySet()) {
+            AdminRecommendationsResponse.RecommendationItemPayload previous = previousItems.get(entry.getKey());
+            if (previous == null) {
+                added.add(entry.getValue());
+            } else if (!Objects.equals(previous, entry.getValue())) {
+                changed.add(new RecommendationSnapshotDiffResponse.ChangedItemPayload(entry.getKey(), previous, entry.getValue()));
+            }
+        }
+
+        List<AdminRecommendationsResponse.RecommendationItemPayload> removed = previousItems.entrySet()
+                .stream()
+                .filter(entry -> !currentItems.containsKey(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .toList();
+
+        return new RecommendationSnapshotDiffResponse(
+                from.getId(),
+                to.getId(),
+                from.getGeneratedAt().toString(),
+                to.getGeneratedAt().toString(),
+                added,
+                removed,
+                changed
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private void countWrite() {
+        if (refreshAfterWrites <= 0 || writesSinceRefresh.incrementAndGet() < refreshAfterWrites) {
+            return;
+        }
+
+        if (refreshQueued.compareAndSet(false, true)) {
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh(RecommendationSnapshotTrigger.WRITE_THRESHOLD);
+                } catch (RuntimeException ex) {
+                    log.warn("Write-triggered recommendation refresh failed", ex);
+                } finally {
+                    refreshQueued.set(false);
+                }
+            });
+        }
+    }
+
+    private RecommendationSnapshot getSnapshotOrThrow(Long version) {
+        return recommendationSnapshotRepository.findById(version)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Recommendation snapshot not found"));
+    }
+
+    private Map<String, AdminRecommendationsResponse.RecommendationItemPayload> indexItems(
+            AdminRecommendationsResponse response
+    ) {
+        Map<String, AdminRecommendationsResponse.RecommendationItemPayload> items = new LinkedHashMap<>();
+        Stream.of(
+                        response.destinationRecommendations(),
+                        response.pricingRecommendations(),
+                        response.timingRecommendations()
+                )
+                .flatMap(List::stream)
+                .forEach(item -> items.put(item.id(), item));
+        return items;
+    }
+
+    private String writePayload(AdminRecommendationsResponse response) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(response);
+        } catch (IOException ex) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Unable to store recommendation snapshot");
+        }
+    }
+
+    private AdminRecommendationsResponse readPayload(RecommendationSnapshot snapshot) {
+        try {
+            return OBJECT_MAPPER.readValue(snapshot.getPayloadJson(), AdminRecommendationsResponse.class);
+        } catch (IOException ex) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Unable to read recommendation snapshot");
+        }
+    }
+}
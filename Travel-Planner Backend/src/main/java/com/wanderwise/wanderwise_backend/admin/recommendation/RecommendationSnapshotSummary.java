@@ -0,0 +1,15 @@
+package com.wanderwise.wanderwise_backend.admin.recommendation;
+
+import java.time.LocalDateTime;
+
+public interface RecommendationSnapshotSummary {
+    Long getId();
+
+    RecommendationSnapshotTrigger getTriggeredBy();
+
+    Integer getTotalRecommendations();
+
+    Long getDurationMs();
+
+    LocalDateTime getGeneratedAt();
+}
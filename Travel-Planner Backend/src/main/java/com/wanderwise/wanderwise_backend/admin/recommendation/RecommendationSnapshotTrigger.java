@@ -0,0 +1,8 @@
+package com.wanderwise.wanderwise_backend.admin.recommendation;
+
+public enum RecommendationSnapshotTrigger {
+    INITIAL,
+    SCHEDULED,
+    WRITE_THRESHOLD,
+    MANUAL
+}
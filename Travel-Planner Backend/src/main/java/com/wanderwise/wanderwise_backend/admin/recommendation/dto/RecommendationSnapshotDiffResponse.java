@@ -0,0 +1,20 @@
+package com.wanderwise.wanderwise_backend.admin.recommendation.dto;
+
+import java.util.List;
+
+public record RecommendationSnapshotDiffResponse(
+        Long fromVersion,
+        Long toVersion,
+        String fromGeneratedAt,
+        String toGeneratedAt,
+        List<AdminRecommendationsResponse.RecommendationItemPayload> added,
+        List<AdminRecommendationsResponse.RecommendationItemPayload> removed,
+        List<ChangedItemPayload> changed
+) {
+    public record ChangedItemPayload(
+            String id,
+            AdminRecommendationsResponse.RecommendationItemPayload previous,
+            AdminRecommendationsResponse.RecommendationItemPayload current
+    ) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.wanderwise.wanderwise_backend.admin.recommendation.dto;
+
+import com.wanderwise.wanderwise_backend.admin.recommendation.RecommendationSnapshotSummary;
+
+public record RecommendationSnapshotResponse(
+        Long version,
+        String triggeredBy,
+        Integer totalRecommendations,
+        Long durationMs,
+        String generatedAt
+) {
+    public static RecommendationSnapshotResponse fromSummary(RecommendationSnapshotSummary summary) {
+        return new RecommendationSnapshotResponse(
+                summary.getId(),
+                summary.getTriggeredBy().name(),
+                summary.getTotalRecommendations(),
+                summary.getDurationMs(),
+                summary.getGeneratedAt().toString()
+        );
+    }
+}
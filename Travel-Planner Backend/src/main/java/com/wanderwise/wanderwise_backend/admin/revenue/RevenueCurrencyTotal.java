@@ -0,0 +1,15 @@
+package com.wanderwise.wanderwise_backend.admin.revenue;
+
+import java.math.BigDecimal;
+
+public interface RevenueCurrencyTotal {
+    String getCurrency();
+
+    long getPayments();
+
+    BigDecimal getGrossAmount();
+
+    long getRefunds();
+
+    BigDecimal getRefundedAmount();
+}
@@ -0,0 +1,58 @@
+package com.wanderwise.wanderwise_backend.admin.revenue;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(
+        name = "revenue_daily_totals",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_revenue_daily_total_bucket",
+                columnNames = {"bucket_date", "currency"}
+        )
+)
+public class RevenueDailyTotal {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate bucketDate;
+
+    @Column(nullable = false, length = 10)
+    private String currency;
+
+    @Column(nullable = false)
+    private Long paymentCount;
+
+    @Column(nullable = false, precision = 16, scale = 2)
+    private BigDecimal grossAmount;
+
+    @Column(nullable = false)
+    private Long refundCount;
+
+    @Column(nullable = false, precision = 16, scale = 2)
+    private BigDecimal refundedAmount;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
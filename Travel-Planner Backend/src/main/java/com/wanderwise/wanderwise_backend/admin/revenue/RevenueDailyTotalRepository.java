@@ -0,0 +1,77 @@
+package com.wanderwise.wanderwise_backend.admin.revenue;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RevenueDailyTotalRepository extends JpaRepository<RevenueDailyTotal, Long> {
+
+    @Modifying
+    @Query(
+            nativeQuery = true,
+            value = """
+                    insert into revenue_daily_totals (bucket_date, currency, payment_count, gross_amount,
+                        refund_count, refunded_amount, updated_at)
+                    values (:bucketDate, :currency, :paymentDelta, :grossDelta, :refundDelta, :refundedDelta, :updatedAt)
+                    on duplicate key update
+                        payment_count = payment_count + :paymentDelta,
+                        gross_amount = gross_amount + :grossDelta,
+                        refund_count = refund_count + :refundDelta,
+                        refunded_amount = refunded_amount + :refundedDelta,
+                        updated_at = :updatedAt
+                    """
+    )
+    int upsert(
+            @Param("bucketDate") LocalDate bucketDate,
+            @Param("currency") String currency,
+            @Param("paymentDelta") long paymentDelta,
+            @Param("grossDelta") BigDecimal grossDelta,
+            @Param("refundDelta") long refundDelta,
+            @Param("refundedDelta") BigDecimal refundedDelta,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+
+    @Modifying
+    @Query("delete from RevenueDailyTotal t")
+    int deleteAllTotals();
+
+    @Modifying
+    @Query(
+            nativeQuery = true,
+            value = """
+                    insert into revenue_daily_totals (bucket_date, currency, payment_count, gross_amount,
+                        refund_count, refunded_amount, updated_at)
+                    select e.posting_date, e.currency,
+                           sum(case when e.entry_type = 'PAYMENT' then 1 else 0 end),
+                           sum(case when e.entry_type = 'PAYMENT' then e.amount else 0 end),
+                           sum(case when e.entry_type = 'REFUND' then 1 else 0 end),
+                           -sum(case when e.entry_type = 'REFUND' then e.amount else 0 end),
+                           :updatedAt
+                      from revenue_ledger_entries e
+                     group by e.posting_date, e.currency
+                    """
+    )
+    int rebuildFromLedger(@Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("""
+            select t.currency as currency, sum(t.paymentCount) as payments, sum(t.grossAmount) as grossAmount,
+                   sum(t.refundCount) as refunds, sum(t.refundedAmount) as refundedAmount
+              from RevenueDailyTotal t
+             group by t.currency
+            """)
+    List<RevenueCurrencyTotal> sumByCurrency();
+
+    @Query("""
+            select t.currency as currency, sum(t.paymentCount) as payments, sum(t.grossAmount) as grossAmount,
+                   sum(t.refundCount) as refunds, sum(t.refundedAmount) as refundedAmount
+              from RevenueDailyTotal t
+             where t.bucketDate between :from and :to
+             group by t.currency
+            """)
+    List<RevenueCurrencyTotal> sumByCurrencyBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -0,0 +1,65 @@
+package com.wanderwise.wanderwise_backend.admin.revenue;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+// Append-only: corrections are new postings, never edits, so the daily totals can always be rebuilt from here.
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Immutable
+@Table(
+        name = "revenue_ledger_entries",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_revenue_ledger_payment_entry",
+                columnNames = {"payment_record_id", "entry_type"}
+        ),
+        indexes = @Index(name = "idx_revenue_ledger_posting_date", columnList = "posting_date")
+)
+public class RevenueLedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long paymentRecordId;
+
+    @Column(nullable = false, length = 24)
+    private String paymentCode;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private RevenueLedgerEntryType entryType;
+
+    // Signed: refunds are negative so a plain sum over the ledger is net revenue.
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal amount;
+
+    @Column(nullable = false, length = 10)
+    private String currency;
+
+    @Column(nullable = false)
+    private LocalDate postingDate;
+
+    @Column(nullable = false)
+    private LocalDateTime postedAt;
+}
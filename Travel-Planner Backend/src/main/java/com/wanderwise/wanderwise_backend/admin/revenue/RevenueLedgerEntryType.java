@@ -0,0 +1,6 @@
+package com.wanderwise.wanderwise_backend.admin.revenue;
+
+public enum RevenueLedgerEntryType {
+    PAYMENT,
+    REFUND
+}
@@ -0,0 +1,22 @@
+package com.wanderwise.wanderwise_backend.admin.revenue;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RevenueLedgerInitializer implements CommandLineRunner {
+
+    private final RevenueLedgerService revenueLedgerService;
+
+    @Override
+    public void run(String... args) {
+        if (revenueLedgerService.isEmpty()) {
+            log.info("Revenue totals are empty; backfilling the ledger from payments.");
+            revenueLedgerService.rebuildFromSource();
+        }
+    }
+}
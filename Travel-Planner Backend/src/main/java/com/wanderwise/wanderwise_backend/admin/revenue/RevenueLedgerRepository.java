@@ -0,0 +1,25 @@
+package com.wanderwise.wanderwise_backend.admin.revenue;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface RevenueLedgerRepository extends JpaRepository<RevenueLedgerEntry, Long> {
+
+    // Posts captures for successful payments that predate the ledger; existing postings are left alone.
+    @Modifying
+    @Query(
+            nativeQuery = true,
+            value = """
+                    insert into revenue_ledger_entries (payment_record_id, payment_code, entry_type, amount, currency,
+                        posting_date, posted_at)
+                    select p.id, p.payment_code, 'PAYMENT', p.amount, upper(trim(p.currency)),
+                        cast(p.settled_at as date), p.settled_at
+                      from payments p
+                     where p.status = 'SUCCESS'
+                       and not exists (select 1 from revenue_ledger_entries e
+                                        where e.payment_record_id = p.id and e.entry_type = 'PAYMENT')
+                    """
+    )
+    int backfillFromPayments();
+}
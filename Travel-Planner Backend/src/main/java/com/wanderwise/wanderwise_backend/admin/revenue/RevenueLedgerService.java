@@ -0,0 +1,135 @@
+package com.wanderwise.wanderwise_backend.admin.revenue;
+
+import com.wanderwise.wanderwise_backend.payment.PaymentRecord;
+import com.wanderwise.wanderwise_backend.payment.PaymentStatus;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Locale;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Slf4j
+public class RevenueLedgerService {
+
+    private final RevenueLedgerRepository revenueLedgerRepository;
+    private final RevenueDailyTotalRepository revenueDailyTotalRepository;
+    private final String reportingCurrency;
+    private final BigDecimal annualTarget;
+
+    public RevenueLedgerService(
+            RevenueLedgerRepository revenueLedgerRepository,
+            RevenueDailyTotalRepository revenueDailyTotalRepository,
+            @Value("${app.admin.revenue.reporting-currency:INR}") String reportingCurrency,
+            @Value("${app.admin.revenue.annual-target:2400000}") BigDecimal annualTarget
+    ) {
+        this.revenueLedgerRepository = revenueLedgerRepository;
+        this.revenueDailyTotalRepository = revenueDailyTotalRepository;
+        this.reportingCurrency = normalizeCurrency(reportingCurrency);
+        this.annualTarget = annualTarget;
+    }
+
+    // Joins the caller's transaction so a payment and its posting commit or roll back together.
+    @Transactional
+    public void recordPayment(PaymentRecord payment) {
+        if (payment.getStatus() != PaymentStatus.SUCCESS || payment.getAmount() == null) {
+            return;
+        }
+        post(payment, RevenueLedgerEntryType.PAYMENT, payment.getAmount(), payment.getSettledAt());
+        revenueDailyTotalRepository.upsert(
+                payment.getSettledAt().toLocalDate(),
+                normalizeCurrency(payment.getCurrency()),
+                1L,
+                payment.getAmount(),
+                0L,
+                BigDecimal.ZERO,
+                LocalDateTime.now()
+        );
+    }
+
+    @Transactional
+    public void recordRefund(PaymentRecord payment, LocalDateTime refundedAt) {
+        post(payment, RevenueLedgerEntryType.REFUND, payment.getAmount().negate(), refundedAt);
+        revenueDailyTotalRepository.upsert(
+                refundedAt.toLocalDate(),
+                normalizeCurrency(payment.getCurrency()),
+                0L,
+                BigDecimal.ZERO,
+                1L,
+                payment.getAmount(),
+                LocalDateTime.now()
+        );
+    }
+
+    @Transactional
+    public void rebuildFromSource() {
+        int backfilled = revenueLedgerRepository.backfillFromPayments();
+        revenueDailyTotalRepository.deleteAllTotals();
+        int rows = revenueDailyTotalRepository.rebuildFromLedger(LocalDateTime.now());
+        log.info("Revenue totals rebuilt from the ledger ({} postings backfilled, {} daily rows).", backfilled, rows);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isEmpty() {
+        return revenueDailyTotalRepository.count() == 0;
+    }
+
+    // Every figure is a sum over daily rows, so the cost follows the number of days, not payments.
+    @Transactional(readOnly = true)
+    public RevenueReport getReport(LocalDate periodStart, LocalDate periodEnd, LocalDate today) {
+        long periodDays = ChronoUnit.DAYS.between(periodStart, periodEnd) + 1;
+        LocalDate previousPeriodEnd = periodStart.minusDays(1);
+        LocalDate previousPeriodStart = previousPeriodEnd.minusDays(periodDays - 1);
+        LocalDate yearStart = today.withDayOfYear(1);
+        return new RevenueReport(
+                reportingCurrency,
+                annualTarget,
+                yearStart,
+                periodStart,
+                periodEnd,
+                previousPeriodStart,
+                previousPeriodEnd,
+                revenueDailyTotalRepository.sumByCurrency(),
+                revenueDailyTotalRepository.sumByCurrencyBetween(yearStart, today),
+                revenueDailyTotalRepository.sumByCurrencyBetween(periodStart, periodEnd),
+                revenueDailyTotalRepository.sumByCurrencyBetween(previousPeriodStart, previousPeriodEnd)
+        );
+    }
+
+    public RevenueReport emptyReport(LocalDate periodStart, LocalDate periodEnd, LocalDate today) {
+        return new RevenueReport(
+                reportingCurrency,
+                annualTarget,
+                today.withDayOfYear(1),
+                periodStart,
+                periodEnd,
+                null,
+                null,
+                List.of(),
+                List.of(),
+                List.of(),
+                List.of()
+        );
+    }
+
+    private void post(PaymentRecord payment, RevenueLedgerEntryType entryType, BigDecimal amount, LocalDateTime postedAt) {
+        revenueLedgerRepository.save(RevenueLedgerEntry.builder()
+                .paymentRecordId(payment.getId())
+                .paymentCode(payment.getPaymentCode())
+                .entryType(entryType)
+                .amount(amount)
+                .currency(normalizeCurrency(payment.getCurrency()))
+                .postingDate(postedAt.toLocalDate())
+                .postedAt(postedAt)
+                .build());
+    }
+
+    private static String normalizeCurrency(String currency) {
+        return currency == null || currency.isBlank() ? "INR" : currency.trim().toUpperCase(Locale.ENGLISH);
+    }
+}
@@ -0,0 +1,20 @@
+package com.wanderwise.wanderwise_backend.admin.revenue;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public record RevenueReport(
+        String reportingCurrency,
+        BigDecimal annualTarget,
+        LocalDate yearStart,
+        LocalDate periodStart,
+        LocalDate periodEnd,
+        LocalDate previousPeriodStart,
+        LocalDate previousPeriodEnd,
+        List<RevenueCurrencyTotal> allTime,
+        List<RevenueCurrencyTotal> yearToDate,
+        List<RevenueCurrencyTotal> currentPeriod,
+        List<RevenueCurrencyTotal> previousPeriod
+) {
+}
@@ -0,0 +1,92 @@
+package com.wanderwise.wanderwise_backend.admin.rollup;
+
+import com.wanderwise.wanderwise_backend.booking.BookingStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(
+        name = "booking_rollups",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_booking_rollup_bucket",
+                        columnNames = {"bucket_date", "destination", "country", "status"}
+                )
+        },
+        indexes = {
+                @Index(name = "idx_booking_rollup_bucket_date", columnList = "bucket_date")
+        }
+)
+public class BookingRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate bucketDate;
+
+    @Column(nullable = false, length = 120)
+    private String destination;
+
+    @Column(nullable = false, length = 120)
+    private String country;
+
+    // A plain varchar: MySQL's native enum column would need an ALTER for every new status.
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30, columnDefinition = "varchar(30)")
+    private BookingStatus status;
+
+    @Column(nullable = false)
+    private Long bookingCount;
+
+    @Column(nullable = false, precision = 16, scale = 2)
+    private BigDecimal bookedAmount;
+
+    @Column(nullable = false, precision = 16, scale = 2)
+    private BigDecimal paidAmount;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    public void applyDefaults() {
+        if (bookingCount == null) {
+            bookingCount = 0L;
+        }
+
+        if (bookedAmount == null) {
+            bookedAmount = BigDecimal.ZERO;
+        }
+
+        if (paidAmount == null) {
+            paidAmount = BigDecimal.ZERO;
+        }
+
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,14 @@
+package com.wanderwise.wanderwise_backend.admin.rollup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface BookingRollupDay {
+    LocalDate getBucketDate();
+
+    long getBookings();
+
+    BigDecimal getBookedAmount();
+
+    BigDecimal getPaidAmount();
+}
@@ -0,0 +1,16 @@
+package com.wanderwise.wanderwise_backend.admin.rollup;
+
+import com.wanderwise.wanderwise_backend.booking.BookingStatus;
+import java.math.BigDecimal;
+
+public interface BookingRollupDestinationTotal {
+    String getDestination();
+
+    String getCountry();
+
+    BookingStatus getStatus();
+
+    long getBookings();
+
+    BigDecimal getBookedAmount();
+}
@@ -0,0 +1,22 @@
+package com.wanderwise.wanderwise_backend.admin.rollup;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookingRollupInitializer implements CommandLineRunner {
+
+    private final BookingRollupService bookingRollupService;
+
+    @Override
+    public void run(String... args) {
+        if (bookingRollupService.isEmpty()) {
+            log.info("Booking rollups are empty; rebuilding from source tables.");
+            bookingRollupService.rebuildFromSource();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.wanderwise.wanderwise_backend.admin.rollup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record BookingRollupPoint(
+        LocalDate periodStart,
+        long bookings,
+        BigDecimal bookedAmount,
+        BigDecimal paidAmount
+) {
+}
@@ -0,0 +1,10 @@
+package com.wanderwise.wanderwise_backend.admin.rollup;
+
+import java.time.LocalDate;
+
+public record BookingRollupRange(
+        LocalDate from,
+        LocalDate to,
+        RollupGranularity granularity
+) {
+}
@@ -0,0 +1,96 @@
+package com.wanderwise.wanderwise_backend.admin.rollup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BookingRollupRepository extends JpaRepository<BookingRollup, Long> {
+
+    @Modifying
+    @Query(
+            nativeQuery = true,
+            value = """
+                    insert into booking_rollups (bucket_date, destination, country, status,
+                        booking_count, booked_amount, paid_amount, updated_at)
+                    values (:bucketDate, :destination, :country, :status,
+                        :countDelta, :bookedDelta, :paidDelta, :updatedAt)
+                    on duplicate key update
+                        booking_count = booking_count + :countDelta,
+                        booked_amount = booked_amount + :bookedDelta,
+                        paid_amount = paid_amount + :paidDelta,
+                        updated_at = :updatedAt
+                    """
+    )
+    int upsert(
+            @Param("bucketDate") LocalDate bucketDate,
+            @Param("destination") String destination,
+            @Param("country") String country,
+            @Param("status") String status,
+            @Param("countDelta") long countDelta,
+            @Param("bookedDelta") BigDecimal bookedDelta,
+            @Param("paidDelta") BigDecimal paidDelta,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+
+    @Modifying
+    @Query("delete from BookingRollup r")
+    int deleteAllRollups();
+
+    @Modifying
+    @Query(
+            nativeQuery = true,
+            value = """
+                    insert into booking_rollups (bucket_date, destination, country, status,
+                        booking_count, booked_amount, paid_amount, updated_at)
+                    select cast(b.requested_at as date), lower(trim(b.destination)), lower(trim(b.country)), b.status,
+                           count(*), sum(b.total_amount), coalesce(sum(p.amount), 0), :updatedAt
+                      from booking_requests b
+                      left join (select booking_record_id, sum(amount) as amount
+                                   from payments
+                                  where status = 'SUCCESS'
+                                  group by booking_record_id) p on p.booking_record_id = b.id
+                     group by cast(b.requested_at as date), lower(trim(b.destination)), lower(trim(b.country)), b.status
+                    """
+    )
+    int rebuildFromBookings(@Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("""
+            select r.bucketDate as bucketDate, sum(r.bookingCount) as bookings,
+                   sum(r.bookedAmount) as bookedAmount, sum(r.paidAmount) as paidAmount
+              from BookingRollup r
+             where r.bucketDate between :from and :to
+             group by r.bucketDate
+            """)
+    List<BookingRollupDay> sumByDay(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("""
+            select r.destination as destination, r.country as country, r.status as status,
+                   sum(r.bookingCount) as bookings, sum(r.bookedAmount) as bookedAmount
+              from BookingRollup r
+             where r.bucketDate between :from and :to
+             group by r.destination, r.country, r.status
+            having sum(r.bookingCount) > 0
+            """)
+    List<BookingRollupDestinationTotal> sumByDestination(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query(
+            nativeQuery = true,
+            value = """
+                    select data_type from information_schema.columns
+                     where table_schema = database()
+                       and table_name = 'booking_rollups'
+                       and column_name = 'status'
+                    """
+    )
+    Optional<String> findStatusColumnType();
+
+    @Modifying
+    @Query(nativeQuery = true, value = "alter table booking_rollups modify status varchar(30) not null")
+    void widenStatusColumn();
+}
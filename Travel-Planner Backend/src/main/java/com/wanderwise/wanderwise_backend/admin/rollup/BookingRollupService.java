@@ -0,0 +1,263 @@
+package com.wanderwise.wanderwise_backend.admin.rollup;
+
+import com.wanderwise.wanderwise_backend.booking.BookingRequest;
+import com.wanderwise.wanderwise_backend.booking.BookingStatus;
+import com.wanderwise.wanderwise_backend.booking.BookingStatusChange;
+import com.wanderwise.wanderwise_backend.payment.BookingPaidAmount;
+import com.wanderwise.wanderwise_backend.payment.PaymentRecord;
+import com.wanderwise.wanderwise_backend.payment.PaymentRecordRepository;
+import com.wanderwise.wanderwise_backend.payment.PaymentStatus;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookingRollupService {
+
+    private static final long MAX_RANGE_DAYS = 3660;
+    private static final int MAX_BUCKETS = 731;
+
+    private final BookingRollupRepository bookingRollupRepository;
+    private final PaymentRecordRepository paymentRecordRepository;
+
+    @Transactional
+    public void recordBookingCreated(BookingRequest booking) {
+        apply(booking, booking.getStatus(), 1L, booking.getTotalAmount(), BigDecimal.ZERO);
+    }
+
+    @Transactional
+    public void recordBookingsCreated(List<BookingRequest> bookings) {
+        Map<RollupKey, RollupDelta> deltas = new LinkedHashMap<>();
+        for (BookingRequest booking : bookings) {
+            deltas.computeIfAbsent(RollupKey.of(booking, booking.getStatus()), _ignored -> new RollupDelta())
+                    .add(1L, booking.getTotalAmount(), BigDecimal.ZERO);
+        }
+        upsertAll(deltas);
+    }
+
+    @Transactional
+    public void recordBookingStatusChanged(BookingRequest booking, BookingStatus previousStatus) {
+        if (previousStatus == booking.getStatus()) {
+            return;
+        }
+
+        BigDecimal paidAmount = paymentRecordRepository.sumAmountByBookingRecordIdAndStatus(booking.getId(), PaymentStatus.SUCCESS);
+        apply(booking, previousStatus, -1L, booking.getTotalAmount().negate(), paidAmount.negate());
+        apply(booking, booking.getStatus(), 1L, booking.getTotalAmount(), paidAmount);
+    }
+
+    @Transactional
+    public void recordBookingStatusChanges(List<BookingStatusChange> changes) {
+        List<BookingStatusChange> effective = changes.stream()
+                .filter(change -> change.previousStatus() != change.booking().getStatus())
+                .toList();
+        if (effective.isEmpty()) {
+            return;
+        }
+
+        Map<Long, BigDecimal> paidByBooking = new HashMap<>();
+        for (BookingPaidAmount paid : paymentRecordRepository.sumAmountsByBookingRecordIdInAndStatus(
+                effective.stream().map(change -> change.booking().getId()).toList(),
+                PaymentStatus.SUCCESS
+        )) {
+            paidByBooking.put(paid.getBookingRecordId(), paid.getAmount());
+        }
+
+        // Collapses a run of approvals into one upsert per (day, destination, status) bucket.
+        Map<RollupKey, RollupDelta> deltas = new LinkedHashMap<>();
+        for (BookingStatusChange change : effective) {
+            BookingRequest booking = change.booking();
+            BigDecimal paidAmount = paidByBooking.getOrDefault(booking.getId(), BigDecimal.ZERO);
+            deltas.computeIfAbsent(RollupKey.of(booking, change.previousStatus()), _ignored -> new RollupDelta())
+                    .add(-1L, booking.getTotalAmount().negate(), paidAmount.negate());
+            deltas.computeIfAbsent(RollupKey.of(booking, booking.getStatus()), _ignored -> new RollupDelta())
+                    .add(1L, booking.getTotalAmount(), paidAmount);
+        }
+
+        upsertAll(deltas);
+    }
+
+    @Transactional
+    public void recordBookingDeleted(BookingRequest booking) {
+        BigDecimal paidAmount = paymentRecordRepository.sumAmountByBookingRecordIdAndStatus(booking.getId(), PaymentStatus.SUCCESS);
+        apply(booking, booking.getStatus(), -1L, booking.getTotalAmount().negate(), paidAmount.negate());
+    }
+
+    @Transactional
+    public void recordPayment(BookingRequest booking, PaymentRecord payment) {
+        if (payment.getStatus() == PaymentStatus.SUCCESS && payment.getAmount() != null) {
+            apply(booking, booking.getStatus(), 0L, BigDecimal.ZERO, payment.getAmount());
+        }
+    }
+
+    @Transactional
+    public void recordRefund(BookingRequest booking, PaymentRecord payment) {
+        if (payment.getAmount() != null) {
+            apply(booking, booking.getStatus(), 0L, BigDecimal.ZERO, payment.getAmount().negate());
+        }
+    }
+
+    @Transactional
+    public void rebuildFromSource() {
+        bookingRollupRepository.deleteAllRollups();
+        int rows = bookingRollupRepository.rebuildFromBookings(LocalDateTime.now());
+        log.info("Booking rollups rebuilt from source tables ({} buckets).", rows);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isEmpty() {
+        return bookingRollupRepository.count() == 0;
+    }
+
+    public BookingRollupRange resolveRange(LocalDate from, LocalDate to, RollupGranularity granularity) {
+        RollupGranularity resolvedGranularity = granularity != null ? granularity : RollupGranularity.MONTH;
+        LocalDate resolvedTo = to != null ? to : LocalDate.now();
+        LocalDate resolvedFrom = from != null ? from : defaultFrom(resolvedTo, resolvedGranularity);
+
+        if (resolvedFrom.isAfter(resolvedTo)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Range start must not be after range end");
+        }
+
+        if (ChronoUnit.DAYS.between(resolvedFrom, resolvedTo) > MAX_RANGE_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Range must not exceed ten years");
+        }
+
+        BookingRollupRange range = new BookingRollupRange(
+                resolvedGranularity.periodStart(resolvedFrom),
+                resolvedTo,
+                resolvedGranularity
+        );
+        if (countBuckets(range) > MAX_BUCKETS) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Range has too many " + resolvedGranularity.unit() + " buckets; use a coarser granularity"
+            );
+        }
+        return range;
+    }
+
+    @Transactional(readOnly = true)
+    public List<BookingRollupPoint> getSeries(BookingRollupRange range) {
+        RollupGranularity granularity = range.granularity();
+        Map<LocalDate, BookingRollupPoint> points = new HashMap<>();
+
+        for (BookingRollupDay day : bookingRollupRepository.sumByDay(range.from(), range.to())) {
+            LocalDate periodStart = granularity.periodStart(day.getBucketDate());
+            BookingRollupPoint current = points.get(periodStart);
+            points.put(periodStart, current == null
+                    ? new BookingRollupPoint(periodStart, day.getBookings(), day.getBookedAmount(), day.getPaidAmount())
+                    : new BookingRollupPoint(
+                            periodStart,
+                            current.bookings() + day.getBookings(),
+                            current.bookedAmount().add(day.getBookedAmount()),
+                            current.paidAmount().add(day.getPaidAmount())
+                    ));
+        }
+
+        List<BookingRollupPoint> series = new ArrayList<>();
+        for (LocalDate period = range.from(); !period.isAfter(range.to()); period = granularity.nextPeriod(period)) {
+            series.add(points.getOrDefault(period, new BookingRollupPoint(period, 0L, BigDecimal.ZERO, BigDecimal.ZERO)));
+        }
+        return series;
+    }
+
+    @Transactional(readOnly = true)
+    public List<BookingRollupDestinationTotal> getDestinationTotals(BookingRollupRange range) {
+        return bookingRollupRepository.sumByDestination(range.from(), range.to());
+    }
+
+    private void apply(
+            BookingRequest booking,
+            BookingStatus status,
+            long countDelta,
+            BigDecimal bookedDelta,
+            BigDecimal paidDelta
+    ) {
+        bookingRollupRepository.upsert(
+                booking.getRequestedAt().toLocalDate(),
+                normalize(booking.getDestination()),
+                normalize(booking.getCountry()),
+                status.name(),
+                countDelta,
+                bookedDelta,
+                paidDelta,
+                LocalDateTime.now()
+        );
+    }
+
+    private void upsertAll(Map<RollupKey, RollupDelta> deltas) {
+        LocalDateTime now = LocalDateTime.now();
+        deltas.forEach((key, delta) -> bookingRollupRepository.upsert(
+                key.day(),
+                key.destination(),
+                key.country(),
+                key.status(),
+                delta.count,
+                delta.booked,
+                delta.paid,
+                now
+        ));
+    }
+
+    private LocalDate defaultFrom(LocalDate to, RollupGranularity granularity) {
+        LocalDate periodStart = granularity.periodStart(to);
+        return switch (granularity) {
+            case DAY -> periodStart.minusDays(29);
+            case WEEK -> periodStart.minusWeeks(11);
+            case MONTH -> periodStart.minusMonths(11);
+        };
+    }
+
+    private long countBuckets(BookingRollupRange range) {
+        LocalDate lastPeriod = range.granularity().periodStart(range.to());
+        return switch (range.granularity()) {
+            case DAY -> ChronoUnit.DAYS.between(range.from(), lastPeriod) + 1;
+            case WEEK -> ChronoUnit.WEEKS.between(range.from(), lastPeriod) + 1;
+            case MONTH -> ChronoUnit.MONTHS.between(range.from(), lastPeriod) + 1;
+        };
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ENGLISH);
+    }
+
+    private record RollupKey(LocalDate day, String destination, String country, String status) {
+
+        private static RollupKey of(BookingRequest booking, BookingStatus status) {
+            return new RollupKey(
+                    booking.getRequestedAt().toLocalDate(),
+                    normalize(booking.getDestination()),
+                    normalize(booking.getCountry()),
+                    status.name()
+            );
+        }
+    }
+
+    private static final class RollupDelta {
+
+        private long count;
+        private BigDecimal booked = BigDecimal.ZERO;
+        private BigDecimal paid = BigDecimal.ZERO;
+
+        private void add(long countDelta, BigDecimal bookedDelta, BigDecimal paidDelta) {
+            count += countDelta;
+            booked = booked.add(bookedDelta);
+            paid = paid.add(paidDelta);
+        }
+    }
+}
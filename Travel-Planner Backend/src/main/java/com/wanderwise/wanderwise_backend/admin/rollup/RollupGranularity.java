@@ -0,0 +1,50 @@
+package com.wanderwise.wanderwise_backend.admin.rollup;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+
+public enum RollupGranularity {
+    DAY,
+    WEEK,
+    MONTH;
+
+    private static final DateTimeFormatter SHORT_DAY = DateTimeFormatter.ofPattern("MMM d", Locale.ENGLISH);
+    private static final DateTimeFormatter SHORT_MONTH = DateTimeFormatter.ofPattern("MMM", Locale.ENGLISH);
+    private static final DateTimeFormatter FULL_DAY = DateTimeFormatter.ofPattern("MMM d, yyyy", Locale.ENGLISH);
+    private static final DateTimeFormatter FULL_MONTH = DateTimeFormatter.ofPattern("MMMM yyyy", Locale.ENGLISH);
+
+    public LocalDate periodStart(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+
+    public LocalDate nextPeriod(LocalDate periodStart) {
+        return switch (this) {
+            case DAY -> periodStart.plusDays(1);
+            case WEEK -> periodStart.plusWeeks(1);
+            case MONTH -> periodStart.plusMonths(1);
+        };
+    }
+
+    public String chartLabel(LocalDate periodStart) {
+        return this == MONTH ? SHORT_MONTH.format(periodStart) : SHORT_DAY.format(periodStart);
+    }
+
+    public String label(LocalDate periodStart) {
+        return switch (this) {
+            case DAY -> FULL_DAY.format(periodStart);
+            case WEEK -> "week of " + FULL_DAY.format(periodStart);
+            case MONTH -> FULL_MONTH.format(periodStart);
+        };
+    }
+
+    public String unit() {
+        return name().toLowerCase(Locale.ENGLISH);
+    }
+}
@@ -1,5 +1,7 @@
 package com.wanderwise.wanderwise_backend.auth;
 
+import com.wanderwise.wanderwise_backend.admin.live.AdminLiveEventService;
+import com.wanderwise.wanderwise_backend.admin.metrics.AdminMetricsService;
 import com.wanderwise.wanderwise_backend.auth.dto.AuthRequest;
 import com.wanderwise.wanderwise_backend.auth.dto.AuthResponse;
 import com.wanderwise.wanderwise_backend.auth.dto.SignupRequest;
@@ -17,6 +19,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 @Service
@@ -27,7 +30,10 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtService jwtService;
+    private final AdminMetricsService adminMetricsService;
+    private final AdminLiveEventService adminLiveEventService;
 
+    @Transactional
     public AuthResponse signup(SignupRequest request) {
         String email = request.email().trim().toLowerCase();
         if (userRepository.existsByEmail(email)) {
@@ -47,6 +53,8 @@ public class AuthService {
                 .build();
 
         User savedUser = userRepository.save(user);
+        adminMetricsService.recordUserCreated(savedUser);
+        adminLiveEventService.publishUserCreated(savedUser);
         return createAuthResponse(savedUser);
     }
 
@@ -0,0 +1,91 @@
+package com.wanderwise.wanderwise_backend.booking;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class BookingBatchInserter {
+
+    private static final String INSERT_BOOKING_SQL = """
+            insert into booking_requests (booking_code, user_email, traveler_name, traveler_email, destination, country,
+                travel_date, transportation, travelers_count, amount_per_traveler, total_amount, currency, status, requested_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_TRAVELER_SQL = """
+            insert into booking_travelers (booking_id, sort_order, name, age, gender)
+            values (?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // IDENTITY keys stop Hibernate from batching inserts, so both tables go through one JDBC batch each.
+    public void insert(List<BookingRequest> bookings) {
+        if (bookings.isEmpty()) {
+            return;
+        }
+
+        for (BookingRequest booking : bookings) {
+            booking.applyDefaults();
+        }
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_BOOKING_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (BookingRequest booking : bookings) {
+                    statement.setString(1, booking.getBookingCode());
+                    statement.setString(2, booking.getUserEmail());
+                    statement.setString(3, booking.getTravelerName());
+                    statement.setString(4, booking.getTravelerEmail());
+                    statement.setString(5, booking.getDestination());
+                    statement.setString(6, booking.getCountry());
+                    statement.setObject(7, booking.getTravelDate());
+                    statement.setString(8, booking.getTransportation());
+                    statement.setInt(9, booking.getTravelersCount());
+                    statement.setBigDecimal(10, booking.getAmountPerTraveler());
+                    statement.setBigDecimal(11, booking.getTotalAmount());
+                    statement.setString(12, booking.getCurrency());
+                    statement.setString(13, booking.getStatus().name());
+                    statement.setTimestamp(14, Timestamp.valueOf(booking.getRequestedAt()));
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    for (BookingRequest booking : bookings) {
+                        if (!keys.next()) {
+                            throw new DataRetrievalFailureException("Batch insert returned fewer booking ids than rows");
+                        }
+                        booking.setId(keys.getLong(1));
+                    }
+                }
+            }
+            return null;
+        });
+
+        List<Object[]> travelerRows = new ArrayList<>();
+        for (BookingRequest booking : bookings) {
+            for (BookingTraveler traveler : booking.getTravelers()) {
+                travelerRows.add(new Object[]{
+                        booking.getId(),
+                        traveler.getSortOrder(),
+                        traveler.getName(),
+                        traveler.getAge(),
+                        traveler.getGender()
+                });
+            }
+        }
+        if (!travelerRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_TRAVELER_SQL, travelerRows);
+        }
+    }
+}
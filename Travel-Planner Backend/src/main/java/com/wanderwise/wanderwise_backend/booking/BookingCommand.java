@@ -0,0 +1,12 @@
+package com.wanderwise.wanderwise_backend.booking;
+
+import com.wanderwise.wanderwise_backend.booking.dto.CreateBookingRequest;
+import java.time.LocalDateTime;
+
+public record BookingCommand(
+        String userEmail,
+        CreateBookingRequest request,
+        LocalDateTime requestedAt,
+        String bookingCode
+) {
+}
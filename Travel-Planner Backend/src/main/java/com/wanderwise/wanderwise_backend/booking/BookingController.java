@@ -1,11 +1,17 @@
 package com.wanderwise.wanderwise_backend.booking;
 
 import com.wanderwise.wanderwise_backend.booking.dto.BookingResponse;
+import com.wanderwise.wanderwise_backend.booking.dto.BulkUpdateBookingStatusRequest;
+import com.wanderwise.wanderwise_backend.booking.dto.BulkUpdateBookingStatusResponse;
 import com.wanderwise.wanderwise_backend.booking.dto.CreateBookingRequest;
 import com.wanderwise.wanderwise_backend.booking.dto.UpdateBookingStatusRequest;
+import com.wanderwise.wanderwise_backend.idempotency.IdempotencyService;
+import com.wanderwise.wanderwise_backend.pagination.CursorPage;
 import jakarta.validation.Valid;
+import java.time.LocalDate;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -16,7 +22,9 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -25,27 +33,71 @@ import org.springframework.web.bind.annotation.RestController;
 public class BookingController {
 
     private final BookingService bookingService;
+    private final BookingIngestionService bookingIngestionService;
 
     @PostMapping
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<BookingResponse> createBooking(
             @Valid @RequestBody CreateBookingRequest request,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             Authentication authentication
     ) {
-        BookingResponse response = bookingService.createBooking(authentication.getName(), request);
+        BookingResponse response = bookingIngestionService.createBooking(authentication.getName(), request, idempotencyKey);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     @GetMapping("/me")
     @PreAuthorize("hasAnyRole('USER','ADMIN')")
-    public ResponseEntity<List<BookingResponse>> getMyBookings(Authentication authentication) {
-        return ResponseEntity.ok(bookingService.getUserBookings(authentication.getName()));
+    public ResponseEntity<CursorPage<BookingResponse>> getMyBookings(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "false") boolean summary,
+            Authentication authentication
+    ) {
+        return ResponseEntity.ok(bookingService.getUserBookings(authentication.getName(), cursor, limit, summary));
     }
 
     @GetMapping("/admin")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<BookingResponse>> getAdminBookings() {
-        return ResponseEntity.ok(bookingService.getAdminBookings());
+    public ResponseEntity<CursorPage<BookingResponse>> getAdminBookings(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "false") boolean summary
+    ) {
+        return ResponseEntity.ok(bookingService.getAdminBookings(cursor, limit, summary));
+    }
+
+    @GetMapping("/admin/search")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CursorPage<BookingResponse>> searchAdminBookings(
+            @RequestParam(required = false) List<BookingStatus> status,
+            @RequestParam(required = false) String destination,
+            @RequestParam(required = false) String country,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate travelDateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate travelDateTo,
+            @RequestParam(required = false) String traveler,
+            @RequestParam(defaultValue = "REQUESTED_AT_DESC") BookingSearchSort sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "false") boolean summary
+    ) {
+        BookingSearchCriteria criteria = new BookingSearchCriteria(
+                status,
+                destination,
+                country,
+                travelDateFrom,
+                travelDateTo,
+                traveler
+        );
+        return ResponseEntity.ok(bookingService.searchAdminBookings(criteria, sort, cursor, limit, summary));
+    }
+
+    @PatchMapping("/admin/status")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkUpdateBookingStatusResponse> bulkUpdateBookingStatus(
+            @Valid @RequestBody BulkUpdateBookingStatusRequest request
+    ) {
+        return ResponseEntity.ok(bookingService.bulkUpdateBookingStatus(request));
     }
 
     @PatchMapping("/admin/{bookingRecordId}/status")
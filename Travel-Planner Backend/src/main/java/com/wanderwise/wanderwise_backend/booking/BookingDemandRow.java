@@ -0,0 +1,12 @@
+package com.wanderwise.wanderwise_backend.booking;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record BookingDemandRow(
+        String destination,
+        String country,
+        LocalDate travelDate,
+        LocalDateTime occurredAt
+) {
+}
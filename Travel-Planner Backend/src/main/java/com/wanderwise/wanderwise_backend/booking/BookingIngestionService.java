@@ -0,0 +1,207 @@
+package com.wanderwise.wanderwise_backend.booking;
+
+import com.wanderwise.wanderwise_backend.booking.dto.BookingResponse;
+import com.wanderwise.wanderwise_backend.booking.dto.CreateBookingRequest;
+import com.wanderwise.wanderwise_backend.idempotency.IdempotencyService;
+import com.wanderwise.wanderwise_backend.sequence.ReferenceCodeService;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+@Service
+@Slf4j
+public class BookingIngestionService {
+
+    private final BookingService bookingService;
+    private final IdempotencyService idempotencyService;
+    private final ReferenceCodeService referenceCodeService;
+    private final boolean enabled;
+    private final int maxBatch;
+    private final long maxWaitNanos;
+    private final long callerTimeoutMs;
+    private final BlockingQueue<PendingBooking> queue;
+    private final Thread worker;
+    private final AtomicLong bookingsCommitted = new AtomicLong();
+    private final AtomicLong batchesCommitted = new AtomicLong();
+
+    private volatile boolean running = true;
+
+    public BookingIngestionService(
+            BookingService bookingService,
+            IdempotencyService idempotencyService,
+            ReferenceCodeService referenceCodeService,
+            @Value("${app.bookings.group-commit.enabled:false}") boolean enabled,
+            @Value("${app.bookings.group-commit.max-batch:100}") int maxBatch,
+            @Value("${app.bookings.group-commit.max-wait-ms:5}") long maxWaitMs,
+            @Value("${app.bookings.group-commit.queue-size:5000}") int queueSize,
+            @Value("${app.bookings.group-commit.caller-timeout-ms:30000}") long callerTimeoutMs
+    ) {
+        this.bookingService = bookingService;
+        this.idempotencyService = idempotencyService;
+        this.referenceCodeService = referenceCodeService;
+        this.enabled = enabled;
+        this.maxBatch = Math.max(1, maxBatch);
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, maxWaitMs));
+        this.callerTimeoutMs = callerTimeoutMs;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueSize));
+        this.worker = new Thread(this::drainLoop, "booking-group-commit");
+        this.worker.setDaemon(true);
+        if (enabled) {
+            this.worker.start();
+        }
+    }
+
+    public BookingResponse createBooking(String userEmail, CreateBookingRequest request, String idempotencyKey) {
+        // Taken here, before any transaction opens; a replayed key simply leaves this code unused.
+        String bookingCode = referenceCodeService.nextBookingCode();
+        // Keyed requests store their response in the same transaction as the booking, so they keep the direct path.
+        if (idempotencyKey != null && !idempotencyKey.isBlank()) {
+            return idempotencyService.execute(
+                    "booking",
+                    userEmail,
+                    idempotencyKey,
+                    request,
+                    BookingResponse.class,
+                    () -> bookingService.createBooking(userEmail, request, bookingCode)
+            );
+        }
+        if (!enabled || !running) {
+            return bookingService.createBooking(userEmail, request, bookingCode);
+        }
+
+        PendingBooking pending = new PendingBooking(
+                new BookingCommand(userEmail, request, LocalDateTime.now(), bookingCode)
+        );
+        if (!queue.offer(pending)) {
+            // A full queue means the writer is already saturated; run this one on the caller's thread.
+            return bookingService.createBooking(userEmail, request, bookingCode);
+        }
+
+        try {
+            return pending.future().get(callerTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Booking is still being processed");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Booking request interrupted");
+        } catch (ExecutionException ex) {
+            throw ex.getCause() instanceof RuntimeException runtimeException
+                    ? runtimeException
+                    : new IllegalStateException(ex.getCause());
+        }
+    }
+
+    public long getBookingsCommitted() {
+        return bookingsCommitted.get();
+    }
+
+    public long getBatchesCommitted() {
+        return batchesCommitted.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<PendingBooking> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            commit(remaining);
+        }
+    }
+
+    private void drainLoop() {
+        List<PendingBooking> batch = new ArrayList<>(maxBatch);
+        while (running) {
+            try {
+                PendingBooking first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                long deadline = System.nanoTime() + maxWaitNanos;
+                while (batch.size() < maxBatch) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingBooking next = remaining > 0L ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+
+            if (!batch.isEmpty()) {
+                commit(batch);
+                batch = new ArrayList<>(maxBatch);
+            }
+        }
+    }
+
+    void commit(List<PendingBooking> batch) {
+        List<BookingResponse> responses;
+        try {
+            responses = bookingService.createBookingBatch(batch.stream().map(PendingBooking::command).toList());
+        } catch (RuntimeException ex) {
+            // One bad command must not fail its neighbours, so the batch is retried one booking per transaction.
+            log.warn("Booking batch of {} failed, retrying individually", batch.size(), ex);
+            for (PendingBooking pending : batch) {
+                try {
+                    BookingCommand command = pending.command();
+                    pending.future().complete(bookingService.createBooking(
+                            command.userEmail(),
+                            command.request(),
+                            command.bookingCode()
+                    ));
+                    bookingsCommitted.incrementAndGet();
+                    batchesCommitted.incrementAndGet();
+                } catch (RuntimeException individual) {
+                    pending.future().completeExceptionally(individual);
+                }
+            }
+            return;
+        }
+
+        batchesCommitted.incrementAndGet();
+        for (int index = 0; index < batch.size(); index++) {
+            BookingResponse response = responses.get(index);
+            if (response == null) {
+                batch.get(index).future().completeExceptionally(
+                        new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not found")
+                );
+            } else {
+                bookingsCommitted.incrementAndGet();
+                batch.get(index).future().complete(response);
+            }
+        }
+        log.debug("Committed {} bookings in one transaction", batch.size());
+    }
+
+    record PendingBooking(BookingCommand command, CompletableFuture<BookingResponse> future) {
+
+        PendingBooking(BookingCommand command) {
+            this(command, new CompletableFuture<>());
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.wanderwise.wanderwise_backend.booking;
+
+public interface BookingMonthlyCount {
+    int getYear();
+
+    int getMonth();
+
+    long getTotal();
+}
@@ -0,0 +1,13 @@
+package com.wanderwise.wanderwise_backend.booking;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record BookingRecommendationRow(
+        String destination,
+        String country,
+        LocalDate travelDate,
+        BigDecimal totalAmount,
+        BookingStatus status
+) {
+}
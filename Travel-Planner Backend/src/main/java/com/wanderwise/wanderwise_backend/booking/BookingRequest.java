@@ -1,5 +1,6 @@
 package com.wanderwise.wanderwise_backend.booking;
 
+import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -8,16 +9,21 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 @Getter
 @Setter
@@ -30,7 +36,12 @@ import lombok.Setter;
         indexes = {
                 @Index(name = "idx_booking_user_requested_at", columnList = "user_email,requested_at"),
                 @Index(name = "idx_booking_status", columnList = "status"),
-                @Index(name = "idx_booking_destination_country", columnList = "destination,country")
+                @Index(name = "idx_booking_destination_country", columnList = "destination,country"),
+                @Index(name = "idx_booking_requested_at", columnList = "requested_at"),
+                @Index(name = "idx_booking_travel_date", columnList = "travel_date"),
+                @Index(name = "idx_booking_status_travel_date", columnList = "status,travel_date"),
+                @Index(name = "idx_booking_traveler_name", columnList = "traveler_name"),
+                @Index(name = "idx_booking_traveler_email", columnList = "traveler_email")
         }
 )
 public class BookingRequest {
@@ -66,7 +77,14 @@ public class BookingRequest {
     @Column(nullable = false)
     private Integer travelersCount;
 
-    @Column(nullable = false, length = 4000)
+    @OneToMany(mappedBy = "booking", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("sortOrder")
+    @BatchSize(size = 200)
+    @Builder.Default
+    private List<BookingTraveler> travelers = new ArrayList<>();
+
+    // Legacy JSON copy of the travelers; cleared once BookingTravelerBackfillService has moved it to booking_travelers.
+    @Column(length = 4000)
     private String travelersJson;
 
     @Column(nullable = false, precision = 12, scale = 2)
@@ -78,8 +96,9 @@ public class BookingRequest {
     @Column(nullable = false, length = 10)
     private String currency;
 
+    // A plain varchar: MySQL's native enum column would need an ALTER for every new status.
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false, length = 30)
+    @Column(nullable = false, length = 30, columnDefinition = "varchar(30)")
     private BookingStatus status;
 
     @Column(nullable = false)
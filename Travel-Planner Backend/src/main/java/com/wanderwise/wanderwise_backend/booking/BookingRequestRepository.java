@@ -1,15 +1,179 @@
 package com.wanderwise.wanderwise_backend.booking;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface BookingRequestRepository extends JpaRepository<BookingRequest, Long> {
-    boolean existsByBookingCode(String bookingCode);
-
+public interface BookingRequestRepository
+        extends JpaRepository<BookingRequest, Long>, JpaSpecificationExecutor<BookingRequest> {
     List<BookingRequest> findAllByOrderByRequestedAtDesc();
 
     List<BookingRequest> findAllByUserEmailOrderByRequestedAtDesc(String userEmail);
 
+    List<BookingRequest> findAllByOrderByRequestedAtDescIdDesc(Limit limit);
+
+    @Query("""
+            select b from BookingRequest b
+             where b.requestedAt < :requestedAt
+                or (b.requestedAt = :requestedAt and b.id < :id)
+             order by b.requestedAt desc, b.id desc
+            """)
+    List<BookingRequest> findPageBefore(
+            @Param("requestedAt") LocalDateTime requestedAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    List<BookingRequest> findAllByUserEmailOrderByRequestedAtDescIdDesc(String userEmail, Limit limit);
+
+    @Query("""
+            select b from BookingRequest b
+             where b.userEmail = :userEmail
+               and (b.requestedAt < :requestedAt or (b.requestedAt = :requestedAt and b.id < :id))
+             order by b.requestedAt desc, b.id desc
+            """)
+    List<BookingRequest> findUserPageBefore(
+            @Param("userEmail") String userEmail,
+            @Param("requestedAt") LocalDateTime requestedAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
     Optional<BookingRequest> findByIdAndUserEmail(Long id, String userEmail);
+
+    List<BookingRequest> findTop5ByOrderByRequestedAtDesc();
+
+    @Query("select b.status as status, count(b) as total from BookingRequest b group by b.status")
+    List<BookingStatusCount> countGroupedByStatus();
+
+    @Query("""
+            select year(b.requestedAt) as year, month(b.requestedAt) as month, count(b) as total
+              from BookingRequest b
+             where b.requestedAt >= :from
+             group by year(b.requestedAt), month(b.requestedAt)
+            """)
+    List<BookingMonthlyCount> countGroupedByRequestedMonth(@Param("from") LocalDateTime from);
+
+    @Query("""
+            select lower(trim(b.destination)) as destination, lower(trim(b.country)) as country, count(b) as total
+              from BookingRequest b
+             group by lower(trim(b.destination)), lower(trim(b.country))
+             order by count(b) desc
+            """)
+    List<DestinationBookingCount> findTopDestinations(Limit limit);
+
+    @Query("""
+            select new com.wanderwise.wanderwise_backend.booking.BookingRecommendationRow(
+                   b.destination, b.country, b.travelDate, b.totalAmount, b.status)
+              from BookingRequest b
+            """)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<BookingRecommendationRow> streamRecommendationRows();
+
+    @Query("""
+            select new com.wanderwise.wanderwise_backend.booking.BookingDemandRow(
+                   b.destination, b.country, b.travelDate, b.requestedAt)
+              from BookingRequest b
+             where b.requestedAt >= :from
+            """)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<BookingDemandRow> streamDemandRowsRequestedSince(@Param("from") LocalDateTime from);
+
+    @Query("""
+            select new com.wanderwise.wanderwise_backend.booking.BookingValueRow(
+                   b.destination, b.country, b.totalAmount, b.amountPerTraveler, b.travelersCount)
+              from BookingRequest b
+            """)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<BookingValueRow> streamValueRows();
+
+    long countByTravelDateBetween(LocalDate from, LocalDate to);
+
+    long countByStatusInAndTravelDateGreaterThanEqual(Collection<BookingStatus> statuses, LocalDate travelDate);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update BookingRequest b set b.status = :status where b.id = :id and b.status = :expected")
+    int compareAndSetStatus(
+            @Param("id") Long id,
+            @Param("expected") BookingStatus expected,
+            @Param("status") BookingStatus status
+    );
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update BookingRequest b set b.status = :status, b.adminNote = :adminNote
+             where b.id in :ids and b.status = :expected
+            """)
+    int compareAndSetStatusAndNote(
+            @Param("ids") Collection<Long> ids,
+            @Param("expected") BookingStatus expected,
+            @Param("status") BookingStatus status,
+            @Param("adminNote") String adminNote
+    );
+
+    // A locking read returns the latest committed rows even inside a REPEATABLE READ snapshot.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from BookingRequest b where b.id in :ids")
+    List<BookingRequest> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from BookingRequest b where b.id = :id")
+    Optional<BookingRequest> findByIdForUpdate(@Param("id") Long id);
+
+    boolean existsByTravelersJsonIsNotNull();
+
+    List<BookingRequest> findAllByTravelersJsonIsNotNullAndIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query(
+            nativeQuery = true,
+            value = """
+                    select is_nullable from information_schema.columns
+                     where table_schema = database()
+                       and table_name = 'booking_requests'
+                       and column_name = 'travelers_json'
+                    """
+    )
+    Optional<String> findTravelersJsonNullability();
+
+    @Modifying
+    @Query(nativeQuery = true, value = "alter table booking_requests modify travelers_json varchar(4000) null")
+    void dropTravelersJsonNotNull();
+
+    @Query(
+            nativeQuery = true,
+            value = """
+                    select data_type from information_schema.columns
+                     where table_schema = database()
+                       and table_name = 'booking_requests'
+                       and column_name = 'status'
+                    """
+    )
+    Optional<String> findStatusColumnType();
+
+    @Modifying
+    @Query(nativeQuery = true, value = "alter table booking_requests modify status varchar(30) not null")
+    void widenStatusColumn();
 }
@@ -0,0 +1,64 @@
+package com.wanderwise.wanderwise_backend.booking;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.jpa.domain.PredicateSpecification;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public record BookingSearchCriteria(
+        List<BookingStatus> statuses,
+        String destination,
+        String country,
+        LocalDate travelDateFrom,
+        LocalDate travelDateTo,
+        String traveler
+) {
+    public BookingSearchCriteria {
+        statuses = statuses == null ? List.of() : statuses.stream().distinct().toList();
+        destination = trimToNull(destination);
+        country = trimToNull(country);
+        traveler = trimToNull(traveler);
+        if (travelDateFrom != null && travelDateTo != null && travelDateFrom.isAfter(travelDateTo)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "travelDateFrom must not be after travelDateTo");
+        }
+    }
+
+    // Only equality, IN, ranges and prefix LIKEs on indexed columns, so every filter can drive an index lookup.
+    public PredicateSpecification<BookingRequest> toSpecification() {
+        List<PredicateSpecification<BookingRequest>> predicates = new ArrayList<>();
+        if (!statuses.isEmpty()) {
+            predicates.add((from, builder) -> from.get("status").in(statuses));
+        }
+        if (destination != null) {
+            predicates.add((from, builder) -> builder.equal(from.<String>get("destination"), destination));
+        }
+        if (country != null) {
+            predicates.add((from, builder) -> builder.equal(from.<String>get("country"), country));
+        }
+        if (travelDateFrom != null) {
+            predicates.add((from, builder) -> builder.greaterThanOrEqualTo(from.<LocalDate>get("travelDate"), travelDateFrom));
+        }
+        if (travelDateTo != null) {
+            predicates.add((from, builder) -> builder.lessThanOrEqualTo(from.<LocalDate>get("travelDate"), travelDateTo));
+        }
+        if (traveler != null) {
+            String attribute = traveler.contains("@") ? "travelerEmail" : "travelerName";
+            String pattern = escapeLike(traveler) + "%";
+            predicates.add((from, builder) -> builder.like(from.<String>get(attribute), pattern, '\\'));
+        }
+        return PredicateSpecification.allOf(predicates);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim();
+    }
+}
@@ -0,0 +1,58 @@
+package com.wanderwise.wanderwise_backend.booking;
+
+import com.wanderwise.wanderwise_backend.pagination.PageCursor;
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.PredicateSpecification;
+
+public enum BookingSearchSort {
+    REQUESTED_AT_DESC(false, Sort.Direction.DESC),
+    REQUESTED_AT_ASC(false, Sort.Direction.ASC),
+    TRAVEL_DATE_ASC(true, Sort.Direction.ASC),
+    TRAVEL_DATE_DESC(true, Sort.Direction.DESC);
+
+    private final boolean byTravelDate;
+    private final Sort.Direction direction;
+
+    BookingSearchSort(boolean byTravelDate, Sort.Direction direction) {
+        this.byTravelDate = byTravelDate;
+        this.direction = direction;
+    }
+
+    public Sort toSort() {
+        return Sort.by(direction, byTravelDate ? "travelDate" : "requestedAt", "id");
+    }
+
+    public PageCursor cursorOf(BookingRequest booking) {
+        return PageCursor.of(
+                byTravelDate ? booking.getTravelDate().atStartOfDay() : booking.getRequestedAt(),
+                booking.getId()
+        );
+    }
+
+    public PredicateSpecification<BookingRequest> after(PageCursor cursor) {
+        if (cursor == null) {
+            return PredicateSpecification.unrestricted();
+        }
+
+        return byTravelDate
+                ? seek("travelDate", cursor.requireTimestamp().toLocalDate(), cursor.id())
+                : seek("requestedAt", cursor.requireTimestamp(), cursor.id());
+    }
+
+    // Row-value seek on (sort key, id) so the next page starts from the index instead of skipping an offset.
+    private <Y extends Comparable<? super Y>> PredicateSpecification<BookingRequest> seek(String attribute, Y value, Long id) {
+        boolean descending = direction.isDescending();
+        return (from, builder) -> {
+            Path<Y> key = from.get(attribute);
+            Path<Long> tieBreaker = from.get("id");
+            return builder.or(
+                    descending ? builder.lessThan(key, value) : builder.greaterThan(key, value),
+                    builder.and(
+                            builder.equal(key, value),
+                            descending ? builder.lessThan(tieBreaker, id) : builder.greaterThan(tieBreaker, id)
+                    )
+            );
+        };
+    }
+}
@@ -1,20 +1,39 @@
 package com.wanderwise.wanderwise_backend.booking;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wanderwise.wanderwise_backend.admin.demand.DemandWindowService;
+import com.wanderwise.wanderwise_backend.admin.live.AdminLiveEventService;
+import com.wanderwise.wanderwise_backend.admin.metrics.AdminMetricsService;
+import com.wanderwise.wanderwise_backend.admin.popularity.DestinationPopularityService;
+import com.wanderwise.wanderwise_backend.admin.pricing.BookingValueStatsService;
+import com.wanderwise.wanderwise_backend.admin.recommendation.RecommendationSnapshotService;
+import com.wanderwise.wanderwise_backend.admin.rollup.BookingRollupService;
 import com.wanderwise.wanderwise_backend.booking.dto.BookingResponse;
+import com.wanderwise.wanderwise_backend.booking.dto.BulkUpdateBookingStatusRequest;
+import com.wanderwise.wanderwise_backend.booking.dto.BulkUpdateBookingStatusResponse;
 import com.wanderwise.wanderwise_backend.booking.dto.CreateBookingRequest;
 import com.wanderwise.wanderwise_backend.booking.dto.UpdateBookingStatusRequest;
-import com.wanderwise.wanderwise_backend.notification.TravelerNotificationService;
+import com.wanderwise.wanderwise_backend.notification.TravelerNotification;
+import com.wanderwise.wanderwise_backend.notification.TravelerNotificationDispatcher;
 import com.wanderwise.wanderwise_backend.notification.TravelerNotificationType;
+import com.wanderwise.wanderwise_backend.pagination.CursorPage;
+import com.wanderwise.wanderwise_backend.pagination.PageCursor;
 import com.wanderwise.wanderwise_backend.user.User;
 import com.wanderwise.wanderwise_backend.user.UserRepository;
 import jakarta.transaction.Transactional;
-import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
@@ -23,25 +42,76 @@ import org.springframework.web.server.ResponseStatusException;
 @RequiredArgsConstructor
 public class BookingService {
 
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-    private static final TypeReference<List<CreateBookingRequest.TravelerInput>> TRAVELERS_TYPE = new TypeReference<>() {
-    };
-
     private final BookingRequestRepository bookingRequestRepository;
     private final UserRepository userRepository;
-    private final TravelerNotificationService travelerNotificationService;
+    private final TravelerNotificationDispatcher travelerNotificationDispatcher;
+    private final AdminMetricsService adminMetricsService;
+    private final RecommendationSnapshotService recommendationSnapshotService;
+    private final BookingRollupService bookingRollupService;
+    private final DestinationPopularityService destinationPopularityService;
+    private final AdminLiveEventService adminLiveEventService;
+    private final DemandWindowService demandWindowService;
+    private final BookingValueStatsService bookingValueStatsService;
+    private final BookingBatchInserter bookingBatchInserter;
 
     @Transactional
-    public BookingResponse createBooking(String userEmail, CreateBookingRequest request) {
+    public BookingResponse createBooking(String userEmail, CreateBookingRequest request, String bookingCode) {
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not found"));
 
+        BookingRequest saved = bookingRequestRepository.save(newBooking(user, userEmail, request, bookingCode));
+        adminMetricsService.recordBookingCreated(saved);
+        bookingRollupService.recordBookingCreated(saved);
+        recordBookingCreatedInMemory(saved);
+        travelerNotificationDispatcher.publishAll(List.of(bookingSubmittedNotification(saved)));
+        return toBookingResponse(saved);
+    }
+
+    // Writes a micro-batch in one transaction; the result lines up with the commands, null where the user is unknown.
+    @Transactional
+    public List<BookingResponse> createBookingBatch(List<BookingCommand> commands) {
+        Map<String, User> usersByEmail = new HashMap<>();
+        for (User user : userRepository.findAllByEmailIn(
+                commands.stream().map(BookingCommand::userEmail).distinct().toList()
+        )) {
+            usersByEmail.put(user.getEmail().toLowerCase(Locale.ENGLISH), user);
+        }
+
+        List<BookingRequest> bookings = new ArrayList<>(commands.size());
+        List<BookingRequest> aligned = new ArrayList<>(commands.size());
+        for (BookingCommand command : commands) {
+            User user = usersByEmail.get(command.userEmail().toLowerCase(Locale.ENGLISH));
+            BookingRequest booking = null;
+            if (user != null) {
+                booking = newBooking(user, command.userEmail(), command.request(), command.bookingCode());
+                booking.setRequestedAt(command.requestedAt());
+                bookings.add(booking);
+            }
+            aligned.add(booking);
+        }
+
+        bookingBatchInserter.insert(bookings);
+        adminMetricsService.recordBookingsCreated(bookings);
+        bookingRollupService.recordBookingsCreated(bookings);
+        List<TravelerNotification> notifications = new ArrayList<>(bookings.size());
+        for (BookingRequest booking : bookings) {
+            recordBookingCreatedInMemory(booking);
+            notifications.add(bookingSubmittedNotification(booking));
+        }
+        travelerNotificationDispatcher.publishAll(notifications);
+
+        return aligned.stream()
+                .map(booking -> booking == null ? null : toBookingResponse(booking))
+                .toList();
+    }
+
+    private BookingRequest newBooking(User user, String userEmail, CreateBookingRequest request, String bookingCode) {
         int travelersCount = request.travelers().size();
         BigDecimal totalAmount = request.amountPerTraveler()
                 .multiply(BigDecimal.valueOf(travelersCount));
 
         BookingRequest booking = BookingRequest.builder()
-                .bookingCode(generateBookingCode())
+                .bookingCode(bookingCode)
                 .userEmail(userEmail)
                 .travelerName(user.getName())
                 .travelerEmail(user.getEmail())
@@ -50,36 +120,101 @@ public class BookingService {
                 .travelDate(request.travelDate())
                 .transportation(request.transportation().trim())
                 .travelersCount(travelersCount)
-                .travelersJson(writeTravelersJson(request.travelers()))
                 .amountPerTraveler(request.amountPerTraveler())
                 .totalAmount(totalAmount)
                 .currency(normalizeCurrency(request.currency()))
                 .status(BookingStatus.PENDING_PAYMENT)
                 .build();
+        List<CreateBookingRequest.TravelerInput> travelers = request.travelers();
+        for (int index = 0; index < travelers.size(); index++) {
+            CreateBookingRequest.TravelerInput traveler = travelers.get(index);
+            booking.getTravelers().add(BookingTraveler.builder()
+                    .booking(booking)
+                    .sortOrder(index)
+                    .name(traveler.name().trim())
+                    .age(traveler.age())
+                    .gender(traveler.gender().trim())
+                    .build());
+        }
+        return booking;
+    }
+
+    private void recordBookingCreatedInMemory(BookingRequest booking) {
+        destinationPopularityService.recordBooking(booking);
+        demandWindowService.recordBooking(booking);
+        bookingValueStatsService.recordBooking(booking);
+        adminLiveEventService.publishBookingCreated(booking);
+        recommendationSnapshotService.recordWrite();
+    }
 
-        BookingRequest saved = bookingRequestRepository.save(booking);
-        travelerNotificationService.createNotification(
-                saved.getUserEmail(),
-                TravelerNotificationType.BOOKING,
-                "Booking Request Submitted",
-                "Your " + saved.getDestination() + " booking request (" + saved.getBookingCode()
-                        + ") was sent for admin approval."
+    private TravelerNotification bookingSubmittedNotification(BookingRequest booking) {
+        return TravelerNotification.builder()
+                .userEmail(booking.getUserEmail())
+                .type(TravelerNotificationType.BOOKING)
+                .title("Booking Request Submitted")
+                .message("Your " + booking.getDestination() + " booking request (" + booking.getBookingCode()
+                        + ") was sent for admin approval.")
+                .build();
+    }
+
+    @Transactional
+    public CursorPage<BookingResponse> getAdminBookings(String cursor, Integer limit, boolean summary) {
+        PageCursor after = PageCursor.decode(cursor);
+        int pageSize = CursorPage.resolveLimit(limit);
+        List<BookingRequest> rows = after == null
+                ? bookingRequestRepository.findAllByOrderByRequestedAtDescIdDesc(CursorPage.lookahead(pageSize))
+                : bookingRequestRepository.findPageBefore(after.requireTimestamp(), after.id(), CursorPage.lookahead(pageSize));
+        return CursorPage.of(
+                rows,
+                pageSize,
+                this::toPageCursor,
+                summary ? this::toSummaryResponse : this::toBookingResponse
         );
-        return toBookingResponse(saved);
     }
 
-    public List<BookingResponse> getAdminBookings() {
-        return bookingRequestRepository.findAllByOrderByRequestedAtDesc()
-                .stream()
-                .map(this::toBookingResponse)
-                .toList();
+    @Transactional
+    public CursorPage<BookingResponse> getUserBookings(String userEmail, String cursor, Integer limit, boolean summary) {
+        PageCursor after = PageCursor.decode(cursor);
+        int pageSize = CursorPage.resolveLimit(limit);
+        List<BookingRequest> rows = after == null
+                ? bookingRequestRepository.findAllByUserEmailOrderByRequestedAtDescIdDesc(
+                        userEmail,
+                        CursorPage.lookahead(pageSize)
+                )
+                : bookingRequestRepository.findUserPageBefore(
+                        userEmail,
+                        after.requireTimestamp(),
+                        after.id(),
+                        CursorPage.lookahead(pageSize)
+                );
+        return CursorPage.of(
+                rows,
+                pageSize,
+                this::toPageCursor,
+                summary ? this::toSummaryResponse : this::toBookingResponse
+        );
     }
 
-    public List<BookingResponse> getUserBookings(String userEmail) {
-        return bookingRequestRepository.findAllByUserEmailOrderByRequestedAtDesc(userEmail)
-                .stream()
-                .map(this::toBookingResponse)
-                .toList();
+    @Transactional
+    public CursorPage<BookingResponse> searchAdminBookings(
+            BookingSearchCriteria criteria,
+            BookingSearchSort sort,
+            String cursor,
+            Integer limit,
+            boolean summary
+    ) {
+        PageCursor after = PageCursor.decode(cursor);
+        int pageSize = CursorPage.resolveLimit(limit);
+        List<BookingRequest> rows = bookingRequestRepository.findBy(
+                Specification.where(criteria.toSpecification().and(sort.after(after))),
+                query -> query.sortBy(sort.toSort()).limit(pageSize + 1).all()
+        );
+        return CursorPage.of(
+                rows,
+                pageSize,
+                sort::cursorOf,
+                summary ? this::toSummaryResponse : this::toBookingResponse
+        );
     }
 
     @Transactional
@@ -88,50 +223,195 @@ public class BookingService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Booking not found"));
         BookingStatus previousStatus = booking.getStatus();
 
-        if (request.status() == BookingStatus.PENDING_PAYMENT) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cannot set admin booking status to PENDING_PAYMENT");
+        if (!request.status().isAdminManaged()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cannot set admin booking status to " + request.status());
+        }
+        if (previousStatus == BookingStatus.PAYMENT_PROCESSING) {
+            throw paymentInProgress();
+        }
+        if (previousStatus != request.status() && !previousStatus.canTransitionTo(request.status())) {
+            throw invalidTransition(previousStatus, request.status());
+        }
+
+        // The compare-and-set clears the persistence context, so load what the response needs while still attached.
+        Hibernate.initialize(booking.getTravelers());
+        if (bookingRequestRepository.compareAndSetStatusAndNote(
+                List.of(booking.getId()),
+                previousStatus,
+                request.status(),
+                request.adminNote()
+        ) == 0) {
+            throw concurrentChange();
         }
 
         booking.setStatus(request.status());
         booking.setAdminNote(request.adminNote());
-        BookingRequest saved = bookingRequestRepository.save(booking);
+        adminMetricsService.recordBookingStatusChanged(booking, previousStatus);
+        bookingRollupService.recordBookingStatusChanged(booking, previousStatus);
+        adminLiveEventService.publishBookingStatusChanged(booking, previousStatus);
+        recommendationSnapshotService.recordWrite();
 
         if (previousStatus != request.status()) {
-            travelerNotificationService.createNotification(
-                    saved.getUserEmail(),
+            travelerNotificationDispatcher.publish(
+                    booking.getUserEmail(),
                     TravelerNotificationType.BOOKING,
-                    getStatusTitle(saved.getStatus()),
-                    getStatusMessage(saved)
+                    getStatusTitle(booking.getStatus()),
+                    getStatusMessage(booking)
             );
         }
 
-        return toBookingResponse(saved);
+        return toBookingResponse(booking);
+    }
+
+    @Transactional
+    public BulkUpdateBookingStatusResponse bulkUpdateBookingStatus(BulkUpdateBookingStatusRequest request) {
+        List<BulkUpdateBookingStatusRequest.Item> updates = request.updates();
+        Map<Long, BookingRequest> bookingsById = new HashMap<>();
+        for (BookingRequest booking : bookingRequestRepository.findAllById(
+                updates.stream().map(BulkUpdateBookingStatusRequest.Item::bookingRecordId).distinct().toList()
+        )) {
+            bookingsById.put(booking.getId(), booking);
+        }
+
+        List<BulkUpdateBookingStatusResponse.ItemResultPayload> results = new ArrayList<>(updates.size());
+        Map<StatusTransition, List<Long>> idsByChange = new LinkedHashMap<>();
+        List<BulkUpdateBookingStatusRequest.Item> applied = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (BulkUpdateBookingStatusRequest.Item item : updates) {
+            BookingRequest booking = bookingsById.get(item.bookingRecordId());
+            if (!seen.add(item.bookingRecordId())) {
+                results.add(itemResult(item, BulkStatusOutcome.DUPLICATE, booking, "Booking appears more than once in the request"));
+            } else if (booking == null) {
+                results.add(itemResult(item, BulkStatusOutcome.NOT_FOUND, null, "Booking not found"));
+            } else if (!item.status().isAdminManaged()) {
+                results.add(itemResult(item, BulkStatusOutcome.INVALID, booking, "Cannot set admin booking status to " + item.status()));
+            } else if (booking.getStatus() == BookingStatus.PAYMENT_PROCESSING) {
+                results.add(itemResult(item, BulkStatusOutcome.INVALID, booking, paymentInProgress().getReason()));
+            } else if (item.status() == booking.getStatus() && Objects.equals(item.adminNote(), booking.getAdminNote())) {
+                results.add(itemResult(item, BulkStatusOutcome.UNCHANGED, booking, null));
+            } else if (item.status() != booking.getStatus() && !booking.getStatus().canTransitionTo(item.status())) {
+                results.add(itemResult(
+                        item,
+                        BulkStatusOutcome.INVALID,
+                        booking,
+                        "Cannot move booking from " + booking.getStatus() + " to " + item.status()
+                ));
+            } else {
+                results.add(itemResult(item, BulkStatusOutcome.UPDATED, booking, null));
+                idsByChange.computeIfAbsent(
+                                new StatusTransition(booking.getStatus(), item.status(), item.adminNote()),
+                                _ignored -> new ArrayList<>()
+                        )
+                        .add(booking.getId());
+                applied.add(item);
+            }
+        }
+
+        // A short count means another writer moved some of these bookings since we read them. Only those are reported
+        // as conflicts; the rest of the batch still commits.
+        Set<Long> conflicted = new HashSet<>();
+        idsByChange.forEach((change, ids) -> {
+            if (bookingRequestRepository.compareAndSetStatusAndNote(ids, change.expected(), change.status(), change.adminNote())
+                    != ids.size()) {
+                conflicted.addAll(findLostUpdates(ids, change));
+            }
+        });
+        if (!conflicted.isEmpty()) {
+            applied.removeIf(item -> conflicted.contains(item.bookingRecordId()));
+            results.replaceAll(result -> conflicted.contains(result.bookingRecordId())
+                    && BulkStatusOutcome.UPDATED.name().equals(result.outcome())
+                    ? new BulkUpdateBookingStatusResponse.ItemResultPayload(
+                            result.bookingRecordId(),
+                            BulkStatusOutcome.CONFLICT.name(),
+                            result.previousStatus(),
+                            result.status(),
+                            concurrentChange().getReason()
+                    )
+                    : result);
+        }
+
+        // The bulk update cleared the persistence context, so these copies are detached and never flushed again.
+        List<BookingStatusChange> changes = new ArrayList<>(applied.size());
+        List<TravelerNotification> notifications = new ArrayList<>();
+        for (BulkUpdateBookingStatusRequest.Item item : applied) {
+            BookingRequest booking = bookingsById.get(item.bookingRecordId());
+            BookingStatus previousStatus = booking.getStatus();
+            booking.setStatus(item.status());
+            booking.setAdminNote(item.adminNote());
+            changes.add(new BookingStatusChange(booking, previousStatus));
+            adminLiveEventService.publishBookingStatusChanged(booking, previousStatus);
+            recommendationSnapshotService.recordWrite();
+
+            if (previousStatus != item.status()) {
+                notifications.add(TravelerNotification.builder()
+                        .userEmail(booking.getUserEmail())
+                        .type(TravelerNotificationType.BOOKING)
+                        .title(getStatusTitle(booking.getStatus()))
+                        .message(getStatusMessage(booking))
+                        .build());
+            }
+        }
+        adminMetricsService.recordBookingStatusChanges(changes);
+        bookingRollupService.recordBookingStatusChanges(changes);
+        int notificationsSent = travelerNotificationDispatcher.publishAll(notifications);
+
+        int unchanged = (int) results.stream()
+                .filter(result -> BulkStatusOutcome.UNCHANGED.name().equals(result.outcome()))
+                .count();
+        return new BulkUpdateBookingStatusResponse(
+                updates.size(),
+                applied.size(),
+                unchanged,
+                updates.size() - applied.size() - unchanged,
+                notificationsSent,
+                results
+        );
     }
 
     @Transactional
     public void deleteBooking(Long bookingRecordId) {
-        BookingRequest booking = bookingRequestRepository.findById(bookingRecordId)
+        // The row lock holds off a checkout claiming the booking between the status check and the delete.
+        BookingRequest booking = bookingRequestRepository.findByIdForUpdate(bookingRecordId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Booking not found"));
+        if (booking.getStatus() == BookingStatus.PAYMENT_PROCESSING) {
+            throw paymentInProgress();
+        }
         bookingRequestRepository.delete(booking);
+        adminMetricsService.recordBookingDeleted(booking);
+        bookingRollupService.recordBookingDeleted(booking);
     }
 
     public BookingRequest getBookingById(Long bookingRecordId) {
-        return bookingRequestRepository.findById(bookingRecordId)
+        return findBookingById(bookingRecordId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Booking not found"));
     }
 
+    public Optional<BookingRequest> findBookingById(Long bookingRecordId) {
+        return bookingRequestRepository.findById(bookingRecordId);
+    }
+
+    // Writes only the status column and leaves the entity untouched; callers update their copy once their hooks have run.
     @Transactional
-    public BookingRequest saveBooking(BookingRequest bookingRequest) {
-        return bookingRequestRepository.save(bookingRequest);
+    public void claimStatusTransition(BookingRequest booking, BookingStatus target) {
+        BookingStatus expected = booking.getStatus();
+        if (!expected.canTransitionTo(target)) {
+            throw invalidTransition(expected, target);
+        }
+        if (bookingRequestRepository.compareAndSetStatus(booking.getId(), expected, target) == 0) {
+            throw concurrentChange();
+        }
     }
 
-    private String generateBookingCode() {
-        String code;
-        do {
-            int randomPart = ThreadLocalRandom.current().nextInt(100000, 999999);
-            code = "BK-" + randomPart;
-        } while (bookingRequestRepository.existsByBookingCode(code));
-        return code;
+    // Both our own update and the other writers' committed ones are visible to the locking read, so a row that does
+    // not hold the requested state is one we lost.
+    private Set<Long> findLostUpdates(List<Long> ids, StatusTransition change) {
+        Set<Long> lost = new HashSet<>(ids);
+        for (BookingRequest current : bookingRequestRepository.findAllByIdForUpdate(ids)) {
+            if (current.getStatus() == change.status() && Objects.equals(current.getAdminNote(), change.adminNote())) {
+                lost.remove(current.getId());
+            }
+        }
+        return lost;
     }
 
     private String normalizeCurrency(String currency) {
@@ -141,27 +421,52 @@ public class BookingService {
         return currency.trim().toUpperCase();
     }
 
-    private String writeTravelersJson(List<CreateBookingRequest.TravelerInput> travelers) {
-        try {
-            return OBJECT_MAPPER.writeValueAsString(travelers);
-        } catch (IOException ex) {
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Unable to process traveler details");
-        }
+    private BookingResponse toBookingResponse(BookingRequest booking) {
+        List<BookingResponse.TravelerPayload> travelers = booking.getTravelers().isEmpty()
+                ? BookingTravelerBackfillService.parseLegacyTravelers(booking.getTravelersJson())
+                        .stream()
+                        .map(entry -> new BookingResponse.TravelerPayload(entry.name(), entry.age(), entry.gender()))
+                        .toList()
+                : booking.getTravelers()
+                        .stream()
+                        .map(entry -> new BookingResponse.TravelerPayload(entry.getName(), entry.getAge(), entry.getGender()))
+                        .toList();
+        return BookingResponse.fromEntity(booking, travelers);
     }
 
-    private List<BookingResponse.TravelerPayload> readTravelers(String travelersJson) {
-        try {
-            List<CreateBookingRequest.TravelerInput> travelers = OBJECT_MAPPER.readValue(travelersJson, TRAVELERS_TYPE);
-            return travelers.stream()
-                    .map(entry -> new BookingResponse.TravelerPayload(entry.name(), entry.age(), entry.gender()))
-                    .toList();
-        } catch (IOException ex) {
-            return List.of();
-        }
+    private BookingResponse toSummaryResponse(BookingRequest booking) {
+        return BookingResponse.fromEntity(booking, null);
     }
 
-    private BookingResponse toBookingResponse(BookingRequest booking) {
-        return BookingResponse.fromEntity(booking, readTravelers(booking.getTravelersJson()));
+    private BulkUpdateBookingStatusResponse.ItemResultPayload itemResult(
+            BulkUpdateBookingStatusRequest.Item item,
+            BulkStatusOutcome outcome,
+            BookingRequest booking,
+            String message
+    ) {
+        return new BulkUpdateBookingStatusResponse.ItemResultPayload(
+                item.bookingRecordId(),
+                outcome.name(),
+                booking != null ? booking.getStatus().name() : null,
+                item.status().name(),
+                message
+        );
+    }
+
+    private ResponseStatusException invalidTransition(BookingStatus from, BookingStatus to) {
+        return new ResponseStatusException(HttpStatus.CONFLICT, "Cannot move booking from " + from + " to " + to);
+    }
+
+    private ResponseStatusException paymentInProgress() {
+        return new ResponseStatusException(HttpStatus.CONFLICT, "A payment for this booking is still being processed");
+    }
+
+    private ResponseStatusException concurrentChange() {
+        return new ResponseStatusException(HttpStatus.CONFLICT, "Booking was changed by another request; reload and try again");
+    }
+
+    private PageCursor toPageCursor(BookingRequest booking) {
+        return PageCursor.of(booking.getRequestedAt(), booking.getId());
     }
 
     private String getStatusTitle(BookingStatus status) {
@@ -193,4 +498,7 @@ public class BookingService {
         return "Booking " + booking.getBookingCode() + " for " + booking.getDestination()
                 + " is now in " + booking.getStatus().name() + " status.";
     }
+
+    private record StatusTransition(BookingStatus expected, BookingStatus status, String adminNote) {
+    }
 }
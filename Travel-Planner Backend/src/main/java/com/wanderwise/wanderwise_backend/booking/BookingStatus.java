@@ -2,7 +2,24 @@ package com.wanderwise.wanderwise_backend.booking;
 
 public enum BookingStatus {
     PENDING_PAYMENT,
+    PAYMENT_PROCESSING,
     PENDING,
     APPROVED,
-    REJECTED
+    REJECTED;
+
+    // Every status change is a compare-and-set from the status read here, so this table is the whole state machine.
+    public boolean canTransitionTo(BookingStatus target) {
+        return switch (this) {
+            case PENDING_PAYMENT -> target == PAYMENT_PROCESSING || target == REJECTED;
+            case PAYMENT_PROCESSING -> target == PENDING || target == PENDING_PAYMENT;
+            case PENDING -> target == APPROVED || target == REJECTED;
+            case APPROVED -> target == PENDING || target == REJECTED;
+            case REJECTED -> target == PENDING || target == APPROVED;
+        };
+    }
+
+    // The two payment states are owned by the checkout flow; admins only move bookings between the review states.
+    public boolean isAdminManaged() {
+        return this != PENDING_PAYMENT && this != PAYMENT_PROCESSING;
+    }
 }
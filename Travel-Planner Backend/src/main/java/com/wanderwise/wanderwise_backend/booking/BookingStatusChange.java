@@ -0,0 +1,7 @@
+package com.wanderwise.wanderwise_backend.booking;
+
+public record BookingStatusChange(
+        BookingRequest booking,
+        BookingStatus previousStatus
+) {
+}
@@ -0,0 +1,37 @@
+package com.wanderwise.wanderwise_backend.booking;
+
+import com.wanderwise.wanderwise_backend.admin.rollup.BookingRollupRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// Databases created before PAYMENT_PROCESSING existed have status as a native enum that ddl-auto never alters, so
+// this runs ahead of the other initializers and widens it to the varchar the entities now declare.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class BookingStatusColumnInitializer implements CommandLineRunner {
+
+    private static final String ENUM_TYPE = "enum";
+
+    private final BookingRequestRepository bookingRequestRepository;
+    private final BookingRollupRepository bookingRollupRepository;
+
+    @Override
+    @Transactional
+    public void run(String... args) {
+        if (bookingRequestRepository.findStatusColumnType().map(ENUM_TYPE::equalsIgnoreCase).orElse(false)) {
+            log.info("Widening booking_requests.status from a native enum to varchar(30).");
+            bookingRequestRepository.widenStatusColumn();
+        }
+        if (bookingRollupRepository.findStatusColumnType().map(ENUM_TYPE::equalsIgnoreCase).orElse(false)) {
+            log.info("Widening booking_rollups.status from a native enum to varchar(30).");
+            bookingRollupRepository.widenStatusColumn();
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.wanderwise.wanderwise_backend.booking;
+
+public interface BookingStatusCount {
+    BookingStatus getStatus();
+
+    long getTotal();
+}
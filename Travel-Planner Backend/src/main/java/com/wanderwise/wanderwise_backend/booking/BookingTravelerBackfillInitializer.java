@@ -0,0 +1,36 @@
+package com.wanderwise.wanderwise_backend.booking;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookingTravelerBackfillInitializer implements CommandLineRunner {
+
+    private final BookingTravelerBackfillService bookingTravelerBackfillService;
+
+    @Override
+    public void run(String... args) {
+        bookingTravelerBackfillService.allowNullTravelersJson();
+        if (!bookingTravelerBackfillService.hasPendingRows()) {
+            return;
+        }
+
+        long migrated = 0L;
+        long skipped = 0L;
+        BookingTravelerBackfillService.MigratedChunk chunk;
+        long afterId = 0L;
+        while (!(chunk = bookingTravelerBackfillService.migrateChunkAfter(afterId)).isEmpty()) {
+            migrated += chunk.migrated();
+            skipped += chunk.skipped();
+            afterId = chunk.lastId();
+        }
+        log.info("Moved traveler details of {} bookings from travelers_json to booking_travelers.", migrated);
+        if (skipped > 0) {
+            log.warn("{} bookings kept travelers_json that could not be read; fix them and restart to finish.", skipped);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.wanderwise.wanderwise_backend.booking;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wanderwise.wanderwise_backend.booking.dto.CreateBookingRequest;
+import jakarta.transaction.Transactional;
+import java.io.IOException;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookingTravelerBackfillService {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<CreateBookingRequest.TravelerInput>> TRAVELERS_TYPE = new TypeReference<>() {
+    };
+
+    private final BookingRequestRepository bookingRequestRepository;
+
+    @Value("${app.bookings.traveler-backfill-chunk-size:500}")
+    private int chunkSize;
+
+    @Transactional
+    public void allowNullTravelersJson() {
+        boolean notNull = bookingRequestRepository.findTravelersJsonNullability()
+                .map("NO"::equalsIgnoreCase)
+                .orElse(false);
+        if (notNull) {
+            log.info("Relaxing NOT NULL on booking_requests.travelers_json ahead of the traveler backfill.");
+            bookingRequestRepository.dropTravelersJsonNotNull();
+        }
+    }
+
+    public boolean hasPendingRows() {
+        return bookingRequestRepository.existsByTravelersJsonIsNotNull();
+    }
+
+    // Rows whose JSON can not be read keep it for a manual fix, so the walk resumes by id instead of re-reading them.
+    @Transactional
+    public MigratedChunk migrateChunkAfter(long afterId) {
+        List<BookingRequest> bookings = bookingRequestRepository
+                .findAllByTravelersJsonIsNotNullAndIdGreaterThanOrderByIdAsc(afterId, Limit.of(Math.max(1, chunkSize)));
+        int skipped = 0;
+        for (BookingRequest booking : bookings) {
+            if (booking.getTravelers().isEmpty()) {
+                List<CreateBookingRequest.TravelerInput> travelers;
+                try {
+                    travelers = readLegacyTravelers(booking.getTravelersJson());
+                } catch (IOException ex) {
+                    log.warn("Keeping unreadable travelers_json on {}: {}", booking.getBookingCode(), ex.getMessage());
+                    skipped++;
+                    continue;
+                }
+                for (int index = 0; index < travelers.size(); index++) {
+                    CreateBookingRequest.TravelerInput traveler = travelers.get(index);
+                    booking.getTravelers().add(BookingTraveler.builder()
+                            .booking(booking)
+                            .sortOrder(index)
+                            .name(traveler.name())
+                            .age(traveler.age())
+                            .gender(traveler.gender())
+                            .build());
+                }
+            }
+            booking.setTravelersJson(null);
+        }
+        bookingRequestRepository.saveAll(bookings);
+        return new MigratedChunk(
+                bookings.size() - skipped,
+                skipped,
+                bookings.isEmpty() ? afterId : bookings.get(bookings.size() - 1).getId()
+        );
+    }
+
+    static List<CreateBookingRequest.TravelerInput> parseLegacyTravelers(String travelersJson) {
+        try {
+            return readLegacyTravelers(travelersJson);
+        } catch (IOException ex) {
+            log.warn("Skipping unreadable legacy traveler details: {}", ex.getMessage());
+            return List.of();
+        }
+    }
+
+    private static List<CreateBookingRequest.TravelerInput> readLegacyTravelers(String travelersJson)
+            throws IOException {
+        if (travelersJson == null || travelersJson.isBlank()) {
+            return List.of();
+        }
+        return OBJECT_MAPPER.readValue(travelersJson, TRAVELERS_TYPE);
+    }
+
+    public record MigratedChunk(int migrated, int skipped, long lastId) {
+
+        public boolean isEmpty() {
+            return migrated + skipped == 0;
+        }
+    }
+}
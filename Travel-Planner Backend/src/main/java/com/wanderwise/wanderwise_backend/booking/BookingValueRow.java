@@ -0,0 +1,12 @@
+package com.wanderwise.wanderwise_backend.booking;
+
+import java.math.BigDecimal;
+
+public record BookingValueRow(
+        String destination,
+        String country,
+        BigDecimal totalAmount,
+        BigDecimal amountPerTraveler,
+        Integer travelersCount
+) {
+}
@@ -0,0 +1,10 @@
+package com.wanderwise.wanderwise_backend.booking;
+
+public enum BulkStatusOutcome {
+    UPDATED,
+    UNCHANGED,
+    NOT_FOUND,
+    INVALID,
+    DUPLICATE,
+    CONFLICT
+}
@@ -0,0 +1,9 @@
+package com.wanderwise.wanderwise_backend.booking;
+
+public interface DestinationBookingCount {
+    String getDestination();
+
+    String getCountry();
+
+    long getTotal();
+}
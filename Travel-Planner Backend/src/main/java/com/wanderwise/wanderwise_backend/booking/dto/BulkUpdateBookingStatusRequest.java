@@ -0,0 +1,24 @@
+package com.wanderwise.wanderwise_backend.booking.dto;
+
+import com.wanderwise.wanderwise_backend.booking.BookingStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record BulkUpdateBookingStatusRequest(
+        @NotEmpty(message = "At least one booking update is required")
+        @Size(max = 1000, message = "At most 1000 bookings can be updated at once")
+        @Valid
+        List<Item> updates
+) {
+    public record Item(
+            @NotNull(message = "Booking record id is required")
+            Long bookingRecordId,
+            @NotNull(message = "Status is required")
+            BookingStatus status,
+            String adminNote
+    ) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.wanderwise.wanderwise_backend.booking.dto;
+
+import java.util.List;
+
+public record BulkUpdateBookingStatusResponse(
+        int requested,
+        int updated,
+        int unchanged,
+        int failed,
+        long notificationsSent,
+        List<ItemResultPayload> results
+) {
+    public record ItemResultPayload(
+            Long bookingRecordId,
+            String outcome,
+            String previousStatus,
+            String status,
+            String message
+    ) {
+    }
+}
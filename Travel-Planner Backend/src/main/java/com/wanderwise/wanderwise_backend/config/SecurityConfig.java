@@ -1,5 +1,6 @@
 package com.wanderwise.wanderwise_backend.config;
 
+import com.wanderwise.wanderwise_backend.idempotency.IdempotencyService;
 import com.wanderwise.wanderwise_backend.security.CustomUserDetailsService;
 import com.wanderwise.wanderwise_backend.security.JwtAuthenticationFilter;
 import java.util.Arrays;
@@ -48,6 +49,7 @@ public class SecurityConfig {
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/tours/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/contact").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/payments/gateway/webhook").permitAll()
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -82,7 +84,7 @@ public class SecurityConfig {
         CorsConfiguration corsConfiguration = new CorsConfiguration();
         corsConfiguration.setAllowedOrigins(origins.isEmpty() ? List.of("http://localhost:5173") : origins);
         corsConfiguration.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
-        corsConfiguration.setAllowedHeaders(List.of("Authorization", "Content-Type"));
+        corsConfiguration.setAllowedHeaders(List.of("Authorization", "Content-Type", IdempotencyService.HEADER));
         corsConfiguration.setExposedHeaders(List.of("Authorization"));
         corsConfiguration.setAllowCredentials(true);
 
@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
@@ -20,7 +21,12 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "contact_messages")
+@Table(
+        name = "contact_messages",
+        indexes = {
+                @Index(name = "idx_contact_message_created_at", columnList = "created_at")
+        }
+)
 public class ContactMessage {
 
     @Id
@@ -2,6 +2,7 @@ package com.wanderwise.wanderwise_backend.contact;
 
 import com.wanderwise.wanderwise_backend.contact.dto.ContactMessageResponse;
 import com.wanderwise.wanderwise_backend.contact.dto.CreateContactMessageRequest;
+import com.wanderwise.wanderwise_backend.pagination.CursorPage;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.Map;
@@ -15,6 +16,7 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -34,8 +36,11 @@ public class ContactMessageController {
 
     @GetMapping("/api/admin/contact-messages")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<ContactMessageResponse>> getAdminContactMessages() {
-        return ResponseEntity.ok(contactMessageService.getAllMessages());
+    public ResponseEntity<CursorPage<ContactMessageResponse>> getAdminContactMessages(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return ResponseEntity.ok(contactMessageService.getAllMessages(cursor, limit));
     }
 
     @PatchMapping("/api/admin/contact-messages/{messageId}/read")
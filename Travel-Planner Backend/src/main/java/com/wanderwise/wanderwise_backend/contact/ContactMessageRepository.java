@@ -1,8 +1,26 @@
 package com.wanderwise.wanderwise_backend.contact;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ContactMessageRepository extends JpaRepository<ContactMessage, Long> {
     List<ContactMessage> findAllByOrderByCreatedAtDesc();
+
+    List<ContactMessage> findAllByOrderByCreatedAtDescIdDesc(Limit limit);
+
+    @Query("""
+            select m from ContactMessage m
+             where m.createdAt < :createdAt
+                or (m.createdAt = :createdAt and m.id < :id)
+             order by m.createdAt desc, m.id desc
+            """)
+    List<ContactMessage> findPageBefore(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
 }
@@ -2,6 +2,8 @@ package com.wanderwise.wanderwise_backend.contact;
 
 import com.wanderwise.wanderwise_backend.contact.dto.ContactMessageResponse;
 import com.wanderwise.wanderwise_backend.contact.dto.CreateContactMessageRequest;
+import com.wanderwise.wanderwise_backend.pagination.CursorPage;
+import com.wanderwise.wanderwise_backend.pagination.PageCursor;
 import jakarta.transaction.Transactional;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -30,11 +32,18 @@ public class ContactMessageService {
     }
 
     @Transactional
-    public List<ContactMessageResponse> getAllMessages() {
-        return contactMessageRepository.findAllByOrderByCreatedAtDesc()
-                .stream()
-                .map(ContactMessageResponse::fromEntity)
-                .toList();
+    public CursorPage<ContactMessageResponse> getAllMessages(String cursor, Integer limit) {
+        PageCursor after = PageCursor.decode(cursor);
+        int pageSize = CursorPage.resolveLimit(limit);
+        List<ContactMessage> rows = after == null
+                ? contactMessageRepository.findAllByOrderByCreatedAtDescIdDesc(CursorPage.lookahead(pageSize))
+                : contactMessageRepository.findPageBefore(after.requireTimestamp(), after.id(), CursorPage.lookahead(pageSize));
+        return CursorPage.of(
+                rows,
+                pageSize,
+                message -> PageCursor.of(message.getCreatedAt(), message.getId()),
+                ContactMessageResponse::fromEntity
+        );
     }
 
     @Transactional
@@ -0,0 +1,190 @@
+package com.wanderwise.wanderwise_backend.dashboard;
+
+import com.wanderwise.wanderwise_backend.dashboard.dto.DashboardSectionTiming;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+@Component
+@Slf4j
+public class DashboardSectionLoader {
+
+    private final ExecutorService executor;
+    private final long sectionTimeoutNanos;
+    private final long queueTimeoutNanos;
+
+    public DashboardSectionLoader(
+            @Value("${app.dashboard.section-threads:16}") int sectionThreads,
+            @Value("${app.dashboard.section-timeout-ms:2000}") long sectionTimeoutMs,
+            @Value("${app.dashboard.queue-timeout-ms:10000}") long queueTimeoutMs
+    ) {
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, sectionThreads), runnable -> {
+            Thread thread = new Thread(runnable, "dashboard-section-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.sectionTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sectionTimeoutMs);
+        this.queueTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(queueTimeoutMs);
+    }
+
+    public Fanout fanout(String dashboard) {
+        return new Fanout(dashboard);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public final class Fanout implements AutoCloseable {
+
+        private final String dashboard;
+        private final List<Section<?>> sections = new ArrayList<>();
+
+        private Fanout(String dashboard) {
+            this.dashboard = dashboard;
+        }
+
+        public <T> Section<T> fork(String name, Supplier<T> loader, T fallback) {
+            return register(new Section<>(name, loader, fallback, false));
+        }
+
+        public <T> Section<T> forkRequired(String name, Supplier<T> loader) {
+            return register(new Section<>(name, loader, null, true));
+        }
+
+        public List<DashboardSectionTiming> timings() {
+            List<DashboardSectionTiming> timings = new ArrayList<>(sections.size());
+            for (Section<?> section : sections) {
+                timings.add(section.timing());
+            }
+            log.debug("{} dashboard sections loaded: {}", dashboard, timings);
+            return timings;
+        }
+
+        @Override
+        public void close() {
+            for (Section<?> section : sections) {
+                section.future.cancel(true);
+            }
+        }
+
+        private <T> Section<T> register(Section<T> section) {
+            sections.add(section);
+            return section;
+        }
+    }
+
+    public final class Section<T> {
+
+        private final String name;
+        private final T fallback;
+        private final boolean required;
+        private final long submittedAt;
+        private final Future<T> future;
+
+        private volatile long startedAt;
+        private volatile long finishedAt;
+        private SectionStatus status = SectionStatus.PENDING;
+        private T value;
+
+        private Section(String name, Supplier<T> loader, T fallback, boolean required) {
+            this.name = name;
+            this.fallback = fallback;
+            this.required = required;
+            this.submittedAt = System.nanoTime();
+            this.future = executor.submit(() -> {
+                startedAt = System.nanoTime();
+                try {
+                    return loader.get();
+                } finally {
+                    finishedAt = System.nanoTime();
+                }
+            });
+        }
+
+        public T join() {
+            if (status != SectionStatus.PENDING) {
+                return value;
+            }
+
+            try {
+                value = future.get(remainingNanos(), TimeUnit.NANOSECONDS);
+                status = SectionStatus.OK;
+                return value;
+            } catch (TimeoutException | CancellationException ex) {
+                future.cancel(true);
+                status = SectionStatus.TIMED_OUT;
+                log.warn("Dashboard section {} timed out after {} ms", name, elapsedMs());
+                if (required) {
+                    throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Dashboard is temporarily unavailable");
+                }
+            } catch (ExecutionException ex) {
+                status = SectionStatus.FAILED;
+                if (required || ex.getCause() instanceof ResponseStatusException) {
+                    throw ex.getCause() instanceof RuntimeException runtimeException
+                            ? runtimeException
+                            : new IllegalStateException(ex.getCause());
+                }
+                log.warn("Dashboard section {} failed, serving empty payload", name, ex.getCause());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                status = SectionStatus.FAILED;
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Dashboard request interrupted");
+            }
+
+            value = fallback;
+            return value;
+        }
+
+        // The section budget starts when a worker picks the section up, so time spent queued behind other requests
+        // does not count against it. Waiting for a worker is bounded separately by the queue timeout.
+        private long remainingNanos() throws InterruptedException, ExecutionException, TimeoutException {
+            while (startedAt == 0L && !future.isDone()) {
+                long queuedFor = System.nanoTime() - submittedAt;
+                if (queuedFor >= queueTimeoutNanos) {
+                    throw new TimeoutException();
+                }
+                try {
+                    future.get(Math.min(sectionTimeoutNanos, queueTimeoutNanos - queuedFor), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException ex) {
+                    // Still queued or still running; the loop decides which budget applies.
+                }
+            }
+            long started = startedAt != 0L ? startedAt : System.nanoTime();
+            return Math.max(0L, started + sectionTimeoutNanos - System.nanoTime());
+        }
+
+        private DashboardSectionTiming timing() {
+            return new DashboardSectionTiming(name, elapsedMs(), status.name());
+        }
+
+        private long elapsedMs() {
+            long end = finishedAt != 0L ? finishedAt : System.nanoTime();
+            return TimeUnit.NANOSECONDS.toMillis(end - (startedAt != 0L ? startedAt : submittedAt));
+        }
+    }
+
+    private enum SectionStatus {
+        PENDING,
+        OK,
+        TIMED_OUT,
+        FAILED
+    }
+}
@@ -20,7 +20,6 @@ import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 @Service
@@ -35,32 +34,44 @@ public class TravelerDashboardService {
     private final UserRepository userRepository;
     private final TripService tripService;
     private final TourRepository tourRepository;
+    private final DashboardSectionLoader dashboardSectionLoader;
 
-    @Transactional(readOnly = true)
     public TravelerDashboardResponse getDashboard(String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not found"));
-
-        List<TripSummaryResponse> trips = tripService.getMyTrips(userEmail);
-        List<TripSummaryResponse> upcomingTrips = trips.stream()
-                .filter(entry -> UPCOMING_STATUS.equalsIgnoreCase(entry.status()))
-                .sorted(Comparator.comparing(entry -> parseLocalDate(entry.startDate())))
-                .toList();
-
-        TripSummaryResponse nearestUpcomingTrip = upcomingTrips.isEmpty() ? null : upcomingTrips.get(0);
-        TripDetailResponse nearestUpcomingTripDetail = nearestUpcomingTrip != null
-                ? tripService.getMyTripDetails(userEmail, nearestUpcomingTrip.id())
-                : null;
-
-        return new TravelerDashboardResponse(
-                user.getName(),
-                buildOverview(trips),
-                buildActiveTrips(upcomingTrips),
-                buildUpcomingTrip(nearestUpcomingTrip, nearestUpcomingTripDetail),
-                buildSavedPlaces(trips),
-                buildExploreDestinations(),
-                buildBudgetActivities(nearestUpcomingTripDetail)
-        );
+        try (DashboardSectionLoader.Fanout fanout = dashboardSectionLoader.fanout("traveler")) {
+            DashboardSectionLoader.Section<User> userSection = fanout.forkRequired(
+                    "user",
+                    () -> userRepository.findByEmail(userEmail)
+                            .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not found"))
+            );
+            DashboardSectionLoader.Section<List<TripSummaryResponse>> tripsSection =
+                    fanout.fork("trips", () -> tripService.getMyTrips(userEmail), List.of());
+            DashboardSectionLoader.Section<List<TravelerDashboardResponse.ExploreDestinationPayload>> exploreSection =
+                    fanout.fork("exploreDestinations", this::buildExploreDestinations, List.of());
+
+            User user = userSection.join();
+            List<TripSummaryResponse> trips = tripsSection.join();
+            List<TripSummaryResponse> upcomingTrips = trips.stream()
+                    .filter(entry -> UPCOMING_STATUS.equalsIgnoreCase(entry.status()))
+                    .sorted(Comparator.comparing(entry -> parseLocalDate(entry.startDate())))
+                    .toList();
+
+            TripSummaryResponse nearestUpcomingTrip = upcomingTrips.isEmpty() ? null : upcomingTrips.get(0);
+            DashboardSectionLoader.Section<TripDetailResponse> tripDetailSection = nearestUpcomingTrip != null
+                    ? fanout.fork("tripDetail", () -> tripService.getMyTripDetails(userEmail, nearestUpcomingTrip.id()), null)
+                    : null;
+            TripDetailResponse nearestUpcomingTripDetail = tripDetailSection != null ? tripDetailSection.join() : null;
+
+            return new TravelerDashboardResponse(
+                    user.getName(),
+                    buildOverview(trips),
+                    buildActiveTrips(upcomingTrips),
+                    buildUpcomingTrip(nearestUpcomingTrip, nearestUpcomingTripDetail),
+                    buildSavedPlaces(trips),
+                    exploreSection.join(),
+                    buildBudgetActivities(nearestUpcomingTripDetail),
+                    fanout.timings()
+            );
+        }
     }
 
     private TravelerDashboardResponse.OverviewPayload buildOverview(List<TripSummaryResponse> trips) {
@@ -0,0 +1,8 @@
+package com.wanderwise.wanderwise_backend.dashboard.dto;
+
+public record DashboardSectionTiming(
+        String section,
+        Long durationMs,
+        String status
+) {
+}
@@ -10,7 +10,8 @@ public record TravelerDashboardResponse(
         UpcomingTripPayload upcomingTrip,
         SavedPlacesPayload savedPlaces,
         List<ExploreDestinationPayload> exploreDestinations,
-        List<BudgetActivityPayload> budgetActivities
+        List<BudgetActivityPayload> budgetActivities,
+        List<DashboardSectionTiming> sectionTimings
 ) {
     public record OverviewPayload(
             Integer totalTrips,
@@ -0,0 +1,67 @@
+package com.wanderwise.wanderwise_backend.idempotency;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(
+        name = "idempotency_keys",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_idempotency_scope_owner_key",
+                columnNames = {"scope", "owner_email", "idempotency_key"}
+        ),
+        indexes = @Index(name = "idx_idempotency_expires_at", columnList = "expires_at")
+)
+public class IdempotencyRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 30)
+    private String scope;
+
+    @Column(nullable = false, length = 150)
+    private String ownerEmail;
+
+    @Column(nullable = false, length = 100)
+    private String idempotencyKey;
+
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    @Lob
+    private String responseJson;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @PrePersist
+    public void applyDefaults() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.wanderwise.wanderwise_backend.idempotency;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+    Optional<IdempotencyRecord> findByScopeAndOwnerEmailAndIdempotencyKey(
+            String scope,
+            String ownerEmail,
+            String idempotencyKey
+    );
+
+    @Modifying
+    @Query("update IdempotencyRecord r set r.responseJson = :responseJson where r.id = :id")
+    int complete(@Param("id") Long id, @Param("responseJson") String responseJson);
+
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
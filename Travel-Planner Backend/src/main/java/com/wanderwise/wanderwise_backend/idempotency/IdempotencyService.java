@@ -0,0 +1,287 @@
+package com.wanderwise.wanderwise_backend.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wanderwise.wanderwise_backend.transaction.TransactionHooks;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.web.server.ResponseStatusException;
+
+// Callers apply this outside their own transaction: the claim commits first on the request's only connection, then
+// the action and the stored response commit together in a transaction opened here.
+@Service
+@Slf4j
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyStore idempotencyStore;
+    private final TransactionOperations transactionOperations;
+    private final Map<String, StoredResponse> recent;
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final Duration ttl;
+    private final Duration pendingTimeout;
+    private final long waitTimeoutMs;
+
+    public IdempotencyService(
+            IdempotencyStore idempotencyStore,
+            TransactionOperations transactionOperations,
+            @Value("${app.idempotency.cache-size:10000}") int cacheSize,
+            @Value("${app.idempotency.ttl-hours:24}") long ttlHours,
+            @Value("${app.idempotency.pending-timeout-ms:120000}") long pendingTimeoutMs,
+            @Value("${app.idempotency.wait-timeout-ms:15000}") long waitTimeoutMs
+    ) {
+        this.idempotencyStore = idempotencyStore;
+        this.transactionOperations = transactionOperations;
+        int capacity = Math.max(1, cacheSize);
+        this.recent = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                return size() > capacity;
+            }
+        };
+        this.ttl = Duration.ofHours(Math.max(1L, ttlHours));
+        this.pendingTimeout = Duration.ofMillis(pendingTimeoutMs);
+        this.waitTimeoutMs = waitTimeoutMs;
+    }
+
+    public <T> T execute(
+            String scope,
+            String ownerEmail,
+            String idempotencyKey,
+            Object request,
+            Class<T> responseType,
+            Supplier<T> action
+    ) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+
+        String key = idempotencyKey.trim();
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    HEADER + " must be at most " + MAX_KEY_LENGTH + " characters"
+            );
+        }
+
+        String owner = ownerEmail.trim().toLowerCase(Locale.ENGLISH);
+        String cacheKey = scope + "|" + owner + "|" + key;
+        String requestHash = hash(String.valueOf(request));
+
+        StoredResponse cached = lookup(cacheKey);
+        if (cached != null) {
+            return replay(cached, requestHash, responseType);
+        }
+
+        InFlight mine = new InFlight(requestHash);
+        InFlight running = inFlight.putIfAbsent(cacheKey, mine);
+        if (running != null) {
+            return await(running, requestHash, responseType);
+        }
+
+        Long claimId = null;
+        boolean handedOff = false;
+        try {
+            LocalDateTime expiresAt = LocalDateTime.now().plus(ttl);
+            claimId = claim(scope, owner, key, requestHash, expiresAt);
+            if (claimId == null) {
+                StoredResponse stored = loadCompleted(scope, owner, key, responseType);
+                remember(cacheKey, stored);
+                mine.future.complete(stored);
+                inFlight.remove(cacheKey, mine);
+                handedOff = true;
+                return replay(stored, requestHash, responseType);
+            }
+
+            Long claimed = claimId;
+            T result = transactionOperations.execute(status -> {
+                T value = action.get();
+                idempotencyStore.complete(claimed, write(value));
+                return value;
+            });
+            handedOff = finishAfterCommit(cacheKey, mine, claimId, new StoredResponse(requestHash, result, expiresAt));
+            return result;
+        } catch (RuntimeException ex) {
+            if (!handedOff) {
+                if (claimId != null) {
+                    idempotencyStore.release(claimId);
+                }
+                mine.future.completeExceptionally(ex);
+                inFlight.remove(cacheKey, mine);
+            }
+            throw ex;
+        }
+    }
+
+    private Long claim(String scope, String owner, String key, String requestHash, LocalDateTime expiresAt) {
+        try {
+            return idempotencyStore.claim(scope, owner, key, requestHash, expiresAt);
+        } catch (DataIntegrityViolationException ex) {
+            Optional<IdempotencyRecord> existing = idempotencyStore.find(scope, owner, key);
+            if (existing.isEmpty()) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Request with this " + HEADER + " is being retried");
+            }
+
+            IdempotencyRecord record = existing.get();
+            LocalDateTime now = LocalDateTime.now();
+            boolean abandoned = record.getResponseJson() == null && record.getCreatedAt().plus(pendingTimeout).isBefore(now);
+            if (!record.getExpiresAt().isAfter(now) || abandoned) {
+                idempotencyStore.release(record.getId());
+                return idempotencyStore.claim(scope, owner, key, requestHash, expiresAt);
+            }
+            return null;
+        }
+    }
+
+    private <T> StoredResponse loadCompleted(String scope, String owner, String key, Class<T> responseType) {
+        IdempotencyRecord record = idempotencyStore.find(scope, owner, key)
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.CONFLICT,
+                        "Request with this " + HEADER + " is being retried"
+                ));
+        if (record.getResponseJson() == null) {
+            throw new ResponseStatusException(
+                    HttpStatus.CONFLICT,
+                    "A request with this " + HEADER + " is still being processed"
+            );
+        }
+
+        return new StoredResponse(record.getRequestHash(), read(record.getResponseJson(), responseType), record.getExpiresAt());
+    }
+
+    private boolean finishAfterCommit(String cacheKey, InFlight mine, Long claimId, StoredResponse response) {
+        TransactionHooks.afterCompletion(committed -> {
+            try {
+                if (committed) {
+                    remember(cacheKey, response);
+                    mine.future.complete(response);
+                } else {
+                    idempotencyStore.release(claimId);
+                    mine.future.completeExceptionally(new ResponseStatusException(
+                            HttpStatus.CONFLICT,
+                            "The original request with this " + HEADER + " did not complete; please retry"
+                    ));
+                }
+            } finally {
+                inFlight.remove(cacheKey, mine);
+            }
+        });
+        return true;
+    }
+
+    private <T> T await(InFlight running, String requestHash, Class<T> responseType) {
+        if (!running.requestHash.equals(requestHash)) {
+            throw reusedKey();
+        }
+
+        try {
+            StoredResponse response = running.future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+            return replay(response, requestHash, responseType);
+        } catch (TimeoutException ex) {
+            throw new ResponseStatusException(
+                    HttpStatus.CONFLICT,
+                    "A request with this " + HEADER + " is still being processed"
+            );
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Request interrupted");
+        } catch (ExecutionException ex) {
+            throw ex.getCause() instanceof RuntimeException runtimeException
+                    ? runtimeException
+                    : new IllegalStateException(ex.getCause());
+        }
+    }
+
+    private <T> T replay(StoredResponse response, String requestHash, Class<T> responseType) {
+        if (!response.requestHash.equals(requestHash)) {
+            throw reusedKey();
+        }
+        return responseType.cast(response.body);
+    }
+
+    private StoredResponse lookup(String cacheKey) {
+        synchronized (recent) {
+            StoredResponse response = recent.get(cacheKey);
+            if (response != null && !response.expiresAt.isAfter(LocalDateTime.now())) {
+                recent.remove(cacheKey);
+                return null;
+            }
+            return response;
+        }
+    }
+
+    private void remember(String cacheKey, StoredResponse response) {
+        synchronized (recent) {
+            recent.put(cacheKey, response);
+        }
+    }
+
+    private ResponseStatusException reusedKey() {
+        return new ResponseStatusException(
+                HttpStatus.UNPROCESSABLE_ENTITY,
+                HEADER + " was already used for a different request"
+        );
+    }
+
+    private static String hash(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static String write(Object response) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(response);
+        } catch (IOException ex) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Unable to store idempotent response");
+        }
+    }
+
+    private static <T> T read(String json, Class<T> responseType) {
+        try {
+            return OBJECT_MAPPER.readValue(json, responseType);
+        } catch (IOException ex) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Unable to read idempotent response");
+        }
+    }
+
+    private record StoredResponse(String requestHash, Object body, LocalDateTime expiresAt) {
+    }
+
+    private static final class InFlight {
+
+        private final String requestHash;
+        private final CompletableFuture<StoredResponse> future = new CompletableFuture<>();
+
+        private InFlight(String requestHash) {
+            this.requestHash = requestHash;
+        }
+    }
+}
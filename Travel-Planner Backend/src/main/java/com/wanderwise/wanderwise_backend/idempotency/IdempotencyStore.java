@@ -0,0 +1,55 @@
+package com.wanderwise.wanderwise_backend.idempotency;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyStore {
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+
+    // Committed on its own so the unique key is visible to every instance before the real work starts.
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Long claim(String scope, String ownerEmail, String idempotencyKey, String requestHash, LocalDateTime expiresAt) {
+        return idempotencyRecordRepository.saveAndFlush(IdempotencyRecord.builder()
+                        .scope(scope)
+                        .ownerEmail(ownerEmail)
+                        .idempotencyKey(idempotencyKey)
+                        .requestHash(requestHash)
+                        .expiresAt(expiresAt)
+                        .build())
+                .getId();
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public Optional<IdempotencyRecord> find(String scope, String ownerEmail, String idempotencyKey) {
+        return idempotencyRecordRepository.findByScopeAndOwnerEmailAndIdempotencyKey(scope, ownerEmail, idempotencyKey);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(Long recordId) {
+        idempotencyRecordRepository.deleteById(recordId);
+    }
+
+    @Transactional
+    public void complete(Long recordId, String responseJson) {
+        idempotencyRecordRepository.complete(recordId, responseJson);
+    }
+
+    @Scheduled(cron = "${app.idempotency.purge-cron:0 10 * * * *}")
+    @Transactional
+    public void purgeExpired() {
+        int purged = idempotencyRecordRepository.deleteExpired(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("Purged {} expired idempotency keys.", purged);
+        }
+    }
+}
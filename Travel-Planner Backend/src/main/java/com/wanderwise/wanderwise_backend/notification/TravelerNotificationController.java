@@ -1,6 +1,8 @@
 package com.wanderwise.wanderwise_backend.notification;
 
+import com.wanderwise.wanderwise_backend.notification.dto.NotificationDispatchMetricsResponse;
 import com.wanderwise.wanderwise_backend.notification.dto.TravelerNotificationResponse;
+import com.wanderwise.wanderwise_backend.pagination.CursorPage;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -11,6 +13,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -19,13 +22,18 @@ import org.springframework.web.bind.annotation.RestController;
 public class TravelerNotificationController {
 
     private final TravelerNotificationService travelerNotificationService;
+    private final TravelerNotificationDispatcher travelerNotificationDispatcher;
 
     @GetMapping("/me")
     @PreAuthorize("hasAnyRole('USER','ADMIN')")
-    public ResponseEntity<List<TravelerNotificationResponse>> getMyNotifications(
+    public ResponseEntity<CursorPage<TravelerNotificationResponse>> getMyNotifications(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
             Authentication authentication
     ) {
-        return ResponseEntity.ok(travelerNotificationService.getMyNotifications(authentication.getName()));
+        return ResponseEntity.ok(
+                travelerNotificationService.getMyNotifications(authentication.getName(), cursor, limit)
+        );
     }
 
     @PatchMapping("/me/{notificationId}/read")
@@ -58,4 +66,10 @@ public class TravelerNotificationController {
         travelerNotificationService.deleteNotification(authentication.getName(), notificationId);
         return ResponseEntity.noContent().build();
     }
+
+    @GetMapping("/admin/dispatch-metrics")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<NotificationDispatchMetricsResponse> getDispatchMetrics() {
+        return ResponseEntity.ok(travelerNotificationDispatcher.getMetrics());
+    }
 }
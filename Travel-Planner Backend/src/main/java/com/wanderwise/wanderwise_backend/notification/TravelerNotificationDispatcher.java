@@ -0,0 +1,327 @@
+package com.wanderwise.wanderwise_backend.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wanderwise.wanderwise_backend.notification.dto.NotificationDispatchMetricsResponse;
+import com.wanderwise.wanderwise_backend.transaction.TransactionHooks;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+public class TravelerNotificationDispatcher {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final TravelerNotificationService travelerNotificationService;
+    private final BlockingQueue<TravelerNotification> queue;
+    private final int batchSize;
+    private final Path spoolPath;
+    private final Path replayPath;
+    private final Path quarantinePath;
+    private final Thread worker;
+    private final Object spoolLock = new Object();
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong persisted = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong spooled = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private final AtomicLong quarantined = new AtomicLong();
+
+    private volatile boolean running = true;
+
+    public TravelerNotificationDispatcher(
+            TravelerNotificationService travelerNotificationService,
+            @Value("${app.notifications.queue-size:10000}") int queueSize,
+            @Value("${app.notifications.batch-size:200}") int batchSize,
+            @Value("${app.notifications.spool-file:data/notification-spool.ndjson}") String spoolFile
+    ) {
+        this.travelerNotificationService = travelerNotificationService;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueSize));
+        this.batchSize = Math.max(1, batchSize);
+        this.spoolPath = Path.of(spoolFile).toAbsolutePath();
+        this.replayPath = spoolPath.resolveSibling(spoolPath.getFileName() + ".replay");
+        this.quarantinePath = spoolPath.resolveSibling(spoolPath.getFileName() + ".rejected");
+        this.worker = new Thread(this::drainLoop, "traveler-notification-dispatcher");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    public void publish(String userEmail, TravelerNotificationType type, String title, String message) {
+        publishAll(List.of(TravelerNotification.builder()
+                .userEmail(userEmail)
+                .type(type)
+                .title(title)
+                .message(message)
+                .build()));
+    }
+
+    // Returns how many notifications were accepted; they reach the table only after the caller's transaction commits.
+    public int publishAll(List<TravelerNotification> notifications) {
+        LocalDateTime now = LocalDateTime.now();
+        List<TravelerNotification> accepted = new ArrayList<>(notifications.size());
+        for (TravelerNotification notification : notifications) {
+            if (isBlank(notification.getUserEmail())
+                    || notification.getType() == null
+                    || isBlank(notification.getTitle())
+                    || isBlank(notification.getMessage())) {
+                continue;
+            }
+
+            accepted.add(TravelerNotification.builder()
+                    .userEmail(notification.getUserEmail().trim().toLowerCase(Locale.ENGLISH))
+                    .type(notification.getType())
+                    .title(notification.getTitle().trim())
+                    .message(notification.getMessage().trim())
+                    .read(false)
+                    .createdAt(notification.getCreatedAt() != null ? notification.getCreatedAt() : now)
+                    .build());
+        }
+
+        if (!accepted.isEmpty()) {
+            TransactionHooks.afterCommit(() -> enqueue(accepted));
+        }
+        return accepted.size();
+    }
+
+    public NotificationDispatchMetricsResponse getMetrics() {
+        return new NotificationDispatchMetricsResponse(
+                queue.size(),
+                queue.size() + queue.remainingCapacity(),
+                published.get(),
+                persisted.get(),
+                batches.get(),
+                spooled.get(),
+                failedBatches.get(),
+                quarantined.get()
+        );
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.notifications.spool-replay-initial-delay-ms:5000}",
+            fixedDelayString = "${app.notifications.spool-replay-ms:60000}"
+    )
+    public void replaySpool() {
+        List<TravelerNotification> spooledNotifications;
+        synchronized (spoolLock) {
+            try {
+                // A .replay file left behind means the previous replay died part-way; take it again.
+                if (Files.notExists(replayPath)) {
+                    if (Files.notExists(spoolPath)) {
+                        return;
+                    }
+                    Files.move(spoolPath, replayPath, StandardCopyOption.ATOMIC_MOVE);
+                }
+                spooledNotifications = readSpool(replayPath);
+            } catch (IOException ex) {
+                log.warn("Unable to read notification spool {}", replayPath, ex);
+                return;
+            }
+        }
+
+        for (int start = 0; start < spooledNotifications.size(); start += batchSize) {
+            persist(spooledNotifications.subList(start, Math.min(spooledNotifications.size(), start + batchSize)));
+        }
+
+        synchronized (spoolLock) {
+            try {
+                Files.deleteIfExists(replayPath);
+            } catch (IOException ex) {
+                log.warn("Unable to remove replayed notification spool {}", replayPath, ex);
+            }
+        }
+        log.info("Replayed {} spooled traveler notifications.", spooledNotifications.size());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+
+        List<TravelerNotification> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int start = 0; start < remaining.size(); start += batchSize) {
+            persist(remaining.subList(start, Math.min(remaining.size(), start + batchSize)));
+        }
+    }
+
+    private void enqueue(List<TravelerNotification> notifications) {
+        published.addAndGet(notifications.size());
+        List<TravelerNotification> overflow = new ArrayList<>();
+        for (TravelerNotification notification : notifications) {
+            if (!running || !queue.offer(notification)) {
+                overflow.add(notification);
+            }
+        }
+        if (!overflow.isEmpty()) {
+            spool(overflow);
+        }
+    }
+
+    private void drainLoop() {
+        List<TravelerNotification> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                TravelerNotification first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                persist(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                if (!batch.isEmpty()) {
+                    spool(batch);
+                }
+                return;
+            } catch (RuntimeException ex) {
+                log.error("Traveler notification dispatcher failed", ex);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void persist(List<TravelerNotification> batch) {
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                persisted.addAndGet(travelerNotificationService.createNotifications(batch));
+                batches.incrementAndGet();
+                return;
+            } catch (RuntimeException ex) {
+                log.warn("Writing {} traveler notifications failed (attempt {} of {})", batch.size(), attempt, MAX_ATTEMPTS, ex);
+                if (attempt < MAX_ATTEMPTS && !sleepQuietly(200L * attempt)) {
+                    break;
+                }
+            }
+        }
+        failedBatches.incrementAndGet();
+        spool(batch);
+    }
+
+    private void spool(List<TravelerNotification> notifications) {
+        synchronized (spoolLock) {
+            try {
+                Files.createDirectories(spoolPath.getParent());
+                try (BufferedWriter writer = Files.newBufferedWriter(
+                        spoolPath,
+                        StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.APPEND
+                )) {
+                    for (TravelerNotification notification : notifications) {
+                        writer.write(OBJECT_MAPPER.writeValueAsString(new SpooledNotification(
+                                notification.getUserEmail(),
+                                notification.getType(),
+                                notification.getTitle(),
+                                notification.getMessage(),
+                                notification.getCreatedAt().toString()
+                        )));
+                        writer.newLine();
+                    }
+                }
+                spooled.addAndGet(notifications.size());
+            } catch (IOException ex) {
+                log.error("Unable to spool {} traveler notifications to {}; they are lost", notifications.size(), spoolPath, ex);
+            }
+        }
+    }
+
+    // A crash during an append leaves a truncated last line, so lines that do not parse are moved to the
+    // .rejected file instead of failing the whole replay and stranding everything spooled after it.
+    private List<TravelerNotification> readSpool(Path path) throws IOException {
+        List<TravelerNotification> notifications = new ArrayList<>();
+        List<String> rejected = new ArrayList<>();
+        // Decoding the bytes leniently keeps a torn multi-byte character from failing the read itself.
+        String content = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+        for (String line : content.split("\\R")) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                notifications.add(parseSpooledLine(line));
+            } catch (IOException | RuntimeException ex) {
+                rejected.add(line);
+            }
+        }
+
+        if (!rejected.isEmpty()) {
+            quarantine(rejected);
+        }
+        return notifications;
+    }
+
+    private TravelerNotification parseSpooledLine(String line) throws IOException {
+        SpooledNotification entry = OBJECT_MAPPER.readValue(line, SpooledNotification.class);
+        if (isBlank(entry.userEmail()) || entry.type() == null || isBlank(entry.title()) || isBlank(entry.message())) {
+            throw new IllegalArgumentException("Spooled notification is missing required fields");
+        }
+        return TravelerNotification.builder()
+                .userEmail(entry.userEmail())
+                .type(entry.type())
+                .title(entry.title())
+                .message(entry.message())
+                .read(false)
+                .createdAt(LocalDateTime.parse(entry.createdAt()))
+                .build();
+    }
+
+    private void quarantine(List<String> lines) {
+        quarantined.addAndGet(lines.size());
+        try {
+            Files.write(
+                    quarantinePath,
+                    lines,
+                    StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND
+            );
+            log.warn("Moved {} unreadable spooled notifications to {}", lines.size(), quarantinePath);
+        } catch (IOException ex) {
+            log.error("Dropping {} unreadable spooled notifications; unable to write {}", lines.size(), quarantinePath, ex);
+        }
+    }
+
+    private static boolean sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    private record SpooledNotification(
+            String userEmail,
+            TravelerNotificationType type,
+            String title,
+            String message,
+            String createdAt
+    ) {
+    }
+}
@@ -1,11 +1,30 @@
 package com.wanderwise.wanderwise_backend.notification;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface TravelerNotificationRepository extends JpaRepository<TravelerNotification, Long> {
     List<TravelerNotification> findAllByUserEmailOrderByCreatedAtDesc(String userEmail);
 
+    List<TravelerNotification> findAllByUserEmailOrderByCreatedAtDescIdDesc(String userEmail, Limit limit);
+
+    @Query("""
+            select n from TravelerNotification n
+             where n.userEmail = :userEmail
+               and (n.createdAt < :createdAt or (n.createdAt = :createdAt and n.id < :id))
+             order by n.createdAt desc, n.id desc
+            """)
+    List<TravelerNotification> findUserPageBefore(
+            @Param("userEmail") String userEmail,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
     Optional<TravelerNotification> findByIdAndUserEmail(Long id, String userEmail);
 }
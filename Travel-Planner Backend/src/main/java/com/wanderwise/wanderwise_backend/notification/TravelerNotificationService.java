@@ -1,10 +1,16 @@
 package com.wanderwise.wanderwise_backend.notification;
 
 import com.wanderwise.wanderwise_backend.notification.dto.TravelerNotificationResponse;
+import com.wanderwise.wanderwise_backend.pagination.CursorPage;
+import com.wanderwise.wanderwise_backend.pagination.PageCursor;
 import jakarta.transaction.Transactional;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -12,31 +18,64 @@ import org.springframework.web.server.ResponseStatusException;
 @RequiredArgsConstructor
 public class TravelerNotificationService {
 
+    private static final String INSERT_NOTIFICATION_SQL = """
+            insert into traveler_notifications (user_email, type, title, message, is_read, created_at)
+            values (?, ?, ?, ?, ?, ?)
+            """;
+
     private final TravelerNotificationRepository travelerNotificationRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Transactional
-    public void createNotification(String userEmail, TravelerNotificationType type, String title, String message) {
-        if (isBlank(userEmail) || type == null || isBlank(title) || isBlank(message)) {
-            return;
-        }
+    public int createNotifications(List<TravelerNotification> notifications) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(notifications.size());
+        for (TravelerNotification notification : notifications) {
+            if (isBlank(notification.getUserEmail())
+                    || notification.getType() == null
+                    || isBlank(notification.getTitle())
+                    || isBlank(notification.getMessage())) {
+                continue;
+            }
 
-        TravelerNotification notification = TravelerNotification.builder()
-                .userEmail(userEmail.trim().toLowerCase())
-                .type(type)
-                .title(title.trim())
-                .message(message.trim())
-                .read(false)
-                .build();
+            rows.add(new Object[]{
+                    notification.getUserEmail().trim().toLowerCase(),
+                    notification.getType().name(),
+                    notification.getTitle().trim(),
+                    notification.getMessage().trim(),
+                    false,
+                    Timestamp.valueOf(notification.getCreatedAt() != null ? notification.getCreatedAt() : now)
+            });
+        }
 
-        travelerNotificationRepository.save(notification);
+        if (!rows.isEmpty()) {
+            // IDENTITY keys stop Hibernate from batching inserts, so the batch goes straight through JDBC.
+            jdbcTemplate.batchUpdate(INSERT_NOTIFICATION_SQL, rows);
+        }
+        return rows.size();
     }
 
     @Transactional
-    public List<TravelerNotificationResponse> getMyNotifications(String userEmail) {
-        return travelerNotificationRepository.findAllByUserEmailOrderByCreatedAtDesc(userEmail)
-                .stream()
-                .map(TravelerNotificationResponse::fromEntity)
-                .toList();
+    public CursorPage<TravelerNotificationResponse> getMyNotifications(String userEmail, String cursor, Integer limit) {
+        PageCursor after = PageCursor.decode(cursor);
+        int pageSize = CursorPage.resolveLimit(limit);
+        List<TravelerNotification> rows = after == null
+                ? travelerNotificationRepository.findAllByUserEmailOrderByCreatedAtDescIdDesc(
+                        userEmail,
+                        CursorPage.lookahead(pageSize)
+                )
+                : travelerNotificationRepository.findUserPageBefore(
+                        userEmail,
+                        after.requireTimestamp(),
+                        after.id(),
+                        CursorPage.lookahead(pageSize)
+                );
+        return CursorPage.of(
+                rows,
+                pageSize,
+                notification -> PageCursor.of(notification.getCreatedAt(), notification.getId()),
+                TravelerNotificationResponse::fromEntity
+        );
     }
 
     @Transactional
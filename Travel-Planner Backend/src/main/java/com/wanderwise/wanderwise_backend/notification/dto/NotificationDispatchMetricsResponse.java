@@ -0,0 +1,13 @@
+package com.wanderwise.wanderwise_backend.notification.dto;
+
+public record NotificationDispatchMetricsResponse(
+        Integer queued,
+        Integer queueCapacity,
+        Long published,
+        Long persisted,
+        Long batches,
+        Long spooled,
+        Long failedBatches,
+        Long quarantined
+) {
+}
@@ -0,0 +1,38 @@
+package com.wanderwise.wanderwise_backend.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.data.domain.Limit;
+
+public record CursorPage<T>(
+        List<T> items,
+        String nextCursor,
+        Integer limit
+) {
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+
+    public static int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    // One row past the page size tells us whether a next page exists without a count query.
+    public static Limit lookahead(int limit) {
+        return Limit.of(limit + 1);
+    }
+
+    public static <E, T> CursorPage<T> of(
+            List<E> rows,
+            int limit,
+            Function<E, PageCursor> cursorOf,
+            Function<E, T> mapper
+    ) {
+        boolean hasNext = rows.size() > limit;
+        List<E> page = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+        return new CursorPage<>(page.stream().map(mapper).toList(), nextCursor, limit);
+    }
+}
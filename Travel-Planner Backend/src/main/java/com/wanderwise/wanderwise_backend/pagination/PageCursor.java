@@ -0,0 +1,54 @@
+package com.wanderwise.wanderwise_backend.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public record PageCursor(
+        LocalDateTime timestamp,
+        Long id
+) {
+    public static PageCursor of(LocalDateTime timestamp, Long id) {
+        return new PageCursor(timestamp, id);
+    }
+
+    public static PageCursor ofId(Long id) {
+        return new PageCursor(null, id);
+    }
+
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Missing cursor separator");
+            }
+            String timestamp = decoded.substring(0, separator);
+            return new PageCursor(
+                    timestamp.isEmpty() ? null : LocalDateTime.parse(timestamp),
+                    Long.parseLong(decoded.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid page cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = (timestamp != null ? timestamp.toString() : "") + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime requireTimestamp() {
+        if (timestamp == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid page cursor");
+        }
+        return timestamp;
+    }
+}
@@ -0,0 +1,9 @@
+package com.wanderwise.wanderwise_backend.payment;
+
+import java.math.BigDecimal;
+
+public interface BookingPaidAmount {
+    Long getBookingRecordId();
+
+    BigDecimal getAmount();
+}
@@ -0,0 +1,238 @@
+package com.wanderwise.wanderwise_backend.payment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wanderwise.wanderwise_backend.admin.demand.DemandWindowService;
+import com.wanderwise.wanderwise_backend.admin.live.AdminLiveEventService;
+import com.wanderwise.wanderwise_backend.admin.metrics.AdminMetricsService;
+import com.wanderwise.wanderwise_backend.admin.recommendation.RecommendationSnapshotService;
+import com.wanderwise.wanderwise_backend.admin.revenue.RevenueLedgerService;
+import com.wanderwise.wanderwise_backend.admin.rollup.BookingRollupService;
+import com.wanderwise.wanderwise_backend.booking.BookingRequest;
+import com.wanderwise.wanderwise_backend.booking.BookingService;
+import com.wanderwise.wanderwise_backend.booking.BookingStatus;
+import com.wanderwise.wanderwise_backend.notification.TravelerNotification;
+import com.wanderwise.wanderwise_backend.notification.TravelerNotificationDispatcher;
+import com.wanderwise.wanderwise_backend.notification.TravelerNotificationType;
+import com.wanderwise.wanderwise_backend.payment.dto.GatewayWebhookRequest;
+import com.wanderwise.wanderwise_backend.payment.dto.PaymentResponse;
+import com.wanderwise.wanderwise_backend.payment.gateway.GatewayOutcome;
+import com.wanderwise.wanderwise_backend.payment.gateway.GatewayResult;
+import jakarta.transaction.Transactional;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+@Service
+@Slf4j
+public class PaymentCompletionService {
+
+    public static final String SIGNATURE_HEADER = "X-Gateway-Signature";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int MAX_REASON_LENGTH = 255;
+
+    private final PaymentRecordRepository paymentRecordRepository;
+    private final PaymentRetryQueue paymentRetryQueue;
+    private final BookingService bookingService;
+    private final TravelerNotificationDispatcher travelerNotificationDispatcher;
+    private final AdminMetricsService adminMetricsService;
+    private final RecommendationSnapshotService recommendationSnapshotService;
+    private final BookingRollupService bookingRollupService;
+    private final AdminLiveEventService adminLiveEventService;
+    private final DemandWindowService demandWindowService;
+    private final RevenueLedgerService revenueLedgerService;
+    private final SecretKeySpec webhookKey;
+
+    public PaymentCompletionService(
+            PaymentRecordRepository paymentRecordRepository,
+            PaymentRetryQueue paymentRetryQueue,
+            BookingService bookingService,
+            TravelerNotificationDispatcher travelerNotificationDispatcher,
+            AdminMetricsService adminMetricsService,
+            RecommendationSnapshotService recommendationSnapshotService,
+            BookingRollupService bookingRollupService,
+            AdminLiveEventService adminLiveEventService,
+            DemandWindowService demandWindowService,
+            RevenueLedgerService revenueLedgerService,
+            @Value("${app.payments.gateway.webhook-secret}") String webhookSecret
+    ) {
+        this.paymentRecordRepository = paymentRecordRepository;
+        this.paymentRetryQueue = paymentRetryQueue;
+        this.bookingService = bookingService;
+        this.travelerNotificationDispatcher = travelerNotificationDispatcher;
+        this.adminMetricsService = adminMetricsService;
+        this.recommendationSnapshotService = recommendationSnapshotService;
+        this.bookingRollupService = bookingRollupService;
+        this.adminLiveEventService = adminLiveEventService;
+        this.demandWindowService = demandWindowService;
+        this.revenueLedgerService = revenueLedgerService;
+        this.webhookKey = new SecretKeySpec(webhookSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+    }
+
+    @Transactional
+    public PaymentResponse handleWebhook(String body, String signature) {
+        if (signature == null || !MessageDigest.isEqual(
+                sign(body).getBytes(StandardCharsets.UTF_8),
+                signature.trim().toLowerCase().getBytes(StandardCharsets.UTF_8)
+        )) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid gateway signature");
+        }
+
+        GatewayWebhookRequest request;
+        try {
+            request = OBJECT_MAPPER.readValue(body, GatewayWebhookRequest.class);
+        } catch (IOException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Malformed gateway webhook");
+        }
+        if (request.paymentCode() == null || request.outcome() == null || request.outcome() == GatewayOutcome.ACCEPTED) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Webhook must carry a payment code and a final outcome");
+        }
+
+        return complete(
+                request.paymentCode(),
+                new GatewayResult(request.outcome(), request.gatewayReference(), request.reason())
+        );
+    }
+
+    // Gateways redeliver webhooks and the sweep can resubmit, so a payment that already left PENDING is returned unchanged.
+    @Transactional
+    public PaymentResponse complete(String paymentCode, GatewayResult result) {
+        PaymentRecord payment = paymentRecordRepository.findByPaymentCode(paymentCode)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Payment not found"));
+        if (payment.getStatus() != PaymentStatus.PENDING || !result.isFinal()) {
+            return PaymentResponse.fromEntity(payment);
+        }
+
+        // Gateway errors are transient: the payment stays PENDING behind a backoff until its attempts run out.
+        if (result.outcome() == GatewayOutcome.ERROR && paymentRetryQueue.scheduleRetry(payment, result.reason())) {
+            return PaymentResponse.fromEntity(payment);
+        }
+
+        PaymentStatus status = result.outcome() == GatewayOutcome.AUTHORIZED ? PaymentStatus.SUCCESS : PaymentStatus.FAILED;
+        LocalDateTime settledAt = LocalDateTime.now();
+        String failureReason = status == PaymentStatus.FAILED ? truncate(result.reason()) : null;
+        if (paymentRecordRepository.compareAndSetOutcome(
+                payment.getId(),
+                PaymentStatus.PENDING,
+                status,
+                settledAt,
+                result.gatewayReference(),
+                failureReason
+        ) == 0) {
+            return PaymentResponse.fromEntity(paymentRecordRepository.findById(payment.getId()).orElse(payment));
+        }
+
+        if (result.outcome() != GatewayOutcome.ERROR) {
+            paymentRetryQueue.clear(payment.getId());
+        }
+
+        payment.setStatus(status);
+        payment.setSettledAt(settledAt);
+        payment.setGatewayReference(result.gatewayReference());
+        payment.setFailureReason(failureReason);
+        adminMetricsService.recordPaymentStatusChanged(payment, PaymentStatus.PENDING);
+        revenueLedgerService.recordPayment(payment);
+
+        // A booking deleted mid-payment must not roll back the settlement, or the payment would stay PENDING forever.
+        BookingRequest booking = bookingService.findBookingById(payment.getBookingRecordId()).orElse(null);
+        if (booking == null) {
+            log.warn("Payment {} completed after its booking {} was deleted", paymentCode, payment.getBookingCode());
+            travelerNotificationDispatcher.publishAll(notificationsFor(payment, false));
+            return PaymentResponse.fromEntity(payment);
+        }
+        bookingRollupService.recordPayment(booking, payment);
+        demandWindowService.recordPayment(payment, booking);
+        adminLiveEventService.publishPayment(payment, booking);
+
+        BookingStatus previousStatus = booking.getStatus();
+        BookingStatus target = status == PaymentStatus.SUCCESS ? BookingStatus.PENDING : BookingStatus.PENDING_PAYMENT;
+        if (previousStatus == BookingStatus.PAYMENT_PROCESSING) {
+            bookingService.claimStatusTransition(booking, target);
+            booking.setStatus(target);
+            adminMetricsService.recordBookingStatusChanged(booking, previousStatus);
+            bookingRollupService.recordBookingStatusChanged(booking, previousStatus);
+            adminLiveEventService.publishBookingStatusChanged(booking, previousStatus);
+        } else {
+            log.warn("Payment {} completed while booking {} was {}", paymentCode, booking.getBookingCode(), previousStatus);
+        }
+        recommendationSnapshotService.recordWrite();
+        travelerNotificationDispatcher.publishAll(notificationsFor(payment, true));
+
+        return PaymentResponse.fromEntity(payment);
+    }
+
+    String sign(String body) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(webhookKey);
+            return HexFormat.of().formatHex(mac.doFinal(body.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException | InvalidKeyException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private List<TravelerNotification> notificationsFor(PaymentRecord payment, boolean bookingExists) {
+        List<TravelerNotification> notifications = new ArrayList<>(2);
+        if (payment.getStatus() == PaymentStatus.SUCCESS) {
+            notifications.add(notification(
+                    payment,
+                    TravelerNotificationType.PAYMENT,
+                    "Payment Successful",
+                    "Payment " + payment.getPaymentCode() + " for booking " + payment.getBookingCode() + " was successful."
+            ));
+            if (bookingExists) {
+                notifications.add(notification(
+                        payment,
+                        TravelerNotificationType.BOOKING,
+                        "Booking Submitted for Approval",
+                        "Your booking " + payment.getBookingCode() + " is now pending admin approval."
+                ));
+            }
+        } else {
+            String reason = payment.getFailureReason() == null ? "" : " Reason: " + payment.getFailureReason();
+            notifications.add(notification(
+                    payment,
+                    TravelerNotificationType.PAYMENT,
+                    "Payment Failed",
+                    "Payment " + payment.getPaymentCode() + " for booking " + payment.getBookingCode()
+                            + " did not go through. You can try again." + reason
+            ));
+        }
+        return notifications;
+    }
+
+    private TravelerNotification notification(
+            PaymentRecord payment,
+            TravelerNotificationType type,
+            String title,
+            String message
+    ) {
+        return TravelerNotification.builder()
+                .userEmail(payment.getUserEmail())
+                .type(type)
+                .title(title)
+                .message(message)
+                .build();
+    }
+
+    private String truncate(String reason) {
+        if (reason == null || reason.isBlank()) {
+            return "Payment was not authorized";
+        }
+        String trimmed = reason.trim();
+        return trimmed.length() > MAX_REASON_LENGTH ? trimmed.substring(0, MAX_REASON_LENGTH) : trimmed;
+    }
+}
@@ -1,18 +1,27 @@
 package com.wanderwise.wanderwise_backend.payment;
 
+import com.wanderwise.wanderwise_backend.idempotency.IdempotencyService;
+import com.wanderwise.wanderwise_backend.pagination.CursorPage;
 import com.wanderwise.wanderwise_backend.payment.dto.CreatePaymentRequest;
+import com.wanderwise.wanderwise_backend.payment.dto.PaymentDeadLetterResponse;
+import com.wanderwise.wanderwise_backend.payment.dto.PaymentGatewayMetricsResponse;
 import com.wanderwise.wanderwise_backend.payment.dto.PaymentResponse;
+import com.wanderwise.wanderwise_backend.payment.dto.PaymentScreeningMetricsResponse;
+import com.wanderwise.wanderwise_backend.payment.screening.PaymentScreeningService;
+import com.wanderwise.wanderwise_backend.sequence.ReferenceCodeService;
 import jakarta.validation.Valid;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -21,26 +30,90 @@ import org.springframework.web.bind.annotation.RestController;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final IdempotencyService idempotencyService;
+    private final PaymentCompletionService paymentCompletionService;
+    private final PaymentGatewayDispatcher paymentGatewayDispatcher;
+    private final PaymentRetryQueue paymentRetryQueue;
+    private final PaymentScreeningService paymentScreeningService;
+    private final ReferenceCodeService referenceCodeService;
 
     @PostMapping
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<PaymentResponse> createPayment(
             @Valid @RequestBody CreatePaymentRequest request,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             Authentication authentication
     ) {
-        PaymentResponse response = paymentService.createPayment(authentication.getName(), request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        // Claimed and coded here, outside the payment transaction, so a request never holds two pooled connections.
+        String paymentCode = referenceCodeService.nextPaymentCode();
+        PaymentResponse response = idempotencyService.execute(
+                "payment",
+                authentication.getName(),
+                idempotencyKey,
+                request,
+                PaymentResponse.class,
+                () -> paymentService.createPayment(authentication.getName(), request, paymentCode)
+        );
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @PostMapping("/gateway/webhook")
+    public ResponseEntity<PaymentResponse> handleGatewayWebhook(
+            @RequestBody String body,
+            @RequestHeader(value = PaymentCompletionService.SIGNATURE_HEADER, required = false) String signature
+    ) {
+        return ResponseEntity.ok(paymentCompletionService.handleWebhook(body, signature));
     }
 
     @GetMapping("/me")
     @PreAuthorize("hasAnyRole('USER','ADMIN')")
-    public ResponseEntity<List<PaymentResponse>> getMyPayments(Authentication authentication) {
-        return ResponseEntity.ok(paymentService.getUserPayments(authentication.getName()));
+    public ResponseEntity<CursorPage<PaymentResponse>> getMyPayments(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            Authentication authentication
+    ) {
+        return ResponseEntity.ok(paymentService.getUserPayments(authentication.getName(), cursor, limit));
+    }
+
+    @GetMapping("/me/{paymentCode}")
+    @PreAuthorize("hasAnyRole('USER','ADMIN')")
+    public ResponseEntity<PaymentResponse> getMyPayment(@PathVariable String paymentCode, Authentication authentication) {
+        return ResponseEntity.ok(paymentService.getUserPayment(authentication.getName(), paymentCode));
     }
 
     @GetMapping("/admin")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<PaymentResponse>> getAdminPayments() {
-        return ResponseEntity.ok(paymentService.getAdminPayments());
+    public ResponseEntity<CursorPage<PaymentResponse>> getAdminPayments(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return ResponseEntity.ok(paymentService.getAdminPayments(cursor, limit));
+    }
+
+    @PostMapping("/admin/{paymentCode}/refund")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PaymentResponse> refundPayment(@PathVariable String paymentCode) {
+        return ResponseEntity.ok(paymentService.refundPayment(paymentCode));
+    }
+
+    @GetMapping("/admin/gateway-metrics")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PaymentGatewayMetricsResponse> getGatewayMetrics() {
+        return ResponseEntity.ok(paymentGatewayDispatcher.getMetrics());
+    }
+
+    @GetMapping("/admin/screening-metrics")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PaymentScreeningMetricsResponse> getScreeningMetrics() {
+        return ResponseEntity.ok(paymentScreeningService.getMetrics());
+    }
+
+    @GetMapping("/admin/dead-letters")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CursorPage<PaymentDeadLetterResponse>> getDeadLetters(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return ResponseEntity.ok(paymentRetryQueue.getDeadLetters(cursor, limit));
     }
 }
@@ -0,0 +1,74 @@
+package com.wanderwise.wanderwise_backend.payment;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(
+        name = "payment_dead_letters",
+        indexes = {
+                @Index(name = "idx_payment_dead_letter_created_at", columnList = "created_at"),
+                @Index(name = "idx_payment_dead_letter_payment", columnList = "payment_record_id")
+        }
+)
+public class PaymentDeadLetter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long paymentRecordId;
+
+    @Column(nullable = false, length = 24)
+    private String paymentCode;
+
+    @Column(nullable = false, length = 24)
+    private String bookingCode;
+
+    @Column(nullable = false, length = 150)
+    private String userEmail;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal amount;
+
+    @Column(nullable = false, length = 10)
+    private String currency;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(length = 255)
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime firstFailedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void applyDefaults() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
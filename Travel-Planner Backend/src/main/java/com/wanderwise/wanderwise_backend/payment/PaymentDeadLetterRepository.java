@@ -0,0 +1,24 @@
+package com.wanderwise.wanderwise_backend.payment;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PaymentDeadLetterRepository extends JpaRepository<PaymentDeadLetter, Long> {
+    List<PaymentDeadLetter> findAllByOrderByCreatedAtDescIdDesc(Limit limit);
+
+    @Query("""
+            select d from PaymentDeadLetter d
+             where d.createdAt < :createdAt
+                or (d.createdAt = :createdAt and d.id < :id)
+             order by d.createdAt desc, d.id desc
+            """)
+    List<PaymentDeadLetter> findPageBefore(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+}
@@ -0,0 +1,188 @@
+package com.wanderwise.wanderwise_backend.payment;
+
+import com.wanderwise.wanderwise_backend.payment.dto.PaymentGatewayMetricsResponse;
+import com.wanderwise.wanderwise_backend.payment.gateway.GatewayAuthorization;
+import com.wanderwise.wanderwise_backend.payment.gateway.GatewayResult;
+import com.wanderwise.wanderwise_backend.payment.gateway.PaymentGateway;
+import com.wanderwise.wanderwise_backend.transaction.TransactionHooks;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class PaymentGatewayDispatcher {
+
+    private final PaymentGateway paymentGateway;
+    private final PaymentCompletionService paymentCompletionService;
+    private final PaymentRecordRepository paymentRecordRepository;
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    private final long staleAfterMs;
+    private final int sweepBatch;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong authorized = new AtomicLong();
+    private final AtomicLong declined = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong resubmitted = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+
+    public PaymentGatewayDispatcher(
+            PaymentGateway paymentGateway,
+            PaymentCompletionService paymentCompletionService,
+            PaymentRecordRepository paymentRecordRepository,
+            @Value("${app.payments.gateway.threads:8}") int threads,
+            @Value("${app.payments.gateway.queue-size:1000}") int queueSize,
+            @Value("${app.payments.gateway.stale-after-ms:600000}") long staleAfterMs,
+            @Value("${app.payments.gateway.sweep-batch:500}") int sweepBatch
+    ) {
+        this.paymentGateway = paymentGateway;
+        this.paymentCompletionService = paymentCompletionService;
+        this.paymentRecordRepository = paymentRecordRepository;
+        AtomicInteger threadCounter = new AtomicInteger();
+        int poolSize = Math.max(1, threads);
+        this.queueCapacity = Math.max(1, queueSize);
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "payment-gateway-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+        this.staleAfterMs = staleAfterMs;
+        this.sweepBatch = Math.max(1, sweepBatch);
+    }
+
+    // The gateway must be able to find the PENDING row when it answers, so nothing is sent before the payment commits.
+    public void submitAfterCommit(PaymentRecord payment) {
+        GatewayAuthorization authorization = toAuthorization(payment);
+        TransactionHooks.afterCommit(() -> submit(authorization));
+    }
+
+    public PaymentGatewayMetricsResponse getMetrics() {
+        return new PaymentGatewayMetricsResponse(
+                inFlight.get(),
+                executor.getQueue().size(),
+                queueCapacity,
+                submitted.get(),
+                rejected.get(),
+                authorized.get(),
+                declined.get(),
+                errors.get(),
+                resubmitted.get(),
+                retried.get()
+        );
+    }
+
+    public void retry(PaymentRecord payment) {
+        retried.incrementAndGet();
+        submit(toAuthorization(payment));
+    }
+
+    // Picks up payments whose submission was rejected, lost in a restart, or never answered by the gateway.
+    // Payments waiting out a retry backoff are left to the retry worker.
+    @Scheduled(
+            initialDelayString = "${app.payments.gateway.sweep-ms:60000}",
+            fixedDelayString = "${app.payments.gateway.sweep-ms:60000}"
+    )
+    public void resubmitStalePayments() {
+        LocalDateTime staleBefore = LocalDateTime.now().minusNanos(TimeUnit.MILLISECONDS.toNanos(staleAfterMs));
+        for (PaymentRecord payment : paymentRecordRepository.findStalePendingOutsideRetryQueue(
+                PaymentStatus.PENDING,
+                staleBefore,
+                Limit.of(sweepBatch)
+        )) {
+            resubmitted.incrementAndGet();
+            submit(toAuthorization(payment));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    void submit(GatewayAuthorization authorization) {
+        try {
+            executor.execute(() -> authorize(authorization));
+            submitted.incrementAndGet();
+        } catch (RejectedExecutionException ex) {
+            rejected.incrementAndGet();
+            log.warn("Gateway queue full; payment {} stays pending until the next sweep", authorization.paymentCode());
+        }
+    }
+
+    private void authorize(GatewayAuthorization authorization) {
+        inFlight.incrementAndGet();
+        CompletableFuture<GatewayResult> response;
+        try {
+            response = paymentGateway.authorize(authorization);
+        } catch (RuntimeException ex) {
+            response = CompletableFuture.failedFuture(ex);
+        }
+
+        response.whenComplete((result, error) -> {
+            inFlight.decrementAndGet();
+            GatewayResult outcome = error != null ? GatewayResult.error(describe(error)) : result;
+            try {
+                executor.execute(() -> complete(authorization, outcome));
+            } catch (RejectedExecutionException ex) {
+                // Completing on the gateway's own thread slows new answers down instead of dropping this one.
+                complete(authorization, outcome);
+            }
+        });
+    }
+
+    private void complete(GatewayAuthorization authorization, GatewayResult result) {
+        switch (result.outcome()) {
+            case AUTHORIZED -> authorized.incrementAndGet();
+            case DECLINED -> declined.incrementAndGet();
+            case ERROR -> errors.incrementAndGet();
+            case ACCEPTED -> {
+                return;
+            }
+        }
+
+        try {
+            paymentCompletionService.complete(authorization.paymentCode(), result);
+        } catch (RuntimeException ex) {
+            log.warn("Completing payment {} failed; the sweep will retry it", authorization.paymentCode(), ex);
+        }
+    }
+
+    private static GatewayAuthorization toAuthorization(PaymentRecord payment) {
+        return new GatewayAuthorization(
+                payment.getPaymentCode(),
+                payment.getMethod(),
+                payment.getAmount(),
+                payment.getCurrency(),
+                payment.getCardLast4(),
+                payment.getUpiId(),
+                payment.getBankReference()
+        );
+    }
+
+    private static String describe(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+    }
+}
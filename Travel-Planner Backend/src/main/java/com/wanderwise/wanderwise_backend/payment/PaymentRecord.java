@@ -28,7 +28,11 @@ import lombok.Setter;
         name = "payments",
         indexes = {
                 @Index(name = "idx_payment_user_paid_at", columnList = "user_email,paid_at"),
-                @Index(name = "idx_payment_status", columnList = "status")
+                @Index(name = "idx_payment_status", columnList = "status"),
+                @Index(name = "idx_payment_booking_record", columnList = "booking_record_id"),
+                @Index(name = "idx_payment_paid_at", columnList = "paid_at"),
+                @Index(name = "idx_payment_status_paid_at", columnList = "status,paid_at"),
+                @Index(name = "idx_payment_status_settled_at", columnList = "status,settled_at")
         }
 )
 public class PaymentRecord {
@@ -71,6 +75,16 @@ public class PaymentRecord {
     @Column(length = 120)
     private String bankReference;
 
+    @Column(length = 120)
+    private String gatewayReference;
+
+    @Column(length = 255)
+    private String failureReason;
+
+    // Velocity checks this attempt tripped without being rejected, e.g. "USER,CARD".
+    @Column(length = 40)
+    private String screeningFlags;
+
     @Column(nullable = false, precision = 12, scale = 2)
     private BigDecimal amount;
 
@@ -84,6 +98,9 @@ public class PaymentRecord {
     @Column(nullable = false)
     private LocalDateTime paidAt;
 
+    // When the gateway's final answer was recorded. paid_at stays the attempt time that cursors and the sweep key on.
+    private LocalDateTime settledAt;
+
     @PrePersist
     public void applyDefaults() {
         if (status == null) {
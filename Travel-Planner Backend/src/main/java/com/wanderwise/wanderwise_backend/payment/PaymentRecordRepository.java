@@ -1,12 +1,178 @@
 package com.wanderwise.wanderwise_backend.payment;
 
+import com.wanderwise.wanderwise_backend.booking.BookingDemandRow;
+import com.wanderwise.wanderwise_backend.payment.settlement.SettlementPaymentRow;
+import jakarta.persistence.QueryHint;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface PaymentRecordRepository extends JpaRepository<PaymentRecord, Long> {
-    boolean existsByPaymentCode(String paymentCode);
+    Optional<PaymentRecord> findByPaymentCode(String paymentCode);
 
-    List<PaymentRecord> findAllByOrderByPaidAtDesc();
+    Optional<PaymentRecord> findByPaymentCodeAndUserEmail(String paymentCode, String userEmail);
 
-    List<PaymentRecord> findAllByUserEmailOrderByPaidAtDesc(String userEmail);
+    @Query("""
+            select p from PaymentRecord p
+             where p.status = :status and p.paidAt < :paidAt
+               and not exists (select r.id from PaymentRetry r where r.paymentRecordId = p.id)
+             order by p.id asc
+            """)
+    List<PaymentRecord> findStalePendingOutsideRetryQueue(
+            @Param("status") PaymentStatus status,
+            @Param("paidAt") LocalDateTime paidAt,
+            Limit limit
+    );
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update PaymentRecord p
+               set p.status = :status, p.settledAt = :settledAt, p.gatewayReference = :gatewayReference, p.failureReason = :failureReason
+             where p.id = :id and p.status = :expected
+            """)
+    int compareAndSetOutcome(
+            @Param("id") Long id,
+            @Param("expected") PaymentStatus expected,
+            @Param("status") PaymentStatus status,
+            @Param("settledAt") LocalDateTime settledAt,
+            @Param("gatewayReference") String gatewayReference,
+            @Param("failureReason") String failureReason
+    );
+
+    @Modifying(clearAutomatically = true)
+    @Query("update PaymentRecord p set p.status = :status where p.id = :id and p.status = :expected")
+    int compareAndSetStatus(
+            @Param("id") Long id,
+            @Param("expected") PaymentStatus expected,
+            @Param("status") PaymentStatus status
+    );
+
+    List<PaymentRecord> findAllByOrderByPaidAtDescIdDesc(Limit limit);
+
+    @Query("""
+            select p from PaymentRecord p
+             where p.paidAt < :paidAt
+                or (p.paidAt = :paidAt and p.id < :id)
+             order by p.paidAt desc, p.id desc
+            """)
+    List<PaymentRecord> findPageBefore(
+            @Param("paidAt") LocalDateTime paidAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    List<PaymentRecord> findAllByUserEmailOrderByPaidAtDescIdDesc(String userEmail, Limit limit);
+
+    @Query("""
+            select p from PaymentRecord p
+             where p.userEmail = :userEmail
+               and (p.paidAt < :paidAt or (p.paidAt = :paidAt and p.id < :id))
+             order by p.paidAt desc, p.id desc
+            """)
+    List<PaymentRecord> findUserPageBefore(
+            @Param("userEmail") String userEmail,
+            @Param("paidAt") LocalDateTime paidAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    @Query("""
+            select p.status as status, count(p) as total, coalesce(sum(p.amount), 0) as amount
+              from PaymentRecord p
+             group by p.status
+            """)
+    List<PaymentStatusCount> countGroupedByStatus();
+
+    @Query("""
+            select p.status as status, count(p) as total, coalesce(sum(p.amount), 0) as amount
+              from PaymentRecord p
+             where p.paidAt >= :from and p.paidAt < :to
+             group by p.status
+            """)
+    List<PaymentStatusCount> countGroupedByStatusBetween(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    @Query("""
+            select coalesce(sum(p.amount), 0)
+              from PaymentRecord p
+             where p.bookingRecordId = :bookingRecordId and p.status = :status
+            """)
+    BigDecimal sumAmountByBookingRecordIdAndStatus(
+            @Param("bookingRecordId") Long bookingRecordId,
+            @Param("status") PaymentStatus status
+    );
+
+    @Query("""
+            select p.bookingRecordId as bookingRecordId, sum(p.amount) as amount
+              from PaymentRecord p
+             where p.bookingRecordId in :bookingRecordIds and p.status = :status
+             group by p.bookingRecordId
+            """)
+    List<BookingPaidAmount> sumAmountsByBookingRecordIdInAndStatus(
+            @Param("bookingRecordIds") Collection<Long> bookingRecordIds,
+            @Param("status") PaymentStatus status
+    );
+
+    @Query("""
+            select new com.wanderwise.wanderwise_backend.booking.BookingDemandRow(
+                   b.destination, b.country, b.travelDate, p.paidAt)
+              from PaymentRecord p
+              join BookingRequest b on b.id = p.bookingRecordId
+             where p.status in :statuses and p.paidAt >= :from
+            """)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<BookingDemandRow> streamDemandRowsPaidSince(
+            @Param("statuses") Collection<PaymentStatus> statuses,
+            @Param("from") LocalDateTime from
+    );
+
+    @Query("""
+            select new com.wanderwise.wanderwise_backend.payment.settlement.SettlementPaymentRow(
+                   p.id, p.paymentCode, p.bankReference, p.amount, p.currency, p.settledAt)
+              from PaymentRecord p
+             where p.status in :statuses and p.settledAt >= :from and p.settledAt < :to
+             order by p.settledAt asc, p.id asc
+            """)
+    List<SettlementPaymentRow> findSettlementRows(
+            @Param("statuses") Collection<PaymentStatus> statuses,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Limit limit
+    );
+
+    @Query("""
+            select new com.wanderwise.wanderwise_backend.payment.settlement.SettlementPaymentRow(
+                   p.id, p.paymentCode, p.bankReference, p.amount, p.currency, p.settledAt)
+              from PaymentRecord p
+             where p.status in :statuses and p.settledAt < :to
+               and (p.settledAt > :settledAt or (p.settledAt = :settledAt and p.id > :id))
+             order by p.settledAt asc, p.id asc
+            """)
+    List<SettlementPaymentRow> findSettlementRowsAfter(
+            @Param("statuses") Collection<PaymentStatus> statuses,
+            @Param("to") LocalDateTime to,
+            @Param("settledAt") LocalDateTime settledAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    // Payments settled before the asynchronous gateway were answered inline, so paid_at is when they settled.
+    @Modifying
+    @Query("update PaymentRecord p set p.settledAt = p.paidAt where p.settledAt is null and p.status <> :pending")
+    int backfillSettledAt(@Param("pending") PaymentStatus pending);
 }
@@ -0,0 +1,66 @@
+package com.wanderwise.wanderwise_backend.payment;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(
+        name = "payment_retries",
+        uniqueConstraints = @UniqueConstraint(name = "uk_payment_retry_payment", columnNames = "payment_record_id"),
+        indexes = @Index(name = "idx_payment_retry_next_attempt", columnList = "next_attempt_at")
+)
+public class PaymentRetry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long paymentRecordId;
+
+    @Column(nullable = false, length = 24)
+    private String paymentCode;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 255)
+    private String lastError;
+
+    // Set by whichever instance claimed the row; the lease lets another instance take over if that one dies.
+    @Column(length = 64)
+    private String leaseToken;
+
+    private LocalDateTime leaseExpiresAt;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void applyDefaults() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
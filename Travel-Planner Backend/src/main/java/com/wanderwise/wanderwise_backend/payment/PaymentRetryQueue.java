@@ -0,0 +1,141 @@
+package com.wanderwise.wanderwise_backend.payment;
+
+import com.wanderwise.wanderwise_backend.pagination.CursorPage;
+import com.wanderwise.wanderwise_backend.pagination.PageCursor;
+import com.wanderwise.wanderwise_backend.payment.dto.PaymentDeadLetterResponse;
+import jakarta.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+public class PaymentRetryQueue {
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final PaymentRetryRepository paymentRetryRepository;
+    private final PaymentDeadLetterRepository paymentDeadLetterRepository;
+    private final int maxAttempts;
+    private final long baseDelayMs;
+    private final long maxDelayMs;
+    private final long leaseMs;
+
+    public PaymentRetryQueue(
+            PaymentRetryRepository paymentRetryRepository,
+            PaymentDeadLetterRepository paymentDeadLetterRepository,
+            @Value("${app.payments.retry.max-attempts:6}") int maxAttempts,
+            @Value("${app.payments.retry.base-delay-ms:2000}") long baseDelayMs,
+            @Value("${app.payments.retry.max-delay-ms:300000}") long maxDelayMs,
+            @Value("${app.payments.retry.lease-ms:120000}") long leaseMs
+    ) {
+        this.paymentRetryRepository = paymentRetryRepository;
+        this.paymentDeadLetterRepository = paymentDeadLetterRepository;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseDelayMs = Math.max(1L, baseDelayMs);
+        this.maxDelayMs = Math.max(this.baseDelayMs, maxDelayMs);
+        this.leaseMs = Math.max(1L, leaseMs);
+    }
+
+    // Runs inside the completion transaction; false means the payment is out of attempts and should be failed.
+    @Transactional
+    public boolean scheduleRetry(PaymentRecord payment, String error) {
+        PaymentRetry retry = paymentRetryRepository.findByPaymentRecordId(payment.getId())
+                .orElseGet(() -> PaymentRetry.builder()
+                        .paymentRecordId(payment.getId())
+                        .paymentCode(payment.getPaymentCode())
+                        .attempts(0)
+                        .build());
+        int attempts = retry.getAttempts() + 1;
+        String lastError = truncate(error);
+        LocalDateTime now = LocalDateTime.now();
+
+        if (attempts >= maxAttempts) {
+            if (retry.getId() != null) {
+                paymentRetryRepository.delete(retry);
+            }
+            paymentDeadLetterRepository.save(PaymentDeadLetter.builder()
+                    .paymentRecordId(payment.getId())
+                    .paymentCode(payment.getPaymentCode())
+                    .bookingCode(payment.getBookingCode())
+                    .userEmail(payment.getUserEmail())
+                    .amount(payment.getAmount())
+                    .currency(payment.getCurrency())
+                    .attempts(attempts)
+                    .lastError(lastError)
+                    .firstFailedAt(retry.getCreatedAt() != null ? retry.getCreatedAt() : now)
+                    .build());
+            log.warn("Payment {} dead-lettered after {} gateway attempts: {}", payment.getPaymentCode(), attempts, lastError);
+            return false;
+        }
+
+        retry.setAttempts(attempts);
+        retry.setLastError(lastError);
+        retry.setNextAttemptAt(now.plusNanos(TimeUnit.MILLISECONDS.toNanos(backoffMs(attempts))));
+        retry.setLeaseToken(null);
+        retry.setLeaseExpiresAt(null);
+        paymentRetryRepository.save(retry);
+        return true;
+    }
+
+    @Transactional
+    public void clear(Long paymentRecordId) {
+        paymentRetryRepository.deleteByPaymentRecordId(paymentRecordId);
+    }
+
+    // Instances race through the same conditional update, so each due row is handed to exactly one of them.
+    @Transactional
+    public List<PaymentRetry> claimDue(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> dueIds = paymentRetryRepository.findDueIds(now, Limit.of(batchSize));
+        if (dueIds.isEmpty()) {
+            return List.of();
+        }
+
+        String leaseToken = UUID.randomUUID().toString();
+        LocalDateTime leaseExpiresAt = now.plusNanos(TimeUnit.MILLISECONDS.toNanos(leaseMs));
+        if (paymentRetryRepository.claim(dueIds, leaseToken, leaseExpiresAt, now) == 0) {
+            return List.of();
+        }
+        return paymentRetryRepository.findAllByLeaseToken(leaseToken);
+    }
+
+    @Transactional
+    public CursorPage<PaymentDeadLetterResponse> getDeadLetters(String cursor, Integer limit) {
+        PageCursor after = PageCursor.decode(cursor);
+        int pageSize = CursorPage.resolveLimit(limit);
+        List<PaymentDeadLetter> rows = after == null
+                ? paymentDeadLetterRepository.findAllByOrderByCreatedAtDescIdDesc(CursorPage.lookahead(pageSize))
+                : paymentDeadLetterRepository.findPageBefore(after.requireTimestamp(), after.id(), CursorPage.lookahead(pageSize));
+        return CursorPage.of(
+                rows,
+                pageSize,
+                deadLetter -> PageCursor.of(deadLetter.getCreatedAt(), deadLetter.getId()),
+                PaymentDeadLetterResponse::fromEntity
+        );
+    }
+
+    // Exponential growth capped at maxDelayMs, with the upper half jittered so failed payments do not retry in lockstep.
+    long backoffMs(int attempts) {
+        long ceiling = baseDelayMs << Math.min(Math.max(attempts - 1, 0), 30);
+        if (ceiling <= 0 || ceiling > maxDelayMs) {
+            ceiling = maxDelayMs;
+        }
+        long floor = ceiling / 2;
+        return floor + ThreadLocalRandom.current().nextLong(ceiling - floor + 1);
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.isBlank()) {
+            return "Gateway error";
+        }
+        String trimmed = error.trim();
+        return trimmed.length() > MAX_ERROR_LENGTH ? trimmed.substring(0, MAX_ERROR_LENGTH) : trimmed;
+    }
+}
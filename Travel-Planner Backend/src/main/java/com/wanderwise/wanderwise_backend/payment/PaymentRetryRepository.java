@@ -0,0 +1,45 @@
+package com.wanderwise.wanderwise_backend.payment;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PaymentRetryRepository extends JpaRepository<PaymentRetry, Long> {
+    Optional<PaymentRetry> findByPaymentRecordId(Long paymentRecordId);
+
+    List<PaymentRetry> findAllByLeaseToken(String leaseToken);
+
+    @Query("""
+            select r.id from PaymentRetry r
+             where r.nextAttemptAt <= :now
+               and (r.leaseExpiresAt is null or r.leaseExpiresAt < :now)
+             order by r.nextAttemptAt asc
+            """)
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Limit limit);
+
+    // Rows another instance leased between the select and this update keep their lease and are skipped.
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update PaymentRetry r
+               set r.leaseToken = :leaseToken, r.leaseExpiresAt = :leaseExpiresAt
+             where r.id in :ids
+               and r.nextAttemptAt <= :now
+               and (r.leaseExpiresAt is null or r.leaseExpiresAt < :now)
+            """)
+    int claim(
+            @Param("ids") Collection<Long> ids,
+            @Param("leaseToken") String leaseToken,
+            @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt,
+            @Param("now") LocalDateTime now
+    );
+
+    @Modifying
+    @Query("delete from PaymentRetry r where r.paymentRecordId = :paymentRecordId")
+    int deleteByPaymentRecordId(@Param("paymentRecordId") Long paymentRecordId);
+}
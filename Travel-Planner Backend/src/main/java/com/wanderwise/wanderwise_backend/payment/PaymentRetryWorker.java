@@ -0,0 +1,88 @@
+package com.wanderwise.wanderwise_backend.payment;
+
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class PaymentRetryWorker {
+
+    private final PaymentRetryQueue paymentRetryQueue;
+    private final PaymentGatewayDispatcher paymentGatewayDispatcher;
+    private final PaymentRecordRepository paymentRecordRepository;
+    private final ThreadPoolExecutor executor;
+    private final int batchSize;
+
+    public PaymentRetryWorker(
+            PaymentRetryQueue paymentRetryQueue,
+            PaymentGatewayDispatcher paymentGatewayDispatcher,
+            PaymentRecordRepository paymentRecordRepository,
+            @Value("${app.payments.retry.workers:4}") int workers,
+            @Value("${app.payments.retry.batch-size:100}") int batchSize
+    ) {
+        this.paymentRetryQueue = paymentRetryQueue;
+        this.paymentGatewayDispatcher = paymentGatewayDispatcher;
+        this.paymentRecordRepository = paymentRecordRepository;
+        AtomicInteger threadCounter = new AtomicInteger();
+        int poolSize = Math.max(1, workers);
+        this.batchSize = Math.max(1, batchSize);
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(this.batchSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "payment-retry-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+    }
+
+    // Only claims what the pool can take right now; anything left stays due for this or another instance.
+    @Scheduled(
+            initialDelayString = "${app.payments.retry.poll-ms:5000}",
+            fixedDelayString = "${app.payments.retry.poll-ms:5000}"
+    )
+    public void pollDueRetries() {
+        int capacity = Math.min(batchSize, executor.getQueue().remainingCapacity());
+        if (capacity <= 0) {
+            return;
+        }
+
+        for (PaymentRetry retry : paymentRetryQueue.claimDue(capacity)) {
+            try {
+                executor.execute(() -> retry(retry));
+            } catch (RejectedExecutionException ex) {
+                log.warn("Retry pool full; payment {} is picked up again when its lease expires", retry.getPaymentCode());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void retry(PaymentRetry retry) {
+        try {
+            PaymentRecord payment = paymentRecordRepository.findById(retry.getPaymentRecordId()).orElse(null);
+            if (payment == null || payment.getStatus() != PaymentStatus.PENDING) {
+                paymentRetryQueue.clear(retry.getPaymentRecordId());
+                return;
+            }
+            paymentGatewayDispatcher.retry(payment);
+        } catch (RuntimeException ex) {
+            log.warn("Retrying payment {} failed; it is picked up again when its lease expires", retry.getPaymentCode(), ex);
+        }
+    }
+}
@@ -1,15 +1,23 @@
 package com.wanderwise.wanderwise_backend.payment;
 
+import com.wanderwise.wanderwise_backend.admin.live.AdminLiveEventService;
+import com.wanderwise.wanderwise_backend.admin.metrics.AdminMetricsService;
+import com.wanderwise.wanderwise_backend.admin.revenue.RevenueLedgerService;
+import com.wanderwise.wanderwise_backend.admin.rollup.BookingRollupService;
 import com.wanderwise.wanderwise_backend.booking.BookingRequest;
 import com.wanderwise.wanderwise_backend.booking.BookingService;
 import com.wanderwise.wanderwise_backend.booking.BookingStatus;
-import com.wanderwise.wanderwise_backend.notification.TravelerNotificationService;
+import com.wanderwise.wanderwise_backend.notification.TravelerNotificationDispatcher;
 import com.wanderwise.wanderwise_backend.notification.TravelerNotificationType;
+import com.wanderwise.wanderwise_backend.pagination.CursorPage;
+import com.wanderwise.wanderwise_backend.pagination.PageCursor;
 import com.wanderwise.wanderwise_backend.payment.dto.CreatePaymentRequest;
 import com.wanderwise.wanderwise_backend.payment.dto.PaymentResponse;
+import com.wanderwise.wanderwise_backend.payment.screening.PaymentScreening;
+import com.wanderwise.wanderwise_backend.payment.screening.PaymentScreeningService;
 import jakarta.transaction.Transactional;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -21,10 +29,16 @@ public class PaymentService {
 
     private final PaymentRecordRepository paymentRecordRepository;
     private final BookingService bookingService;
-    private final TravelerNotificationService travelerNotificationService;
+    private final AdminMetricsService adminMetricsService;
+    private final BookingRollupService bookingRollupService;
+    private final AdminLiveEventService adminLiveEventService;
+    private final PaymentGatewayDispatcher paymentGatewayDispatcher;
+    private final RevenueLedgerService revenueLedgerService;
+    private final TravelerNotificationDispatcher travelerNotificationDispatcher;
+    private final PaymentScreeningService paymentScreeningService;
 
     @Transactional
-    public PaymentResponse createPayment(String userEmail, CreatePaymentRequest request) {
+    public PaymentResponse createPayment(String userEmail, CreatePaymentRequest request, String paymentCode) {
         BookingRequest booking = bookingService.getBookingById(request.bookingRecordId());
 
         if (!booking.getUserEmail().equalsIgnoreCase(userEmail)) {
@@ -37,59 +51,114 @@ public class PaymentService {
 
         validatePaymentDetails(request);
 
+        String cardHolderName = normalizeOrNull(request.cardHolderName());
+        String cardLast4 = extractCardLast4(request.cardNumber());
+        String upiId = normalizeOrNull(request.upiId());
+        PaymentScreening screening = paymentScreeningService.screen(
+                userEmail,
+                request.method(),
+                cardHolderName,
+                cardLast4,
+                upiId
+        );
+
         PaymentRecord payment = PaymentRecord.builder()
-                .paymentCode(generatePaymentCode())
+                .paymentCode(paymentCode)
                 .bookingRecordId(booking.getId())
                 .bookingCode(booking.getBookingCode())
                 .userEmail(userEmail)
                 .travelerName(booking.getTravelerName())
                 .travelerEmail(booking.getTravelerEmail())
                 .method(request.method())
-                .cardHolderName(normalizeOrNull(request.cardHolderName()))
-                .cardLast4(extractCardLast4(request.cardNumber()))
-                .upiId(normalizeOrNull(request.upiId()))
+                .cardHolderName(cardHolderName)
+                .cardLast4(cardLast4)
+                .upiId(upiId)
                 .bankReference(normalizeOrNull(request.bankReference()))
                 .amount(booking.getTotalAmount())
                 .currency(booking.getCurrency())
-                .status(PaymentStatus.SUCCESS)
+                .status(PaymentStatus.PENDING)
+                .screeningFlags(screening.flags())
                 .build();
 
+        // Claim the booking before writing the payment so a concurrent attempt fails instead of paying twice.
+        bookingService.claimStatusTransition(booking, BookingStatus.PAYMENT_PROCESSING);
         PaymentRecord savedPayment = paymentRecordRepository.save(payment);
+        adminMetricsService.recordPayment(savedPayment);
+
+        BookingStatus previousStatus = booking.getStatus();
+        booking.setStatus(BookingStatus.PAYMENT_PROCESSING);
+        adminMetricsService.recordBookingStatusChanged(booking, previousStatus);
+        bookingRollupService.recordBookingStatusChanged(booking, previousStatus);
+        adminLiveEventService.publishBookingStatusChanged(booking, previousStatus);
+        if (screening.isFlagged()) {
+            adminLiveEventService.publishPaymentFlagged(savedPayment, booking);
+        }
+
+        // The gateway answers on its own time; PaymentCompletionService settles the payment and the booking.
+        paymentGatewayDispatcher.submitAfterCommit(savedPayment);
+        return PaymentResponse.fromEntity(savedPayment);
+    }
 
-        booking.setStatus(BookingStatus.PENDING);
-        bookingService.saveBooking(booking);
+    // Full refunds only; the refund is posted to the ledger on its own day and the original capture stays untouched.
+    @Transactional
+    public PaymentResponse refundPayment(String paymentCode) {
+        PaymentRecord payment = paymentRecordRepository.findByPaymentCode(paymentCode)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Payment not found"));
+        if (payment.getStatus() != PaymentStatus.SUCCESS
+                || paymentRecordRepository.compareAndSetStatus(payment.getId(), PaymentStatus.SUCCESS, PaymentStatus.REFUNDED) == 0) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Only successful payments can be refunded");
+        }
 
-        travelerNotificationService.createNotification(
-                userEmail,
+        payment.setStatus(PaymentStatus.REFUNDED);
+        adminMetricsService.recordPaymentStatusChanged(payment, PaymentStatus.SUCCESS);
+        revenueLedgerService.recordRefund(payment, LocalDateTime.now());
+
+        BookingRequest booking = bookingService.getBookingById(payment.getBookingRecordId());
+        bookingRollupService.recordRefund(booking, payment);
+        adminLiveEventService.publishPayment(payment, booking);
+        travelerNotificationDispatcher.publish(
+                payment.getUserEmail(),
                 TravelerNotificationType.PAYMENT,
-                "Payment Successful",
-                "Payment " + savedPayment.getPaymentCode() + " for booking "
-                        + savedPayment.getBookingCode() + " was successful."
+                "Payment Refunded",
+                "Payment " + payment.getPaymentCode() + " for booking " + payment.getBookingCode() + " was refunded."
         );
+        return PaymentResponse.fromEntity(payment);
+    }
 
-        travelerNotificationService.createNotification(
-                userEmail,
-                TravelerNotificationType.BOOKING,
-                "Booking Submitted for Approval",
-                "Your booking " + savedPayment.getBookingCode()
-                        + " is now pending admin approval."
-        );
+    public PaymentResponse getUserPayment(String userEmail, String paymentCode) {
+        return paymentRecordRepository.findByPaymentCodeAndUserEmail(paymentCode, userEmail)
+                .map(PaymentResponse::fromEntity)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Payment not found"));
+    }
 
-        return PaymentResponse.fromEntity(savedPayment);
+    public CursorPage<PaymentResponse> getAdminPayments(String cursor, Integer limit) {
+        PageCursor after = PageCursor.decode(cursor);
+        int pageSize = CursorPage.resolveLimit(limit);
+        List<PaymentRecord> rows = after == null
+                ? paymentRecordRepository.findAllByOrderByPaidAtDescIdDesc(CursorPage.lookahead(pageSize))
+                : paymentRecordRepository.findPageBefore(after.requireTimestamp(), after.id(), CursorPage.lookahead(pageSize));
+        return CursorPage.of(rows, pageSize, this::toPageCursor, PaymentResponse::fromEntity);
     }
 
-    public List<PaymentResponse> getAdminPayments() {
-        return paymentRecordRepository.findAllByOrderByPaidAtDesc()
-                .stream()
-                .map(PaymentResponse::fromEntity)
-                .toList();
+    public CursorPage<PaymentResponse> getUserPayments(String userEmail, String cursor, Integer limit) {
+        PageCursor after = PageCursor.decode(cursor);
+        int pageSize = CursorPage.resolveLimit(limit);
+        List<PaymentRecord> rows = after == null
+                ? paymentRecordRepository.findAllByUserEmailOrderByPaidAtDescIdDesc(
+                        userEmail,
+                        CursorPage.lookahead(pageSize)
+                )
+                : paymentRecordRepository.findUserPageBefore(
+                        userEmail,
+                        after.requireTimestamp(),
+                        after.id(),
+                        CursorPage.lookahead(pageSize)
+                );
+        return CursorPage.of(rows, pageSize, this::toPageCursor, PaymentResponse::fromEntity);
     }
 
-    public List<PaymentResponse> getUserPayments(String userEmail) {
-        return paymentRecordRepository.findAllByUserEmailOrderByPaidAtDesc(userEmail)
-                .stream()
-                .map(PaymentResponse::fromEntity)
-                .toList();
+    private PageCursor toPageCursor(PaymentRecord payment) {
+        return PageCursor.of(payment.getPaidAt(), payment.getId());
     }
 
     private void validatePaymentDetails(CreatePaymentRequest request) {
@@ -116,14 +185,6 @@ public class PaymentService {
         }
     }
 
-    private String generatePaymentCode() {
-        String code;
-        do {
-            int randomPart = ThreadLocalRandom.current().nextInt(100000, 999999);
-            code = "PMT-" + randomPart;
-        } while (paymentRecordRepository.existsByPaymentCode(code));
-        return code;
-    }
 
     private String extractCardLast4(String cardNumber) {
         if (isBlank(cardNumber)) {
@@ -0,0 +1,28 @@
+package com.wanderwise.wanderwise_backend.payment;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// Settlement and revenue days are keyed on settled_at, so older settled payments get theirs before any rebuild reads them.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentSettledAtBackfillInitializer implements CommandLineRunner {
+
+    private final PaymentRecordRepository paymentRecordRepository;
+
+    @Override
+    @Transactional
+    public void run(String... args) {
+        int backfilled = paymentRecordRepository.backfillSettledAt(PaymentStatus.PENDING);
+        if (backfilled > 0) {
+            log.info("Backfilled settled_at from paid_at for {} payments.", backfilled);
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package com.wanderwise.wanderwise_backend.payment;
 
+import java.util.List;
+
 public enum PaymentStatus {
     SUCCESS,
     PENDING,
     FAILED,
-    REFUNDED
+    REFUNDED;
+
+    // A refund is a later reversal; the money was still captured, so settlement files and demand counts keep it.
+    public static final List<PaymentStatus> CAPTURED = List.of(SUCCESS, REFUNDED);
 }
@@ -0,0 +1,11 @@
+package com.wanderwise.wanderwise_backend.payment;
+
+import java.math.BigDecimal;
+
+public interface PaymentStatusCount {
+    PaymentStatus getStatus();
+
+    long getTotal();
+
+    BigDecimal getAmount();
+}
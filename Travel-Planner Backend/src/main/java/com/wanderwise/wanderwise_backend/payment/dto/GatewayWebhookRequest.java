@@ -0,0 +1,11 @@
+package com.wanderwise.wanderwise_backend.payment.dto;
+
+import com.wanderwise.wanderwise_backend.payment.gateway.GatewayOutcome;
+
+public record GatewayWebhookRequest(
+        String paymentCode,
+        GatewayOutcome outcome,
+        String gatewayReference,
+        String reason
+) {
+}
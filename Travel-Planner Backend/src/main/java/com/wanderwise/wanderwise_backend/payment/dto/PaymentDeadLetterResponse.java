@@ -0,0 +1,32 @@
+package com.wanderwise.wanderwise_backend.payment.dto;
+
+import com.wanderwise.wanderwise_backend.payment.PaymentDeadLetter;
+import java.math.BigDecimal;
+
+public record PaymentDeadLetterResponse(
+        Long id,
+        String paymentCode,
+        String bookingCode,
+        String userEmail,
+        BigDecimal amount,
+        String currency,
+        Integer attempts,
+        String lastError,
+        String firstFailedAt,
+        String deadLetteredAt
+) {
+    public static PaymentDeadLetterResponse fromEntity(PaymentDeadLetter deadLetter) {
+        return new PaymentDeadLetterResponse(
+                deadLetter.getId(),
+                deadLetter.getPaymentCode(),
+                deadLetter.getBookingCode(),
+                deadLetter.getUserEmail(),
+                deadLetter.getAmount(),
+                deadLetter.getCurrency(),
+                deadLetter.getAttempts(),
+                deadLetter.getLastError(),
+                deadLetter.getFirstFailedAt().toString(),
+                deadLetter.getCreatedAt().toString()
+        );
+    }
+}
@@ -0,0 +1,15 @@
+package com.wanderwise.wanderwise_backend.payment.dto;
+
+public record PaymentGatewayMetricsResponse(
+        Integer inFlight,
+        Integer queued,
+        Integer queueCapacity,
+        Long submitted,
+        Long rejected,
+        Long authorized,
+        Long declined,
+        Long errors,
+        Long resubmitted,
+        Long retried
+) {
+}
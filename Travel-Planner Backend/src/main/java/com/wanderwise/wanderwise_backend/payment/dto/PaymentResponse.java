@@ -15,8 +15,10 @@ public record PaymentResponse(
         String currency,
         String status,
         String paidAt,
+        String settledAt,
         String upiId,
-        String cardLast4
+        String cardLast4,
+        String failureReason
 ) {
     public static PaymentResponse fromEntity(PaymentRecord payment) {
         return new PaymentResponse(
@@ -31,8 +33,10 @@ public record PaymentResponse(
                 payment.getCurrency(),
                 payment.getStatus().name(),
                 payment.getPaidAt().toString(),
+                payment.getSettledAt() == null ? null : payment.getSettledAt().toString(),
                 payment.getUpiId(),
-                payment.getCardLast4()
+                payment.getCardLast4(),
+                payment.getFailureReason()
         );
     }
 }
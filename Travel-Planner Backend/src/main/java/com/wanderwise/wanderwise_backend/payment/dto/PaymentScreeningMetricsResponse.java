@@ -0,0 +1,12 @@
+package com.wanderwise.wanderwise_backend.payment.dto;
+
+public record PaymentScreeningMetricsResponse(
+        Boolean enabled,
+        Long windowSeconds,
+        Long bucketSeconds,
+        Long memoryBytes,
+        Long screened,
+        Long flagged,
+        Long rejected
+) {
+}
@@ -0,0 +1,17 @@
+package com.wanderwise.wanderwise_backend.payment.dto;
+
+public record SettlementReconciliationResponse(
+        String runId,
+        String settlementDate,
+        Integer indexedPayments,
+        Long linesRead,
+        Long matched,
+        Long amountMismatches,
+        Long currencyMismatches,
+        Long duplicates,
+        Long missingFromRecords,
+        Long missingFromSettlement,
+        Long malformed,
+        Long elapsedMs
+) {
+}
@@ -0,0 +1,15 @@
+package com.wanderwise.wanderwise_backend.payment.gateway;
+
+import com.wanderwise.wanderwise_backend.payment.PaymentMethod;
+import java.math.BigDecimal;
+
+public record GatewayAuthorization(
+        String paymentCode,
+        PaymentMethod method,
+        BigDecimal amount,
+        String currency,
+        String cardLast4,
+        String upiId,
+        String bankReference
+) {
+}
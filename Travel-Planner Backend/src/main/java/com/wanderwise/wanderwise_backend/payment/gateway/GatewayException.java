@@ -0,0 +1,8 @@
+package com.wanderwise.wanderwise_backend.payment.gateway;
+
+public class GatewayException extends RuntimeException {
+
+    public GatewayException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+package com.wanderwise.wanderwise_backend.payment.gateway;
+
+public enum GatewayOutcome {
+    AUTHORIZED,
+    DECLINED,
+    ERROR,
+    // The gateway accepted the request and will report the outcome on the webhook.
+    ACCEPTED
+}
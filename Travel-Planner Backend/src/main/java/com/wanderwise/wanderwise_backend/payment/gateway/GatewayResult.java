@@ -0,0 +1,23 @@
+package com.wanderwise.wanderwise_backend.payment.gateway;
+
+public record GatewayResult(
+        GatewayOutcome outcome,
+        String gatewayReference,
+        String reason
+) {
+    public static GatewayResult authorized(String gatewayReference) {
+        return new GatewayResult(GatewayOutcome.AUTHORIZED, gatewayReference, null);
+    }
+
+    public static GatewayResult declined(String gatewayReference, String reason) {
+        return new GatewayResult(GatewayOutcome.DECLINED, gatewayReference, reason);
+    }
+
+    public static GatewayResult error(String reason) {
+        return new GatewayResult(GatewayOutcome.ERROR, null, reason);
+    }
+
+    public boolean isFinal() {
+        return outcome != GatewayOutcome.ACCEPTED;
+    }
+}
@@ -0,0 +1,10 @@
+package com.wanderwise.wanderwise_backend.payment.gateway;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface PaymentGateway {
+
+    // Must not block: adapters return as soon as the request is on the wire and complete the future from their own I/O threads.
+    // Authorizations are resubmitted after a crash, so adapters pass paymentCode to the gateway as its idempotency key.
+    CompletableFuture<GatewayResult> authorize(GatewayAuthorization authorization);
+}
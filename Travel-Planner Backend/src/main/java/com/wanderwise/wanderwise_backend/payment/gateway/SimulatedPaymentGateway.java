@@ -0,0 +1,80 @@
+package com.wanderwise.wanderwise_backend.payment.gateway;
+
+import jakarta.annotation.PreDestroy;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "app.payments.gateway.provider", havingValue = "simulator", matchIfMissing = true)
+public class SimulatedPaymentGateway implements PaymentGateway {
+
+    // Test card endings that always produce the same outcome, so checkout failures can be exercised by hand.
+    private static final String DECLINE_CARD_LAST4 = "0002";
+    private static final String ERROR_CARD_LAST4 = "0119";
+
+    private final ScheduledExecutorService scheduler;
+    private final long minLatencyMs;
+    private final long maxLatencyMs;
+    private final double declineRate;
+    private final double errorRate;
+
+    public SimulatedPaymentGateway(
+            @Value("${app.payments.gateway.simulator.min-latency-ms:1000}") long minLatencyMs,
+            @Value("${app.payments.gateway.simulator.max-latency-ms:5000}") long maxLatencyMs,
+            @Value("${app.payments.gateway.simulator.decline-rate:0.05}") double declineRate,
+            @Value("${app.payments.gateway.simulator.error-rate:0.02}") double errorRate
+    ) {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "payment-gateway-simulator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        this.scheduler = executor;
+        this.minLatencyMs = Math.max(0L, minLatencyMs);
+        this.maxLatencyMs = Math.max(this.minLatencyMs, maxLatencyMs);
+        this.declineRate = declineRate;
+        this.errorRate = errorRate;
+    }
+
+    @Override
+    public CompletableFuture<GatewayResult> authorize(GatewayAuthorization authorization) {
+        CompletableFuture<GatewayResult> result = new CompletableFuture<>();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long latencyMs = minLatencyMs == maxLatencyMs ? minLatencyMs : random.nextLong(minLatencyMs, maxLatencyMs + 1);
+        double roll = random.nextDouble();
+
+        try {
+            // Latency is a timer, not a sleeping thread, so thousands of authorizations can be in flight at once.
+            scheduler.schedule(() -> {
+                if (ERROR_CARD_LAST4.equals(authorization.cardLast4()) || roll < errorRate) {
+                    result.completeExceptionally(new GatewayException("Simulated gateway timeout"));
+                } else if (DECLINE_CARD_LAST4.equals(authorization.cardLast4()) || roll < errorRate + declineRate) {
+                    result.complete(GatewayResult.declined(reference(), "Declined by issuer"));
+                } else {
+                    result.complete(GatewayResult.authorized(reference()));
+                }
+            }, latencyMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ex) {
+            result.completeExceptionally(new GatewayException("Gateway simulator is shut down"));
+        }
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private static String reference() {
+        return "SIM-" + UUID.randomUUID().toString().substring(0, 18).toUpperCase();
+    }
+}
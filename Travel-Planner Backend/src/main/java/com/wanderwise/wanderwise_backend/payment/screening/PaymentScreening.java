@@ -0,0 +1,17 @@
+package com.wanderwise.wanderwise_backend.payment.screening;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public record PaymentScreening(List<VelocityDimension> flagged) {
+
+    public static final PaymentScreening CLEAR = new PaymentScreening(List.of());
+
+    public boolean isFlagged() {
+        return !flagged.isEmpty();
+    }
+
+    public String flags() {
+        return isFlagged() ? flagged.stream().map(Enum::name).collect(Collectors.joining(",")) : null;
+    }
+}
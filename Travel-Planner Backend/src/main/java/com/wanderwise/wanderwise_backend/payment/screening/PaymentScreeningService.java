@@ -0,0 +1,166 @@
+package com.wanderwise.wanderwise_backend.payment.screening;
+
+import com.wanderwise.wanderwise_backend.payment.PaymentMethod;
+import com.wanderwise.wanderwise_backend.payment.dto.PaymentScreeningMetricsResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+// Velocity checks run on the checkout thread before anything is written, so they stay in memory and never query the
+// database. Counts are per instance; behind a load balancer each instance sees its share of a burst.
+@Service
+@Slf4j
+public class PaymentScreeningService {
+
+    private static final int MAX_WIDTH = 1 << 20;
+    private static final int MAX_BUCKETS = 1440;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final boolean enabled;
+    private final long bucketMs;
+    private final int buckets;
+    private final VelocitySketch[] sketches = new VelocitySketch[VelocityDimension.values().length];
+    private final int[] flagAfter = new int[VelocityDimension.values().length];
+    private final int[] rejectAfter = new int[VelocityDimension.values().length];
+    private final LongAdder screened = new LongAdder();
+    private final LongAdder flagged = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public PaymentScreeningService(
+            @Value("${app.payments.screening.enabled:true}") boolean enabled,
+            @Value("${app.payments.screening.window-seconds:600}") long windowSeconds,
+            @Value("${app.payments.screening.bucket-seconds:60}") long bucketSeconds,
+            @Value("${app.payments.screening.sketch-width:16384}") int sketchWidth,
+            @Value("${app.payments.screening.user.flag-after:5}") int userFlagAfter,
+            @Value("${app.payments.screening.user.reject-after:10}") int userRejectAfter,
+            @Value("${app.payments.screening.card.flag-after:4}") int cardFlagAfter,
+            @Value("${app.payments.screening.card.reject-after:8}") int cardRejectAfter,
+            @Value("${app.payments.screening.upi.flag-after:4}") int upiFlagAfter,
+            @Value("${app.payments.screening.upi.reject-after:8}") int upiRejectAfter
+    ) {
+        this.enabled = enabled;
+        long bucketSecondsResolved = Math.max(1L, bucketSeconds);
+        this.bucketMs = TimeUnit.SECONDS.toMillis(bucketSecondsResolved);
+        this.buckets = (int) Math.min(
+                MAX_BUCKETS,
+                Math.max(1L, (Math.max(1L, windowSeconds) + bucketSecondsResolved - 1) / bucketSecondsResolved)
+        );
+        int width = Math.min(MAX_WIDTH, Math.max(2, sketchWidth));
+        for (VelocityDimension dimension : VelocityDimension.values()) {
+            sketches[dimension.ordinal()] = new VelocitySketch(buckets, width);
+        }
+        limit(VelocityDimension.USER, userFlagAfter, userRejectAfter);
+        limit(VelocityDimension.CARD, cardFlagAfter, cardRejectAfter);
+        limit(VelocityDimension.UPI, upiFlagAfter, upiRejectAfter);
+    }
+
+    // Every attempt is counted, rejected ones included, so a client that keeps retrying stays over the limit.
+    public PaymentScreening screen(
+            String userEmail,
+            PaymentMethod method,
+            String cardHolderName,
+            String cardLast4,
+            String upiId
+    ) {
+        return screen(userEmail, method, cardHolderName, cardLast4, upiId, System.currentTimeMillis());
+    }
+
+    public PaymentScreeningMetricsResponse getMetrics() {
+        long memoryBytes = 0L;
+        for (VelocitySketch sketch : sketches) {
+            memoryBytes += sketch.sizeInBytes();
+        }
+        return new PaymentScreeningMetricsResponse(
+                enabled,
+                TimeUnit.MILLISECONDS.toSeconds(bucketMs * buckets),
+                TimeUnit.MILLISECONDS.toSeconds(bucketMs),
+                memoryBytes,
+                screened.sum(),
+                flagged.sum(),
+                rejected.sum()
+        );
+    }
+
+    PaymentScreening screen(
+            String userEmail,
+            PaymentMethod method,
+            String cardHolderName,
+            String cardLast4,
+            String upiId,
+            long nowMillis
+    ) {
+        if (!enabled) {
+            return PaymentScreening.CLEAR;
+        }
+
+        screened.increment();
+        long bucket = Math.floorDiv(nowMillis, bucketMs);
+        List<VelocityDimension> exceeded = new ArrayList<>(1);
+        VelocityDimension rejectedBy = count(VelocityDimension.USER, normalize(userEmail), bucket, exceeded, null);
+        if (method == PaymentMethod.CARD && cardLast4 != null) {
+            String holder = cardHolderName == null
+                    ? ""
+                    : WHITESPACE.matcher(normalize(cardHolderName)).replaceAll(" ");
+            rejectedBy = count(VelocityDimension.CARD, cardLast4 + "|" + holder, bucket, exceeded, rejectedBy);
+        }
+        if (method == PaymentMethod.UPI && upiId != null) {
+            rejectedBy = count(VelocityDimension.UPI, normalize(upiId), bucket, exceeded, rejectedBy);
+        }
+
+        if (rejectedBy != null) {
+            rejected.increment();
+            log.debug("Rejected payment attempt by {}: {} velocity over limit", userEmail, rejectedBy);
+            throw new ResponseStatusException(
+                    HttpStatus.TOO_MANY_REQUESTS,
+                    "Too many payment attempts. Please wait a few minutes and try again."
+            );
+        }
+        if (exceeded.isEmpty()) {
+            return PaymentScreening.CLEAR;
+        }
+
+        flagged.increment();
+        return new PaymentScreening(List.copyOf(exceeded));
+    }
+
+    private VelocityDimension count(
+            VelocityDimension dimension,
+            String key,
+            long bucket,
+            List<VelocityDimension> exceeded,
+            VelocityDimension rejectedBy
+    ) {
+        if (key == null || key.isEmpty()) {
+            return rejectedBy;
+        }
+
+        int index = dimension.ordinal();
+        long attempts = sketches[index].increment(VelocitySketch.hash(key, index), bucket);
+        if (over(attempts, flagAfter[index])) {
+            exceeded.add(dimension);
+        }
+        return rejectedBy == null && over(attempts, rejectAfter[index]) ? dimension : rejectedBy;
+    }
+
+    private void limit(VelocityDimension dimension, int flagAfterAttempts, int rejectAfterAttempts) {
+        flagAfter[dimension.ordinal()] = flagAfterAttempts;
+        rejectAfter[dimension.ordinal()] = rejectAfterAttempts;
+    }
+
+    // Zero or a negative limit turns that check off.
+    private static boolean over(long attempts, int limit) {
+        return limit > 0 && attempts > limit;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,7 @@
+package com.wanderwise.wanderwise_backend.payment.screening;
+
+public enum VelocityDimension {
+    USER,
+    CARD,
+    UPI
+}
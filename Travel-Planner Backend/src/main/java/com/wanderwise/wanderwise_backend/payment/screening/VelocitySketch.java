@@ -0,0 +1,103 @@
+package com.wanderwise.wanderwise_backend.payment.screening;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// A count-min sketch per time bucket in one fixed array. Each cell packs its bucket tag into the high 32 bits and
+// the count into the low 32 bits, so the CAS that reuses a cell from an expired bucket also resets it: no locks,
+// no per-key allocation and no eviction thread. Estimates can only run high, never low.
+final class VelocitySketch {
+
+    private static final int DEPTH = 2;
+    private static final long COUNT_MASK = 0xFFFFFFFFL;
+
+    private final AtomicLongArray cells;
+    private final int buckets;
+    private final int width;
+    private final int mask;
+
+    VelocitySketch(int buckets, int width) {
+        this.buckets = Math.max(1, buckets);
+        this.width = Integer.highestOneBit(Math.max(width, 2) * 2 - 1);
+        this.mask = this.width - 1;
+        this.cells = new AtomicLongArray(this.buckets * DEPTH * this.width);
+    }
+
+    // Counts one attempt in the current bucket and returns the estimate for the whole window, this attempt included.
+    long increment(long hash, long bucket) {
+        int tag = tag(bucket);
+        int base = slot(bucket);
+        long current = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            current = Math.min(current, add(base + row * width + column(hash, row), tag));
+        }
+
+        long total = current;
+        for (int age = 1; age < buckets; age++) {
+            total += estimate(hash, bucket - age);
+        }
+        return total;
+    }
+
+    long estimate(long hash, long bucket) {
+        int tag = tag(bucket);
+        int base = slot(bucket);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            long cell = cells.get(base + row * width + column(hash, row));
+            estimate = Math.min(estimate, (int) (cell >>> 32) == tag ? cell & COUNT_MASK : 0L);
+        }
+        return estimate;
+    }
+
+    long sizeInBytes() {
+        return (long) cells.length() * Long.BYTES;
+    }
+
+    static long hash(String key, long seed) {
+        long hash = seed ^ 0xCBF29CE484222325L;
+        for (int index = 0; index < key.length(); index++) {
+            hash = (hash ^ key.charAt(index)) * 0x100000001B3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    private long add(int index, int tag) {
+        while (true) {
+            long cell = cells.get(index);
+            int cellTag = (int) (cell >>> 32);
+            long next;
+            if (cellTag == tag) {
+                if ((cell & COUNT_MASK) == COUNT_MASK) {
+                    return COUNT_MASK;
+                }
+                next = cell + 1L;
+            } else if (cellTag != 0 && cellTag - tag > 0) {
+                // A thread stalled for a whole window must not wipe the bucket that replaced its own.
+                return 0L;
+            } else {
+                next = ((long) tag << 32) | 1L;
+            }
+            if (cells.compareAndSet(index, cell, next)) {
+                return next & COUNT_MASK;
+            }
+        }
+    }
+
+    private int slot(long bucket) {
+        return (int) Math.floorMod(bucket, (long) buckets) * DEPTH * width;
+    }
+
+    private int column(long hash, int row) {
+        return (int) (hash >>> (row * 32)) & mask;
+    }
+
+    // Tags start at 1 so a cell that was never written can not match a live bucket.
+    private static int tag(long bucket) {
+        int tag = (int) bucket + 1;
+        return tag == 0 ? 1 : tag;
+    }
+}
@@ -0,0 +1,76 @@
+package com.wanderwise.wanderwise_backend.payment.settlement;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+final class SettlementAmounts {
+
+    static final long INVALID = Long.MIN_VALUE;
+
+    private SettlementAmounts() {
+    }
+
+    static long toMinorUnits(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    // Hand-rolled so a million settlement lines do not allocate a BigDecimal each; anything unusual is INVALID.
+    static long parseMinorUnits(String value) {
+        int start = 0;
+        int end = value.length();
+        while (start < end && value.charAt(start) == ' ') {
+            start++;
+        }
+        while (end > start && value.charAt(end - 1) == ' ') {
+            end--;
+        }
+        if (start == end) {
+            return INVALID;
+        }
+
+        boolean negative = value.charAt(start) == '-';
+        if (negative || value.charAt(start) == '+') {
+            start++;
+        }
+        long units = 0;
+        int fractionDigits = -1;
+        boolean digits = false;
+        for (int index = start; index < end; index++) {
+            char character = value.charAt(index);
+            if (character == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else if (character >= '0' && character <= '9') {
+                digits = true;
+                if (fractionDigits >= 2) {
+                    if (character != '0') {
+                        return INVALID;
+                    }
+                    continue;
+                }
+                if (units > (Long.MAX_VALUE - 9) / 10) {
+                    return INVALID;
+                }
+                units = units * 10 + (character - '0');
+                if (fractionDigits >= 0) {
+                    fractionDigits++;
+                }
+            } else {
+                return INVALID;
+            }
+        }
+        if (!digits) {
+            return INVALID;
+        }
+
+        for (int scale = Math.max(fractionDigits, 0); scale < 2; scale++) {
+            units *= 10;
+        }
+        return negative ? -units : units;
+    }
+
+    static String format(long minorUnits) {
+        long absolute = Math.abs(minorUnits);
+        long fraction = absolute % 100;
+        return (minorUnits < 0 ? "-" : "") + absolute / 100 + (fraction < 10 ? ".0" : ".") + fraction;
+    }
+}
@@ -0,0 +1,127 @@
+package com.wanderwise.wanderwise_backend.payment.settlement;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+// Parallel arrays behind two open-addressing tables: roughly the payment code and reference strings plus a few
+// dozen bytes per payment, instead of a map entry, boxed key and value object for each lookup key.
+final class SettlementIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final Map<String, String> currencies = new HashMap<>();
+    private final BitSet settled = new BitSet();
+    private String[] paymentCodes = new String[INITIAL_CAPACITY];
+    private String[] bankReferences = new String[INITIAL_CAPACITY];
+    private String[] currencyCodes = new String[INITIAL_CAPACITY];
+    private long[] amounts = new long[INITIAL_CAPACITY];
+    private int size;
+    private int[] codeSlots;
+    private int[] referenceSlots;
+    private int mask;
+
+    void add(String paymentCode, String bankReference, BigDecimal amount, String currency) {
+        if (codeSlots != null) {
+            throw new IllegalStateException("Index is already sealed");
+        }
+        if (size == paymentCodes.length) {
+            int capacity = size * 2;
+            paymentCodes = Arrays.copyOf(paymentCodes, capacity);
+            bankReferences = Arrays.copyOf(bankReferences, capacity);
+            currencyCodes = Arrays.copyOf(currencyCodes, capacity);
+            amounts = Arrays.copyOf(amounts, capacity);
+        }
+        paymentCodes[size] = paymentCode;
+        bankReferences[size] = bankReference == null || bankReference.isBlank() ? null : bankReference.trim();
+        currencyCodes[size] = currency == null ? null : currencies.computeIfAbsent(currency, key -> key);
+        amounts[size] = SettlementAmounts.toMinorUnits(amount);
+        size++;
+    }
+
+    void seal() {
+        int tableSize = Integer.highestOneBit(Math.max(size, 1) * 2 - 1) << 1;
+        mask = tableSize - 1;
+        codeSlots = new int[tableSize];
+        referenceSlots = new int[tableSize];
+        for (int row = 0; row < size; row++) {
+            insert(codeSlots, paymentCodes[row], row);
+            if (bankReferences[row] != null) {
+                insert(referenceSlots, bankReferences[row], row);
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    int findByPaymentCode(String paymentCode) {
+        return find(codeSlots, paymentCodes, paymentCode);
+    }
+
+    int findByBankReference(String bankReference) {
+        return find(referenceSlots, bankReferences, bankReference);
+    }
+
+    // False when an earlier settlement line already claimed this payment.
+    boolean markSettled(int row) {
+        if (settled.get(row)) {
+            return false;
+        }
+        settled.set(row);
+        return true;
+    }
+
+    void forEachUnsettled(IntConsumer consumer) {
+        for (int row = settled.nextClearBit(0); row < size; row = settled.nextClearBit(row + 1)) {
+            consumer.accept(row);
+        }
+    }
+
+    String paymentCode(int row) {
+        return paymentCodes[row];
+    }
+
+    String bankReference(int row) {
+        return bankReferences[row];
+    }
+
+    String currency(int row) {
+        return currencyCodes[row];
+    }
+
+    long amount(int row) {
+        return amounts[row];
+    }
+
+    private void insert(int[] slots, String key, int row) {
+        int slot = spread(key.hashCode()) & mask;
+        // Slots hold row + 1 so the zero-filled table reads as empty.
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = row + 1;
+    }
+
+    private int find(int[] slots, String[] keys, String key) {
+        if (key == null) {
+            return -1;
+        }
+        int slot = spread(key.hashCode()) & mask;
+        for (int entry = slots[slot]; entry != 0; entry = slots[slot]) {
+            if (key.equals(keys[entry - 1])) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,14 @@
+package com.wanderwise.wanderwise_backend.payment.settlement;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record SettlementPaymentRow(
+        Long id,
+        String paymentCode,
+        String bankReference,
+        BigDecimal amount,
+        String currency,
+        LocalDateTime settledAt
+) {
+}
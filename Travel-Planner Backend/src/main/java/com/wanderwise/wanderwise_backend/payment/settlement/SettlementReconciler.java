@@ -0,0 +1,241 @@
+package com.wanderwise.wanderwise_backend.payment.settlement;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Locale;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+// One pass over the settlement file: every line is looked up in the day's index and written straight to a report.
+final class SettlementReconciler {
+
+    private static final String NOT_IN_RECORDS = "NOT_IN_RECORDS";
+    private static final String NOT_IN_SETTLEMENT = "NOT_IN_SETTLEMENT";
+
+    private final SettlementIndex index;
+    private final Writer matchedReport;
+    private final Writer missingReport;
+    private final Writer mismatchedReport;
+    @Getter
+    private long linesRead;
+    @Getter
+    private long matched;
+    @Getter
+    private long amountMismatches;
+    @Getter
+    private long currencyMismatches;
+    @Getter
+    private long duplicates;
+    @Getter
+    private long missingFromRecords;
+    @Getter
+    private long missingFromSettlement;
+    @Getter
+    private long malformed;
+
+    SettlementReconciler(SettlementIndex index, Writer matchedReport, Writer missingReport, Writer mismatchedReport) {
+        this.index = index;
+        this.matchedReport = matchedReport;
+        this.missingReport = missingReport;
+        this.mismatchedReport = mismatchedReport;
+    }
+
+    void reconcile(BufferedReader reader) throws IOException {
+        String header = reader.readLine();
+        while (header != null && header.isBlank()) {
+            header = reader.readLine();
+        }
+        if (header == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Settlement file is empty");
+        }
+        Columns columns = Columns.parse(header);
+
+        matchedReport.write("paymentCode,bankReference,amount,currency,line\r\n");
+        missingReport.write("side,paymentCode,bankReference,amount,currency,line\r\n");
+        mismatchedReport.write(
+                "reason,paymentCode,bankReference,settledAmount,recordedAmount,settledCurrency,recordedCurrency,line\r\n"
+        );
+
+        String[] fields = new String[columns.width()];
+        long lineNumber = 1;
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            linesRead++;
+            if (split(line, fields) < fields.length) {
+                malformed++;
+                continue;
+            }
+            reconcileLine(columns, fields, lineNumber);
+        }
+
+        index.forEachUnsettled(row -> {
+            missingFromSettlement++;
+            write(missingReport, NOT_IN_SETTLEMENT, index.paymentCode(row), index.bankReference(row),
+                    SettlementAmounts.format(index.amount(row)), index.currency(row), null);
+        });
+        matchedReport.flush();
+        missingReport.flush();
+        mismatchedReport.flush();
+    }
+
+    private void reconcileLine(Columns columns, String[] fields, long lineNumber) {
+        String paymentCode = columns.paymentCode() >= 0 ? trimToNull(fields[columns.paymentCode()]) : null;
+        String bankReference = columns.bankReference() >= 0 ? trimToNull(fields[columns.bankReference()]) : null;
+        String currency = columns.currency() >= 0 ? trimToNull(fields[columns.currency()]) : null;
+        long amount = SettlementAmounts.parseMinorUnits(fields[columns.amount()]);
+        if (amount == SettlementAmounts.INVALID || (paymentCode == null && bankReference == null)) {
+            malformed++;
+            return;
+        }
+
+        int row = index.findByPaymentCode(paymentCode);
+        if (row < 0) {
+            row = index.findByBankReference(bankReference);
+        }
+        String line = Long.toString(lineNumber);
+        if (row < 0) {
+            missingFromRecords++;
+            write(missingReport, NOT_IN_RECORDS, paymentCode, bankReference, SettlementAmounts.format(amount), currency, line);
+            return;
+        }
+
+        String recordedCurrency = index.currency(row);
+        String reason = null;
+        if (!index.markSettled(row)) {
+            duplicates++;
+            reason = "DUPLICATE";
+        } else if (amount != index.amount(row)) {
+            amountMismatches++;
+            reason = "AMOUNT";
+        } else if (currency != null && recordedCurrency != null && !currency.equalsIgnoreCase(recordedCurrency)) {
+            currencyMismatches++;
+            reason = "CURRENCY";
+        }
+
+        if (reason == null) {
+            matched++;
+            write(matchedReport, index.paymentCode(row), index.bankReference(row),
+                    SettlementAmounts.format(amount), recordedCurrency, line);
+        } else {
+            write(mismatchedReport, reason, index.paymentCode(row), index.bankReference(row),
+                    SettlementAmounts.format(amount), SettlementAmounts.format(index.amount(row)),
+                    currency, recordedCurrency, line);
+        }
+    }
+
+    // Returns how many leading fields were filled; quoted fields follow RFC 4180.
+    static int split(String line, String[] fields) {
+        int count = 0;
+        int start = 0;
+        int length = line.length();
+        while (count < fields.length) {
+            if (start < length && line.charAt(start) == '"') {
+                StringBuilder value = new StringBuilder();
+                int position = start + 1;
+                while (position < length) {
+                    char character = line.charAt(position);
+                    if (character == '"') {
+                        if (position + 1 < length && line.charAt(position + 1) == '"') {
+                            value.append('"');
+                            position += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    value.append(character);
+                    position++;
+                }
+                if (position >= length) {
+                    return count;
+                }
+                fields[count++] = value.toString();
+                start = position + 1;
+                if (start < length && line.charAt(start) != ',') {
+                    return count - 1;
+                }
+            } else {
+                int comma = line.indexOf(',', start);
+                int end = comma < 0 ? length : comma;
+                fields[count++] = line.substring(start, end);
+                start = end;
+            }
+            if (start >= length) {
+                break;
+            }
+            start++;
+        }
+        return count;
+    }
+
+    private static void write(Writer writer, String... values) {
+        try {
+            for (int position = 0; position < values.length; position++) {
+                if (position > 0) {
+                    writer.write(',');
+                }
+                String value = values[position];
+                if (value == null) {
+                    continue;
+                }
+                if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0) {
+                    writer.write('"');
+                    writer.write(value.replace("\"", "\"\""));
+                    writer.write('"');
+                } else {
+                    writer.write(value);
+                }
+            }
+            writer.write("\r\n");
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    record Columns(int paymentCode, int bankReference, int amount, int currency) {
+
+        static Columns parse(String header) {
+            String[] names = header.split(",", -1);
+            int paymentCode = -1;
+            int bankReference = -1;
+            int amount = -1;
+            int currency = -1;
+            for (int position = 0; position < names.length; position++) {
+                String name = names[position].replace("\"", "").replace("_", "").replace(" ", "");
+                switch (name.toLowerCase(Locale.ENGLISH)) {
+                    case "paymentcode" -> paymentCode = position;
+                    case "bankreference" -> bankReference = position;
+                    case "amount" -> amount = position;
+                    case "currency" -> currency = position;
+                    default -> {
+                        // Gateways add their own columns; only the ones we reconcile on matter.
+                    }
+                }
+            }
+            if (amount < 0 || (paymentCode < 0 && bankReference < 0)) {
+                throw new ResponseStatusException(
+                        HttpStatus.BAD_REQUEST,
+                        "Settlement header needs an amount column and a paymentCode or bankReference column"
+                );
+            }
+            return new Columns(paymentCode, bankReference, amount, currency);
+        }
+
+        int width() {
+            return Math.max(Math.max(paymentCode, bankReference), Math.max(amount, currency)) + 1;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.wanderwise.wanderwise_backend.payment.settlement;
+
+import com.wanderwise.wanderwise_backend.payment.dto.SettlementReconciliationResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.zip.GZIPInputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/payments/admin/settlements")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class SettlementReconciliationController {
+
+    private final SettlementReconciliationService settlementReconciliationService;
+
+    // The file is read straight off the request stream, so it is never buffered whole by the servlet layer.
+    @PostMapping("/reconcile")
+    public ResponseEntity<SettlementReconciliationResponse> reconcile(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletRequest request
+    ) throws IOException {
+        try (InputStream input = gzip ? new GZIPInputStream(request.getInputStream(), 8192) : request.getInputStream()) {
+            return ResponseEntity.ok(settlementReconciliationService.reconcile(date, input));
+        }
+    }
+
+    @GetMapping("/{runId}/{report}")
+    public void downloadReport(
+            @PathVariable String runId,
+            @PathVariable SettlementReport report,
+            HttpServletResponse response
+    ) throws IOException {
+        Path path = settlementReconciliationService.reportPath(runId, report);
+        response.setContentType("text/csv");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(
+                HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"" + runId + "-" + report.fileName() + "\""
+        );
+        Files.copy(path, response.getOutputStream());
+    }
+}
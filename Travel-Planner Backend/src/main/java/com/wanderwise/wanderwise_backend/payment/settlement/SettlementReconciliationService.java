@@ -0,0 +1,143 @@
+package com.wanderwise.wanderwise_backend.payment.settlement;
+
+import com.wanderwise.wanderwise_backend.payment.PaymentRecordRepository;
+import com.wanderwise.wanderwise_backend.payment.PaymentStatus;
+import com.wanderwise.wanderwise_backend.payment.dto.SettlementReconciliationResponse;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+@Service
+@Slf4j
+public class SettlementReconciliationService {
+
+    private static final Pattern RUN_ID = Pattern.compile("\\d{4}-\\d{2}-\\d{2}-\\d+");
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final PaymentRecordRepository paymentRecordRepository;
+    private final Path reportDirectory;
+    private final int scanBatch;
+
+    public SettlementReconciliationService(
+            PaymentRecordRepository paymentRecordRepository,
+            @Value("${app.payments.settlement.report-dir:data/settlements}") String reportDirectory,
+            @Value("${app.payments.settlement.scan-batch:5000}") int scanBatch
+    ) {
+        this.paymentRecordRepository = paymentRecordRepository;
+        this.reportDirectory = Path.of(reportDirectory).toAbsolutePath();
+        this.scanBatch = Math.max(1, scanBatch);
+    }
+
+    public SettlementReconciliationResponse reconcile(LocalDate settlementDate, InputStream input) {
+        long startedAt = System.nanoTime();
+        SettlementIndex index = loadIndex(settlementDate);
+        String runId = settlementDate + "-" + System.currentTimeMillis();
+        Path runDirectory = reportDirectory.resolve(runId);
+
+        SettlementReconciler reconciler;
+        try {
+            Files.createDirectories(runDirectory);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), BUFFER_SIZE);
+                 BufferedWriter matched = open(runDirectory, SettlementReport.MATCHED);
+                 BufferedWriter missing = open(runDirectory, SettlementReport.MISSING);
+                 BufferedWriter mismatched = open(runDirectory, SettlementReport.MISMATCHED)) {
+                reconciler = new SettlementReconciler(index, matched, missing, mismatched);
+                reconciler.reconcile(reader);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        log.info(
+                "Reconciled {} settlement lines for {} in {} ms: {} matched, {} amount mismatches, {} missing from records, {} missing from settlement.",
+                reconciler.getLinesRead(),
+                settlementDate,
+                elapsedMs,
+                reconciler.getMatched(),
+                reconciler.getAmountMismatches(),
+                reconciler.getMissingFromRecords(),
+                reconciler.getMissingFromSettlement()
+        );
+        return new SettlementReconciliationResponse(
+                runId,
+                settlementDate.toString(),
+                index.size(),
+                reconciler.getLinesRead(),
+                reconciler.getMatched(),
+                reconciler.getAmountMismatches(),
+                reconciler.getCurrencyMismatches(),
+                reconciler.getDuplicates(),
+                reconciler.getMissingFromRecords(),
+                reconciler.getMissingFromSettlement(),
+                reconciler.getMalformed(),
+                elapsedMs
+        );
+    }
+
+    public Path reportPath(String runId, SettlementReport report) {
+        if (runId == null || !RUN_ID.matcher(runId).matches()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid reconciliation run");
+        }
+        Path path = reportDirectory.resolve(runId).resolve(report.fileName());
+        if (!Files.isRegularFile(path)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Reconciliation report not found");
+        }
+        return path;
+    }
+
+    // Keyset pages over (settled_at, id) ride the status/settled_at index and keep only the compact index in memory.
+    private SettlementIndex loadIndex(LocalDate settlementDate) {
+        LocalDateTime from = settlementDate.atStartOfDay();
+        LocalDateTime to = settlementDate.plusDays(1).atStartOfDay();
+        SettlementIndex index = new SettlementIndex();
+        List<SettlementPaymentRow> page = paymentRecordRepository.findSettlementRows(
+                PaymentStatus.CAPTURED,
+                from,
+                to,
+                Limit.of(scanBatch)
+        );
+        while (!page.isEmpty()) {
+            for (SettlementPaymentRow row : page) {
+                index.add(row.paymentCode(), row.bankReference(), row.amount(), row.currency());
+            }
+            if (page.size() < scanBatch) {
+                break;
+            }
+            SettlementPaymentRow last = page.get(page.size() - 1);
+            page = paymentRecordRepository.findSettlementRowsAfter(
+                    PaymentStatus.CAPTURED,
+                    to,
+                    last.settledAt(),
+                    last.id(),
+                    Limit.of(scanBatch)
+            );
+        }
+        index.seal();
+        return index;
+    }
+
+    private static BufferedWriter open(Path runDirectory, SettlementReport report) throws IOException {
+        return new BufferedWriter(
+                Files.newBufferedWriter(runDirectory.resolve(report.fileName()), StandardCharsets.UTF_8),
+                BUFFER_SIZE
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package com.wanderwise.wanderwise_backend.payment.settlement;
+
+public enum SettlementReport {
+    MATCHED("matched.csv"),
+    MISSING("missing.csv"),
+    MISMATCHED("mismatched.csv");
+
+    private final String fileName;
+
+    SettlementReport(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String fileName() {
+        return fileName;
+    }
+}
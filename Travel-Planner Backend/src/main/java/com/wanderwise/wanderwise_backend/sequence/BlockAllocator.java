@@ -0,0 +1,29 @@
+package com.wanderwise.wanderwise_backend.sequence;
+
+final class BlockAllocator {
+
+    private final String sequence;
+    private final int blockSize;
+    private final BlockSource source;
+
+    private long next;
+    private long limit;
+
+    BlockAllocator(String sequence, int blockSize, BlockSource source) {
+        this.sequence = sequence;
+        this.blockSize = Math.max(1, blockSize);
+        this.source = source;
+    }
+
+    synchronized long next() {
+        if (next == limit) {
+            next = source.reserve(sequence, blockSize);
+            limit = next + blockSize;
+        }
+        return next++;
+    }
+
+    interface BlockSource {
+        long reserve(String sequence, int blockSize);
+    }
+}
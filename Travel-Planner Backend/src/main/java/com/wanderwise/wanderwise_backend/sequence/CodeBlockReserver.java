@@ -0,0 +1,28 @@
+package com.wanderwise.wanderwise_backend.sequence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class CodeBlockReserver implements BlockAllocator.BlockSource {
+
+    private static final long INITIAL_VALUE = 1L;
+
+    private final CodeSequenceRepository codeSequenceRepository;
+
+    // Runs in its own transaction so a rolled-back booking never hands its block to another instance. Callers take
+    // codes before opening their own transaction, so a refill never holds a second pooled connection.
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long reserve(String sequence, int blockSize) {
+        if (codeSequenceRepository.advance(sequence, blockSize) == 0) {
+            codeSequenceRepository.insertIfAbsent(sequence, INITIAL_VALUE);
+            codeSequenceRepository.advance(sequence, blockSize);
+        }
+        // The row lock taken by the update is held until commit, so this read sees only our increment.
+        return codeSequenceRepository.findNextValue(sequence) - blockSize;
+    }
+}
@@ -0,0 +1,28 @@
+package com.wanderwise.wanderwise_backend.sequence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "code_sequences")
+public class CodeSequence {
+
+    @Id
+    @Column(length = 40)
+    private String name;
+
+    @Column(nullable = false)
+    private Long nextValue;
+}
@@ -0,0 +1,27 @@
+package com.wanderwise.wanderwise_backend.sequence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CodeSequenceRepository extends JpaRepository<CodeSequence, String> {
+
+    @Modifying
+    @Query(
+            nativeQuery = true,
+            value = """
+                    insert into code_sequences (name, next_value)
+                    values (:name, :initialValue)
+                    on duplicate key update name = name
+                    """
+    )
+    int insertIfAbsent(@Param("name") String name, @Param("initialValue") long initialValue);
+
+    @Modifying
+    @Query("update CodeSequence s set s.nextValue = s.nextValue + :blockSize where s.name = :name")
+    int advance(@Param("name") String name, @Param("blockSize") long blockSize);
+
+    @Query("select s.nextValue from CodeSequence s where s.name = :name")
+    Long findNextValue(@Param("name") String name);
+}
@@ -0,0 +1,54 @@
+package com.wanderwise.wanderwise_backend.sequence;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ReferenceCodeService {
+
+    private static final String BOOKING_PREFIX = "BK-";
+    private static final String PAYMENT_PREFIX = "PMT-";
+
+    private final BlockAllocator bookingCodes;
+    private final BlockAllocator paymentCodes;
+
+    public ReferenceCodeService(
+            CodeBlockReserver codeBlockReserver,
+            @Value("${app.codes.block-size:100}") int blockSize
+    ) {
+        this.bookingCodes = new BlockAllocator("booking_code", blockSize, codeBlockReserver);
+        this.paymentCodes = new BlockAllocator("payment_code", blockSize, codeBlockReserver);
+    }
+
+    // Take codes before opening a transaction: a block refill commits on a pooled connection of its own.
+    public String nextBookingCode() {
+        return format(BOOKING_PREFIX, bookingCodes.next());
+    }
+
+    public String nextPaymentCode() {
+        return format(PAYMENT_PREFIX, paymentCodes.next());
+    }
+
+    // Seven digits plus a check digit keeps new codes longer than the legacy six-digit random ones.
+    static String format(String prefix, long value) {
+        String digits = String.format("%07d", value);
+        return prefix + digits + checkDigit(digits);
+    }
+
+    static int checkDigit(String digits) {
+        int sum = 0;
+        boolean doubled = true;
+        for (int index = digits.length() - 1; index >= 0; index--) {
+            int digit = digits.charAt(index) - '0';
+            if (doubled) {
+                digit *= 2;
+                if (digit > 9) {
+                    digit -= 9;
+                }
+            }
+            sum += digit;
+            doubled = !doubled;
+        }
+        return (10 - sum % 10) % 10;
+    }
+}
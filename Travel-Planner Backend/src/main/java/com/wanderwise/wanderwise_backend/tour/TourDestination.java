@@ -0,0 +1,7 @@
+package com.wanderwise.wanderwise_backend.tour;
+
+public interface TourDestination {
+    String getDestination();
+
+    String getCountry();
+}
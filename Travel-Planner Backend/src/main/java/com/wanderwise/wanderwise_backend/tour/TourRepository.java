@@ -3,12 +3,16 @@ package com.wanderwise.wanderwise_backend.tour;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface TourRepository extends JpaRepository<Tour, Long> {
     List<Tour> findAllByOrderByDestinationAsc();
 
     List<Tour> findTop3ByOrderByDestinationAsc();
 
+    @Query("select t.destination as destination, t.country as country from Tour t order by t.destination asc")
+    List<TourDestination> findAllDestinations();
+
     Optional<Tour> findBySlug(String slug);
 
     Optional<Tour> findByDestinationIgnoreCaseAndCountryIgnoreCase(String destination, String country);
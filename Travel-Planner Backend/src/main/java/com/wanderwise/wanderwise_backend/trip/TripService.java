@@ -129,7 +129,9 @@ public class TripService {
 
     private boolean isVisibleTrip(BookingRequest booking) {
         BookingStatus status = booking.getStatus();
-        return status != BookingStatus.PENDING_PAYMENT && status != BookingStatus.REJECTED;
+        return status != BookingStatus.PENDING_PAYMENT
+                && status != BookingStatus.PAYMENT_PROCESSING
+                && status != BookingStatus.REJECTED;
     }
 
     private List<TripDetailResponse.ItineraryItemPayload> buildItinerary(Optional<Tour> optionalTour) {
@@ -1,13 +1,25 @@
 package com.wanderwise.wanderwise_backend.user;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface UserRepository extends JpaRepository<User, Long> {
-    List<User> findAllByOrderByIdAsc();
+    List<User> findAllByOrderByIdAsc(Limit limit);
+
+    List<User> findAllByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    List<User> findTop5ByOrderByIdDesc();
 
     Optional<User> findByEmail(String email);
 
+    List<User> findAllByEmailIn(Collection<String> emails);
+
     boolean existsByEmail(String email);
+
+    @Query("select u.status as status, count(u) as total from User u group by u.status")
+    List<UserStatusCount> countGroupedByStatus();
 }
@@ -1,6 +1,6 @@
 package com.wanderwise.wanderwise_backend.user;
 
-import com.wanderwise.wanderwise_backend.notification.TravelerNotificationService;
+import com.wanderwise.wanderwise_backend.notification.TravelerNotificationDispatcher;
 import com.wanderwise.wanderwise_backend.notification.TravelerNotificationType;
 import com.wanderwise.wanderwise_backend.user.dto.UpdateNotificationSettingsRequest;
 import com.wanderwise.wanderwise_backend.user.dto.UpdatePreferenceSettingsRequest;
@@ -24,7 +24,7 @@ public class UserSettingsService {
     private static final Set<String> SUPPORTED_TIME_FORMATS = Set.of("12_HOUR", "24_HOUR");
 
     private final UserRepository userRepository;
-    private final TravelerNotificationService travelerNotificationService;
+    private final TravelerNotificationDispatcher travelerNotificationDispatcher;
 
     @Transactional
     public UserSettingsResponse getCurrentUserSettings(String userEmail) {
@@ -44,7 +44,7 @@ public class UserSettingsService {
         user.setMobileNumber(request.mobileNumber().trim());
 
         User savedUser = userRepository.save(user);
-        travelerNotificationService.createNotification(
+        travelerNotificationDispatcher.publish(
                 savedUser.getEmail(),
                 TravelerNotificationType.SYSTEM,
                 "Profile Updated",
@@ -0,0 +1,7 @@
+package com.wanderwise.wanderwise_backend.user;
+
+public interface UserStatusCount {
+    UserStatus getStatus();
+
+    long getTotal();
+}
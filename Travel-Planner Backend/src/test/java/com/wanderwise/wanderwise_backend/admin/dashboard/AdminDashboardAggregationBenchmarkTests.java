@@ -0,0 +1,137 @@
+package com.wanderwise.wanderwise_backend.admin.dashboard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.wanderwise.wanderwise_backend.booking.BookingMonthlyCount;
+import com.wanderwise.wanderwise_backend.booking.BookingRequest;
+import com.wanderwise.wanderwise_backend.booking.BookingRequestRepository;
+import com.wanderwise.wanderwise_backend.booking.BookingStatus;
+import com.wanderwise.wanderwise_backend.booking.BookingStatusCount;
+import com.wanderwise.wanderwise_backend.booking.DestinationBookingCount;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class AdminDashboardAggregationBenchmarkTests {
+
+    private static final String[][] DESTINATIONS = {
+            {"Paris", "France"}, {"Kyoto", "Japan"}, {"Bali", "Indonesia"}, {"Goa", "India"},
+            {"Reykjavik", "Iceland"}, {"Cusco", "Peru"}, {"Cape Town", "South Africa"}, {"Zermatt", "Switzerland"}
+    };
+    private static final BookingStatus[] STATUSES = BookingStatus.values();
+
+    @Autowired
+    private BookingRequestRepository bookingRequestRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void aggregateQueriesMatchInMemoryPath() {
+        int rows = Integer.getInteger("benchmarks.rows", 100_000);
+        seedBookings(rows);
+        LocalDateTime from = YearMonth.now().minusMonths(11).atDay(1).atStartOfDay();
+
+        long legacyStart = System.nanoTime();
+        List<BookingRequest> bookings = bookingRequestRepository.findAllByOrderByRequestedAtDesc();
+        Map<BookingStatus, Long> legacyStatusCounts = bookings.stream()
+                .collect(Collectors.groupingBy(BookingRequest::getStatus, Collectors.counting()));
+        Map<YearMonth, Long> legacyMonthlyCounts = bookings.stream()
+                .filter(entry -> !entry.getRequestedAt().isBefore(from))
+                .collect(Collectors.groupingBy(entry -> YearMonth.from(entry.getRequestedAt()), Collectors.counting()));
+        List<Long> legacyTopCounts = bookings.stream()
+                .collect(Collectors.groupingBy(
+                        entry -> (entry.getDestination().trim() + "|" + entry.getCountry().trim()).toLowerCase(Locale.ENGLISH),
+                        Collectors.counting()
+                ))
+                .values()
+                .stream()
+                .sorted((left, right) -> Long.compare(right, left))
+                .limit(3)
+                .toList();
+        long legacyNanos = System.nanoTime() - legacyStart;
+
+        long aggregateStart = System.nanoTime();
+        Map<BookingStatus, Long> statusCounts = new HashMap<>();
+        for (BookingStatusCount entry : bookingRequestRepository.countGroupedByStatus()) {
+            statusCounts.put(entry.getStatus(), entry.getTotal());
+        }
+        Map<YearMonth, Long> monthlyCounts = new HashMap<>();
+        for (BookingMonthlyCount entry : bookingRequestRepository.countGroupedByRequestedMonth(from)) {
+            monthlyCounts.put(YearMonth.of(entry.getYear(), entry.getMonth()), entry.getTotal());
+        }
+        List<Long> topCounts = bookingRequestRepository.findTopDestinations(Limit.of(3))
+                .stream()
+                .map(DestinationBookingCount::getTotal)
+                .toList();
+        long aggregateNanos = System.nanoTime() - aggregateStart;
+
+        assertEquals(legacyStatusCounts, statusCounts);
+        assertEquals(legacyMonthlyCounts, monthlyCounts);
+        assertEquals(legacyTopCounts, topCounts);
+
+        System.out.printf(
+                "Admin overview aggregation over %d bookings: in-memory %d ms, aggregate queries %d ms%n",
+                bookings.size(),
+                legacyNanos / 1_000_000,
+                aggregateNanos / 1_000_000
+        );
+    }
+
+    private void seedBookings(int rows) {
+        String runId = Long.toString(System.nanoTime(), 36);
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> batch = IntStream.range(0, rows)
+                .mapToObj(index -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    String[] destination = DESTINATIONS[random.nextInt(DESTINATIONS.length)];
+                    return new Object[]{
+                            "BN-" + runId + "-" + index,
+                            "bench" + (index % 500) + "@example.com",
+                            "Bench Traveler",
+                            "bench" + (index % 500) + "@example.com",
+                            destination[0],
+                            destination[1],
+                            Date.valueOf(LocalDate.now().plusDays(random.nextInt(-200, 200))),
+                            "Flight",
+                            2,
+                            "[]",
+                            1500,
+                            3000,
+                            "INR",
+                            STATUSES[random.nextInt(STATUSES.length)].name(),
+                            Timestamp.valueOf(now.minusDays(random.nextInt(0, 540)))
+                    };
+                })
+                .toList();
+
+        jdbcTemplate.batchUpdate(
+                """
+                        insert into booking_requests (booking_code, user_email, traveler_name, traveler_email,
+                            destination, country, travel_date, transportation, travelers_count, travelers_json,
+                            amount_per_traveler, total_amount, currency, status, requested_at)
+                        values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                        """,
+                batch
+        );
+    }
+}
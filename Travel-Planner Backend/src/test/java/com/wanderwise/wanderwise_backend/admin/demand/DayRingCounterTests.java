@@ -0,0 +1,58 @@
+package com.wanderwise.wanderwise_backend.admin.demand;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+class DayRingCounterTests {
+
+    @Test
+    void sumsOnlyDaysInsideTheRequestedRange() {
+        DayRingCounter counter = new DayRingCounter(14);
+        for (long day = 100; day < 114; day++) {
+            counter.add(day, day - 99);
+        }
+
+        assertEquals(1L + 2 + 3 + 4 + 5 + 6 + 7, counter.sum(100, 106));
+        assertEquals(8L + 9 + 10 + 11 + 12 + 13 + 14, counter.sum(107, 113));
+    }
+
+    @Test
+    void reusedSlotsForgetExpiredDays() {
+        DayRingCounter counter = new DayRingCounter(7);
+        counter.add(10, 5);
+        counter.add(17, 2);
+
+        assertEquals(0L, counter.sum(10, 10));
+        assertEquals(2L, counter.sum(11, 17));
+    }
+
+    @Test
+    void ignoresWritesOlderThanTheRetainedRange() {
+        DayRingCounter counter = new DayRingCounter(7);
+        counter.add(20, 3);
+        counter.add(13, 4);
+
+        assertEquals(3L, counter.sum(14, 20));
+        assertEquals(0L, counter.sum(13, 13));
+    }
+
+    @Test
+    void rangesBeyondCapacityOnlyCountRetainedDays() {
+        DayRingCounter counter = new DayRingCounter(7);
+        for (long day = 0; day < 30; day++) {
+            counter.add(day, 1);
+        }
+
+        assertEquals(7L, counter.sum(0, 29));
+    }
+
+    @Test
+    void comparisonReportsPercentageChange() {
+        assertEquals(new BigDecimal("40.0"), new DemandComparison(14, 10).changePercent());
+        assertEquals(new BigDecimal("-50.0"), new DemandComparison(5, 10).changePercent());
+        assertNull(new DemandComparison(5, 0).changePercent());
+    }
+}
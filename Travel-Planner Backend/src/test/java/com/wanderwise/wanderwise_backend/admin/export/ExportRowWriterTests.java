@@ -0,0 +1,72 @@
+package com.wanderwise.wanderwise_backend.admin.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ExportRowWriterTests {
+
+    private static final List<ExportColumn> COLUMNS = List.of(
+            ExportColumn.text("code", "code"),
+            ExportColumn.text("note", "note"),
+            ExportColumn.integer("travelers", "travelers"),
+            ExportColumn.decimal("amount", "amount"),
+            ExportColumn.date("travelDate", "travel_date")
+    );
+
+    @Test
+    void csvQuotesOnlyFieldsThatNeedIt() throws Exception {
+        StringWriter output = new StringWriter();
+        ExportRowWriter writer = ExportRowWriter.create(ExportFormat.CSV, COLUMNS, output);
+
+        writer.writeRow(new Object[]{"BK-1", "plain", 2L, new BigDecimal("1E+3"), LocalDate.of(2026, 5, 1)});
+        writer.writeRow(new Object[]{"BK-2", "says \"hi\", then\nleaves", null, new BigDecimal("12.50"), null});
+        writer.finish();
+
+        assertEquals(
+                "code,note,travelers,amount,travelDate\r\n"
+                        + "BK-1,plain,2,1000,2026-05-01\r\n"
+                        + "BK-2,\"says \"\"hi\"\", then\nleaves\",,12.50,\r\n",
+                output.toString()
+        );
+    }
+
+    @Test
+    void csvKeepsFormulaLikeTextFromBeingEvaluated() throws Exception {
+        StringWriter output = new StringWriter();
+        ExportRowWriter writer = ExportRowWriter.create(ExportFormat.CSV, COLUMNS, output);
+
+        writer.writeRow(new Object[]{"=HYPERLINK(\"http://x.example\")", "+1", -2L, new BigDecimal("-12.50"), null});
+        writer.writeRow(new Object[]{"@SUM(A1:A2)", "-cmd|' /C calc'!A0", 1L, BigDecimal.ONE, null});
+        writer.writeRow(new Object[]{"\t=1", "a=b", 1L, BigDecimal.ONE, null});
+        writer.finish();
+
+        assertEquals(
+                "code,note,travelers,amount,travelDate\r\n"
+                        + "\"'=HYPERLINK(\"\"http://x.example\"\")\",'+1,-2,-12.50,\r\n"
+                        + "'@SUM(A1:A2),'-cmd|' /C calc'!A0,1,1,\r\n"
+                        + "'\t=1,a=b,1,1,\r\n",
+                output.toString()
+        );
+    }
+
+    @Test
+    void ndjsonWritesOneObjectPerLineWithTypedNumbers() throws Exception {
+        StringWriter output = new StringWriter();
+        ExportRowWriter writer = ExportRowWriter.create(ExportFormat.NDJSON, COLUMNS, output);
+
+        writer.writeRow(new Object[]{"BK-1", null, 2L, new BigDecimal("12.50"), LocalDate.of(2026, 5, 1)});
+        writer.writeRow(new Object[]{"BK-2", "line\nbreak", 1L, BigDecimal.ONE, null});
+        writer.finish();
+
+        assertEquals(
+                "{\"code\":\"BK-1\",\"note\":null,\"travelers\":2,\"amount\":12.50,\"travelDate\":\"2026-05-01\"}\n"
+                        + "{\"code\":\"BK-2\",\"note\":\"line\\nbreak\",\"travelers\":1,\"amount\":1,\"travelDate\":null}\n",
+                output.toString()
+        );
+    }
+}
@@ -0,0 +1,97 @@
+package com.wanderwise.wanderwise_backend.admin.live;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.wanderwise.wanderwise_backend.admin.live.dto.AdminLiveMetricsResponse;
+import com.wanderwise.wanderwise_backend.user.User;
+import com.wanderwise.wanderwise_backend.user.UserStatus;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class AdminLiveEventServiceTests {
+
+    private final AdminLiveEventService service = new AdminLiveEventService(3, 1, 60_000);
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void slowClientDropsOldestEventsOnceBufferIsFull() throws Exception {
+        BlockingEmitter emitter = new BlockingEmitter();
+        service.register(emitter);
+
+        service.publishUserCreated(user(0));
+        assertTrue(emitter.firstSendStarted.await(5, TimeUnit.SECONDS));
+        for (int index = 1; index <= 9; index++) {
+            service.publishUserCreated(user(index));
+        }
+        emitter.release.countDown();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (emitter.sent.size() < 4 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        AdminLiveMetricsResponse metrics = service.getMetrics();
+        assertEquals(1, metrics.connections());
+        assertEquals(10L, metrics.publishedEvents());
+        assertEquals(4L, metrics.deliveredEvents());
+        assertEquals(6L, metrics.droppedEvents());
+        assertEquals(4, emitter.sent.size());
+    }
+
+    @Test
+    void failingClientIsRemoved() throws Exception {
+        SseEmitter emitter = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                throw new IOException("broken pipe");
+            }
+        };
+        service.register(emitter);
+        service.publishUserCreated(user(1));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (service.getMetrics().connections() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, service.getMetrics().connections());
+    }
+
+    private static User user(int index) {
+        return User.builder()
+                .id((long) index)
+                .name("Traveler " + index)
+                .email("traveler" + index + "@example.com")
+                .status(UserStatus.ACTIVE)
+                .build();
+    }
+
+    private static final class BlockingEmitter extends SseEmitter {
+
+        private final CountDownLatch firstSendStarted = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<SseEventBuilder> sent = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            firstSendStarted.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException(ex);
+            }
+            sent.add(builder);
+        }
+    }
+}
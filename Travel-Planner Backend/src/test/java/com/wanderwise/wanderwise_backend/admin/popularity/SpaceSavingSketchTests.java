@@ -0,0 +1,59 @@
+package com.wanderwise.wanderwise_backend.admin.popularity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class SpaceSavingSketchTests {
+
+    @Test
+    void estimatesStayWithinErrorBoundOnSkewedStream() {
+        int capacity = 32;
+        SpaceSavingSketch sketch = new SpaceSavingSketch(capacity);
+        Map<String, Long> exact = new HashMap<>();
+        Random random = new Random(7);
+
+        for (int index = 0; index < 200_000; index++) {
+            String key = "destination-" + (long) (1.0 / (1.0 - random.nextDouble()));
+            sketch.offer(key, 1L);
+            exact.merge(key, 1L, Long::sum);
+        }
+
+        long bound = sketch.totalCount() / capacity;
+        assertTrue(sketch.maxError() <= bound);
+        for (SpaceSavingSketch.Estimate estimate : sketch.top(capacity)) {
+            long actual = exact.get(estimate.key());
+            assertTrue(estimate.count() >= actual);
+            assertTrue(estimate.count() - estimate.error() <= actual);
+            assertTrue(estimate.error() <= bound);
+        }
+
+        List<String> expectedTop = exact.entrySet()
+                .stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(3)
+                .map(Map.Entry::getKey)
+                .toList();
+        assertEquals(expectedTop, sketch.top(3).stream().map(SpaceSavingSketch.Estimate::key).toList());
+    }
+
+    @Test
+    void weightedOffersKeepExactCountsBelowCapacity() {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(4);
+        sketch.offer("paris|france", 5L);
+        sketch.offer("kyoto|japan", 3L);
+        sketch.offer("paris|france", 1L);
+
+        assertEquals(
+                List.of(new SpaceSavingSketch.Estimate("paris|france", 6L, 0L), new SpaceSavingSketch.Estimate("kyoto|japan", 3L, 0L)),
+                sketch.top(5)
+        );
+        assertEquals(9L, sketch.totalCount());
+        assertEquals(0L, sketch.maxError());
+    }
+}
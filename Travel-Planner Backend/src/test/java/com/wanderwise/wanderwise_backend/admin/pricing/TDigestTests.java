@@ -0,0 +1,97 @@
+package com.wanderwise.wanderwise_backend.admin.pricing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class TDigestTests {
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+
+    @Test
+    void estimatesQuantilesWithinOnePercentRankError() {
+        Random random = new Random(7);
+        double[] values = new double[200_000];
+        TDigest digest = new TDigest(100);
+        for (int index = 0; index < values.length; index++) {
+            values[index] = Math.exp(8 + random.nextGaussian());
+            digest.add(values[index]);
+        }
+        Arrays.sort(values);
+
+        assertEquals(values.length, digest.count());
+        for (double q : QUANTILES) {
+            double rank = rankOf(values, digest.quantile(q));
+            assertTrue(Math.abs(rank - q) < 0.01, "q=" + q + " estimated at rank " + rank);
+        }
+        assertTrue(digest.centroidCount() <= 200, "centroids: " + digest.centroidCount());
+    }
+
+    @Test
+    void mergedDigestsMatchASingleDigest() {
+        Random random = new Random(11);
+        TDigest whole = new TDigest(100);
+        TDigest left = new TDigest(100);
+        TDigest right = new TDigest(100);
+        double[] values = new double[50_000];
+        for (int index = 0; index < values.length; index++) {
+            values[index] = random.nextDouble() * 10_000;
+            whole.add(values[index]);
+            (index % 2 == 0 ? left : right).add(values[index]);
+        }
+        left.merge(right);
+        Arrays.sort(values);
+
+        assertEquals(whole.count(), left.count());
+        for (double q : QUANTILES) {
+            assertTrue(Math.abs(rankOf(values, left.quantile(q)) - q) < 0.01);
+        }
+    }
+
+    @Test
+    void roundTripsThroughBytes() {
+        TDigest digest = new TDigest(50);
+        for (int value = 1; value <= 1_000; value++) {
+            digest.add(value);
+        }
+
+        TDigest restored = TDigest.fromBytes(ByteBuffer.wrap(digest.toBytes()));
+
+        assertEquals(digest.count(), restored.count());
+        for (double q : QUANTILES) {
+            assertEquals(digest.quantile(q), restored.quantile(q), 1e-9);
+        }
+    }
+
+    @Test
+    void bookingValueSketchTracksGroupSizesAndSurvivesSerialization() {
+        BookingValueSketch sketch = new BookingValueSketch(100);
+        for (int index = 0; index < 100; index++) {
+            int travelers = index < 60 ? 1 : index < 90 ? 2 : 12;
+            BigDecimal perTraveler = BigDecimal.valueOf(1_000 + index);
+            sketch.accept(perTraveler.multiply(BigDecimal.valueOf(travelers)), perTraveler, travelers);
+        }
+
+        BookingValueSketch.Summary summary = BookingValueSketch.fromBytes(sketch.toBytes()).summarize();
+
+        assertEquals(100, summary.bookings());
+        assertEquals(60, summary.groupSizeCounts()[0]);
+        assertEquals(30, summary.groupSizeCounts()[1]);
+        assertEquals(10, summary.groupSizeCounts()[BookingValueSketch.GROUP_SIZE_BUCKETS - 1]);
+        assertEquals(1.0, summary.travelersCount().p50(), 1e-9);
+        assertEquals(12.0, summary.travelersCount().max(), 1e-9);
+    }
+
+    private static double rankOf(double[] sorted, double value) {
+        int position = Arrays.binarySearch(sorted, value);
+        if (position < 0) {
+            position = -position - 1;
+        }
+        return position / (double) sorted.length;
+    }
+}
@@ -0,0 +1,173 @@
+package com.wanderwise.wanderwise_backend.admin.recommendation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.wanderwise.wanderwise_backend.booking.BookingRecommendationRow;
+import com.wanderwise.wanderwise_backend.booking.BookingStatus;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class RecommendationAccumulatorBenchmarkTests {
+
+    private static final String[][] DESTINATIONS = {
+            {"Paris", "France"}, {"Kyoto", "Japan"}, {"Bali", "Indonesia"}, {"Goa", "India"},
+            {"Reykjavik", "Iceland"}, {"Cusco", "Peru"}, {"Cape Town", "South Africa"}, {"Zermatt", "Switzerland"},
+            {"Marrakesh", "Morocco"}, {"Queenstown", "New Zealand"}, {"Hoi An", "Vietnam"}, {"Santorini", "Greece"}
+    };
+
+    @Param("1000000")
+    public int rows;
+
+    private List<BookingRecommendationRow> bookings;
+    private LocalDate today;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        BookingStatus[] statuses = BookingStatus.values();
+        today = LocalDate.now();
+        bookings = new ArrayList<>(rows);
+        for (int index = 0; index < rows; index++) {
+            String[] destination = DESTINATIONS[random.nextInt(DESTINATIONS.length)];
+            bookings.add(new BookingRecommendationRow(
+                    destination[0],
+                    destination[1],
+                    today.plusDays(random.nextInt(400) - 200L),
+                    BigDecimal.valueOf(50_000L + random.nextInt(5_000_000), 2),
+                    statuses[random.nextInt(statuses.length)]
+            ));
+        }
+    }
+
+    @Benchmark
+    public void multiPassStreams(Blackhole blackhole) {
+        Map<String, Long> bookingCountByDestination = new HashMap<>();
+        for (BookingRecommendationRow booking : bookings) {
+            String key = legacyDestinationKey(booking.destination(), booking.country());
+            bookingCountByDestination.put(key, bookingCountByDestination.getOrDefault(key, 0L) + 1L);
+        }
+        blackhole.consume(bookingCountByDestination.entrySet()
+                .stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(2)
+                .toList());
+
+        BigDecimal totalValue = bookings.stream()
+                .map(entry -> entry.totalAmount() != null ? entry.totalAmount() : BigDecimal.ZERO)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        blackhole.consume(totalValue.divide(BigDecimal.valueOf(bookings.size()), 0, RoundingMode.HALF_UP));
+        blackhole.consume(bookings.stream()
+                .filter(entry -> entry.status() == BookingStatus.PENDING_PAYMENT)
+                .count());
+
+        Map<Month, Long> bookingsByMonth = new HashMap<>();
+        for (BookingRecommendationRow booking : bookings) {
+            Month month = booking.travelDate().getMonth();
+            bookingsByMonth.put(month, bookingsByMonth.getOrDefault(month, 0L) + 1L);
+        }
+        blackhole.consume(bookingsByMonth);
+
+        LocalDate nextThirtyDays = today.plusDays(30);
+        blackhole.consume(bookings.stream()
+                .filter(entry -> !entry.travelDate().isBefore(today) && !entry.travelDate().isAfter(nextThirtyDays))
+                .count());
+    }
+
+    @Benchmark
+    public void singlePassAccumulator(Blackhole blackhole) {
+        RecommendationAccumulator accumulator = accumulate();
+        blackhole.consume(accumulator.topDestinations(2));
+        blackhole.consume(accumulator.averageBookingValue());
+        blackhole.consume(accumulator.pendingPaymentCount());
+        blackhole.consume(accumulator.peakTravelMonth());
+        blackhole.consume(accumulator.nearTermTripCount());
+    }
+
+    @Test
+    void accumulatorMatchesMultiPassAggregation() {
+        rows = 10_000;
+        setUp();
+        RecommendationAccumulator accumulator = accumulate();
+
+        Map<String, Long> expectedByDestination = new HashMap<>();
+        BigDecimal expectedTotal = BigDecimal.ZERO;
+        long expectedPending = 0;
+        for (BookingRecommendationRow booking : bookings) {
+            expectedByDestination.merge(legacyDestinationKey(booking.destination(), booking.country()), 1L, Long::sum);
+            expectedTotal = expectedTotal.add(booking.totalAmount());
+            if (booking.status() == BookingStatus.PENDING_PAYMENT) {
+                expectedPending++;
+            }
+        }
+
+        for (String[] destination : DESTINATIONS) {
+            assertEquals(
+                    expectedByDestination.getOrDefault(legacyDestinationKey(destination[0], destination[1]), 0L),
+                    accumulator.destinationCount(destination[0].toUpperCase(Locale.ENGLISH), " " + destination[1])
+            );
+        }
+        assertEquals(
+                expectedTotal.divide(BigDecimal.valueOf(bookings.size()), 0, RoundingMode.HALF_UP),
+                accumulator.averageBookingValue()
+        );
+        assertEquals(expectedPending, accumulator.pendingPaymentCount());
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    void runBenchmarks() throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(RecommendationAccumulatorBenchmarkTests.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    private RecommendationAccumulator accumulate() {
+        RecommendationAccumulator accumulator = new RecommendationAccumulator(today);
+        for (BookingRecommendationRow booking : bookings) {
+            accumulator.accept(
+                    booking.destination(),
+                    booking.country(),
+                    booking.travelDate(),
+                    booking.totalAmount(),
+                    booking.status()
+            );
+        }
+        return accumulator;
+    }
+
+    private static String legacyDestinationKey(String destination, String country) {
+        return destination.trim().toLowerCase(Locale.ENGLISH) + "|" + country.trim().toLowerCase(Locale.ENGLISH);
+    }
+}
@@ -0,0 +1,123 @@
+package com.wanderwise.wanderwise_backend.booking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.wanderwise.wanderwise_backend.booking.dto.BookingResponse;
+import com.wanderwise.wanderwise_backend.booking.dto.BulkUpdateBookingStatusRequest;
+import com.wanderwise.wanderwise_backend.booking.dto.BulkUpdateBookingStatusResponse;
+import com.wanderwise.wanderwise_backend.booking.dto.UpdateBookingStatusRequest;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Each repository call is charged a simulated round trip, so the comparison is between per-booking statements and
+// one read plus one compare-and-set per distinct change. Invocations alternate PENDING and APPROVED so every one of
+// them changes every booking.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingBulkStatusUpdateBenchmarkTests {
+
+    @Param("500")
+    public int bookings;
+
+    @Param("200")
+    public long roundTripMicros;
+
+    private BulkStatusUpdateFixture fixture;
+    private boolean approve;
+
+    @Setup
+    public void setUp() throws Exception {
+        fixture = new BulkStatusUpdateFixture(Files.createTempDirectory("bulk-status-benchmark"), roundTripMicros);
+        for (long id = 1L; id <= bookings; id++) {
+            fixture.addBooking(id, BookingStatus.PENDING, null);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        fixture.close();
+    }
+
+    @Benchmark
+    public List<BookingResponse> perBookingUpdates() {
+        BookingStatus status = nextStatus();
+        List<BookingResponse> responses = new ArrayList<>(bookings);
+        UpdateBookingStatusRequest request = new UpdateBookingStatusRequest(status, null);
+        for (long id = 1L; id <= bookings; id++) {
+            responses.add(fixture.bookingService().updateBookingStatus(id, request));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public BulkUpdateBookingStatusResponse bulkUpdate() {
+        return fixture.bookingService().bulkUpdateBookingStatus(request(nextStatus()));
+    }
+
+    @Test
+    void bulkUpdateMatchesPerBookingUpdatesWithFewerRoundTrips() throws Exception {
+        bookings = 200;
+        roundTripMicros = 0L;
+        setUp();
+        try {
+            assertEquals(bookings, perBookingUpdates().size());
+            int perBookingCalls = fixture.repositoryCalls.getAndSet(0);
+            int perBookingNotifications = fixture.notificationBatches().size();
+            assertEquals(BookingStatus.APPROVED, fixture.statusOf(bookings));
+
+            BulkUpdateBookingStatusResponse response = bulkUpdate();
+            assertEquals(bookings, response.updated());
+            assertEquals(BookingStatus.PENDING, fixture.statusOf(bookings));
+            assertEquals(2 * bookings, perBookingCalls);
+            assertEquals(2, fixture.repositoryCalls.get());
+            assertEquals(bookings, perBookingNotifications);
+            assertEquals(bookings + 1, fixture.notificationBatches().size());
+        } finally {
+            tearDown();
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    void runBenchmarks() throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(BookingBulkStatusUpdateBenchmarkTests.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    private BookingStatus nextStatus() {
+        approve = !approve;
+        return approve ? BookingStatus.APPROVED : BookingStatus.PENDING;
+    }
+
+    private BulkUpdateBookingStatusRequest request(BookingStatus status) {
+        List<BulkUpdateBookingStatusRequest.Item> items = new ArrayList<>(bookings);
+        for (long id = 1L; id <= bookings; id++) {
+            items.add(new BulkUpdateBookingStatusRequest.Item(id, status, null));
+        }
+        return new BulkUpdateBookingStatusRequest(items);
+    }
+}
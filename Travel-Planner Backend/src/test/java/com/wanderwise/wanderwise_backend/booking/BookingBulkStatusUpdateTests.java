@@ -0,0 +1,96 @@
+package com.wanderwise.wanderwise_backend.booking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.wanderwise.wanderwise_backend.booking.dto.BulkUpdateBookingStatusRequest;
+import com.wanderwise.wanderwise_backend.booking.dto.BulkUpdateBookingStatusResponse;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BookingBulkStatusUpdateTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void reportsEveryItemAndWritesNotificationsOnce() throws Exception {
+        try (BulkStatusUpdateFixture fixture = new BulkStatusUpdateFixture(tempDir, 0L)) {
+            fixture.addBooking(1L, BookingStatus.PENDING, null);
+            fixture.addBooking(2L, BookingStatus.PENDING, null);
+            fixture.addBooking(3L, BookingStatus.PENDING, null);
+            fixture.addBooking(4L, BookingStatus.PAYMENT_PROCESSING, null);
+            fixture.addBooking(5L, BookingStatus.APPROVED, "Confirmed");
+            fixture.addBooking(6L, BookingStatus.PENDING_PAYMENT, null);
+            fixture.addBooking(7L, BookingStatus.PENDING, null);
+            fixture.addBooking(8L, BookingStatus.REJECTED, "Sold out");
+            fixture.beforeCompareAndSet = () -> fixture.commitConcurrentChange(7L, BookingStatus.APPROVED);
+
+            BulkUpdateBookingStatusResponse response = fixture.bookingService().bulkUpdateBookingStatus(
+                    new BulkUpdateBookingStatusRequest(List.of(
+                            item(1L, BookingStatus.APPROVED, null),
+                            item(2L, BookingStatus.APPROVED, null),
+                            item(1L, BookingStatus.REJECTED, null),
+                            item(99L, BookingStatus.APPROVED, null),
+                            item(3L, BookingStatus.PENDING_PAYMENT, null),
+                            item(4L, BookingStatus.APPROVED, null),
+                            item(5L, BookingStatus.APPROVED, "Confirmed"),
+                            item(6L, BookingStatus.APPROVED, null),
+                            item(7L, BookingStatus.REJECTED, "Dates unavailable"),
+                            item(8L, BookingStatus.REJECTED, "Sold out for those dates")
+                    ))
+            );
+
+            assertEquals(
+                    List.of(
+                            "UPDATED", "UPDATED", "DUPLICATE", "NOT_FOUND", "INVALID",
+                            "INVALID", "UNCHANGED", "INVALID", "CONFLICT", "UPDATED"
+                    ),
+                    response.results().stream().map(BulkUpdateBookingStatusResponse.ItemResultPayload::outcome).toList()
+            );
+            assertEquals(10, response.requested());
+            assertEquals(3, response.updated());
+            assertEquals(1, response.unchanged());
+            assertEquals(6, response.failed());
+
+            // Only real status changes notify the traveler, and they all go out in one dispatcher write.
+            assertEquals(2L, response.notificationsSent());
+            assertEquals(List.of(2), fixture.notificationBatches());
+            assertEquals(3, fixture.recommendationWrites());
+
+            assertEquals(BookingStatus.APPROVED, fixture.statusOf(1L));
+            assertEquals(BookingStatus.APPROVED, fixture.statusOf(2L));
+            assertEquals(BookingStatus.PENDING, fixture.statusOf(3L));
+            assertEquals(BookingStatus.PAYMENT_PROCESSING, fixture.statusOf(4L));
+            assertEquals(BookingStatus.PENDING_PAYMENT, fixture.statusOf(6L));
+            assertEquals(BookingStatus.APPROVED, fixture.statusOf(7L));
+            assertEquals(BookingStatus.REJECTED, fixture.statusOf(8L));
+        }
+    }
+
+    @Test
+    void groupsIdenticalChangesIntoOneCompareAndSet() throws Exception {
+        try (BulkStatusUpdateFixture fixture = new BulkStatusUpdateFixture(tempDir, 0L)) {
+            for (long id = 1L; id <= 50L; id++) {
+                fixture.addBooking(id, BookingStatus.PENDING, null);
+            }
+
+            List<BulkUpdateBookingStatusRequest.Item> items = LongStream.rangeClosed(1L, 50L)
+                    .mapToObj(id -> item(id, id % 2 == 0 ? BookingStatus.APPROVED : BookingStatus.REJECTED, null))
+                    .toList();
+            BulkUpdateBookingStatusResponse response = fixture.bookingService()
+                    .bulkUpdateBookingStatus(new BulkUpdateBookingStatusRequest(items));
+
+            assertEquals(50, response.updated());
+            // One read for the whole batch plus one compare-and-set per distinct change.
+            assertEquals(3, fixture.repositoryCalls.get());
+            assertEquals(List.of(50), fixture.notificationBatches());
+        }
+    }
+
+    private static BulkUpdateBookingStatusRequest.Item item(long id, BookingStatus status, String adminNote) {
+        return new BulkUpdateBookingStatusRequest.Item(id, status, adminNote);
+    }
+}
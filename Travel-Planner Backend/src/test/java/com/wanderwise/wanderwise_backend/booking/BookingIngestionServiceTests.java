@@ -0,0 +1,231 @@
+package com.wanderwise.wanderwise_backend.booking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.wanderwise.wanderwise_backend.booking.dto.BookingResponse;
+import com.wanderwise.wanderwise_backend.booking.dto.CreateBookingRequest;
+import com.wanderwise.wanderwise_backend.idempotency.IdempotencyService;
+import com.wanderwise.wanderwise_backend.sequence.CodeBlockReserver;
+import com.wanderwise.wanderwise_backend.sequence.ReferenceCodeService;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.web.server.ResponseStatusException;
+
+class BookingIngestionServiceTests {
+
+    @Test
+    void concurrentCallersShareBatchCommits() throws Exception {
+        RecordingBookingService bookingService = new RecordingBookingService();
+        BookingIngestionService ingestion = ingestion(bookingService, true, 50);
+        ExecutorService callers = Executors.newFixedThreadPool(25);
+        try {
+            List<Future<BookingResponse>> futures = new ArrayList<>();
+            for (int index = 0; index < 25; index++) {
+                String email = "user" + index + "@example.com";
+                futures.add(callers.submit(() -> ingestion.createBooking(email, request(), null)));
+            }
+
+            for (int index = 0; index < futures.size(); index++) {
+                assertEquals("user" + index + "@example.com", futures.get(index).get().travelerEmail());
+            }
+            assertEquals(25L, ingestion.getBookingsCommitted());
+            assertTrue(bookingService.batchSizes.size() < 25);
+            assertTrue(bookingService.batchSizes.stream().allMatch(size -> size <= 10));
+            assertEquals(0, bookingService.directCalls.get());
+        } finally {
+            callers.shutdownNow();
+            ingestion.shutdown();
+        }
+    }
+
+    @Test
+    void failedBatchIsRetriedOneBookingAtATime() {
+        RecordingBookingService bookingService = new RecordingBookingService();
+        bookingService.failBatches.set(true);
+        BookingIngestionService ingestion = ingestion(bookingService, false, 5);
+
+        BookingIngestionService.PendingBooking good = pending("ann@example.com");
+        BookingIngestionService.PendingBooking unknown = pending("ghost@example.com");
+        ingestion.commit(List.of(good, unknown));
+
+        assertEquals("ann@example.com", good.future().join().travelerEmail());
+        assertTrue(unknown.future().isCompletedExceptionally());
+        assertEquals(2, bookingService.directCalls.get());
+        assertEquals(1L, ingestion.getBookingsCommitted());
+    }
+
+    @Test
+    void unknownUsersInABatchFailOnlyTheirOwnCaller() {
+        RecordingBookingService bookingService = new RecordingBookingService();
+        BookingIngestionService ingestion = ingestion(bookingService, false, 5);
+
+        BookingIngestionService.PendingBooking good = pending("ann@example.com");
+        BookingIngestionService.PendingBooking unknown = pending("ghost@example.com");
+        ingestion.commit(List.of(good, unknown));
+
+        assertEquals("ann@example.com", good.future().join().travelerEmail());
+        ResponseStatusException error = assertThrows(ResponseStatusException.class, () -> {
+            try {
+                unknown.future().join();
+            } catch (RuntimeException ex) {
+                throw ex.getCause();
+            }
+        });
+        assertEquals(HttpStatus.UNAUTHORIZED, error.getStatusCode());
+        assertEquals(1L, ingestion.getBatchesCommitted());
+    }
+
+    @Test
+    void keyedRequestsBypassTheQueue() {
+        RecordingBookingService bookingService = new RecordingBookingService();
+        List<String> idempotencyKeys = new CopyOnWriteArrayList<>();
+        BookingIngestionService ingestion = new BookingIngestionService(
+                bookingService,
+                new PassThroughIdempotencyService(idempotencyKeys),
+                codes(),
+                true,
+                10,
+                5,
+                100,
+                5000
+        );
+        try {
+            ingestion.createBooking("ann@example.com", request(), "key-1");
+
+            assertEquals(1, bookingService.directCalls.get());
+            assertEquals(List.of("key-1"), idempotencyKeys);
+            assertTrue(bookingService.batchSizes.isEmpty());
+        } finally {
+            ingestion.shutdown();
+        }
+    }
+
+    private static BookingIngestionService ingestion(RecordingBookingService bookingService, boolean enabled, long maxWaitMs) {
+        return new BookingIngestionService(
+                bookingService,
+                new PassThroughIdempotencyService(new CopyOnWriteArrayList<>()),
+                codes(),
+                enabled,
+                10,
+                maxWaitMs,
+                100,
+                5000
+        );
+    }
+
+    private static BookingIngestionService.PendingBooking pending(String email) {
+        return new BookingIngestionService.PendingBooking(new BookingCommand(email, request(), null, "BK-1"));
+    }
+
+    private static ReferenceCodeService codes() {
+        AtomicLong next = new AtomicLong(1L);
+        return new ReferenceCodeService(new CodeBlockReserver(null) {
+            @Override
+            public long reserve(String sequence, int blockSize) {
+                return next.getAndAdd(blockSize);
+            }
+        }, 10);
+    }
+
+    private static CreateBookingRequest request() {
+        return new CreateBookingRequest(
+                "Kyoto",
+                "Japan",
+                LocalDate.now().plusDays(30),
+                "Flight",
+                List.of(new CreateBookingRequest.TravelerInput("Ann", 30, "F")),
+                new BigDecimal("1500.00"),
+                "INR"
+        );
+    }
+
+    private static BookingResponse response(String email) {
+        return new BookingResponse(
+                1L,
+                "BK-1",
+                "Traveler",
+                email,
+                "Kyoto",
+                "Japan",
+                LocalDate.now().toString(),
+                "Flight",
+                1,
+                List.of(),
+                BigDecimal.ONE,
+                BigDecimal.ONE,
+                "INR",
+                BookingStatus.PENDING_PAYMENT.name(),
+                null,
+                null
+        );
+    }
+
+    private static final class RecordingBookingService extends BookingService {
+
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        private final AtomicInteger directCalls = new AtomicInteger();
+        private final AtomicBoolean failBatches = new AtomicBoolean();
+
+        private RecordingBookingService() {
+            super(null, null, null, null, null, null, null, null, null, null, null);
+        }
+
+        @Override
+        public BookingResponse createBooking(String userEmail, CreateBookingRequest request, String bookingCode) {
+            directCalls.incrementAndGet();
+            if (userEmail.startsWith("ghost")) {
+                throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not found");
+            }
+            return response(userEmail);
+        }
+
+        @Override
+        public List<BookingResponse> createBookingBatch(List<BookingCommand> commands) {
+            if (failBatches.get()) {
+                throw new IllegalStateException("batch failed");
+            }
+            batchSizes.add(commands.size());
+            return commands.stream()
+                    .map(command -> command.userEmail().startsWith("ghost") ? null : response(command.userEmail()))
+                    .toList();
+        }
+    }
+
+    private static final class PassThroughIdempotencyService extends IdempotencyService {
+
+        private final List<String> keys;
+
+        private PassThroughIdempotencyService(List<String> keys) {
+            super(null, TransactionOperations.withoutTransaction(), 1, 1, 1, 1);
+            this.keys = keys;
+        }
+
+        @Override
+        public <T> T execute(
+                String scope,
+                String ownerEmail,
+                String idempotencyKey,
+                Object request,
+                Class<T> responseType,
+                Supplier<T> action
+        ) {
+            keys.add(idempotencyKey);
+            return action.get();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.wanderwise.wanderwise_backend.booking;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.wanderwise.wanderwise_backend.booking.dto.BookingResponse;
+import com.wanderwise.wanderwise_backend.pagination.CursorPage;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class BookingSearchBenchmarkTests {
+
+    private static final String[] COUNTRIES = {"France", "Japan", "Indonesia", "India", "Iceland", "Peru"};
+    private static final String[] FIRST_NAMES = {"Asha", "Bruno", "Chen", "Dana", "Emeka", "Farah", "Goran", "Hana"};
+    private static final BookingStatus[] STATUSES = BookingStatus.values();
+    private static final int BATCH_SIZE = 10_000;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void searchQueriesAreServedByIndexes() {
+        int rows = Integer.getInteger("benchmarks.rows", 1_000_000);
+        seedBookings(rows);
+        jdbcTemplate.execute("analyze table booking_requests");
+        LocalDate today = LocalDate.now();
+
+        assertIndexed(rows, "status + travel date window", () -> search(
+                new BookingSearchCriteria(List.of(BookingStatus.PENDING), null, null, today, today.plusDays(14), null),
+                BookingSearchSort.TRAVEL_DATE_ASC,
+                null
+        ));
+        assertIndexed(rows, "destination + country", () -> search(
+                new BookingSearchCriteria(null, "City 42", COUNTRIES[42 % COUNTRIES.length], null, null, null),
+                BookingSearchSort.REQUESTED_AT_DESC,
+                null
+        ));
+        assertIndexed(rows, "travel date window", () -> search(
+                new BookingSearchCriteria(null, null, null, today.plusDays(30), today.plusDays(31), null),
+                BookingSearchSort.TRAVEL_DATE_DESC,
+                null
+        ));
+        assertIndexed(rows, "traveler name prefix", () -> search(
+                new BookingSearchCriteria(null, null, null, null, null, "Farah 12"),
+                BookingSearchSort.REQUESTED_AT_DESC,
+                null
+        ));
+
+        CursorPage<BookingResponse> firstPage = search(
+                new BookingSearchCriteria(null, null, null, null, null, null),
+                BookingSearchSort.REQUESTED_AT_DESC,
+                null
+        );
+        assertIndexed(rows, "unfiltered second page", () -> search(
+                new BookingSearchCriteria(null, null, null, null, null, null),
+                BookingSearchSort.REQUESTED_AT_DESC,
+                firstPage.nextCursor()
+        ));
+    }
+
+    private CursorPage<BookingResponse> search(BookingSearchCriteria criteria, BookingSearchSort sort, String cursor) {
+        return bookingService.searchAdminBookings(criteria, sort, cursor, CursorPage.DEFAULT_LIMIT, true);
+    }
+
+    // Handler_read_rnd_next counts rows read by full table scans; index range scans leave it untouched.
+    private void assertIndexed(int rows, String scenario, Supplier<CursorPage<BookingResponse>> query) {
+        jdbcTemplate.execute("flush status");
+        long startedAt = System.nanoTime();
+        CursorPage<BookingResponse> page = query.get();
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        Map<String, Long> handlers = jdbcTemplate.queryForList("show session status like 'Handler_read%'")
+                .stream()
+                .collect(Collectors.toMap(
+                        row -> String.valueOf(row.get("Variable_name")),
+                        row -> Long.parseLong(String.valueOf(row.get("Value")))
+                ));
+
+        System.out.printf(
+                "Booking search [%s] over %d rows: %d results in %d ms, handlers %s%n",
+                scenario,
+                rows,
+                page.items().size(),
+                elapsedMs,
+                handlers
+        );
+        assertFalse(page.items().isEmpty(), scenario + " returned no rows");
+        assertTrue(handlers.get("Handler_read_key") > 0, scenario + " did not use an index");
+        assertTrue(handlers.get("Handler_read_rnd_next") < rows / 100, scenario + " fell back to a table scan");
+    }
+
+    private void seedBookings(int rows) {
+        String runId = Long.toString(System.nanoTime(), 36);
+        LocalDateTime now = LocalDateTime.now();
+        for (int start = 0; start < rows; start += BATCH_SIZE) {
+            List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+            for (int index = start; index < Math.min(rows, start + BATCH_SIZE); index++) {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                int city = random.nextInt(200);
+                String email = "search" + (index % 5_000) + "@example.com";
+                batch.add(new Object[]{
+                        "BS-" + runId + "-" + index,
+                        email,
+                        FIRST_NAMES[index % FIRST_NAMES.length] + " " + (index % 5_000),
+                        email,
+                        "City " + city,
+                        COUNTRIES[city % COUNTRIES.length],
+                        Date.valueOf(LocalDate.now().plusDays(random.nextInt(-365, 365))),
+                        "Flight",
+                        2,
+                        1500,
+                        3000,
+                        "INR",
+                        STATUSES[random.nextInt(STATUSES.length)].name(),
+                        Timestamp.valueOf(now.minusMinutes(random.nextInt(0, 525_600)))
+                });
+            }
+
+            jdbcTemplate.batchUpdate(
+                    """
+                            insert into booking_requests (booking_code, user_email, traveler_name, traveler_email,
+                                destination, country, travel_date, transportation, travelers_count,
+                                amount_per_traveler, total_amount, currency, status, requested_at)
+                            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                            """,
+                    batch
+            );
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.wanderwise.wanderwise_backend.booking;
+
+import com.wanderwise.wanderwise_backend.admin.live.AdminLiveEventService;
+import com.wanderwise.wanderwise_backend.admin.metrics.AdminMetricsService;
+import com.wanderwise.wanderwise_backend.admin.recommendation.RecommendationSnapshotService;
+import com.wanderwise.wanderwise_backend.admin.rollup.BookingRollupService;
+import com.wanderwise.wanderwise_backend.notification.TravelerNotification;
+import com.wanderwise.wanderwise_backend.notification.TravelerNotificationDispatcher;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+// A BookingService over an in-memory booking table. Every repository call hands out detached copies and can be
+// charged a simulated round trip, so callers see the same lost-update and batching behaviour they would against
+// MySQL without a database.
+final class BulkStatusUpdateFixture implements AutoCloseable {
+
+    private final Map<Long, BookingRequest> rows = new ConcurrentHashMap<>();
+    private final long roundTripNanos;
+    private final RecordingDispatcher dispatcher;
+    private final NoOpLiveEvents liveEvents = new NoOpLiveEvents();
+    private final RecordingSnapshots snapshots = new RecordingSnapshots();
+    private final BookingService bookingService;
+
+    final AtomicInteger repositoryCalls = new AtomicInteger();
+    volatile Runnable beforeCompareAndSet = () -> { };
+
+    BulkStatusUpdateFixture(Path spoolDirectory, long roundTripMicros) {
+        this.roundTripNanos = TimeUnit.MICROSECONDS.toNanos(roundTripMicros);
+        this.dispatcher = new RecordingDispatcher(spoolDirectory.resolve("notification-spool.ndjson").toString());
+        this.bookingService = new BookingService(
+                repository(),
+                null,
+                dispatcher,
+                new NoOpMetrics(),
+                snapshots,
+                new NoOpRollups(),
+                null,
+                liveEvents,
+                null,
+                null,
+                null
+        );
+    }
+
+    BookingService bookingService() {
+        return bookingService;
+    }
+
+    void addBooking(long id, BookingStatus status, String adminNote) {
+        rows.put(id, BookingRequest.builder()
+                .id(id)
+                .bookingCode("BK-" + id)
+                .userEmail("traveler" + id + "@example.com")
+                .travelerName("Traveler " + id)
+                .travelerEmail("traveler" + id + "@example.com")
+                .destination("Paris")
+                .country("France")
+                .travelDate(LocalDate.now().plusDays(30))
+                .transportation("Flight")
+                .travelersCount(1)
+                .amountPerTraveler(new BigDecimal("1500.00"))
+                .totalAmount(new BigDecimal("1500.00"))
+                .currency("INR")
+                .status(status)
+                .requestedAt(LocalDateTime.now())
+                .adminNote(adminNote)
+                .build());
+    }
+
+    BookingStatus statusOf(long id) {
+        return rows.get(id).getStatus();
+    }
+
+    // Stands in for another writer committing between our read and our compare-and-set.
+    void commitConcurrentChange(long id, BookingStatus status) {
+        rows.get(id).setStatus(status);
+    }
+
+    List<Integer> notificationBatches() {
+        return dispatcher.batchSizes;
+    }
+
+    int recommendationWrites() {
+        return snapshots.writes.get();
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        dispatcher.shutdown();
+        liveEvents.shutdown();
+        snapshots.shutdown();
+    }
+
+    private BookingRequestRepository repository() {
+        return (BookingRequestRepository) Proxy.newProxyInstance(
+                BookingRequestRepository.class.getClassLoader(),
+                new Class<?>[]{BookingRequestRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findAllById", "findAllByIdForUpdate" -> roundTrip(() -> findAll((Iterable<?>) args[0]));
+                    case "findById" -> roundTrip(() -> Optional.ofNullable(rows.get((Long) args[0]))
+                            .map(this::copy));
+                    case "compareAndSetStatusAndNote" -> {
+                        beforeCompareAndSet.run();
+                        yield roundTrip(() -> compareAndSet(
+                                (Collection<?>) args[0],
+                                (BookingStatus) args[1],
+                                (BookingStatus) args[2],
+                                (String) args[3]
+                        ));
+                    }
+                    case "toString" -> "InMemoryBookingRequestRepository";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                }
+        );
+    }
+
+    private <T> T roundTrip(Supplier<T> call) {
+        repositoryCalls.incrementAndGet();
+        if (roundTripNanos > 0) {
+            LockSupport.parkNanos(roundTripNanos);
+        }
+        return call.get();
+    }
+
+    private List<BookingRequest> findAll(Iterable<?> ids) {
+        List<BookingRequest> found = new ArrayList<>();
+        for (Object id : ids) {
+            BookingRequest row = rows.get((Long) id);
+            if (row != null) {
+                found.add(copy(row));
+            }
+        }
+        return found;
+    }
+
+    private int compareAndSet(Collection<?> ids, BookingStatus expected, BookingStatus status, String adminNote) {
+        int updated = 0;
+        for (Object id : ids) {
+            BookingRequest row = rows.get((Long) id);
+            if (row != null && row.getStatus() == expected) {
+                row.setStatus(status);
+                row.setAdminNote(adminNote);
+                updated++;
+            }
+        }
+        return updated;
+    }
+
+    private BookingRequest copy(BookingRequest row) {
+        return BookingRequest.builder()
+                .id(row.getId())
+                .bookingCode(row.getBookingCode())
+                .userEmail(row.getUserEmail())
+                .travelerName(row.getTravelerName())
+                .travelerEmail(row.getTravelerEmail())
+                .destination(row.getDestination())
+                .country(row.getCountry())
+                .travelDate(row.getTravelDate())
+                .transportation(row.getTransportation())
+                .travelersCount(row.getTravelersCount())
+                .amountPerTraveler(row.getAmountPerTraveler())
+                .totalAmount(row.getTotalAmount())
+                .currency(row.getCurrency())
+                .status(row.getStatus())
+                .requestedAt(row.getRequestedAt())
+                .adminNote(row.getAdminNote())
+                .build();
+    }
+
+    private final class RecordingDispatcher extends TravelerNotificationDispatcher {
+
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+        private RecordingDispatcher(String spoolFile) {
+            super(null, 1, 1, spoolFile);
+        }
+
+        @Override
+        public int publishAll(List<TravelerNotification> notifications) {
+            batchSizes.add(notifications.size());
+            return notifications.size();
+        }
+    }
+
+    private static final class NoOpLiveEvents extends AdminLiveEventService {
+
+        private NoOpLiveEvents() {
+            super(1, 1, 1_000L);
+        }
+
+        @Override
+        public void publishBookingStatusChanged(BookingRequest booking, BookingStatus previousStatus) {
+        }
+    }
+
+    private static final class RecordingSnapshots extends RecommendationSnapshotService {
+
+        private final AtomicInteger writes = new AtomicInteger();
+
+        private RecordingSnapshots() {
+            super(null, null);
+        }
+
+        @Override
+        public void recordWrite() {
+            writes.incrementAndGet();
+        }
+    }
+
+    private static final class NoOpMetrics extends AdminMetricsService {
+
+        private NoOpMetrics() {
+            super(null, null, null, null);
+        }
+
+        @Override
+        public void recordBookingStatusChanged(BookingRequest booking, BookingStatus previousStatus) {
+        }
+
+        @Override
+        public void recordBookingStatusChanges(List<BookingStatusChange> changes) {
+        }
+    }
+
+    private static final class NoOpRollups extends BookingRollupService {
+
+        private NoOpRollups() {
+            super(null, null);
+        }
+
+        @Override
+        public void recordBookingStatusChanged(BookingRequest booking, BookingStatus previousStatus) {
+        }
+
+        @Override
+        public void recordBookingStatusChanges(List<BookingStatusChange> changes) {
+        }
+    }
+}
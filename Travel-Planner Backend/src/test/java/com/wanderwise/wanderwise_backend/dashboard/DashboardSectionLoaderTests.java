@@ -0,0 +1,79 @@
+package com.wanderwise.wanderwise_backend.dashboard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.wanderwise.wanderwise_backend.dashboard.dto.DashboardSectionTiming;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+class DashboardSectionLoaderTests {
+
+    private final DashboardSectionLoader loader = new DashboardSectionLoader(4, 300, 5_000);
+
+    @AfterEach
+    void tearDown() {
+        loader.shutdown();
+    }
+
+    @Test
+    void sectionsRunConcurrentlyAndSlowSectionsDegrade() {
+        long startedAt = System.nanoTime();
+        try (DashboardSectionLoader.Fanout fanout = loader.fanout("test")) {
+            DashboardSectionLoader.Section<String> first = fanout.fork("first", () -> sleepAndReturn(200, "a"), "");
+            DashboardSectionLoader.Section<String> second = fanout.fork("second", () -> sleepAndReturn(200, "b"), "");
+            DashboardSectionLoader.Section<String> slow = fanout.fork("slow", () -> sleepAndReturn(5_000, "c"), "fallback");
+
+            assertEquals("a", first.join());
+            assertEquals("b", second.join());
+            assertEquals("fallback", slow.join());
+
+            List<DashboardSectionTiming> timings = fanout.timings();
+            assertEquals(List.of("OK", "OK", "TIMED_OUT"), timings.stream().map(DashboardSectionTiming::status).toList());
+        }
+        assertTrue((System.nanoTime() - startedAt) / 1_000_000 < 1_000);
+    }
+
+    @Test
+    void failedOptionalSectionFallsBackAndRequiredSectionPropagates() {
+        try (DashboardSectionLoader.Fanout fanout = loader.fanout("test")) {
+            DashboardSectionLoader.Section<List<String>> optional = fanout.fork("optional", () -> {
+                throw new IllegalStateException("boom");
+            }, List.of());
+            DashboardSectionLoader.Section<String> required = fanout.forkRequired("required", () -> {
+                throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not found");
+            });
+
+            assertEquals(List.of(), optional.join());
+            ResponseStatusException ex = assertThrows(ResponseStatusException.class, required::join);
+            assertEquals(HttpStatus.UNAUTHORIZED, ex.getStatusCode());
+        }
+    }
+
+    @Test
+    void timeQueuedBehindOtherSectionsDoesNotCountAgainstTheBudget() {
+        DashboardSectionLoader singleThread = new DashboardSectionLoader(1, 300, 5_000);
+        try (DashboardSectionLoader.Fanout fanout = singleThread.fanout("test")) {
+            DashboardSectionLoader.Section<String> first = fanout.fork("first", () -> sleepAndReturn(200, "a"), "");
+            DashboardSectionLoader.Section<String> queued = fanout.forkRequired("queued", () -> sleepAndReturn(200, "b"));
+
+            assertEquals("b", queued.join());
+            assertEquals("a", first.join());
+        } finally {
+            singleThread.shutdown();
+        }
+    }
+
+    private static String sleepAndReturn(long millis, String value) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+}
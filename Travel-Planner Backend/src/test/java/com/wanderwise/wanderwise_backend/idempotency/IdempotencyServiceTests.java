@@ -0,0 +1,142 @@
+package com.wanderwise.wanderwise_backend.idempotency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.web.server.ResponseStatusException;
+
+class IdempotencyServiceTests {
+
+    @Test
+    void concurrentDuplicatesCollapseOntoOneExecution() throws Exception {
+        IdempotencyService service = new IdempotencyService(new InMemoryStore(), TransactionOperations.withoutTransaction(), 100, 24, 120_000, 5_000);
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int index = 0; index < 16; index++) {
+                results.add(executor.submit(() -> service.execute("booking", "Ann@Example.com", "key-1", "payload", String.class, () -> {
+                    awaitQuietly(release);
+                    return "BK-" + executions.incrementAndGet();
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            Set<String> responses = new HashSet<>();
+            for (Future<String> result : results) {
+                responses.add(result.get());
+            }
+            assertEquals(Set.of("BK-1"), responses);
+            assertEquals(1, executions.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void replaysFromThePersistentStoreWhenTheCacheMisses() {
+        InMemoryStore store = new InMemoryStore();
+        new IdempotencyService(store, TransactionOperations.withoutTransaction(), 100, 24, 120_000, 5_000)
+                .execute("payment", "ann@example.com", "key-2", "payload", String.class, () -> "PMT-1");
+
+        String replayed = new IdempotencyService(store, TransactionOperations.withoutTransaction(), 100, 24, 120_000, 5_000)
+                .execute("payment", "ann@example.com", "key-2", "payload", String.class, () -> "PMT-2");
+
+        assertEquals("PMT-1", replayed);
+    }
+
+    @Test
+    void rejectsAKeyReusedForADifferentRequest() {
+        IdempotencyService service = new IdempotencyService(new InMemoryStore(), TransactionOperations.withoutTransaction(), 100, 24, 120_000, 5_000);
+        service.execute("booking", "ann@example.com", "key-3", "first", String.class, () -> "BK-1");
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class, () ->
+                service.execute("booking", "ann@example.com", "key-3", "second", String.class, () -> "BK-2"));
+
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, ex.getStatusCode());
+    }
+
+    @Test
+    void failedExecutionReleasesTheKeyForRetries() {
+        IdempotencyService service = new IdempotencyService(new InMemoryStore(), TransactionOperations.withoutTransaction(), 100, 24, 120_000, 5_000);
+
+        assertThrows(IllegalStateException.class, () -> service.execute("booking", "ann@example.com", "key-4", "payload",
+                String.class, () -> {
+                    throw new IllegalStateException("gateway down");
+                }));
+
+        assertEquals("BK-9", service.execute("booking", "ann@example.com", "key-4", "payload", String.class, () -> "BK-9"));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class InMemoryStore extends IdempotencyStore {
+
+        private final Map<String, IdempotencyRecord> records = new ConcurrentHashMap<>();
+        private final AtomicLong ids = new AtomicLong();
+
+        private InMemoryStore() {
+            super(null);
+        }
+
+        @Override
+        public Long claim(String scope, String ownerEmail, String idempotencyKey, String requestHash, LocalDateTime expiresAt) {
+            IdempotencyRecord record = IdempotencyRecord.builder()
+                    .id(ids.incrementAndGet())
+                    .scope(scope)
+                    .ownerEmail(ownerEmail)
+                    .idempotencyKey(idempotencyKey)
+                    .requestHash(requestHash)
+                    .createdAt(LocalDateTime.now())
+                    .expiresAt(expiresAt)
+                    .build();
+            if (records.putIfAbsent(scope + "|" + ownerEmail + "|" + idempotencyKey, record) != null) {
+                throw new DataIntegrityViolationException("duplicate idempotency key");
+            }
+            return record.getId();
+        }
+
+        @Override
+        public Optional<IdempotencyRecord> find(String scope, String ownerEmail, String idempotencyKey) {
+            return Optional.ofNullable(records.get(scope + "|" + ownerEmail + "|" + idempotencyKey));
+        }
+
+        @Override
+        public void release(Long recordId) {
+            records.values().removeIf(record -> record.getId().equals(recordId));
+        }
+
+        @Override
+        public void complete(Long recordId, String responseJson) {
+            records.values().stream()
+                    .filter(record -> record.getId().equals(recordId))
+                    .forEach(record -> record.setResponseJson(responseJson));
+        }
+    }
+}
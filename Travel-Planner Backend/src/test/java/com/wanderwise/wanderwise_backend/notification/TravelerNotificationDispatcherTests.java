@@ -0,0 +1,146 @@
+package com.wanderwise.wanderwise_backend.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TravelerNotificationDispatcherTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void groupsPublishedNotificationsIntoBatches() throws Exception {
+        RecordingService service = new RecordingService();
+        TravelerNotificationDispatcher dispatcher = new TravelerNotificationDispatcher(service, 1000, 50, spoolFile());
+        try {
+            for (int index = 0; index < 120; index++) {
+                dispatcher.publish(" Ann@Example.com ", TravelerNotificationType.BOOKING, "Title " + index, "Message");
+            }
+            dispatcher.publish("ann@example.com", TravelerNotificationType.BOOKING, " ", "skipped");
+
+            awaitPersisted(service, 120);
+            assertTrue(service.batchSizes.stream().allMatch(size -> size <= 50));
+            assertEquals("ann@example.com", service.written.get(0).getUserEmail());
+            assertEquals(120L, dispatcher.getMetrics().published());
+        } finally {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    void notificationsPublishedAfterShutdownAreSpooledInOrder() throws Exception {
+        RecordingService service = new RecordingService();
+        service.failing.set(true);
+        TravelerNotificationDispatcher dispatcher = new TravelerNotificationDispatcher(service, 1, 50, spoolFile());
+        dispatcher.shutdown();
+
+        dispatcher.publishAll(List.of(
+                notification("First"),
+                notification("Second"),
+                notification("Third")
+        ));
+
+        assertEquals(3L, dispatcher.getMetrics().spooled());
+        service.failing.set(false);
+        dispatcher.replaySpool();
+        assertEquals(List.of("First", "Second", "Third"), service.written.stream().map(TravelerNotification::getTitle).toList());
+    }
+
+    @Test
+    void spoolsFailedBatchesAndReplaysThem() throws Exception {
+        RecordingService service = new RecordingService();
+        service.failing.set(true);
+        TravelerNotificationDispatcher dispatcher = new TravelerNotificationDispatcher(service, 100, 50, spoolFile());
+        try {
+            dispatcher.publish("ann@example.com", TravelerNotificationType.PAYMENT, "Payment Successful", "Paid");
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (dispatcher.getMetrics().spooled() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+            assertEquals(1L, dispatcher.getMetrics().failedBatches());
+            assertTrue(Files.exists(Path.of(spoolFile())));
+
+            service.failing.set(false);
+            dispatcher.replaySpool();
+
+            assertEquals(1, service.written.size());
+            assertEquals("Payment Successful", service.written.get(0).getTitle());
+            assertFalse(Files.exists(Path.of(spoolFile())));
+        } finally {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    void malformedSpoolLinesAreQuarantinedWithoutBlockingTheReplay() throws Exception {
+        RecordingService service = new RecordingService();
+        TravelerNotificationDispatcher dispatcher = new TravelerNotificationDispatcher(service, 1, 50, spoolFile());
+        dispatcher.shutdown();
+        dispatcher.publishAll(List.of(notification("First"), notification("Second")));
+        Files.writeString(Path.of(spoolFile()), "{\"userEmail\":\"ann@example.com\",\"type\":\"BOO", StandardOpenOption.APPEND);
+
+        dispatcher.replaySpool();
+
+        assertEquals(List.of("First", "Second"), service.written.stream().map(TravelerNotification::getTitle).toList());
+        assertEquals(1L, dispatcher.getMetrics().quarantined());
+        assertFalse(Files.exists(Path.of(spoolFile() + ".replay")));
+        assertTrue(Files.readString(Path.of(spoolFile() + ".rejected")).startsWith("{\"userEmail\""));
+
+        dispatcher.publishAll(List.of(notification("Third")));
+        dispatcher.replaySpool();
+        assertEquals("Third", service.written.get(2).getTitle());
+    }
+
+    private static TravelerNotification notification(String title) {
+        return TravelerNotification.builder()
+                .userEmail("ann@example.com")
+                .type(TravelerNotificationType.BOOKING)
+                .title(title)
+                .message("Message")
+                .build();
+    }
+
+    private String spoolFile() {
+        return tempDir.resolve("spool.ndjson").toString();
+    }
+
+    private static void awaitPersisted(RecordingService service, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (service.written.size() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, service.written.size());
+    }
+
+    private static final class RecordingService extends TravelerNotificationService {
+
+        private final List<TravelerNotification> written = new CopyOnWriteArrayList<>();
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        private final AtomicBoolean failing = new AtomicBoolean();
+
+        private RecordingService() {
+            super(null, null);
+        }
+
+        @Override
+        public int createNotifications(List<TravelerNotification> notifications) {
+            if (failing.get()) {
+                throw new IllegalStateException("database unavailable");
+            }
+            batchSizes.add(notifications.size());
+            written.addAll(notifications);
+            return notifications.size();
+        }
+    }
+}
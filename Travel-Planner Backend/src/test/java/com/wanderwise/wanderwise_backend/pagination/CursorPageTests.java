@@ -0,0 +1,54 @@
+package com.wanderwise.wanderwise_backend.pagination;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+class CursorPageTests {
+
+    @Test
+    void cursorRoundTripsTimestampAndId() {
+        PageCursor cursor = PageCursor.of(LocalDateTime.of(2026, 3, 14, 9, 26, 53, 589_000_000), 42L);
+
+        assertEquals(cursor, PageCursor.decode(cursor.encode()));
+        assertEquals(PageCursor.ofId(7L), PageCursor.decode(PageCursor.ofId(7L).encode()));
+    }
+
+    @Test
+    void blankCursorStartsFromTheFirstPage() {
+        assertNull(PageCursor.decode(null));
+        assertNull(PageCursor.decode(" "));
+    }
+
+    @Test
+    void rejectsTamperedCursors() {
+        assertThrows(ResponseStatusException.class, () -> PageCursor.decode("not-a-cursor"));
+        assertThrows(ResponseStatusException.class, () -> PageCursor.decode(PageCursor.ofId(7L).encode()).requireTimestamp());
+    }
+
+    @Test
+    void lookaheadRowDecidesWhetherANextCursorIsIssued() {
+        List<Long> ids = List.of(5L, 4L, 3L);
+
+        CursorPage<Long> firstPage = CursorPage.of(ids, 2, PageCursor::ofId, Function.identity());
+        CursorPage<Long> lastPage = CursorPage.of(ids.subList(2, 3), 2, PageCursor::ofId, Function.identity());
+
+        assertEquals(List.of(5L, 4L), firstPage.items());
+        assertEquals(PageCursor.ofId(4L), PageCursor.decode(firstPage.nextCursor()));
+        assertEquals(List.of(3L), lastPage.items());
+        assertNull(lastPage.nextCursor());
+    }
+
+    @Test
+    void clampsRequestedPageSize() {
+        assertEquals(CursorPage.DEFAULT_LIMIT, CursorPage.resolveLimit(null));
+        assertEquals(1, CursorPage.resolveLimit(0));
+        assertEquals(CursorPage.MAX_LIMIT, CursorPage.resolveLimit(10_000));
+    }
+}
@@ -0,0 +1,123 @@
+package com.wanderwise.wanderwise_backend.payment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.wanderwise.wanderwise_backend.auth.AuthService;
+import com.wanderwise.wanderwise_backend.auth.dto.SignupRequest;
+import com.wanderwise.wanderwise_backend.booking.BookingService;
+import com.wanderwise.wanderwise_backend.booking.BookingStatus;
+import com.wanderwise.wanderwise_backend.booking.dto.BookingResponse;
+import com.wanderwise.wanderwise_backend.booking.dto.CreateBookingRequest;
+import com.wanderwise.wanderwise_backend.payment.dto.CreatePaymentRequest;
+import com.wanderwise.wanderwise_backend.sequence.ReferenceCodeService;
+import com.wanderwise.wanderwise_backend.user.Role;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+// Commits real rows, so point it at a scratch database. The simulated gateway is held back so every round is still
+// in flight when the rows are checked.
+@SpringBootTest(properties = {
+        "app.payments.gateway.simulator.min-latency-ms=600000",
+        "app.payments.gateway.simulator.max-latency-ms=600000"
+})
+@EnabledIfSystemProperty(named = "stress", matches = "true")
+class ConcurrentPaymentStressTests {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private ReferenceCodeService referenceCodeService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentPaymentsForOneBookingChargeItOnce() throws Exception {
+        int attempts = Integer.getInteger("stress.threads", 32);
+        int rounds = Integer.getInteger("stress.rounds", 20);
+        String runId = Long.toString(System.nanoTime(), 36);
+        String email = "stress-" + runId + "@example.com";
+        authService.signup(new SignupRequest("Stress Traveler", email, "password123", "9999999999", Role.USER));
+
+        ExecutorService executor = Executors.newFixedThreadPool(attempts);
+        try {
+            for (int round = 0; round < rounds; round++) {
+                BookingResponse booking = bookingService.createBooking(email, new CreateBookingRequest(
+                        "Paris",
+                        "France",
+                        LocalDate.now().plusDays(30),
+                        "Flight",
+                        List.of(new CreateBookingRequest.TravelerInput("Stress Traveler", 30, "F")),
+                        new BigDecimal("1500.00"),
+                        "INR"
+                ), referenceCodeService.nextBookingCode());
+
+                CountDownLatch start = new CountDownLatch(1);
+                AtomicInteger rejected = new AtomicInteger();
+                List<Future<Boolean>> results = new ArrayList<>(attempts);
+                for (int attempt = 0; attempt < attempts; attempt++) {
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        try {
+                            paymentService.createPayment(email, new CreatePaymentRequest(
+                                    booking.bookingRecordId(),
+                                    PaymentMethod.UPI,
+                                    null,
+                                    null,
+                                    "stress@upi",
+                                    null
+                            ), referenceCodeService.nextPaymentCode());
+                            return true;
+                        } catch (ResponseStatusException ex) {
+                            assertTrue(ex.getStatusCode().is4xxClientError(), ex.getMessage());
+                            rejected.incrementAndGet();
+                            return false;
+                        }
+                    }));
+                }
+                start.countDown();
+
+                int succeeded = 0;
+                for (Future<Boolean> result : results) {
+                    succeeded += result.get() ? 1 : 0;
+                }
+
+                assertEquals(1, succeeded, "round " + round);
+                assertEquals(attempts - 1, rejected.get(), "round " + round);
+                assertEquals(1, jdbcTemplate.queryForObject(
+                        "select count(*) from payments where booking_record_id = ?",
+                        Integer.class,
+                        booking.bookingRecordId()
+                ));
+                assertEquals(BookingStatus.PAYMENT_PROCESSING.name(), jdbcTemplate.queryForObject(
+                        "select status from booking_requests where id = ?",
+                        String.class,
+                        booking.bookingRecordId()
+                ));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.wanderwise.wanderwise_backend.payment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.wanderwise.wanderwise_backend.payment.dto.PaymentResponse;
+import com.wanderwise.wanderwise_backend.payment.gateway.GatewayAuthorization;
+import com.wanderwise.wanderwise_backend.payment.gateway.GatewayOutcome;
+import com.wanderwise.wanderwise_backend.payment.gateway.GatewayResult;
+import com.wanderwise.wanderwise_backend.payment.gateway.SimulatedPaymentGateway;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+class PaymentGatewayDispatcherTests {
+
+    @Test
+    void simulatorOutcomesReachTheCompletionService() throws Exception {
+        RecordingCompletionService completion = new RecordingCompletionService();
+        SimulatedPaymentGateway gateway = new SimulatedPaymentGateway(5, 20, 0.0, 0.0);
+        PaymentGatewayDispatcher dispatcher = new PaymentGatewayDispatcher(gateway, completion, null, 2, 100, 600000, 100);
+        try {
+            dispatcher.submit(authorization("PMT-1", "4242"));
+            dispatcher.submit(authorization("PMT-2", "0002"));
+            dispatcher.submit(authorization("PMT-3", "0119"));
+
+            awaitCompleted(completion, 3);
+            assertEquals(GatewayOutcome.AUTHORIZED, completion.results.get("PMT-1").outcome());
+            assertEquals(GatewayOutcome.DECLINED, completion.results.get("PMT-2").outcome());
+            assertEquals(GatewayOutcome.ERROR, completion.results.get("PMT-3").outcome());
+            assertEquals(1L, dispatcher.getMetrics().authorized());
+            assertEquals(1L, dispatcher.getMetrics().declined());
+            assertEquals(1L, dispatcher.getMetrics().errors());
+        } finally {
+            dispatcher.shutdown();
+            gateway.shutdown();
+        }
+    }
+
+    @Test
+    void authorizationsDoNotHoldDispatcherThreadsWhileWaiting() throws Exception {
+        RecordingCompletionService completion = new RecordingCompletionService();
+        SimulatedPaymentGateway gateway = new SimulatedPaymentGateway(200, 200, 0.0, 0.0);
+        PaymentGatewayDispatcher dispatcher = new PaymentGatewayDispatcher(gateway, completion, null, 1, 1000, 600000, 100);
+        try {
+            long startedAt = System.nanoTime();
+            for (int index = 0; index < 200; index++) {
+                dispatcher.submit(authorization("PMT-" + index, "4242"));
+            }
+
+            awaitCompleted(completion, 200);
+            // One thread sleeping through 200 ms per payment would need 40 seconds.
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt) < 5000);
+            assertEquals(0, dispatcher.getMetrics().inFlight());
+        } finally {
+            dispatcher.shutdown();
+            gateway.shutdown();
+        }
+    }
+
+    @Test
+    void fullQueueLeavesPaymentsForTheSweep() {
+        RecordingCompletionService completion = new RecordingCompletionService();
+        CompletableFuture<GatewayResult> never = new CompletableFuture<>();
+        PaymentGatewayDispatcher dispatcher = new PaymentGatewayDispatcher(
+                authorization -> {
+                    awaitQuietly(never);
+                    return never;
+                },
+                completion,
+                null,
+                1,
+                1,
+                600000,
+                100
+        );
+        try {
+            for (int index = 0; index < 5; index++) {
+                dispatcher.submit(authorization("PMT-" + index, "4242"));
+            }
+
+            assertTrue(dispatcher.getMetrics().rejected() >= 3L);
+            assertEquals(5L, dispatcher.getMetrics().submitted() + dispatcher.getMetrics().rejected());
+        } finally {
+            never.complete(GatewayResult.authorized("late"));
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    void webhookRequiresAValidSignature() {
+        RecordingCompletionService completion = new RecordingCompletionService();
+        String body = "{\"paymentCode\":\"PMT-9\",\"outcome\":\"DECLINED\",\"reason\":\"Insufficient funds\"}";
+
+        ResponseStatusException error = assertThrows(
+                ResponseStatusException.class,
+                () -> completion.handleWebhook(body, "0".repeat(64))
+        );
+        assertEquals(HttpStatus.UNAUTHORIZED, error.getStatusCode());
+
+        completion.handleWebhook(body, completion.sign(body).toUpperCase());
+        assertEquals(GatewayOutcome.DECLINED, completion.results.get("PMT-9").outcome());
+        assertEquals("Insufficient funds", completion.results.get("PMT-9").reason());
+    }
+
+    private static void awaitCompleted(RecordingCompletionService completion, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (completion.results.size() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, completion.results.size());
+    }
+
+    private static void awaitQuietly(CompletableFuture<GatewayResult> future) {
+        try {
+            future.get(5, TimeUnit.SECONDS);
+        } catch (Exception ignored) {
+            // The test only needs the worker parked until it releases the future.
+        }
+    }
+
+    private static GatewayAuthorization authorization(String paymentCode, String cardLast4) {
+        return new GatewayAuthorization(paymentCode, PaymentMethod.CARD, new BigDecimal("1500.00"), "INR", cardLast4, null, null);
+    }
+
+    private static final class RecordingCompletionService extends PaymentCompletionService {
+
+        private final Map<String, GatewayResult> results = new ConcurrentHashMap<>();
+
+        private RecordingCompletionService() {
+            super(null, null, null, null, null, null, null, null, null, null, "test-secret");
+        }
+
+        @Override
+        public PaymentResponse complete(String paymentCode, GatewayResult result) {
+            results.put(paymentCode, result);
+            return null;
+        }
+    }
+}
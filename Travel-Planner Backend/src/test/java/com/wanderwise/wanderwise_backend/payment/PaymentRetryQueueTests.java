@@ -0,0 +1,44 @@
+package com.wanderwise.wanderwise_backend.payment;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class PaymentRetryQueueTests {
+
+    @Test
+    void backoffDoublesPerAttemptWithinTheJitterBand() {
+        PaymentRetryQueue queue = new PaymentRetryQueue(null, null, 6, 1000, 300000, 60000);
+
+        for (int attempt = 1; attempt <= 5; attempt++) {
+            long ceiling = 1000L << (attempt - 1);
+            for (int sample = 0; sample < 200; sample++) {
+                long delay = queue.backoffMs(attempt);
+                assertTrue(delay >= ceiling / 2 && delay <= ceiling, "attempt " + attempt + " gave " + delay);
+            }
+        }
+    }
+
+    @Test
+    void backoffIsCappedEvenForLargeAttemptCounts() {
+        PaymentRetryQueue queue = new PaymentRetryQueue(null, null, 100, 1000, 30000, 60000);
+
+        for (int attempt : new int[] {6, 20, 64, Integer.MAX_VALUE}) {
+            long delay = queue.backoffMs(attempt);
+            assertTrue(delay >= 15000 && delay <= 30000, "attempt " + attempt + " gave " + delay);
+        }
+    }
+
+    @Test
+    void jitterSpreadsRetriesOfTheSameAttempt() {
+        PaymentRetryQueue queue = new PaymentRetryQueue(null, null, 6, 1000, 300000, 60000);
+
+        Set<Long> delays = new HashSet<>();
+        for (int sample = 0; sample < 50; sample++) {
+            delays.add(queue.backoffMs(4));
+        }
+        assertTrue(delays.size() > 10);
+    }
+}
@@ -0,0 +1,257 @@
+package com.wanderwise.wanderwise_backend.payment.screening;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.wanderwise.wanderwise_backend.payment.PaymentMethod;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PaymentScreeningBenchmarkTests {
+
+    private static final int ATTEMPTS = 10_000;
+    private static final int CALLERS = 64;
+    private static final long WINDOW_MS = TimeUnit.MINUTES.toMillis(10);
+    private static final long NOW = 1_792_000_020_000L;
+
+    private PaymentScreeningService throttled;
+    private PaymentScreeningService unlimited;
+    private ExecutorService callers;
+    private String[] emails;
+    private String[] holders;
+    private String[] cardLast4s;
+    private long clock = NOW;
+
+    @Setup
+    public void setUp() {
+        throttled = service(5, 10, 4, 8);
+        unlimited = service(0, 0, 0, 0);
+        callers = Executors.newFixedThreadPool(CALLERS);
+        emails = new String[100_000];
+        holders = new String[emails.length];
+        cardLast4s = new String[emails.length];
+        for (int caller = 0; caller < emails.length; caller++) {
+            emails[caller] = "user" + caller + "@example.com";
+            holders[caller] = "Traveler " + caller;
+            cardLast4s[caller] = String.format("%04d", caller % 10_000);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        callers.shutdownNow();
+    }
+
+    // Each batch lands in a fresh window, so every invocation sees the same mix of ordinary and abusive callers.
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public long screenTenThousandConcurrentAttempts() throws Exception {
+        clock += WINDOW_MS;
+        return screenConcurrently(throttled, clock);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void screenSingleAttempt(Blackhole blackhole) {
+        int caller = ThreadLocalRandom.current().nextInt(emails.length);
+        blackhole.consume(unlimited.screen(emails[caller], PaymentMethod.CARD, holders[caller], cardLast4s[caller], null));
+    }
+
+    @Test
+    void flagsThenRejectsAUserOverTheLimit() {
+        PaymentScreeningService service = service(5, 10, 0, 0);
+        for (int attempt = 1; attempt <= 5; attempt++) {
+            assertFalse(service.screen("ann@example.com", PaymentMethod.UPI, null, null, "ann" + attempt + "@upi", NOW)
+                    .isFlagged());
+        }
+
+        PaymentScreening sixth = service.screen("Ann@Example.com ", PaymentMethod.UPI, null, null, "ann6@upi", NOW);
+        assertEquals(List.of(VelocityDimension.USER), sixth.flagged());
+        assertEquals("USER", sixth.flags());
+        for (int attempt = 7; attempt <= 10; attempt++) {
+            assertTrue(service.screen("ann@example.com", PaymentMethod.UPI, null, null, "x@upi", NOW).isFlagged());
+        }
+
+        ResponseStatusException error = assertThrows(
+                ResponseStatusException.class,
+                () -> service.screen("ann@example.com", PaymentMethod.UPI, null, null, "y@upi", NOW)
+        );
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, error.getStatusCode());
+        assertFalse(service.screen("bob@example.com", PaymentMethod.UPI, null, null, "bob@upi", NOW).isFlagged());
+        assertEquals(1L, service.getMetrics().rejected());
+    }
+
+    @Test
+    void cardAndUpiAreCountedAcrossUsers() {
+        PaymentScreeningService service = service(0, 0, 2, 3);
+        service.screen("a@example.com", PaymentMethod.CARD, "Ann  Lee", "4242", null, NOW);
+        service.screen("b@example.com", PaymentMethod.CARD, "ann lee", "4242", null, NOW);
+        assertFalse(service.screen("c@example.com", PaymentMethod.CARD, "Bob", "4242", null, NOW).isFlagged());
+
+        assertEquals(
+                List.of(VelocityDimension.CARD),
+                service.screen("c@example.com", PaymentMethod.CARD, "ANN LEE", "4242", null, NOW).flagged()
+        );
+        assertThrows(
+                ResponseStatusException.class,
+                () -> service.screen("d@example.com", PaymentMethod.CARD, "Ann Lee", "4242", null, NOW)
+        );
+
+        service.screen("a@example.com", PaymentMethod.UPI, null, null, "shared@upi", NOW);
+        service.screen("b@example.com", PaymentMethod.UPI, null, null, "SHARED@upi", NOW);
+        assertTrue(service.screen("c@example.com", PaymentMethod.UPI, null, null, "shared@upi", NOW).isFlagged());
+    }
+
+    @Test
+    void attemptsAgeOutOfTheSlidingWindow() {
+        PaymentScreeningService service = service(2, 0, 0, 0);
+        long minute = TimeUnit.MINUTES.toMillis(1);
+        service.screen("ann@example.com", PaymentMethod.UPI, null, null, "ann@upi", NOW);
+        service.screen("ann@example.com", PaymentMethod.UPI, null, null, "ann@upi", NOW + minute);
+        assertTrue(service.screen("ann@example.com", PaymentMethod.UPI, null, null, "ann@upi", NOW + 9 * minute)
+                .isFlagged());
+
+        // The first two buckets have left the window; their slots are reused without keeping the old counts.
+        assertFalse(service.screen("ann@example.com", PaymentMethod.UPI, null, null, "ann@upi", NOW + 11 * minute)
+                .isFlagged());
+        assertFalse(service.screen("ann@example.com", PaymentMethod.UPI, null, null, "ann@upi", NOW + 60 * minute)
+                .isFlagged());
+    }
+
+    @Test
+    void concurrentIncrementsAreNotLost() throws Exception {
+        VelocitySketch sketch = new VelocitySketch(10, 16384);
+        ExecutorService pool = Executors.newFixedThreadPool(CALLERS);
+        try {
+            CountDownLatch done = new CountDownLatch(CALLERS);
+            for (int caller = 0; caller < CALLERS; caller++) {
+                pool.execute(() -> {
+                    for (int attempt = 0; attempt < ATTEMPTS; attempt++) {
+                        sketch.increment(VelocitySketch.hash("user" + attempt % 100, 0L), 42L);
+                    }
+                    done.countDown();
+                });
+            }
+            assertTrue(done.await(30, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdownNow();
+        }
+
+        for (int key = 0; key < 100; key++) {
+            assertEquals(CALLERS * (ATTEMPTS / 100L), sketch.estimate(VelocitySketch.hash("user" + key, 0L), 42L));
+        }
+        assertEquals(0L, sketch.estimate(VelocitySketch.hash("user0", 0L), 41L));
+    }
+
+    @Test
+    void tenThousandConcurrentAttemptsRejectOnlyTheAbusiveCard() throws Exception {
+        setUp();
+        try {
+            long rejected = screenConcurrently(throttled, NOW);
+            // One card is used for 1% of attempts; all but its first eight are rejected.
+            assertEquals(ATTEMPTS / 100 - 8, rejected);
+            assertEquals((long) ATTEMPTS, throttled.getMetrics().screened());
+        } finally {
+            tearDown();
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    void runBenchmarks() throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(PaymentScreeningBenchmarkTests.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    private long screenConcurrently(PaymentScreeningService service, long nowMillis) throws Exception {
+        AtomicLong rejected = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(CALLERS);
+        for (int caller = 0; caller < CALLERS; caller++) {
+            int first = caller;
+            callers.execute(() -> {
+                try {
+                    start.await();
+                    for (int attempt = first; attempt < ATTEMPTS; attempt += CALLERS) {
+                        try {
+                            screenAttempt(service, attempt, nowMillis);
+                        } catch (ResponseStatusException ex) {
+                            rejected.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        if (!done.await(30, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Screening batch did not finish");
+        }
+        return rejected.get();
+    }
+
+    // Mostly distinct travelers paying once or twice, plus one card being tried over and over by different accounts.
+    private static void screenAttempt(PaymentScreeningService service, int attempt, long nowMillis) {
+        if (attempt % 100 == 0) {
+            service.screen("mule" + attempt + "@example.com", PaymentMethod.CARD, "Stolen Card", "0007", null, nowMillis);
+        } else if (attempt % 2 == 0) {
+            int traveler = attempt / 2;
+            service.screen("traveler" + traveler + "@example.com", PaymentMethod.UPI, null, null,
+                    "traveler" + traveler + "@upi", nowMillis);
+        } else {
+            int traveler = attempt / 2;
+            service.screen("traveler" + traveler + "@example.com", PaymentMethod.CARD, "Traveler " + traveler,
+                    String.format("%04d", traveler), null, nowMillis);
+        }
+    }
+
+    private static PaymentScreeningService service(int userFlag, int userReject, int instrumentFlag, int instrumentReject) {
+        return new PaymentScreeningService(
+                true,
+                600,
+                60,
+                16384,
+                userFlag,
+                userReject,
+                instrumentFlag,
+                instrumentReject,
+                instrumentFlag,
+                instrumentReject
+        );
+    }
+}
@@ -0,0 +1,174 @@
+package com.wanderwise.wanderwise_backend.payment.settlement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class SettlementReconcilerBenchmarkTests {
+
+    @Param("1000000")
+    public int lines;
+
+    private String[] paymentCodes;
+    private String[] bankReferences;
+    private BigDecimal[] amounts;
+    private String settlementFile;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        paymentCodes = new String[lines];
+        bankReferences = new String[lines];
+        amounts = new BigDecimal[lines];
+        StringBuilder file = new StringBuilder(lines * 48).append("payment_code,bank_reference,amount,currency,settled_at\n");
+        for (int index = 0; index < lines; index++) {
+            paymentCodes[index] = String.format("PMT-%08d", index + 1);
+            bankReferences[index] = index % 5 == 0 ? "NB" + (7_000_000 + index) : null;
+            amounts[index] = BigDecimal.valueOf(50_000L + random.nextInt(5_000_000), 2);
+
+            // Roughly 1% of lines disagree on the amount and 1% point at payments we never recorded.
+            int roll = random.nextInt(100);
+            String code = roll == 0 ? String.format("PMT-X%07d", index) : paymentCodes[index];
+            BigDecimal amount = roll == 1 ? amounts[index].add(BigDecimal.ONE) : amounts[index];
+            file.append(index % 5 == 0 ? "" : code).append(',')
+                    .append(index % 5 == 0 ? bankReferences[index] : "").append(',')
+                    .append(amount.toPlainString()).append(",INR,2026-10-17T23:59:59\n");
+        }
+        settlementFile = file.toString();
+    }
+
+    @Benchmark
+    public void reconcileSettlementFile(Blackhole blackhole) throws Exception {
+        SettlementReconciler reconciler = reconcile(Writer.nullWriter(), Writer.nullWriter(), Writer.nullWriter());
+        blackhole.consume(reconciler.getMatched());
+        blackhole.consume(reconciler.getMissingFromSettlement());
+    }
+
+    @Test
+    void everyLineLandsInExactlyOneReport() throws Exception {
+        lines = 10_000;
+        setUp();
+        StringWriter matched = new StringWriter();
+        StringWriter missing = new StringWriter();
+        StringWriter mismatched = new StringWriter();
+
+        SettlementReconciler reconciler = reconcile(matched, missing, mismatched);
+
+        assertEquals(10_000L, reconciler.getLinesRead());
+        assertEquals(0L, reconciler.getMalformed());
+        assertTrue(reconciler.getAmountMismatches() > 0);
+        assertTrue(reconciler.getMissingFromRecords() > 0);
+        assertEquals(reconciler.getMissingFromRecords(), reconciler.getMissingFromSettlement());
+        assertEquals(
+                reconciler.getLinesRead(),
+                reconciler.getMatched() + reconciler.getAmountMismatches() + reconciler.getMissingFromRecords()
+        );
+        assertEquals(reconciler.getMatched() + 1, matched.toString().lines().count());
+        assertEquals(reconciler.getAmountMismatches() + 1, mismatched.toString().lines().count());
+        assertEquals(
+                reconciler.getMissingFromRecords() + reconciler.getMissingFromSettlement() + 1,
+                missing.toString().lines().count()
+        );
+    }
+
+    @Test
+    void reportsDuplicatesCurrencyMismatchesAndMalformedLines() throws Exception {
+        SettlementIndex index = new SettlementIndex();
+        index.add("PMT-1", null, new BigDecimal("1500.00"), "INR");
+        index.add("PMT-2", "NB-77", new BigDecimal("99.50"), "INR");
+        index.add("PMT-3", null, new BigDecimal("10.00"), "EUR");
+        index.add("PMT-4", null, new BigDecimal("10.00"), "INR");
+        index.seal();
+        String file = String.join("\n",
+                "Amount,Currency,Payment Code,Bank_Reference",
+                "1500,INR,PMT-1,",
+                "\"1,500.00\",INR,PMT-1,",
+                "99.5,inr,,\"NB-77\"",
+                "99.50,INR,PMT-2,",
+                "10.00,INR,PMT-3,",
+                "ten,INR,PMT-4,",
+                "12.345,INR,PMT-4,",
+                "5.00,INR,PMT-9,",
+                "");
+        StringWriter matched = new StringWriter();
+        StringWriter missing = new StringWriter();
+        StringWriter mismatched = new StringWriter();
+        SettlementReconciler reconciler = new SettlementReconciler(index, matched, missing, mismatched);
+
+        reconciler.reconcile(new BufferedReader(new StringReader(file)));
+
+        assertEquals(8L, reconciler.getLinesRead());
+        assertEquals(2L, reconciler.getMatched());
+        assertEquals(1L, reconciler.getDuplicates());
+        assertEquals(1L, reconciler.getCurrencyMismatches());
+        assertEquals(3L, reconciler.getMalformed());
+        assertEquals(1L, reconciler.getMissingFromRecords());
+        assertEquals(1L, reconciler.getMissingFromSettlement());
+        assertTrue(matched.toString().contains("PMT-2,NB-77,99.50,INR,4"));
+        assertTrue(mismatched.toString().contains("DUPLICATE,PMT-2,NB-77,99.50,99.50,INR,INR,5"));
+        assertTrue(missing.toString().contains("NOT_IN_RECORDS,PMT-9,,5.00,INR,9"));
+        assertTrue(missing.toString().contains("NOT_IN_SETTLEMENT,PMT-4,,10.00,INR,"));
+    }
+
+    @Test
+    void amountsParseWithoutLosingPrecision() {
+        assertEquals(150000L, SettlementAmounts.parseMinorUnits("1500"));
+        assertEquals(150050L, SettlementAmounts.parseMinorUnits(" 1500.5 "));
+        assertEquals(-5L, SettlementAmounts.parseMinorUnits("-0.05"));
+        assertEquals(1200L, SettlementAmounts.parseMinorUnits("12.000"));
+        assertEquals(SettlementAmounts.INVALID, SettlementAmounts.parseMinorUnits("12.001"));
+        assertEquals(SettlementAmounts.INVALID, SettlementAmounts.parseMinorUnits("1,500.00"));
+        assertEquals(SettlementAmounts.INVALID, SettlementAmounts.parseMinorUnits("."));
+        assertEquals("-0.05", SettlementAmounts.format(-5L));
+        assertEquals("1500.50", SettlementAmounts.format(150050L));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    void runBenchmarks() throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(SettlementReconcilerBenchmarkTests.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    private SettlementReconciler reconcile(Writer matched, Writer missing, Writer mismatched) throws Exception {
+        SettlementIndex index = new SettlementIndex();
+        for (int row = 0; row < paymentCodes.length; row++) {
+            index.add(paymentCodes[row], bankReferences[row], amounts[row], "INR");
+        }
+        index.seal();
+        SettlementReconciler reconciler = new SettlementReconciler(index, matched, missing, mismatched);
+        reconciler.reconcile(new BufferedReader(new StringReader(settlementFile), 64 * 1024));
+        return reconciler;
+    }
+}
@@ -0,0 +1,82 @@
+package com.wanderwise.wanderwise_backend.sequence;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+
+// Commits real sequence rows, so point it at a scratch database. Each reserver is its own proxied bean standing in
+// for another application instance, and a small block size keeps them all contending for the one sequence row.
+@SpringBootTest
+@EnabledIfSystemProperty(named = "stress", matches = "true")
+class BlockAllocatorStressTests {
+
+    private static final int BLOCK_SIZE = 10;
+
+    @Autowired
+    private AutowireCapableBeanFactory beanFactory;
+
+    @Autowired
+    private CodeSequenceRepository codeSequenceRepository;
+
+    @Test
+    void instancesSharingOneSequenceRowNeverHandOutTheSameValue() throws Exception {
+        int instances = Integer.getInteger("stress.instances", 4);
+        int threadsPerInstance = Integer.getInteger("stress.threads", 8);
+        int codesPerThread = Integer.getInteger("stress.codes", 2_000);
+        String sequence = "stress-" + Long.toString(System.nanoTime(), 36);
+
+        List<BlockAllocator> allocators = new ArrayList<>(instances);
+        for (int index = 0; index < instances; index++) {
+            CodeBlockReserver reserver = beanFactory.createBean(CodeBlockReserver.class);
+            allocators.add(new BlockAllocator(sequence, BLOCK_SIZE, reserver));
+        }
+
+        int threads = instances * threadsPerInstance;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> results = new ArrayList<>(threads);
+        try {
+            for (int thread = 0; thread < threads; thread++) {
+                BlockAllocator allocator = allocators.get(thread % instances);
+                results.add(executor.submit(() -> {
+                    long[] values = new long[codesPerThread];
+                    start.await();
+                    for (int index = 0; index < values.length; index++) {
+                        values[index] = allocator.next();
+                    }
+                    return values;
+                }));
+            }
+            start.countDown();
+
+            long[] allocated = new long[threads * codesPerThread];
+            int offset = 0;
+            for (Future<long[]> result : results) {
+                long[] values = result.get();
+                System.arraycopy(values, 0, allocated, offset, values.length);
+                offset += values.length;
+            }
+
+            Arrays.sort(allocated);
+            for (int index = 1; index < allocated.length; index++) {
+                assertTrue(allocated[index] > allocated[index - 1], "Duplicate value " + allocated[index]);
+            }
+            assertTrue(allocated[0] >= 1L);
+            // Every value must come from a block the shared row has already advanced past.
+            assertTrue(codeSequenceRepository.findNextValue(sequence) > allocated[allocated.length - 1]);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.wanderwise.wanderwise_backend.sequence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class BlockAllocatorTests {
+
+    private static final int INSTANCES = 4;
+    private static final int THREADS_PER_INSTANCE = 8;
+    private static final int CODES_PER_THREAD = 100_000;
+
+    @Test
+    void concurrentInstancesNeverHandOutTheSameValue() throws Exception {
+        AtomicLong sequenceRow = new AtomicLong(1L);
+        BlockAllocator.BlockSource source = (_ignored, blockSize) -> sequenceRow.getAndAdd(blockSize);
+        List<BlockAllocator> instances = new ArrayList<>();
+        for (int index = 0; index < INSTANCES; index++) {
+            instances.add(new BlockAllocator("booking_code", 100, source));
+        }
+
+        int threads = INSTANCES * THREADS_PER_INSTANCE;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> results = new ArrayList<>();
+        try {
+            for (int thread = 0; thread < threads; thread++) {
+                BlockAllocator allocator = instances.get(thread % INSTANCES);
+                results.add(executor.submit(() -> {
+                    long[] values = new long[CODES_PER_THREAD];
+                    start.await();
+                    for (int index = 0; index < values.length; index++) {
+                        values[index] = allocator.next();
+                    }
+                    return values;
+                }));
+            }
+            start.countDown();
+
+            long[] allocated = new long[threads * CODES_PER_THREAD];
+            int offset = 0;
+            for (Future<long[]> result : results) {
+                long[] values = result.get();
+                System.arraycopy(values, 0, allocated, offset, values.length);
+                offset += values.length;
+            }
+
+            Arrays.sort(allocated);
+            for (int index = 1; index < allocated.length; index++) {
+                assertTrue(allocated[index] > allocated[index - 1], "Duplicate value " + allocated[index]);
+            }
+            assertTrue(allocated[0] >= 1L);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void reservesANewBlockOnlyWhenTheCurrentOneIsExhausted() {
+        AtomicLong reservations = new AtomicLong();
+        BlockAllocator allocator = new BlockAllocator("payment_code", 10, (_ignored, blockSize) ->
+                1L + reservations.getAndIncrement() * 1_000L);
+
+        for (int index = 0; index < 10; index++) {
+            assertEquals(1L + index, allocator.next());
+        }
+        assertEquals(1L, reservations.get());
+        assertEquals(1_001L, allocator.next());
+        assertEquals(2L, reservations.get());
+    }
+
+    @Test
+    void formatsCodesWithALuhnCheckDigit() {
+        assertEquals(3, ReferenceCodeService.checkDigit("7992739871"));
+        assertEquals("BK-00000018", ReferenceCodeService.format("BK-", 1L));
+        assertEquals("PMT-12345674", ReferenceCodeService.format("PMT-", 1_234_567L));
+    }
+}
@@ -1,11 +1,13 @@
 import React, { useCallback, useEffect, useMemo, useState } from 'react';
 import { useParams } from 'react-router-dom';
+import { fetchAllPages } from '../../../lib/cursorPages';
 import { useAuth } from '../../../lib/useAuth';
 
 const API_BASE_URL = (import.meta.env.VITE_API_BASE_URL || 'http://localhost:8080').replace(/\/$/, '');
 
 const statusStyles = {
   PENDING_PAYMENT: 'bg-orange-100 text-orange-700',
+  PAYMENT_PROCESSING: 'bg-blue-100 text-blue-700',
   PENDING: 'bg-yellow-100 text-yellow-700',
   APPROVED: 'bg-green-100 text-green-700',
   REJECTED: 'bg-red-100 text-red-700',
@@ -102,14 +104,13 @@ const AdminBookingsPanel = () => {
     setFetchError(null);
 
     try {
-      const response = await fetch(`${API_BASE_URL}/api/bookings/admin`, {
+      const { ok, payload } = await fetchAllPages(`${API_BASE_URL}/api/bookings/admin?summary=true`, {
         headers: {
           Authorization: `Bearer ${token}`,
         },
       });
 
-      const payload = await parseJsonSafe(response);
-      if (!response.ok) {
+      if (!ok) {
         setFetchError(payload?.message || 'Unable to load booking requests.');
         return;
       }
@@ -295,6 +296,7 @@ const AdminBookingsPanel = () => {
           >
             <option value="ALL">All Statuses</option>
             <option value="PENDING_PAYMENT">Pending Payment</option>
+            <option value="PAYMENT_PROCESSING">Payment Processing</option>
             <option value="PENDING">Pending</option>
             <option value="APPROVED">Approved</option>
             <option value="REJECTED">Rejected</option>
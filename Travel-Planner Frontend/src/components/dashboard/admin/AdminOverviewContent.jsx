@@ -118,7 +118,7 @@ const AdminOverviewContent = () => {
         <StatCard
           title="Total Revenue"
           value={formatInr(overview.totals.totalRevenue)}
-          subtext="Successful payment volume"
+          subtext="Successful payments net of refunds"
           color="text-yellow-500"
         />
       </div>
@@ -1,5 +1,6 @@
 import React, { useCallback, useEffect, useMemo, useState } from 'react';
 import { useParams } from 'react-router-dom';
+import { fetchAllPages } from '../../../lib/cursorPages';
 import { useAuth } from '../../../lib/useAuth';
 
 const API_BASE_URL = (import.meta.env.VITE_API_BASE_URL || 'http://localhost:8080').replace(/\/$/, '');
@@ -47,14 +48,6 @@ const formatAmount = (amount, currency) =>
     maximumFractionDigits: 0,
   }).format(amount);
 
-const parseJsonSafe = async (response) => {
-  try {
-    return await response.json();
-  } catch {
-    return null;
-  }
-};
-
 const AdminPaymentsPanel = () => {
   const { user, token } = useAuth();
   const { tab } = useParams();
@@ -80,14 +73,13 @@ const AdminPaymentsPanel = () => {
     setFetchError(null);
 
     try {
-      const response = await fetch(`${API_BASE_URL}/api/payments/admin`, {
+      const { ok, payload } = await fetchAllPages(`${API_BASE_URL}/api/payments/admin`, {
         headers: {
           Authorization: `Bearer ${token}`,
         },
       });
 
-      const payload = await parseJsonSafe(response);
-      if (!response.ok) {
+      if (!ok) {
         setFetchError(payload?.message || 'Unable to load payments.');
         return;
       }
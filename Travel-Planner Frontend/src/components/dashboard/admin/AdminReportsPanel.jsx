@@ -1,5 +1,6 @@
 import React, { useCallback, useEffect, useMemo, useState } from 'react';
 import { Link, useParams } from 'react-router-dom';
+import { fetchAllPages } from '../../../lib/cursorPages';
 import { useAuth } from '../../../lib/useAuth';
 import { formatInr } from '../../../lib/pricing';
 
@@ -12,14 +13,6 @@ const REPORT_TABS = [
 
 const API_BASE_URL = (import.meta.env.VITE_API_BASE_URL || 'http://localhost:8080').replace(/\/$/, '');
 
-const parseJsonSafe = async (response) => {
-  try {
-    return await response.json();
-  } catch {
-    return null;
-  }
-};
-
 const normalizeReportTab = (tab) => {
   if (!tab) {
     return 'overview';
@@ -64,31 +57,29 @@ const AdminReportsPanel = () => {
     setFetchError(null);
 
     try {
-      const [bookingsResponse, paymentsResponse, usersResponse] = await Promise.all([
-        fetch(`${API_BASE_URL}/api/bookings/admin`, {
+      const [bookingsResult, paymentsResult, usersResult] = await Promise.all([
+        fetchAllPages(`${API_BASE_URL}/api/bookings/admin?summary=true`, {
           headers: {
             Authorization: `Bearer ${token}`,
           },
         }),
-        fetch(`${API_BASE_URL}/api/payments/admin`, {
+        fetchAllPages(`${API_BASE_URL}/api/payments/admin`, {
           headers: {
             Authorization: `Bearer ${token}`,
           },
         }),
-        fetch(`${API_BASE_URL}/api/admin/users`, {
+        fetchAllPages(`${API_BASE_URL}/api/admin/users`, {
           headers: {
             Authorization: `Bearer ${token}`,
           },
         }),
       ]);
 
-      const [bookingsPayload, paymentsPayload, usersPayload] = await Promise.all([
-        parseJsonSafe(bookingsResponse),
-        parseJsonSafe(paymentsResponse),
-        parseJsonSafe(usersResponse),
-      ]);
+      const bookingsPayload = bookingsResult.payload;
+      const paymentsPayload = paymentsResult.payload;
+      const usersPayload = usersResult.payload;
 
-      if (!bookingsResponse.ok) {
+      if (!bookingsResult.ok) {
         setFetchError(bookingsPayload?.message || 'Unable to load booking reports data.');
         setBookings([]);
         setPayments([]);
@@ -96,7 +87,7 @@ const AdminReportsPanel = () => {
         return;
       }
 
-      if (!paymentsResponse.ok) {
+      if (!paymentsResult.ok) {
         setFetchError(paymentsPayload?.message || 'Unable to load payment reports data.');
         setBookings([]);
         setPayments([]);
@@ -104,7 +95,7 @@ const AdminReportsPanel = () => {
         return;
       }
 
-      if (!usersResponse.ok) {
+      if (!usersResult.ok) {
         setFetchError(usersPayload?.message || 'Unable to load user reports data.');
         setBookings([]);
         setPayments([]);
@@ -1,5 +1,6 @@
 import React, { useCallback, useEffect, useMemo, useState } from 'react';
 import { useParams } from 'react-router-dom';
+import { fetchAllPages } from '../../../lib/cursorPages';
 import { useAuth } from '../../../lib/useAuth';
 
 const API_BASE_URL = (import.meta.env.VITE_API_BASE_URL || 'http://localhost:8080').replace(/\/$/, '');
@@ -111,14 +112,13 @@ const AdminUserManagementPanel = () => {
     setFetchError(null);
 
     try {
-      const response = await fetch(`${API_BASE_URL}/api/admin/users`, {
+      const { ok, payload } = await fetchAllPages(`${API_BASE_URL}/api/admin/users`, {
         headers: {
           Authorization: `Bearer ${token}`,
         },
       });
-      const payload = await parseJsonSafe(response);
 
-      if (!response.ok) {
+      if (!ok) {
         setFetchError(payload?.message || 'Unable to fetch users');
         return;
       }
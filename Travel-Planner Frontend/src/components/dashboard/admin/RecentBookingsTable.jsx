@@ -3,6 +3,7 @@ import SectionTitle from '../shared/SectionTitle';
 
 const statusStyles = {
   PENDING_PAYMENT: 'bg-orange-100 text-orange-700',
+  PAYMENT_PROCESSING: 'bg-blue-100 text-blue-700',
   PENDING: 'bg-yellow-100 text-yellow-700',
   APPROVED: 'bg-green-100 text-green-700',
   REJECTED: 'bg-red-100 text-red-700',
@@ -1,3 +1,5 @@
+import { fetchAllPages } from './cursorPages';
+
 const API_BASE_URL = (import.meta.env.VITE_API_BASE_URL || 'http://localhost:8080').replace(/\/$/, '');
 export const CONTACT_MESSAGES_UPDATED_EVENT = 'contact-messages-updated';
 
@@ -43,14 +45,13 @@ export const submitContactMessage = async ({ fullName, email, subject, message }
 };
 
 export const getAdminContactMessages = async (token) => {
-  const response = await fetch(`${API_BASE_URL}/api/admin/contact-messages`, {
+  const { ok, payload } = await fetchAllPages(`${API_BASE_URL}/api/admin/contact-messages`, {
     headers: {
       Authorization: `Bearer ${token}`,
     },
   });
 
-  const payload = await parseJsonSafe(response);
-  if (!response.ok) {
+  if (!ok) {
     throw new Error(payload?.message || 'Unable to load contact messages.');
   }
 
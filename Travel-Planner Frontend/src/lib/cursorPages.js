@@ -0,0 +1,30 @@
+const PAGE_SIZE = 200;
+
+const parseJsonSafe = async (response) => {
+  try {
+    return await response.json();
+  } catch {
+    return null;
+  }
+};
+
+export const fetchAllPages = async (url, options = {}) => {
+  const separator = url.includes('?') ? '&' : '?';
+  const items = [];
+  let cursor = null;
+
+  do {
+    const cursorParam = cursor ? `&cursor=${encodeURIComponent(cursor)}` : '';
+    const response = await fetch(`${url}${separator}limit=${PAGE_SIZE}${cursorParam}`, options);
+    const payload = await parseJsonSafe(response);
+
+    if (!response.ok || !Array.isArray(payload?.items)) {
+      return { ok: response.ok, payload };
+    }
+
+    items.push(...payload.items);
+    cursor = payload.nextCursor;
+  } while (cursor);
+
+  return { ok: true, payload: items };
+};
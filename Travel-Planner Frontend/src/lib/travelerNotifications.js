@@ -1,3 +1,5 @@
+import { fetchAllPages } from './cursorPages';
+
 const API_BASE_URL = (import.meta.env.VITE_API_BASE_URL || 'http://localhost:8080').replace(/\/$/, '');
 export const TRAVELER_NOTIFICATIONS_UPDATED_EVENT = 'traveler-notifications-updated';
 
@@ -33,12 +35,11 @@ export const getTravelerNotifications = async (token) => {
     return [];
   }
 
-  const response = await fetch(`${API_BASE_URL}/api/notifications/me`, {
+  const { ok, payload } = await fetchAllPages(`${API_BASE_URL}/api/notifications/me`, {
     headers: buildAuthHeader(token),
   });
 
-  const payload = await parseJsonSafe(response);
-  if (!response.ok) {
+  if (!ok) {
     throw new Error(payload?.message || 'Unable to load notifications.');
   }
 
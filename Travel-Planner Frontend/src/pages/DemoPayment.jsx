@@ -1,4 +1,4 @@
-import React, { useMemo, useState } from 'react';
+import React, { useMemo, useRef, useState } from 'react';
 import { Link, useLocation, useNavigate } from 'react-router-dom';
 import { useAuth } from '../lib/useAuth';
 
@@ -39,6 +39,25 @@ const parseJsonSafe = async (response) => {
   }
 };
 
+const PAYMENT_POLL_INTERVAL_MS = 1000;
+const PAYMENT_POLL_ATTEMPTS = 30;
+
+const waitForPaymentOutcome = async (payment, token) => {
+  let current = payment;
+  for (let attempt = 0; current?.status === 'PENDING' && attempt < PAYMENT_POLL_ATTEMPTS; attempt += 1) {
+    await new Promise((resolve) => window.setTimeout(resolve, PAYMENT_POLL_INTERVAL_MS));
+    const response = await fetch(`${API_BASE_URL}/api/payments/me/${encodeURIComponent(payment.id)}`, {
+      headers: {
+        Authorization: `Bearer ${token}`,
+      },
+    });
+    if (response.ok) {
+      current = await parseJsonSafe(response);
+    }
+  }
+  return current;
+};
+
 const readPendingBooking = (stateValue) => {
   if (stateValue) {
     return stateValue;
@@ -68,6 +87,7 @@ const DemoPayment = () => {
 
   const [paymentMethod, setPaymentMethod] = useState('CARD');
   const [isProcessing, setIsProcessing] = useState(false);
+  const paymentIdempotencyKey = useRef(null);
   const [message, setMessage] = useState('');
   const [errorMessage, setErrorMessage] = useState('');
   const [cardHolderName, setCardHolderName] = useState('');
@@ -135,6 +155,9 @@ const DemoPayment = () => {
     setIsProcessing(true);
     setErrorMessage('');
     setMessage('');
+    if (!paymentIdempotencyKey.current) {
+      paymentIdempotencyKey.current = crypto.randomUUID();
+    }
 
     try {
       const response = await fetch(`${API_BASE_URL}/api/payments`, {
@@ -142,6 +165,7 @@ const DemoPayment = () => {
         headers: {
           'Content-Type': 'application/json',
           Authorization: `Bearer ${token}`,
+          'Idempotency-Key': paymentIdempotencyKey.current,
         },
         body: JSON.stringify({
           bookingRecordId: pendingBooking.bookingRecordId,
@@ -154,11 +178,31 @@ const DemoPayment = () => {
       });
 
       const payload = await parseJsonSafe(response);
+      if (response.status < 500 && response.status !== 409) {
+        paymentIdempotencyKey.current = null;
+      }
       if (!response.ok) {
         setErrorMessage(payload?.message || 'Unable to process payment.');
         return;
       }
 
+      setMessage('Waiting for the payment gateway to confirm...');
+      const settled = await waitForPaymentOutcome(payload, token);
+      if (settled?.status === 'FAILED') {
+        setMessage('');
+        setErrorMessage(
+          `Payment was not authorized${settled.failureReason ? `: ${settled.failureReason}` : ''}. Please try again.`
+        );
+        return;
+      }
+
+      if (settled?.status !== 'SUCCESS') {
+        setMessage(
+          `Payment ${payload.id} is still being confirmed. Check My Trips shortly for booking ${pendingBooking.id}.`
+        );
+        return;
+      }
+
       if (typeof window !== 'undefined' && window.sessionStorage) {
         window.sessionStorage.removeItem(PENDING_BOOKING_STORAGE_KEY);
       }
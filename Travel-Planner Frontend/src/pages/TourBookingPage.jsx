@@ -1,4 +1,4 @@
-import { useState, useEffect, useMemo } from 'react';
+import { useState, useEffect, useMemo, useRef } from 'react';
 import { useParams, useNavigate, useLocation } from 'react-router-dom';
 import { useForm, useFieldArray } from 'react-hook-form';
 import { yupResolver } from '@hookform/resolvers/yup';
@@ -41,6 +41,7 @@ const TourBookingPage = () => {
   const [tourFetchError, setTourFetchError] = useState(null);
   const [submitError, setSubmitError] = useState(null);
   const [isSubmittingBooking, setIsSubmittingBooking] = useState(false);
+  const bookingIdempotencyKey = useRef(null);
 
   const requestedTourPath = useMemo(
     () => [destination, subDestination].filter(Boolean).join('/'),
@@ -111,12 +112,16 @@ const TourBookingPage = () => {
 
     setSubmitError(null);
     setIsSubmittingBooking(true);
+    if (!bookingIdempotencyKey.current) {
+      bookingIdempotencyKey.current = crypto.randomUUID();
+    }
 
     fetch(`${API_BASE_URL}/api/bookings`, {
       method: 'POST',
       headers: {
         'Content-Type': 'application/json',
         Authorization: `Bearer ${token}`,
+        'Idempotency-Key': bookingIdempotencyKey.current,
       },
       body: JSON.stringify({
         destination: tour.destination,
@@ -130,6 +135,9 @@ const TourBookingPage = () => {
     })
       .then(async (response) => {
         const payload = await parseJsonSafe(response);
+        if (response.status < 500 && response.status !== 409) {
+          bookingIdempotencyKey.current = null;
+        }
 
         if (!response.ok) {
           setSubmitError(payload?.message || 'Unable to create booking');